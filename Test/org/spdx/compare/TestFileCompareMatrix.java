@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestFileCompareMatrix {
+
+	private static SpdxFile createFile(String name) throws InvalidSPDXAnalysisException {
+		return new SpdxFile(name, null, null, null, new SpdxNoAssertionLicense(),
+				new AnyLicenseInfo[] {new SpdxNoAssertionLicense()}, null, null,
+				new FileType[] {FileType.fileType_source}, new Checksum[0], null, null, null);
+	}
+
+	@Test
+	public void testAlignment() throws Exception {
+		SpdxFile a1 = createFile("src\\b.c");
+		SpdxFile a2 = createFile("./a.c");
+		SpdxFile b1 = createFile("a.c");
+		SpdxFile b2 = createFile("./c.c");
+		SpdxFile c1 = createFile("./src/b.c");
+		FileCompareMatrix matrix = new FileCompareMatrix(new SpdxFile[][] {
+			new SpdxFile[] {a1, a2}, new SpdxFile[] {b1, b2}, new SpdxFile[] {c1}, new SpdxFile[0]});
+		assertEquals(4, matrix.getNumDocuments());
+		assertEquals(3, matrix.getNumRows());
+		assertEquals("./a.c", matrix.getFileName(0));
+		assertEquals("./c.c", matrix.getFileName(1));
+		assertEquals("./src/b.c", matrix.getFileName(2));
+		assertSame(a2, matrix.getFile(0, 0));
+		assertSame(b1, matrix.getFile(0, 1));
+		assertNull(matrix.getFile(0, 2));
+		assertNull(matrix.getFile(1, 0));
+		assertSame(b2, matrix.getFile(1, 1));
+		assertSame(a1, matrix.getFile(2, 0));
+		assertNull(matrix.getFile(2, 1));
+		assertSame(c1, matrix.getFile(2, 2));
+		for (int i = 0; i < matrix.getNumRows(); i++) {
+			assertNull(matrix.getFile(i, 3));
+		}
+	}
+
+	@Test
+	public void testDuplicateNames() throws Exception {
+		SpdxFile a1 = createFile("./a.c");
+		SpdxFile a2 = createFile("a.c");
+		SpdxFile b1 = createFile("./a.c");
+		FileCompareMatrix matrix = new FileCompareMatrix(new SpdxFile[][] {
+			new SpdxFile[] {a1, a2}, new SpdxFile[] {b1}});
+		assertEquals(2, matrix.getNumRows());
+		assertSame(a1, matrix.getFile(0, 0));
+		assertSame(b1, matrix.getFile(0, 1));
+		assertSame(a2, matrix.getFile(1, 0));
+		assertNull(matrix.getFile(1, 1));
+	}
+
+	@Test
+	public void testEmpty() {
+		FileCompareMatrix matrix = new FileCompareMatrix(new SpdxFile[][] {new SpdxFile[0], new SpdxFile[0]});
+		assertEquals(2, matrix.getNumDocuments());
+		assertEquals(0, matrix.getNumRows());
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.SPDXDocumentFactory;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.spdxspreadsheet.SpreadsheetException;
+
+import com.google.common.io.Files;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestMultiDocumentSpreadsheet {
+
+	static final String TEST_RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample.rdf";
+	static final int NUM_DOCS = MultiDocumentSpreadsheet.MAX_DOCUMENTS + 1;
+
+	File tempDir;
+	SpdxDocument[] docs;
+	String[] docNames;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDir();
+		docs = new SpdxDocument[NUM_DOCS];
+		docNames = new String[NUM_DOCS];
+		for (int i = 0; i < NUM_DOCS; i++) {
+			docs[i] = SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH);
+			docNames[i] = "doc"+String.valueOf(i);
+		}
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		File[] files = tempDir.listFiles();
+		for (File file:files) {
+			file.delete();
+		}
+		tempDir.delete();
+	}
+
+	@Test
+	public void testStreamingMoreThanMaxDocuments() throws Exception {
+		File outFile = new File(tempDir, "compare.xlsx");
+		MultiDocumentSpreadsheet spreadsheet = new MultiDocumentSpreadsheet(outFile, NUM_DOCS);
+		@SuppressWarnings("unchecked")
+		List<String>[] verificationErrors = new List[NUM_DOCS];
+		for (int i = 0; i < NUM_DOCS; i++) {
+			verificationErrors[i] = new ArrayList<String>();
+			verificationErrors[i].add("Error "+String.valueOf(i));
+		}
+		spreadsheet.importVerificationErrors(verificationErrors, docNames);
+		SpdxComparer comparer = new SpdxComparer();
+		comparer.compare(docs);
+		spreadsheet.importCompareResults(comparer, docNames);
+		spreadsheet.close();
+		assertTrue(outFile.exists());
+		InputStream is = new FileInputStream(outFile);
+		try {
+			Workbook wb = WorkbookFactory.create(is);
+			assertTrue(wb instanceof XSSFWorkbook);
+			Sheet pkgSheet = wb.getSheet("Package");
+			Row header = pkgSheet.getRow(0);
+			for (int i = 0; i < NUM_DOCS; i++) {
+				assertEquals(docNames[i], header.getCell(PackageSheet.FIRST_DOC_COL+i).getStringCellValue());
+			}
+			Sheet checksumSheet = wb.getSheet("File Checksum");
+			int numFiles = comparer.collectAllFiles(docs[0]).length;
+			assertEquals(numFiles, checksumSheet.getLastRowNum());
+			Row fileRow = checksumSheet.getRow(1);
+			assertEquals(AbstractFileCompareSheet.EQUAL_VALUE, fileRow.getCell(AbstractFileCompareSheet.DIFF_COL).getStringCellValue());
+			Sheet verificationSheet = wb.getSheet("Verification Errors");
+			assertEquals("Error "+String.valueOf(NUM_DOCS-1), verificationSheet.getRow(1).getCell(NUM_DOCS-1).getStringCellValue());
+		} finally {
+			is.close();
+		}
+	}
+
+	@Test
+	public void testTooManyDocumentsForXls() throws Exception {
+		File outFile = new File(tempDir, "compare.xls");
+		MultiDocumentSpreadsheet spreadsheet = new MultiDocumentSpreadsheet(outFile, true, false);
+		@SuppressWarnings("unchecked")
+		List<String>[] verificationErrors = new List[NUM_DOCS];
+		try {
+			spreadsheet.importVerificationErrors(verificationErrors, docNames);
+			fail("Expected too many documents exception");
+		} catch (SpreadsheetException ex) {
+			// expected
+		}
+		spreadsheet.close();
+	}
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.compare.SpdxComparisonBaseline.BaselineDifference;
+import org.spdx.rdfparser.SPDXDocumentFactory;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.tools.TagToRDF;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestSpdxComparisonBaseline {
+
+	static final String TEST_RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample.rdf";
+	static final String TAG_DOC =
+			"SPDXVersion: SPDX-2.1\n" +
+			"DataLicense: CC0-1.0\n" +
+			"DocumentNamespace: http://spdx.org/spdxdocs/baseline-test\n" +
+			"DocumentName: baseline-test\n" +
+			"SPDXID: SPDXRef-DOCUMENT\n" +
+			"Creator: Tool: test\n" +
+			"Created: 2026-01-01T00:00:00Z\n" +
+			"Relationship: SPDXRef-DOCUMENT DESCRIBES SPDXRef-package\n" +
+			"PackageName: package\n" +
+			"SPDXID: SPDXRef-package\n" +
+			"PackageVersion: 1.0\n" +
+			"PackageDownloadLocation: NOASSERTION\n" +
+			"FilesAnalyzed: false\n" +
+			"PackageLicenseConcluded: NOASSERTION\n" +
+			"PackageLicenseDeclared: NOASSERTION\n" +
+			"PackageCopyrightText: NOASSERTION\n" +
+			"ExternalRef: SECURITY cpe23Type cpe:2.3:a:example:package:1.0:*:*:*:*:*:*:*\n" +
+			"FileName: ./src/a.c\n" +
+			"SPDXID: SPDXRef-a\n" +
+			"FileChecksum: SHA1: 85ed0817af83a24ad8da68c2b5094de69833983c\n" +
+			"LicenseConcluded: LicenseRef-custom\n" +
+			"LicenseInfoInFile: LicenseRef-custom\n" +
+			"FileCopyrightText: NOASSERTION\n" +
+			"FileName: ./src/b.c\n" +
+			"SPDXID: SPDXRef-b\n" +
+			"FileChecksum: SHA1: 2fd4e1c67a2d28fced849ee1bb76e7391b93eb12\n" +
+			"LicenseConcluded: NOASSERTION\n" +
+			"LicenseInfoInFile: NOASSERTION\n" +
+			"FileCopyrightText: <text>Copyright b</text>\n" +
+			"Relationship: SPDXRef-b GENERATED_FROM SPDXRef-a\n" +
+			"Annotator: Person: Jane Doe\n" +
+			"AnnotationDate: 2026-01-01T00:00:00Z\n" +
+			"AnnotationComment: <text>Reviewed</text>\n" +
+			"AnnotationType: REVIEW\n" +
+			"SPDXREF: SPDXRef-b\n" +
+			"LicenseID: LicenseRef-custom\n" +
+			"ExtractedText: <text>Custom license text</text>\n";
+
+	File tempDir;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDir();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		File[] files = tempDir.listFiles();
+		for (File file:files) {
+			file.delete();
+		}
+		tempDir.delete();
+	}
+
+	@Test
+	public void testCompareEquivalent() throws Exception {
+		SpdxComparisonBaseline baseline = new SpdxComparisonBaseline();
+		baseline.addDocument("doc1", SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH));
+		BaselineDifference[] result = baseline.compare(SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH));
+		assertEquals(1, result.length);
+		assertEquals("doc1", result[0].getBaselineDocumentName());
+		assertFalse(result[0].isDifferenceFound());
+	}
+
+	@Test
+	public void testCompareDifferentFile() throws Exception {
+		SpdxComparisonBaseline baseline = new SpdxComparisonBaseline();
+		baseline.addDocument("doc1", SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH));
+		SpdxDocument doc2 = SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH);
+		SpdxFile[] files = new SpdxComparer().collectAllFiles(doc2);
+		files[0].setCopyrightText("Changed copyright");
+		BaselineDifference[] result = baseline.compare(doc2);
+		assertTrue(result[0].isDifferenceFound());
+		assertEquals(1, result[0].getDifferentFiles().length);
+		assertEquals(0, result[0].getUniqueFiles().length);
+		assertEquals(0, result[0].getMissingFiles().length);
+	}
+
+	@Test
+	public void testSaveLoad() throws Exception {
+		File baselineFile = new File(tempDir, "baseline.json");
+		SpdxComparisonBaseline baseline = new SpdxComparisonBaseline();
+		baseline.addDocument("doc1", SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH));
+		baseline.save(baselineFile);
+		SpdxComparisonBaseline loaded = SpdxComparisonBaseline.load(baselineFile);
+		assertEquals(1, loaded.getNumDocuments());
+		assertArrayEquals(new String[] {"doc1"}, loaded.getDocumentNames());
+		BaselineDifference[] result = loaded.compare(SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH));
+		assertFalse(result[0].isDifferenceFound());
+	}
+
+	@Test
+	public void testDuplicateName() throws Exception {
+		SpdxComparisonBaseline baseline = new SpdxComparisonBaseline();
+		baseline.addDocument("doc1", SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH));
+		try {
+			baseline.addDocument("doc1", SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH));
+			fail("Expected duplicate name exception");
+		} catch (SpdxCompareException ex) {
+			// expected
+		}
+	}
+
+	private SpdxDocument tagDocument(String text) throws Exception {
+		List<String> warnings = Lists.newArrayList();
+		return TagToRDF.convertTagFileToRdf(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)),
+				"RDF/XML-ABBREV", warnings).getSpdxDocument();
+	}
+
+	@Test
+	public void testExtractedLicenseIdTranslation() throws Exception {
+		SpdxComparisonBaseline baseline = new SpdxComparisonBaseline();
+		baseline.addDocument("doc1", tagDocument(TAG_DOC));
+		// same license text under a different ID
+		BaselineDifference[] result = baseline.compare(tagDocument(TAG_DOC.replace("LicenseRef-custom", "LicenseRef-renamed")));
+		assertFalse(result[0].isDifferenceFound());
+		// same ID with different license text
+		result = baseline.compare(tagDocument(TAG_DOC.replace("Custom license text", "Another license")));
+		assertArrayEquals(new String[] {"LicenseRef-custom"}, result[0].getUniqueExtractedLicenseIds());
+		assertArrayEquals(new String[] {"./src/a.c"}, result[0].getDifferentFiles());
+		assertArrayEquals(new String[] {"package 1.0"}, result[0].getDifferentPackages());
+	}
+
+	@Test
+	public void testRelatedFields() throws Exception {
+		SpdxComparisonBaseline baseline = new SpdxComparisonBaseline();
+		baseline.addDocument("doc1", tagDocument(TAG_DOC));
+		BaselineDifference[] result = baseline.compare(tagDocument(TAG_DOC.replace("<text>Reviewed</text>", "<text>Changed</text>")));
+		assertArrayEquals(new String[] {"./src/b.c"}, result[0].getDifferentFiles());
+		result = baseline.compare(tagDocument(TAG_DOC.replace("GENERATED_FROM", "DESCENDANT_OF")));
+		assertArrayEquals(new String[] {"./src/b.c"}, result[0].getDifferentFiles());
+		result = baseline.compare(tagDocument(TAG_DOC.replace("package:1.0", "package:1.1")));
+		assertEquals(0, result[0].getDifferentFiles().length);
+		assertArrayEquals(new String[] {"package 1.0"}, result[0].getDifferentPackages());
+		// a change to a contained file is a package difference
+		result = baseline.compare(tagDocument(TAG_DOC.replace("<text>Copyright b</text>", "<text>Copyright c</text>")));
+		assertArrayEquals(new String[] {"./src/b.c"}, result[0].getDifferentFiles());
+		assertArrayEquals(new String[] {"package 1.0"}, result[0].getDifferentPackages());
+		// SPDX IDs are not compared
+		result = baseline.compare(tagDocument(TAG_DOC.replace("SPDXRef-a", "SPDXRef-first").replace("SPDXRef-b", "SPDXRef-second")));
+		assertFalse(result[0].isDifferenceFound());
+	}
+
+	@Test
+	public void testDuplicateKeys() throws Exception {
+		String duplicateFile = "FileName: ./src/b.c\n" +
+				"SPDXID: SPDXRef-b2\n" +
+				"FileChecksum: SHA1: d6a770ba38583ed4bb4525bd96e50461655d2758\n" +
+				"LicenseConcluded: NOASSERTION\n" +
+				"LicenseInfoInFile: NOASSERTION\n" +
+				"FileCopyrightText: <text>Copyright b2</text>\n";
+		String duplicateDoc = TAG_DOC.replace("LicenseID: LicenseRef-custom", duplicateFile + "LicenseID: LicenseRef-custom");
+		SpdxComparisonBaseline baseline = new SpdxComparisonBaseline();
+		baseline.addDocument("doc1", tagDocument(duplicateDoc));
+		BaselineDifference[] result = baseline.compare(tagDocument(duplicateDoc));
+		assertFalse(result[0].isDifferenceFound());
+		// either of the duplicates alone is different
+		result = baseline.compare(tagDocument(TAG_DOC));
+		assertArrayEquals(new String[] {"./src/b.c"}, result[0].getDifferentFiles());
+		result = baseline.compare(tagDocument(duplicateDoc.replace("<text>Copyright b2</text>", "<text>Copyright b</text>")));
+		assertArrayEquals(new String[] {"./src/b.c"}, result[0].getDifferentFiles());
+		// a change to the first of the duplicates is found
+		result = baseline.compare(tagDocument(duplicateDoc.replace("<text>Copyright b</text>", "<text>Copyright c</text>")));
+		assertArrayEquals(new String[] {"./src/b.c"}, result[0].getDifferentFiles());
+	}
+}
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing <code>FilePathNormalizer</code> to the previous string based
+ * implementations of <code>VerificationCodeGenerator.normalizeFilePath</code> and
+ * <code>NormalizedFileNameComparator.normalizeFileName</code>.
+ *
+ * Run from the test classpath with <code>java org.spdx.rdfparser.FilePathNormalizerBenchmark</code>
+ * @author SPDX Contributors
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilePathNormalizerBenchmark {
+
+	static final int NUM_PATHS = 1000;
+
+	/**
+	 * Form of the paths to normalize
+	 */
+	@Param({"relative", "normalized", "windows", "parent"})
+	public String pathKind;
+
+	String[] paths;
+
+	@Setup
+	public void setUp() {
+		paths = new String[NUM_PATHS];
+		for (int i = 0; i < NUM_PATHS; i++) {
+			String path = "src/main/java/org/example/module" + (i % 17) + "/impl/SourceFile" + i + ".java";
+			if ("normalized".equals(pathKind)) {
+				path = "./" + path;
+			} else if ("windows".equals(pathKind)) {
+				path = path.replace('/', '\\');
+			} else if ("parent".equals(pathKind)) {
+				path = "src/main/../main/java/org/example/module" + (i % 17) + "/impl/../impl/SourceFile" + i + ".java";
+			}
+			paths[i] = path;
+		}
+	}
+
+	/**
+	 * String based implementation replaced by <code>FilePathNormalizer.normalizeFilePath</code>
+	 * @param nonNormalizedFilePath
+	 * @return
+	 */
+	static String legacyNormalizeFilePath(String nonNormalizedFilePath) {
+		String filePath = nonNormalizedFilePath.replace('\\', '/').trim();
+		if (filePath.contains("../")) {
+			// need to remove these references
+			String[] filePathParts = filePath.split("/");
+			StringBuilder normalizedFilePath = new StringBuilder();
+			for (int j = 0; j < filePathParts.length; j++) {
+				if (j+1 < filePathParts.length && filePathParts[j+1].equals("..")) {
+					// skip this directory
+				} else if (filePathParts[j].equals("..")) {
+					// remove these from the filePath
+				} else {
+					if (j > 0) {
+						normalizedFilePath.append('/');
+					}
+					normalizedFilePath.append(filePathParts[j]);
+				}
+			}
+			filePath = normalizedFilePath.toString();
+		}
+		filePath = filePath.replace("./", "");
+		if (!filePath.isEmpty() && filePath.charAt(0) == '/') {
+			filePath = "." + filePath;
+		} else {
+			filePath = "./" + filePath;
+		}
+		return filePath;
+	}
+
+	/**
+	 * String based implementation replaced by <code>FilePathNormalizer.normalizeFileName</code>
+	 * @param fileName
+	 * @return
+	 */
+	static String legacyNormalizeFileName(String fileName) {
+		String retval = fileName.replace('\\', '/');
+		if (!retval.startsWith("./")) {
+			retval = "./" + retval;
+		}
+		return retval;
+	}
+
+	@Benchmark
+	public void legacyFilePath(Blackhole blackhole) {
+		for (String path:paths) {
+			blackhole.consume(legacyNormalizeFilePath(path));
+		}
+	}
+
+	@Benchmark
+	public void charArrayFilePath(Blackhole blackhole) {
+		for (String path:paths) {
+			blackhole.consume(FilePathNormalizer.normalizeFilePath(path));
+		}
+	}
+
+	@Benchmark
+	public void legacyFileName(Blackhole blackhole) {
+		for (String path:paths) {
+			blackhole.consume(legacyNormalizeFileName(path));
+		}
+	}
+
+	@Benchmark
+	public void charArrayFileName(Blackhole blackhole) {
+		for (String path:paths) {
+			blackhole.consume(FilePathNormalizer.normalizeFileName(path));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(FilePathNormalizerBenchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.commons.compress.archivers.ArchiveOutputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestArchiveVerificationCodeGenerator {
+
+	static final String SOURCE_PATH = "TestFiles" + File.separator + "spdx-parser-source";
+	static final String[] SKIPPED_PATHS = new String[] {"org/spdx/rdfparser/DOAPProject.java",
+			"./org/spdx/rdfparser/SPDXFile.java"};
+
+	private static String relativePath(File file) {
+		return new File(SOURCE_PATH).toURI().relativize(file.toURI()).getPath();
+	}
+
+	private static byte[] createTar(OutputStream compressor, ByteArrayOutputStream bytes) throws IOException {
+		TarArchiveOutputStream tar = new TarArchiveOutputStream(compressor);
+		tar.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+		TarArchiveEntry dirEntry = new TarArchiveEntry("org/");
+		tar.putArchiveEntry(dirEntry);
+		tar.closeArchiveEntry();
+		for (File file:FileUtils.listFiles(new File(SOURCE_PATH), null, true)) {
+			TarArchiveEntry entry = new TarArchiveEntry(file, relativePath(file));
+			tar.putArchiveEntry(entry);
+			Files.copy(file.toPath(), tar);
+			tar.closeArchiveEntry();
+		}
+		tar.finish();
+		tar.close();
+		return bytes.toByteArray();
+	}
+
+	private static byte[] createZip() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ArchiveOutputStream zip = new ZipArchiveOutputStream(bytes);
+		for (File file:FileUtils.listFiles(new File(SOURCE_PATH), null, true)) {
+			zip.putArchiveEntry(new ZipArchiveEntry(relativePath(file)));
+			Files.copy(file.toPath(), zip);
+			zip.closeArchiveEntry();
+		}
+		zip.finish();
+		zip.close();
+		return bytes.toByteArray();
+	}
+
+	private static String expectedCode() throws Exception {
+		File sourceDir = new File(SOURCE_PATH);
+		return new VerificationCodeGenerator(new JavaSha1ChecksumGenerator()).generatePackageVerificationCode(sourceDir,
+				new File[] {new File(sourceDir, SKIPPED_PATHS[0]), new File(sourceDir, SKIPPED_PATHS[1])}).getValue();
+	}
+
+	@Test
+	public void testArchiveFormats() throws Exception {
+		String expected = expectedCode();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] tar = createTar(bytes, bytes);
+		bytes = new ByteArrayOutputStream();
+		byte[] tarGz = createTar(new GzipCompressorOutputStream(bytes), bytes);
+		bytes = new ByteArrayOutputStream();
+		byte[] tarBz2 = createTar(new BZip2CompressorOutputStream(bytes), bytes);
+		ArchiveVerificationCodeGenerator generator = new ArchiveVerificationCodeGenerator();
+		for (byte[] archive:new byte[][] {tar, tarGz, tarBz2, createZip()}) {
+			SpdxPackageVerificationCode result = generator.generatePackageVerificationCode(
+					new ByteArrayInputStream(archive), SKIPPED_PATHS, null);
+			assertEquals(expected, result.getValue());
+			assertArrayEquals(new String[] {"./org/spdx/rdfparser/DOAPProject.java", "./org/spdx/rdfparser/SPDXFile.java"},
+					result.getExcludedFileNames());
+		}
+	}
+
+	@Test
+	public void testFileChecksums() throws Exception {
+		ArchiveVerificationCodeGenerator generator = new ArchiveVerificationCodeGenerator(ChecksumAlgorithm.checksumAlgorithm_md5);
+		Map<String, Checksum[]> fileChecksums = Maps.newHashMap();
+		File zipFile = File.createTempFile("spdx-source", ".zip");
+		try {
+			Files.write(zipFile.toPath(), createZip());
+			generator.generatePackageVerificationCode(zipFile, SKIPPED_PATHS, fileChecksums);
+		} finally {
+			zipFile.delete();
+		}
+		Collection<File> files = FileUtils.listFiles(new File(SOURCE_PATH), null, true);
+		assertEquals(files.size() - 2, fileChecksums.size());
+		assertFalse(fileChecksums.containsKey("./org/spdx/rdfparser/SPDXFile.java"));
+		MultiChecksumGenerator expectedGenerator = new MultiChecksumGenerator(ChecksumAlgorithm.checksumAlgorithm_md5);
+		for (File file:files) {
+			Checksum[] checksums = fileChecksums.get("./" + relativePath(file));
+			if (checksums != null) {
+				Checksum[] expected = expectedGenerator.getFileChecksums(file);
+				assertEquals(expected.length, checksums.length);
+				for (int i = 0; i < expected.length; i++) {
+					assertTrue(expected[i].equivalent(checksums[i]));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLinks() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes)) {
+			byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+			TarArchiveEntry entry = new TarArchiveEntry("pkg/dir/file.txt");
+			entry.setSize(content.length);
+			tar.putArchiveEntry(entry);
+			tar.write(content);
+			tar.closeArchiveEntry();
+			TarArchiveEntry symlink = new TarArchiveEntry("pkg/link.txt", TarArchiveEntry.LF_SYMLINK);
+			symlink.setLinkName("dir/file.txt");
+			tar.putArchiveEntry(symlink);
+			tar.closeArchiveEntry();
+			TarArchiveEntry hardlink = new TarArchiveEntry("pkg/hard.txt", TarArchiveEntry.LF_LINK);
+			hardlink.setLinkName("pkg/dir/file.txt");
+			tar.putArchiveEntry(hardlink);
+			tar.closeArchiveEntry();
+			TarArchiveEntry dangling = new TarArchiveEntry("pkg/dangling.txt", TarArchiveEntry.LF_SYMLINK);
+			dangling.setLinkName("missing.txt");
+			tar.putArchiveEntry(dangling);
+			tar.closeArchiveEntry();
+		}
+		Map<String, Checksum[]> fileChecksums = Maps.newHashMap();
+		new ArchiveVerificationCodeGenerator().generatePackageVerificationCode(
+				new ByteArrayInputStream(bytes.toByteArray()), new String[0], fileChecksums);
+		assertEquals(3, fileChecksums.size());
+		Checksum[] expected = fileChecksums.get("./pkg/dir/file.txt");
+		assertArrayEquals(expected, fileChecksums.get("./pkg/link.txt"));
+		assertArrayEquals(expected, fileChecksums.get("./pkg/hard.txt"));
+	}
+
+	private static void addTarFile(TarArchiveOutputStream tar, File root, String path, String content) throws IOException {
+		byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+		TarArchiveEntry entry = new TarArchiveEntry(path);
+		entry.setSize(bytes.length);
+		tar.putArchiveEntry(entry);
+		tar.write(bytes);
+		tar.closeArchiveEntry();
+		File file = new File(root, path);
+		file.getParentFile().mkdirs();
+		Files.write(file.toPath(), bytes);
+	}
+
+	private static void addTarSymlink(TarArchiveOutputStream tar, File root, String path, String target) throws IOException {
+		TarArchiveEntry entry = new TarArchiveEntry(path, TarArchiveEntry.LF_SYMLINK);
+		entry.setLinkName(target);
+		tar.putArchiveEntry(entry);
+		tar.closeArchiveEntry();
+		File link = new File(root, path);
+		link.getParentFile().mkdirs();
+		Files.createSymbolicLink(link.toPath(), new File(target).toPath());
+	}
+
+	@Test
+	public void testDirectoryLinks() throws Exception {
+		File extracted = Files.createTempDirectory("spdx-links").toFile();
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes)) {
+				addTarFile(tar, extracted, "pkg/dir/file.txt", "file");
+				addTarFile(tar, extracted, "pkg/dir/sub/other.txt", "other");
+				addTarSymlink(tar, extracted, "pkg/dir/sub/link.txt", "../file.txt");
+				addTarSymlink(tar, extracted, "pkg/linkdir", "dir");
+				addTarSymlink(tar, extracted, "pkg/chain", "linkdir/sub");
+				addTarSymlink(tar, extracted, "pkg/via.txt", "linkdir/sub/other.txt");
+				// loops back to a directory containing the link
+				addTarSymlink(tar, extracted, "pkg/dir/sub/up", "../..");
+			}
+			Map<String, Checksum[]> fileChecksums = Maps.newHashMap();
+			SpdxPackageVerificationCode result = new ArchiveVerificationCodeGenerator().generatePackageVerificationCode(
+					new ByteArrayInputStream(bytes.toByteArray()), new String[0], fileChecksums);
+			assertEquals(Sets.newHashSet("./pkg/dir/file.txt", "./pkg/dir/sub/other.txt", "./pkg/dir/sub/link.txt",
+					"./pkg/linkdir/file.txt", "./pkg/linkdir/sub/other.txt", "./pkg/linkdir/sub/link.txt",
+					"./pkg/chain/other.txt", "./pkg/chain/link.txt", "./pkg/via.txt"), fileChecksums.keySet());
+			Checksum[] other = fileChecksums.get("./pkg/dir/sub/other.txt");
+			assertArrayEquals(other, fileChecksums.get("./pkg/linkdir/sub/other.txt"));
+			assertArrayEquals(other, fileChecksums.get("./pkg/chain/other.txt"));
+			assertArrayEquals(other, fileChecksums.get("./pkg/via.txt"));
+			assertArrayEquals(fileChecksums.get("./pkg/dir/file.txt"), fileChecksums.get("./pkg/chain/link.txt"));
+			String expected = new ParallelVerificationCodeGenerator(1).generatePackageVerificationCode(extracted).getValue();
+			assertEquals(expected, result.getValue());
+		} finally {
+			FileUtils.deleteDirectory(extracted);
+		}
+	}
+
+	@Test
+	public void testUnsupportedFormat() throws Exception {
+		try {
+			new ArchiveVerificationCodeGenerator().generatePackageVerificationCode(
+					new ByteArrayInputStream("not an archive".getBytes(StandardCharsets.UTF_8)), new String[0], null);
+			fail("Expected an exception for an unsupported format");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestCachingChecksumGenerator {
+
+	static final long AN_HOUR_AGO = System.currentTimeMillis() - 3600000;
+
+	File tempDir;
+	File cacheFile;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("spdx-cache").toFile();
+		cacheFile = new File(tempDir, "checksums.cache");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir);
+	}
+
+	private File writeFile(String name, String content, long lastModified) throws Exception {
+		File file = new File(tempDir, name);
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		file.setLastModified(lastModified);
+		return file;
+	}
+
+	@Test
+	public void testCacheHits() throws Exception {
+		File unchanged = writeFile("unchanged.txt", "unchanged", AN_HOUR_AGO);
+		File changed = writeFile("changed.txt", "original", AN_HOUR_AGO);
+		CachingChecksumGenerator generator = new CachingChecksumGenerator(new JavaSha1ChecksumGenerator(), cacheFile);
+		String unchangedChecksum = generator.getFileChecksum(unchanged);
+		generator.getFileChecksum(changed);
+		assertEquals(unchangedChecksum, generator.getFileChecksum(unchanged));
+		assertEquals(1, generator.getNumHits());
+		assertEquals(2, generator.getNumMisses());
+		generator.save();
+		assertTrue(cacheFile.exists());
+
+		writeFile("changed.txt", "modified", AN_HOUR_AGO + 1000);
+		generator = new CachingChecksumGenerator(new JavaSha1ChecksumGenerator(), cacheFile);
+		assertEquals(unchangedChecksum, generator.getFileChecksum(unchanged));
+		assertEquals(new JavaSha1ChecksumGenerator().getFileChecksum(changed), generator.getFileChecksum(changed));
+		assertEquals(1, generator.getNumHits());
+		assertEquals(1, generator.getNumMisses());
+	}
+
+	@Test
+	public void testRecentlyModifiedNotCached() throws Exception {
+		File recent = writeFile("recent.txt", "recent", System.currentTimeMillis());
+		CachingChecksumGenerator generator = new CachingChecksumGenerator(new JavaSha1ChecksumGenerator(), cacheFile);
+		generator.getFileChecksum(recent);
+		generator.getFileChecksum(recent);
+		assertEquals(0, generator.getNumHits());
+		assertEquals(2, generator.getNumMisses());
+	}
+
+	@Test
+	public void testVerificationCode() throws Exception {
+		File sourceDirectory = new File(tempDir, "source");
+		for (int i = 0; i < 20; i++) {
+			File dir = new File(sourceDirectory, "dir" + (i % 3));
+			dir.mkdirs();
+			File file = new File(dir, "file" + i);
+			Files.write(file.toPath(), ("content " + i).getBytes(StandardCharsets.UTF_8));
+			file.setLastModified(AN_HOUR_AGO);
+		}
+		String expected = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator())
+				.generatePackageVerificationCode(sourceDirectory).getValue();
+		CachingChecksumGenerator generator = new CachingChecksumGenerator(new MultiChecksumGenerator(false), cacheFile);
+		assertEquals(expected, new ParallelVerificationCodeGenerator(generator, 2)
+				.generatePackageVerificationCode(sourceDirectory).getValue());
+		generator.save();
+		new File(sourceDirectory, "dir0" + File.separator + "file0").delete();
+		expected = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator())
+				.generatePackageVerificationCode(sourceDirectory).getValue();
+		generator = new CachingChecksumGenerator(new MultiChecksumGenerator(false), cacheFile);
+		assertEquals(expected, new VerificationCodeGenerator(generator)
+				.generatePackageVerificationCode(sourceDirectory).getValue());
+		assertEquals(19, generator.getNumHits());
+		assertEquals(0, generator.getNumMisses());
+	}
+
+	@Test
+	public void testInvalidCacheFile() throws Exception {
+		File file = writeFile("file.txt", "content", AN_HOUR_AGO);
+		Files.write(cacheFile.toPath(), "not a cache".getBytes(StandardCharsets.UTF_8));
+		CachingChecksumGenerator generator = new CachingChecksumGenerator(new JavaSha1ChecksumGenerator(), cacheFile);
+		assertEquals(new JavaSha1ChecksumGenerator().getFileChecksum(file), generator.getFileChecksum(file));
+		generator.save();
+		generator = new CachingChecksumGenerator(new JavaSha1ChecksumGenerator(), cacheFile);
+		generator.getFileChecksum(file);
+		assertEquals(1, generator.getNumHits());
+	}
+
+	@Test
+	public void testCollectedChecksums() throws Exception {
+		File file = writeFile("file.txt", "content", AN_HOUR_AGO);
+		MultiChecksumGenerator expectedGenerator = new MultiChecksumGenerator(ChecksumAlgorithm.checksumAlgorithm_sha256,
+				ChecksumAlgorithm.checksumAlgorithm_md5);
+		Checksum[] expected = expectedGenerator.getFileChecksums(file);
+		CachingChecksumGenerator generator = new CachingChecksumGenerator(new MultiChecksumGenerator(
+				ChecksumAlgorithm.checksumAlgorithm_sha256, ChecksumAlgorithm.checksumAlgorithm_md5), cacheFile);
+		generator.getFileChecksum(file);
+		generator.save();
+		List<String> lines = Files.readAllLines(cacheFile.toPath(), StandardCharsets.UTF_8);
+		assertTrue(lines.get(0).contains(ChecksumAlgorithm.checksumAlgorithm_sha256.toString()));
+		assertTrue(lines.get(0).contains(ChecksumAlgorithm.checksumAlgorithm_md5.toString()));
+		// the checksums of a cached file are collected by the underlying generator
+		MultiChecksumGenerator multiChecksumGenerator = new MultiChecksumGenerator(
+				ChecksumAlgorithm.checksumAlgorithm_sha256, ChecksumAlgorithm.checksumAlgorithm_md5);
+		generator = new CachingChecksumGenerator(multiChecksumGenerator, cacheFile);
+		assertEquals(expectedGenerator.getSha1(expected), generator.getFileChecksum(file));
+		assertEquals(1, generator.getNumHits());
+		Map<File, Checksum[]> collected = multiChecksumGenerator.getCollectedChecksums();
+		assertEquals(1, collected.size());
+		Checksum[] result = collected.get(file);
+		assertEquals(expected.length, result.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertTrue(expected[i].equivalent(result[i]));
+		}
+	}
+
+	@Test
+	public void testChangeAlgorithms() throws Exception {
+		File file = writeFile("file.txt", "content", AN_HOUR_AGO);
+		CachingChecksumGenerator generator = new CachingChecksumGenerator(new JavaSha1ChecksumGenerator(), cacheFile);
+		String sha1 = generator.getFileChecksum(file);
+		generator.save();
+		// SHA256 is not in the cache
+		MultiChecksumGenerator multiChecksumGenerator = new MultiChecksumGenerator(ChecksumAlgorithm.checksumAlgorithm_sha256);
+		generator = new CachingChecksumGenerator(multiChecksumGenerator, cacheFile);
+		assertEquals(sha1, generator.getFileChecksum(file));
+		assertEquals(0, generator.getNumHits());
+		assertEquals(1, generator.getNumMisses());
+		assertEquals(2, multiChecksumGenerator.getCollectedChecksums().get(file).length);
+		generator.save();
+		// both the SHA1 and SHA256 generators now find the file in the cache
+		generator = new CachingChecksumGenerator(new JavaSha1ChecksumGenerator(), cacheFile);
+		assertEquals(sha1, generator.getFileChecksum(file));
+		assertEquals(1, generator.getNumHits());
+		generator.save();
+		multiChecksumGenerator = new MultiChecksumGenerator(ChecksumAlgorithm.checksumAlgorithm_sha256);
+		generator = new CachingChecksumGenerator(multiChecksumGenerator, cacheFile);
+		generator.getFileChecksum(file);
+		assertEquals(1, generator.getNumHits());
+		assertEquals(2, multiChecksumGenerator.getCollectedChecksums().get(file).length);
+	}
+}
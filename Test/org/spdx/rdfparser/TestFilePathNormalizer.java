@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestFilePathNormalizer {
+
+	static final String[] PATHS = new String[] {"", " ", ".", "./", "/", "//", ".//", "./a", "a", "/a", "a/b/c.txt",
+			"./a/b/c.txt", ".\\a\\b", "a\\b\\c", "  ./a/b  ", "\t./a\n", "a/../b", "a/b/../c", "../a", "./../a",
+			"a/../../b", "/a/../b", "a/b/..", "a/../b/..", "x../y", "a/.../b", "a//b/../c", "a/../b//", "a/./b",
+			"a/b./c", "a.b/c", ".a/b", "..", "...", "./.", "a/.", "a\\..\\b", "a/b/../../c", "..\\..\\a", "a/..b/c",
+			"./a/./b/./", "a/b/", "./a/b/", ".../x"};
+
+	@Test
+	public void testNormalizeFilePath() {
+		for (String path:PATHS) {
+			assertEquals(path, FilePathNormalizerBenchmark.legacyNormalizeFilePath(path),
+					FilePathNormalizer.normalizeFilePath(path));
+		}
+	}
+
+	@Test
+	public void testNormalizeFilePathRandom() {
+		char[] alphabet = new char[] {'.', '.', '/', '/', '\\', 'a', 'b', ' '};
+		Random random = new Random(1234);
+		for (int i = 0; i < 100000; i++) {
+			char[] chars = new char[random.nextInt(10)];
+			for (int j = 0; j < chars.length; j++) {
+				chars[j] = alphabet[random.nextInt(alphabet.length)];
+			}
+			String path = new String(chars);
+			assertEquals(path, FilePathNormalizerBenchmark.legacyNormalizeFilePath(path),
+					FilePathNormalizer.normalizeFilePath(path));
+			assertEquals(path, FilePathNormalizerBenchmark.legacyNormalizeFileName(path),
+					FilePathNormalizer.normalizeFileName(path));
+		}
+	}
+
+	@Test
+	public void testNormalizedUnchanged() {
+		String path = "./src/org/spdx/File.java";
+		assertSame(path, FilePathNormalizer.normalizeFilePath(path));
+		assertSame(path, FilePathNormalizer.normalizeFileName(path));
+		String windowsPath = "src\\org\\spdx\\File.java";
+		assertEquals(path, FilePathNormalizer.normalizeFilePath(windowsPath));
+		assertEquals(path, FilePathNormalizer.normalizeFileName(windowsPath));
+		assertEquals(path, FilePathNormalizer.normalizeFileName("src/org/spdx/File.java"));
+		assertEquals(path, FilePathNormalizer.normalizeFileName(".\\src\\org\\spdx\\File.java"));
+	}
+}
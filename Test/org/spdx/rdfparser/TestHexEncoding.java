@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestHexEncoding {
+
+	@Test
+	public void testToHex() {
+		assertEquals("00ff7f80", HexEncoding.toHex(new byte[] {0, (byte)0xff, 0x7f, (byte)0x80}));
+		assertEquals("", HexEncoding.toHex(new byte[0]));
+		Random random = new Random(1234);
+		for (int i = 0; i < 200; i++) {
+			byte[] bytes = new byte[20];
+			random.nextBytes(bytes);
+			StringBuilder expected = new StringBuilder();
+			for (byte b:bytes) {
+				String hex = Integer.toHexString(b & 0xff);
+				if (hex.length() < 2) {
+					expected.append('0');
+				}
+				expected.append(hex);
+			}
+			assertEquals(expected.toString(), HexEncoding.toHex(bytes));
+		}
+	}
+}
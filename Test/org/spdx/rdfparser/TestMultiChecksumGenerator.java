@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestMultiChecksumGenerator {
+
+	static final String SOURCE_PATH = "TestFiles" + File.separator + "spdx-parser-source";
+	static final String LARGE_FILE_PATH = "TestFiles" + File.separator + "SPDXRdfExample-v2.1.rdf";
+
+	private static String digest(String algorithm, File file) throws Exception {
+		byte[] digest = MessageDigest.getInstance(algorithm).digest(Files.readAllBytes(file.toPath()));
+		StringBuilder sb = new StringBuilder();
+		for (byte b:digest) {
+			sb.append(String.format("%02x", b));
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testGetFileChecksums() throws Exception {
+		MultiChecksumGenerator generator = new MultiChecksumGenerator(ChecksumAlgorithm.checksumAlgorithm_sha256,
+				ChecksumAlgorithm.checksumAlgorithm_md5, ChecksumAlgorithm.checksumAlgorithm_sha256);
+		assertArrayEquals(new ChecksumAlgorithm[] {ChecksumAlgorithm.checksumAlgorithm_sha256,
+				ChecksumAlgorithm.checksumAlgorithm_md5, ChecksumAlgorithm.checksumAlgorithm_sha1},
+				generator.getAlgorithms());
+		File file = new File(LARGE_FILE_PATH);
+		assertTrue(file.length() > MultiChecksumGenerator.BUFFER_SIZE);
+		Checksum[] result = generator.getFileChecksums(file);
+		assertEquals(3, result.length);
+		assertEquals(digest("SHA-256", file), result[0].getValue());
+		assertEquals(ChecksumAlgorithm.checksumAlgorithm_md5, result[1].getAlgorithm());
+		assertEquals(digest("MD5", file), result[1].getValue());
+		assertEquals(new JavaSha1ChecksumGenerator().getFileChecksum(file), result[2].getValue());
+		assertEquals(result[2].getValue(), generator.getFileChecksum(file));
+		File emptyFile = File.createTempFile("spdx-empty", ".txt");
+		try {
+			assertEquals(digest("SHA-1", emptyFile), generator.getFileChecksum(emptyFile));
+		} finally {
+			emptyFile.delete();
+		}
+	}
+
+	@Test
+	public void testUnsupportedAlgorithm() {
+		try {
+			new MultiChecksumGenerator(ChecksumAlgorithm.checksumAlgorithm_md6);
+			fail("MD6 is not supported");
+		} catch (NoSuchAlgorithmException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testVerificationCode() throws Exception {
+		File sourceDirectory = new File(SOURCE_PATH);
+		MultiChecksumGenerator generator = new MultiChecksumGenerator(ChecksumAlgorithm.checksumAlgorithm_sha256);
+		SpdxPackageVerificationCode result = new VerificationCodeGenerator(generator)
+				.generatePackageVerificationCode(sourceDirectory);
+		assertEquals(new VerificationCodeGenerator(new JavaSha1ChecksumGenerator())
+				.generatePackageVerificationCode(sourceDirectory).getValue(), result.getValue());
+		Map<File, Checksum[]> collected = generator.getCollectedChecksums();
+		assertEquals(FileUtils.listFiles(sourceDirectory, null, true).size(), collected.size());
+		for (Map.Entry<File, Checksum[]> entry:collected.entrySet()) {
+			assertEquals(digest("SHA-256", entry.getKey()), entry.getValue()[0].getValue());
+		}
+		generator.clearCollectedChecksums();
+		result = new ParallelVerificationCodeGenerator(generator, 2).generatePackageVerificationCode(sourceDirectory);
+		assertEquals(FileUtils.listFiles(sourceDirectory, null, true).size(), generator.getCollectedChecksums().size());
+	}
+}
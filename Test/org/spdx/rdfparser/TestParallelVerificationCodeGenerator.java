@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestParallelVerificationCodeGenerator {
+
+	static final String SOURCE_PATH = "TestFiles" + File.separator + "spdx-parser-source";
+
+	@Test
+	public void testSameAsSequential() throws Exception {
+		File sourceDirectory = new File(SOURCE_PATH);
+		File[] skippedFiles = new File[] {new File(VerificationCodeGeneratorTest.SKIPPED_FILE_NAMES[0]),
+				new File(VerificationCodeGeneratorTest.SKIPPED_FILE_NAMES[1])};
+		SpdxPackageVerificationCode expected = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator())
+				.generatePackageVerificationCode(sourceDirectory, skippedFiles);
+		for (int numThreads = 1; numThreads <= 4; numThreads++) {
+			SpdxPackageVerificationCode result = new ParallelVerificationCodeGenerator(numThreads)
+					.generatePackageVerificationCode(sourceDirectory, skippedFiles);
+			assertEquals(expected.getValue(), result.getValue());
+			assertArrayEquals(expected.getExcludedFileNames(), result.getExcludedFileNames());
+		}
+		assertEquals(new VerificationCodeGenerator(new JavaSha1ChecksumGenerator()).generatePackageVerificationCode(sourceDirectory).getValue(),
+				new ParallelVerificationCodeGenerator().generatePackageVerificationCode(sourceDirectory).getValue());
+	}
+
+	@Test
+	public void testManyFiles() throws Exception {
+		File tempDir = Files.createTempDirectory("spdx-vcode").toFile();
+		try {
+			for (int i = 0; i < 200; i++) {
+				File dir = new File(tempDir, "dir" + (i % 7) + File.separator + "sub" + (i % 3));
+				dir.mkdirs();
+				Files.write(new File(dir, "file" + i + ".txt").toPath(), ("content " + i).getBytes(StandardCharsets.UTF_8));
+			}
+			new File(tempDir, "empty").mkdir();
+			SpdxPackageVerificationCode expected = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator())
+					.generatePackageVerificationCode(tempDir);
+			SpdxPackageVerificationCode result = new ParallelVerificationCodeGenerator(3).generatePackageVerificationCode(tempDir);
+			assertEquals(expected.getValue(), result.getValue());
+		} finally {
+			FileUtils.deleteDirectory(tempDir);
+		}
+	}
+
+	@Test
+	public void testChecksumGeneratorHook() throws Exception {
+		final List<String> hashedFiles = Lists.newArrayList();
+		final JavaSha1ChecksumGenerator sha1 = new JavaSha1ChecksumGenerator();
+		IFileChecksumGenerator generator = new IFileChecksumGenerator() {
+			@Override
+			public synchronized String getFileChecksum(File file) throws IOException {
+				hashedFiles.add(file.getName());
+				return sha1.getFileChecksum(file);
+			}
+		};
+		File sourceDirectory = new File(SOURCE_PATH);
+		SpdxPackageVerificationCode result = new ParallelVerificationCodeGenerator(generator, 2)
+				.generatePackageVerificationCode(sourceDirectory);
+		assertEquals(new VerificationCodeGenerator(new JavaSha1ChecksumGenerator()).generatePackageVerificationCode(sourceDirectory).getValue(),
+				result.getValue());
+		assertTrue(hashedFiles.contains("SPDXFile.java"));
+		assertEquals(FileUtils.listFiles(sourceDirectory, null, true).size(), hashedFiles.size());
+		assertFalse(Arrays.asList(result.getExcludedFileNames()).contains("./org/spdx/rdfparser/SPDXFile.java"));
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestSkipRules {
+
+	static final String[] FILES = new String[] {"src/Main.java", "src/util/Helper.java", "src/util/Helper.class",
+			"README.md", "package.spdx", ".git/config", ".git/objects/ab/cdef", "web/node_modules/lib/index.js",
+			"web/app.js"};
+
+	File sourceDirectory;
+
+	@Before
+	public void setUp() throws Exception {
+		sourceDirectory = Files.createTempDirectory("spdx-skip").toFile();
+		for (String path:FILES) {
+			File file = new File(sourceDirectory, path);
+			file.getParentFile().mkdirs();
+			Files.write(file.toPath(), path.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(sourceDirectory);
+	}
+
+	@Test
+	public void testGlobs() {
+		SkipRules rules = new SkipRules().addSkippedFileGlob("*.class").addSkippedFileGlob("src/**/*.{md,txt}")
+				.addSkippedFileGlob("/top?.java").addSkippedFileGlob("[!a-m]*.spdx");
+		assertTrue(rules.isSkippedFile("./a/b/Helper.class"));
+		assertTrue(rules.isSkippedFile("./Helper.class"));
+		assertFalse(rules.isSkippedFile("./Helper.classes"));
+		assertTrue(rules.isSkippedFile("./src/notes.md"));
+		assertTrue(rules.isSkippedFile("./src/a/b/notes.txt"));
+		assertFalse(rules.isSkippedFile("./doc/notes.md"));
+		assertTrue(rules.isSkippedFile("./top1.java"));
+		assertFalse(rules.isSkippedFile("./dir/top1.java"));
+		assertTrue(rules.isSkippedFile("./package.spdx"));
+		assertFalse(rules.isSkippedFile("./doc.spdx"));
+		assertFalse(rules.isPrunedDirectory("./src"));
+	}
+
+	@Test
+	public void testRegexAndPaths() {
+		SkipRules rules = new SkipRules();
+		assertTrue(rules.isEmpty());
+		rules.addSkippedFileRegex(".*\\.txt").addSkippedFile("docs/a.md").addPrunedDirectoryRegex("build|target");
+		assertFalse(rules.isEmpty());
+		assertTrue(rules.isSkippedFile("./x/y.txt"));
+		assertTrue(rules.isSkippedFile("./docs/a.md"));
+		assertFalse(rules.isSkippedFile("./docs/b.md"));
+		assertTrue(rules.isPrunedDirectory("./build"));
+		assertFalse(rules.isPrunedDirectory("./src/build"));
+		try {
+			rules.addSkippedFileRegex("(unclosed");
+			fail("Invalid regex");
+		} catch (PatternSyntaxException e) {
+			// expected
+		}
+	}
+
+	private String expectedCode(String... includedFiles) throws Exception {
+		File expectedDirectory = Files.createTempDirectory("spdx-skip-expected").toFile();
+		try {
+			for (String path:includedFiles) {
+				Files.write(new File(expectedDirectory, path.replace('/', '_')).toPath(), path.getBytes(StandardCharsets.UTF_8));
+			}
+			return new VerificationCodeGenerator(new JavaSha1ChecksumGenerator()).generatePackageVerificationCode(expectedDirectory).getValue();
+		} finally {
+			FileUtils.deleteDirectory(expectedDirectory);
+		}
+	}
+
+	@Test
+	public void testVerificationCode() throws Exception {
+		SkipRules rules = new SkipRules().addSkippedFileGlob("*.{class,spdx}").addPrunedDirectoryGlob(".git")
+				.addPrunedDirectoryGlob("node_modules");
+		String expected = expectedCode("src/Main.java", "src/util/Helper.java", "README.md", "web/app.js");
+		String[] expectedSkipped = new String[] {"./package.spdx", "./src/util/Helper.class"};
+		SpdxPackageVerificationCode result = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator())
+				.generatePackageVerificationCode(sourceDirectory, rules);
+		assertEquals(expected, result.getValue());
+		assertArrayEquals(expectedSkipped, result.getExcludedFileNames());
+		result = new ParallelVerificationCodeGenerator(2).generatePackageVerificationCode(sourceDirectory, rules);
+		assertEquals(expected, result.getValue());
+		assertArrayEquals(expectedSkipped, result.getExcludedFileNames());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (TarArchiveOutputStream tar = new TarArchiveOutputStream(bytes)) {
+			for (String path:FILES) {
+				File file = new File(sourceDirectory, path);
+				tar.putArchiveEntry(new TarArchiveEntry(file, path));
+				Files.copy(file.toPath(), tar);
+				tar.closeArchiveEntry();
+			}
+		}
+		result = new ArchiveVerificationCodeGenerator().generatePackageVerificationCode(
+				new ByteArrayInputStream(bytes.toByteArray()), rules, null);
+		assertEquals(expected, result.getValue());
+		assertArrayEquals(expectedSkipped, result.getExcludedFileNames());
+	}
+}
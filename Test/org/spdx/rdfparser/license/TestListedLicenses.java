@@ -2,10 +2,18 @@ package org.spdx.rdfparser.license;
 
 import static org.junit.Assert.*;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.apache.commons.lang3.StringUtils;
 import org.junit.Test;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 
+import com.google.common.collect.Lists;
+
 /**
  * @author yevster@gmail.com, Black Duck Software
  *         SPDX-License-Identifier: Apache-2.0
@@ -41,4 +49,31 @@ public class TestListedLicenses {
 			ListedLicenses.resetListedLicenses();
 		}
 	}
+
+	@Test
+	public void testGetListedLicenseByIdConcurrent() throws Exception {
+		final String[] ids = new String[] {"MIT", "Apache-1.1", "BSD-3-Clause", "ISC", "Zlib", "EPL-1.0"};
+		ListedLicenses.resetListedLicenses();
+		ExecutorService executor = Executors.newFixedThreadPool(ids.length);
+		try {
+			List<Future<SpdxListedLicense>> futures = Lists.newArrayList();
+			// every license is requested by two threads at once
+			for (int i = 0; i < ids.length * 2; i++) {
+				final String id = ids[i % ids.length];
+				futures.add(executor.submit(new Callable<SpdxListedLicense>() {
+					@Override
+					public SpdxListedLicense call() throws Exception {
+						return ListedLicenses.getListedLicenses().getListedLicenseById(id);
+					}
+				}));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				SpdxListedLicense result = futures.get(i).get();
+				assertEquals(ids[i % ids.length], result.getLicenseId());
+				assertFalse(result.getLicenseText().isEmpty());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
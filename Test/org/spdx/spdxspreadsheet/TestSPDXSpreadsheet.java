@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.spdxspreadsheet;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.SPDXDocumentFactory;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.Annotation;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.rdfparser.model.DoapProject;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.tools.RdfToSpreadsheet;
+import org.spdx.tools.SpreadsheetToRDF;
+
+import com.google.common.io.Files;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestSPDXSpreadsheet {
+
+	static final String TEST_RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample-v2.1.rdf";
+	static final String PER_FILE_SHEET_ENTRY = "xl/worksheets/sheet5.xml";
+
+	File tempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDir();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir);
+	}
+
+	@Test
+	public void testStreamingRoundTrip() throws Exception {
+		SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH);
+		File xlsFile = new File(tempDir, "doc.xls");
+		SPDXSpreadsheet ss = SPDXSpreadsheet.createOutputSpreadsheet(xlsFile);
+		assertFalse(ss.isStreaming());
+		try {
+			RdfToSpreadsheet.copyRdfXmlToSpreadsheet(doc, ss);
+		} finally {
+			ss.close();
+		}
+		File xlsxFile = new File(tempDir, "doc.xlsx");
+		// a window of 1 row forces every sheet to flush rows as they are added
+		ss = new SPDXSpreadsheet(xlsxFile, 1);
+		assertTrue(ss.isStreaming());
+		try {
+			RdfToSpreadsheet.copyRdfXmlToSpreadsheet(doc, ss);
+		} finally {
+			ss.close();
+		}
+		SpdxDocument fromXls = readSpreadsheet(xlsFile);
+		SpdxDocument fromXlsx = readSpreadsheet(xlsxFile);
+		assertTrue(fromXls.equivalent(fromXlsx));
+		assertEquals(doc.getDocumentContainer().findAllFiles().size(), fromXlsx.getDocumentContainer().findAllFiles().size());
+		assertEquals(doc.getDocumentContainer().findAllPackages().size(), fromXlsx.getDocumentContainer().findAllPackages().size());
+		assertEquals(doc.getName(), fromXlsx.getName());
+		assertEquals(doc.getCreationInfo().getCreators().length, fromXlsx.getCreationInfo().getCreators().length);
+	}
+
+	private SpdxDocument readSpreadsheet(File file) throws Exception {
+		StreamingSPDXSpreadsheet ss = new StreamingSPDXSpreadsheet(file);
+		try {
+			return SpreadsheetToRDF.copySpreadsheetToSPDXAnalysis(ss);
+		} finally {
+			ss.close();
+		}
+	}
+
+	@Test
+	public void testMoreThanXlsRows() throws Exception {
+		int numFiles = 70000;
+		SpdxFile file = new SpdxFile("./src/file.c", null, new Annotation[0], new Relationship[0],
+				new SpdxNoAssertionLicense(), new AnyLicenseInfo[] {new SpdxNoAssertionLicense()}, "NOASSERTION", null,
+				new FileType[] {FileType.fileType_source},
+				new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, "2fd4e1c67a2d28fced849ee1bb76e7391b93eb12")},
+				new String[0], null, new DoapProject[0]);
+		File xlsxFile = new File(tempDir, "large.xlsx");
+		SPDXSpreadsheet ss = SPDXSpreadsheet.createOutputSpreadsheet(xlsxFile);
+		assertTrue(ss.isStreaming());
+		try {
+			PerFileSheet perFileSheet = ss.getPerFileSheet();
+			for (int i = 0; i < numFiles; i++) {
+				file.setName("./src/file" + i + ".c");
+				perFileSheet.add(file, "SPDXRef-Package");
+			}
+		} finally {
+			ss.close();
+		}
+		// count the rows in the sheet XML rather than loading the whole workbook
+		try (ZipFile zip = new ZipFile(xlsxFile)) {
+			String sheetXml = IOUtils.toString(zip.getInputStream(zip.getEntry(PER_FILE_SHEET_ENTRY)), StandardCharsets.UTF_8);
+			assertTrue(sheetXml.contains("<c r=\"A1\""));
+			assertEquals(numFiles + 1, StringUtils.countMatches(sheetXml, "<row "));
+			assertTrue(sheetXml.contains("./src/file" + (numFiles - 1) + ".c"));
+		}
+	}
+}
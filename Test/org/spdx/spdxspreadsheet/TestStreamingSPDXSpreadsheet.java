@@ -0,0 +1,301 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.spdxspreadsheet;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SPDXDocumentFactory;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.Annotation;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.rdfparser.model.DoapProject;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.spdxspreadsheet.StreamingSPDXSpreadsheet.SheetRowHandler;
+import org.spdx.tools.RdfToSpreadsheet;
+import org.spdx.tools.SpreadsheetToRDF;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestStreamingSPDXSpreadsheet {
+
+	static final String TEST_RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample-v2.1.rdf";
+	static final String[] TEST_SPREADSHEETS = new String[] {
+		"TestFiles"+File.separator+"SPDXRdfExample-v2.1.xls",
+		"TestFiles"+File.separator+"SPDXSpreadsheetExample-v2.0.xls"
+	};
+	static final String[] INVALID_SPREADSHEETS = new String[] {
+		"TestFiles"+File.separator+"SPDXSpreadsheetMergeTest1.xlsx",
+		"TestFiles"+File.separator+"SPDXSpreadsheetMergeTest2.xls"
+	};
+
+	File tempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDir();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir);
+	}
+
+	private SpdxDocument readStreaming(File file) throws Exception {
+		StreamingSPDXSpreadsheet ss = new StreamingSPDXSpreadsheet(file);
+		try {
+			return SpreadsheetToRDF.copySpreadsheetToSPDXAnalysis(ss);
+		} finally {
+			ss.close();
+		}
+	}
+
+	private void assertSameDocument(SpdxDocument expected, SpdxDocument result) throws InvalidSPDXAnalysisException {
+		assertTrue(expected.equivalent(result));
+		assertEquals(expected.getDocumentContainer().findAllFiles().size(), result.getDocumentContainer().findAllFiles().size());
+		assertEquals(expected.getDocumentContainer().findAllPackages().size(), result.getDocumentContainer().findAllPackages().size());
+		assertEquals(expected.getDocumentContainer().findAllSnippets().size(), result.getDocumentContainer().findAllSnippets().size());
+		assertEquals(expected.getAnnotations().length, result.getAnnotations().length);
+		assertEquals(expected.getRelationships().length, result.getRelationships().length);
+		assertEquals(expected.getExtractedLicenseInfos().length, result.getExtractedLicenseInfos().length);
+		assertEquals(expected.getReviewers().length, result.getReviewers().length);
+	}
+
+	@Test
+	public void testMatchesWorkbook() throws Exception {
+		for (String path:TEST_SPREADSHEETS) {
+			File file = new File(path);
+			SpdxDocument result = readStreaming(file);
+			SPDXSpreadsheet ss = new SPDXSpreadsheet(file, false, true);
+			try {
+				assertEquals(path, ss.getOriginsSheet().getDocumentName(), result.getName());
+				assertEquals(path, ss.getPackageInfoSheet().getPackages(null).length,
+						result.getDocumentContainer().findAllPackages().size());
+				assertEquals(path, ss.getPerFileSheet().getNumDataRows(), result.getDocumentContainer().findAllFiles().size());
+				assertEquals(path, ss.getSnippetSheet().getNumDataRows(), result.getDocumentContainer().findAllSnippets().size());
+				assertEquals(path, ss.getNonStandardLicensesSheet().getNumDataRows(), result.getExtractedLicenseInfos().length);
+				assertEquals(path, ss.getReviewersSheet().getNumDataRows(), result.getReviewers().length);
+			} finally {
+				ss.close();
+			}
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testWorkbookOverload() throws Exception {
+		for (String path:TEST_SPREADSHEETS) {
+			File file = new File(path);
+			SPDXSpreadsheet ss = new SPDXSpreadsheet(file, false, true);
+			try {
+				assertSameDocument(SpreadsheetToRDF.copySpreadsheetToSPDXAnalysis(ss), readStreaming(file));
+			} finally {
+				ss.close();
+			}
+		}
+	}
+
+	@Test
+	public void testStreamingXlsx() throws Exception {
+		SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH);
+		File xlsFile = new File(tempDir, "doc.xls");
+		SPDXSpreadsheet ss = SPDXSpreadsheet.createOutputSpreadsheet(xlsFile);
+		try {
+			RdfToSpreadsheet.copyRdfXmlToSpreadsheet(doc, ss);
+		} finally {
+			ss.close();
+		}
+		File xlsxFile = new File(tempDir, "doc.xlsx");
+		ss = new SPDXSpreadsheet(xlsxFile, 1);
+		try {
+			RdfToSpreadsheet.copyRdfXmlToSpreadsheet(doc, ss);
+		} finally {
+			ss.close();
+		}
+		SpdxDocument result = readStreaming(xlsxFile);
+		assertSameDocument(readStreaming(xlsFile), result);
+		assertEquals(doc.getDocumentContainer().findAllFiles().size(), result.getDocumentContainer().findAllFiles().size());
+		assertEquals(doc.getName(), result.getName());
+	}
+
+	/**
+	 * Write the example document to an .xls spreadsheet where the file in the first row is the
+	 * only file with a file dependency
+	 * @param xlsName
+	 * @param dependencyName name of the dependency or null for the file in the last row
+	 * @param fileNames filled in with the names of the files in row order
+	 * @return
+	 * @throws Exception
+	 */
+	private File writeFileDependency(String xlsName, String dependencyName, List<String> fileNames) throws Exception {
+		SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(TEST_RDF_FILE_PATH);
+		File xlsFile = new File(tempDir, xlsName);
+		SPDXSpreadsheet ss = SPDXSpreadsheet.createOutputSpreadsheet(xlsFile);
+		try {
+			RdfToSpreadsheet.copyRdfXmlToSpreadsheet(doc, ss);
+			PerFileSheet perFileSheet = ss.getPerFileSheet();
+			Sheet sheet = perFileSheet.getSheet();
+			int firstRow = perFileSheet.getFirstDataRow();
+			for (int i = firstRow; i < firstRow + perFileSheet.getNumDataRows(); i++) {
+				Row row = sheet.getRow(i);
+				fileNames.add(row.getCell(PerFileSheetV2d2.FILE_NAME_COL).getStringCellValue());
+				Cell dependencyCell = row.getCell(PerFileSheetV2d2.FILE_DEPENDENCIES_COL);
+				if (dependencyCell != null) {
+					row.removeCell(dependencyCell);
+				}
+			}
+			if (dependencyName == null) {
+				dependencyName = fileNames.get(fileNames.size() - 1);
+			}
+			sheet.getRow(firstRow).createCell(PerFileSheetV2d2.FILE_DEPENDENCIES_COL).setCellValue(dependencyName);
+		} finally {
+			ss.close();
+		}
+		return xlsFile;
+	}
+
+	@Test
+	public void testFileDependencyOnLaterRow() throws Exception {
+		List<String> fileNames = Lists.newArrayList();
+		File xlsFile = writeFileDependency("dependencies.xls", null, fileNames);
+		assertTrue(fileNames.size() > 1);
+		SpdxDocument result = readStreaming(xlsFile);
+		SpdxFile first = null;
+		for (SpdxFile file:result.getDocumentContainer().findAllFiles()) {
+			if (file.getName().equals(fileNames.get(0))) {
+				first = file;
+			}
+		}
+		assertNotNull(first);
+		@SuppressWarnings("deprecation")
+		SpdxFile[] dependencies = first.getFileDependencies();
+		assertEquals(1, dependencies.length);
+		assertEquals(fileNames.get(fileNames.size() - 1), dependencies[0].getName());
+	}
+
+	@Test
+	public void testMissingFileDependency() throws Exception {
+		List<String> fileNames = Lists.newArrayList();
+		File xlsFile = writeFileDependency("missing.xls", "./not/in/the/spreadsheet.c", fileNames);
+		try {
+			readStreaming(xlsFile);
+			fail("Expected an exception for a missing file dependency");
+		} catch (SpreadsheetException e) {
+			assertTrue(e.getMessage().contains("./not/in/the/spreadsheet.c"));
+		}
+	}
+
+	@Test
+	public void testReadRows() throws Exception {
+		int numFiles = 2000;
+		SpdxFile file = new SpdxFile("./src/file.c", null, new Annotation[0], new Relationship[0],
+				new SpdxNoAssertionLicense(), new AnyLicenseInfo[] {new SpdxNoAssertionLicense()}, "NOASSERTION", null,
+				new FileType[] {FileType.fileType_source},
+				new Checksum[] {new Checksum(ChecksumAlgorithm.checksumAlgorithm_sha1, "2fd4e1c67a2d28fced849ee1bb76e7391b93eb12")},
+				new String[0], null, new DoapProject[0]);
+		File xlsxFile = new File(tempDir, "files.xlsx");
+		SPDXSpreadsheet ss = SPDXSpreadsheet.createOutputSpreadsheet(xlsxFile);
+		try {
+			PerFileSheet perFileSheet = ss.getPerFileSheet();
+			for (int i = 0; i < numFiles; i++) {
+				file.setName("./src/file" + i + ".c");
+				file.setId("SPDXRef-File" + i);
+				perFileSheet.add(file, "SPDXRef-Package");
+			}
+		} finally {
+			ss.close();
+		}
+		StreamingSPDXSpreadsheet streaming = new StreamingSPDXSpreadsheet(xlsxFile);
+		final List<String> names = Lists.newArrayList();
+		try {
+			assertEquals(SPDXSpreadsheet.CURRENT_VERSION, streaming.getVersion());
+			streaming.readPerFileInfo(new SheetRowHandler<PerFileSheet>() {
+				@Override
+				public boolean handleRow(PerFileSheet sheet, int rowNum) throws SpreadsheetException {
+					// only the header and current row are kept
+					assertEquals(StreamingSPDXSpreadsheet.STREAMED_DATA_ROW, sheet.getSheet().getLastRowNum());
+					assertArrayEquals(new String[] {"SPDXRef-Package"}, sheet.getPackageIds(rowNum));
+					names.add(sheet.getFileInfo(rowNum, null).getName());
+					return true;
+				}
+			});
+			assertEquals(numFiles, names.size());
+			assertEquals("./src/file0.c", names.get(0));
+			assertEquals("./src/file" + (numFiles - 1) + ".c", names.get(numFiles - 1));
+			// stop after the first rows
+			names.clear();
+			streaming.readPerFileInfo(new SheetRowHandler<PerFileSheet>() {
+				@Override
+				public boolean handleRow(PerFileSheet sheet, int rowNum) throws SpreadsheetException {
+					names.add(sheet.getFileInfo(rowNum, null).getName());
+					return names.size() < 3;
+				}
+			});
+			assertEquals(3, names.size());
+		} finally {
+			streaming.close();
+		}
+	}
+
+	@Test
+	public void testColumnOf() {
+		assertEquals(0, XlsxEventReader.columnOf("A1"));
+		assertEquals(25, XlsxEventReader.columnOf("Z100"));
+		assertEquals(26, XlsxEventReader.columnOf("AA3"));
+		assertEquals(27, XlsxEventReader.columnOf("AB12"));
+	}
+
+	@Test
+	public void testInvalidFile() throws Exception {
+		for (String path:INVALID_SPREADSHEETS) {
+			try {
+				new StreamingSPDXSpreadsheet(new File(path));
+				fail("Expected an exception for a spreadsheet without a Document Info sheet: "+path);
+			} catch (SpreadsheetException e) {
+				assertTrue(e.getMessage().contains(SPDXSpreadsheet.DOCUMENT_INFO_NAME));
+			}
+		}
+		File textFile = new File(tempDir, "notaspreadsheet.xls");
+		FileUtils.write(textFile, "not a spreadsheet", "UTF-8");
+		try {
+			new StreamingSPDXSpreadsheet(textFile);
+			fail("Expected an exception for an invalid spreadsheet");
+		} catch (SpreadsheetException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+
+import com.google.common.collect.Lists;
+
+/**
+ * JMH benchmark for dispatching the tags of a large tag/value document to the document builder.
+ *
+ * The tags are pre-split so that only the builder is measured - the document is not linked
+ * (exit is not called) since the linking phase is independent of the tag dispatch.
+ * Each invocation builds a complete document model, so single shot time is used.
+ *
+ * Run from the test classpath with <code>java org.spdx.tag.BuildDocumentBenchmark</code>
+ * @author SPDX Contributors
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BuildDocumentBenchmark {
+
+	/**
+	 * Number of files in the document
+	 */
+	@Param({"1000", "10000"})
+	public int numFiles;
+
+	Properties constants;
+	String[] tags;
+	String[] values;
+
+	@Setup
+	public void setUp() throws IOException {
+		constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
+		List<String[]> lines = Lists.newArrayList();
+		lines.add(new String[] {"SPDXVersion:", "SPDX-2.1"});
+		lines.add(new String[] {"DataLicense:", "CC0-1.0"});
+		lines.add(new String[] {"DocumentNamespace:", "http://spdx.org/spdxdocs/benchmark"});
+		lines.add(new String[] {"DocumentName:", "benchmark"});
+		lines.add(new String[] {"SPDXID:", "SPDXRef-DOCUMENT"});
+		lines.add(new String[] {"Creator:", "Tool: benchmark"});
+		lines.add(new String[] {"Created:", "2026-01-01T00:00:00Z"});
+		lines.add(new String[] {"PackageName:", "package"});
+		lines.add(new String[] {"SPDXID:", "SPDXRef-package"});
+		lines.add(new String[] {"PackageDownloadLocation:", "NOASSERTION"});
+		lines.add(new String[] {"FilesAnalyzed:", "true"});
+		lines.add(new String[] {"PackageLicenseConcluded:", "NOASSERTION"});
+		lines.add(new String[] {"PackageLicenseDeclared:", "NOASSERTION"});
+		lines.add(new String[] {"PackageCopyrightText:", "NOASSERTION"});
+		for (int i = 0; i < numFiles; i++) {
+			lines.add(new String[] {"FileName:", "./src/file" + i + ".c"});
+			lines.add(new String[] {"SPDXID:", "SPDXRef-file" + i});
+			lines.add(new String[] {"FileType:", "SOURCE"});
+			lines.add(new String[] {"FileChecksum:", "SHA1: 85ed0817af83a24ad8da68c2b5094de69833983c"});
+			lines.add(new String[] {"LicenseConcluded:", "Apache-2.0"});
+			lines.add(new String[] {"LicenseInfoInFile:", "Apache-2.0"});
+			lines.add(new String[] {"FileCopyrightText:", "<text>Copyright 2026 Example</text>"});
+			lines.add(new String[] {"FileComment:", "<text>File number " + i + "</text>"});
+		}
+		tags = new String[lines.size()];
+		values = new String[lines.size()];
+		for (int i = 0; i < tags.length; i++) {
+			tags[i] = lines.get(i)[0];
+			values[i] = lines.get(i)[1];
+		}
+	}
+
+	@Benchmark
+	public SpdxDocumentContainer dispatchTags() throws Exception {
+		SpdxDocumentContainer[] result = new SpdxDocumentContainer[1];
+		BuildDocument builder = new BuildDocument(result, constants, Lists.<String>newArrayList());
+		builder.enter();
+		for (int i = 0; i < tags.length; i++) {
+			builder.buildDocument(tags[i], values[i], i + 1);
+		}
+		return result[0];
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(BuildDocumentBenchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark for parsing tag/value files containing large text blocks such as
+ * extracted license texts and notices.
+ *
+ * Run from the test classpath with <code>java org.spdx.tag.HandBuiltParserBenchmark</code>
+ * @author SPDX Contributors
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBuiltParserBenchmark {
+
+	/**
+	 * Number of lines in each text block
+	 */
+	@Param({"1000", "10000", "100000"})
+	public int textBlockLines;
+
+	/**
+	 * Number of text blocks in the file
+	 */
+	@Param({"4"})
+	public int numTextBlocks;
+
+	byte[] tagFile;
+
+	/**
+	 * Passes the values to a blackhole so that the parse is not optimized away
+	 */
+	static class BlackholeBehavior implements TagValueBehavior {
+		Blackhole blackhole;
+
+		BlackholeBehavior(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void buildDocument(String tag, String value, int lineNumber) throws Exception {
+			blackhole.consume(tag);
+			blackhole.consume(value);
+		}
+
+		@Override
+		public void enter() throws Exception {
+		}
+
+		@Override
+		public void exit() throws Exception {
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("SPDXVersion: SPDX-2.1\n");
+		sb.append("DataLicense: CC0-1.0\n");
+		for (int block = 0; block < numTextBlocks; block++) {
+			sb.append("LicenseID: LicenseRef-");
+			sb.append(block);
+			sb.append("\nExtractedText: <text>");
+			for (int line = 0; line < textBlockLines; line++) {
+				sb.append("Permission is hereby granted, free of charge, to any person obtaining a copy ");
+				sb.append(line);
+				sb.append('\n');
+			}
+			sb.append("</text>\n");
+			sb.append("LicenseName: License ");
+			sb.append(block);
+			sb.append('\n');
+		}
+		tagFile = sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public void parseTextBlocks(Blackhole blackhole) throws Exception {
+		HandBuiltParser parser = new HandBuiltParser(new NoCommentInputStream(new ByteArrayInputStream(tagFile)));
+		parser.setBehavior(new BlackholeBehavior(blackhole));
+		parser.data();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(HandBuiltParserBenchmark.class.getSimpleName())
+				.build();
+		new Runner(options).run();
+	}
+}
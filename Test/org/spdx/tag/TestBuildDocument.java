@@ -29,6 +29,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.spdx.rdfparser.SpdxDocumentContainer;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.DisjunctiveLicenseSet;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
 import org.spdx.rdfparser.license.LicenseInfoFactory;
 import org.spdx.rdfparser.model.Annotation;
 import org.spdx.rdfparser.model.Checksum;
@@ -418,4 +420,52 @@ public class TestBuildDocument {
 		assertTrue(expected.equivalent(snippets.get(0)));
 	}
 
+	@Test
+	public void testSharedLicenseExpressions() throws Exception {
+		String fileTags = "FileName: %s\n" +
+				"SPDXID: SPDXRef-%s\n" +
+				"FileChecksum: SHA1: 85ed0817af83a24ad8da68c2b5094de69833983c\n" +
+				"LicenseConcluded: (Apache-2.0 OR LicenseRef-1)\n" +
+				"LicenseInfoInFile: LicenseRef-1\n" +
+				"FileCopyrightText: NOASSERTION\n";
+		String tagDocument = "SPDXVersion: SPDX-2.1\n" +
+				"DataLicense: CC0-1.0\n" +
+				"DocumentNamespace: http://spdx.org/spdxdocs/shared-licenses\n" +
+				"DocumentName: shared-licenses\n" +
+				"SPDXID: SPDXRef-DOCUMENT\n" +
+				"Creator: Tool: test\n" +
+				"Created: 2026-01-01T00:00:00Z\n" +
+				String.format(fileTags, "a.c", "a") +
+				String.format(fileTags, "b.c", "b") +
+				"PackageName: package\n" +
+				"SPDXID: SPDXRef-package\n" +
+				"PackageDownloadLocation: NOASSERTION\n" +
+				"FilesAnalyzed: false\n" +
+				"PackageLicenseConcluded: (Apache-2.0 OR LicenseRef-1)\n" +
+				"PackageLicenseDeclared: NOASSERTION\n" +
+				"PackageCopyrightText: NOASSERTION\n" +
+				"LicenseID: LicenseRef-1\n" +
+				"ExtractedText: <text>License text</text>\n";
+		InputStream bais = new ByteArrayInputStream(tagDocument.getBytes());
+		HandBuiltParser parser = new HandBuiltParser(new NoCommentInputStream(bais));
+		List<String> warnings = Lists.newArrayList();
+		Properties constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
+		SpdxDocumentContainer[] result = new SpdxDocumentContainer[1];
+		parser.setBehavior(new BuildDocument(result, constants, warnings));
+		parser.data();
+		assertEquals(warnings.toString(), 0, warnings.size());
+		List<SpdxFile> files = result[0].findAllFiles();
+		assertEquals(2, files.size());
+		AnyLicenseInfo expected = LicenseInfoFactory.parseSPDXLicenseString("(Apache-2.0 OR LicenseRef-1)", result[0]);
+		for (SpdxFile file:files) {
+			assertTrue(expected.equivalent(file.getLicenseConcluded()));
+			assertEquals(1, file.getLicenseInfoFromFiles().length);
+			assertEquals("License text", ((ExtractedLicenseInfo)file.getLicenseInfoFromFiles()[0]).getExtractedText());
+		}
+		// the repeated expression is stored once in the model
+		assertEquals(files.get(0).getLicenseConcluded(), files.get(1).getLicenseConcluded());
+		SpdxPackage pkg = result[0].findAllPackages().get(0);
+		assertTrue(pkg.getLicenseConcluded() instanceof DisjunctiveLicenseSet);
+		assertEquals(files.get(0).getLicenseConcluded(), pkg.getLicenseConcluded());
+	}
 }
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import antlr.RecognitionException;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestHandBuiltParser {
+
+	/**
+	 * Records the tags and values passed by the parser
+	 */
+	static class RecordingBehavior implements TagValueBehavior {
+		List<String> tags = Lists.newArrayList();
+		List<String> values = Lists.newArrayList();
+		boolean exited = false;
+
+		@Override
+		public void buildDocument(String tag, String value, int lineNumber) throws Exception {
+			tags.add(tag);
+			values.add(value);
+		}
+
+		@Override
+		public void enter() throws Exception {
+		}
+
+		@Override
+		public void exit() throws Exception {
+			exited = true;
+		}
+	}
+
+	private static RecordingBehavior parse(String text) throws Exception {
+		HandBuiltParser parser = new HandBuiltParser(new NoCommentInputStream(
+				new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))));
+		RecordingBehavior behavior = new RecordingBehavior();
+		parser.setBehavior(behavior);
+		parser.data();
+		return behavior;
+	}
+
+	@Test
+	public void testTagLength() {
+		assertEquals("SPDXVersion:".length(), HandBuiltParser.tagLength("SPDXVersion: SPDX-2.1"));
+		assertEquals("A_1:".length(), HandBuiltParser.tagLength("A_1:"));
+		assertEquals(0, HandBuiltParser.tagLength(":value"));
+		assertEquals(0, HandBuiltParser.tagLength(" SPDXVersion: SPDX-2.1"));
+		assertEquals(0, HandBuiltParser.tagLength("no tag here"));
+		assertEquals(0, HandBuiltParser.tagLength(""));
+	}
+
+	@Test
+	public void testSimpleTags() throws Exception {
+		RecordingBehavior result = parse("SPDXVersion: SPDX-2.1\n# comment\n\nDataLicense:   CC0-1.0  \nnot a tag\n");
+		assertEquals(Lists.newArrayList("SPDXVersion:", "DataLicense:"), result.tags);
+		assertEquals(Lists.newArrayList("SPDX-2.1", "CC0-1.0"), result.values);
+		assertTrue(result.exited);
+	}
+
+	@Test
+	public void testTextBlocks() throws Exception {
+		RecordingBehavior result = parse("DocumentComment: <text> single line </text> ignored\n" +
+				"PackageComment: <text>  first\n" +
+				"Tag: not a tag\n" +
+				"\n" +
+				"  last  </text>\n" +
+				"FileNotice: <text></text>\n");
+		assertEquals(Lists.newArrayList("DocumentComment:", "PackageComment:", "FileNotice:"), result.tags);
+		assertEquals("single line", result.values.get(0));
+		assertEquals("first\nTag: not a tag\n\nlast", result.values.get(1));
+		assertEquals("", result.values.get(2));
+	}
+
+	@Test
+	public void testLargeTextBlock() throws Exception {
+		int numLines = 200000;
+		StringBuilder sb = new StringBuilder("ExtractedText: <text>line 0\n");
+		StringBuilder expected = new StringBuilder("line 0");
+		for (int i = 1; i < numLines; i++) {
+			String line = "line " + String.valueOf(i) + " of a large license text";
+			sb.append(line);
+			sb.append('\n');
+			expected.append('\n');
+			expected.append(line);
+		}
+		sb.append("</text>\nLicenseName: big\n");
+		expected.append('\n');
+		RecordingBehavior result = parse(sb.toString());
+		assertEquals(2, result.values.size());
+		assertEquals(expected.toString(), result.values.get(0));
+		assertEquals("big", result.values.get(1));
+	}
+
+	@Test
+	public void testNestedTextBlock() throws Exception {
+		try {
+			parse("PackageComment: <text>first\nsecond <text> nested\n</text>\n");
+			fail("Expected nested text block exception");
+		} catch (RecognitionException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testUnterminatedTextBlock() throws Exception {
+		try {
+			parse("PackageComment: <text>first\nsecond\n");
+			fail("Expected unterminated text block exception");
+		} catch (RecognitionException ex) {
+			// expected
+		}
+	}
+}
@@ -19,7 +19,12 @@ package org.spdx.tag;
 import static org.junit.Assert.*;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -27,6 +32,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.google.common.collect.Lists;
+
 /**
  * @author Source Auditor
  *
@@ -160,4 +167,94 @@ public class TestNoCommentInputStream {
 		nci.close();
 	}
 
+	private static List<String> readLines(NoCommentInputStream nci) throws IOException {
+		List<String> retval = Lists.newArrayList();
+		String line = nci.readLine();
+		while (line != null) {
+			retval.add(line);
+			line = nci.readLine();
+		}
+		nci.close();
+		return retval;
+	}
+
+	@Test
+	public void testMappedFile() throws IOException {
+		String inputString = "Now is the time\r\n#for all good\n\nmen\rto\tcome <text>to \n#the aid of </text>\n\u00e9t\u00e9 \u4e2d\n#also\n";
+		byte[] inputBytes = inputString.getBytes(StandardCharsets.UTF_8);
+		File tempFile = File.createTempFile("nci", ".spdx");
+		try {
+			Files.write(tempFile.toPath(), inputBytes);
+			List<String> expected = readLines(new NoCommentInputStream(new ByteArrayInputStream(inputBytes)));
+			assertEquals(Lists.newArrayList("Now is the time", "men", "to\tcome <text>to ", "#the aid of </text>", "\u00e9t\u00e9 \u4e2d"), expected);
+			assertEquals(expected, readLines(new NoCommentInputStream(tempFile)));
+			assertEquals(expected, readLines(new NoCommentInputStream(new FileInputStream(tempFile))));
+			// read as bytes
+			NoCommentInputStream nci = new NoCommentInputStream(tempFile);
+			byte[] expectedBytes = "Now is the time\nmen\nto\tcome <text>to \n#the aid of </text>\n\u00e9t\u00e9 \u4e2d".getBytes(StandardCharsets.UTF_8);
+			for (int i = 0; i < expectedBytes.length; i++) {
+				assertEquals(expectedBytes[i], (byte)nci.read());
+			}
+			assertEquals(-1, nci.read());
+			nci.close();
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	@Test
+	public void testOnlyFileMapped() throws IOException {
+		File tempFile = File.createTempFile("nci", ".spdx");
+		try {
+			Files.write(tempFile.toPath(), "SPDXVersion: SPDX-2.1\nDataLicense: CC0-1.0\n".getBytes(StandardCharsets.UTF_8));
+			NoCommentInputStream nci = new NoCommentInputStream(tempFile);
+			assertTrue(nci.readLineSequence() instanceof NoCommentInputStream.LineSlice);
+			nci.close();
+			// a file input stream is read line by line
+			nci = new NoCommentInputStream(new FileInputStream(tempFile));
+			CharSequence line = nci.readLineSequence();
+			assertTrue(line instanceof String);
+			assertEquals("SPDXVersion: SPDX-2.1", line);
+			nci.close();
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	@Test
+	public void testMappedEmptyFile() throws IOException {
+		File tempFile = File.createTempFile("nci", ".spdx");
+		try {
+			NoCommentInputStream nci = new NoCommentInputStream(tempFile);
+			assertNull(nci.readLine());
+			assertEquals(-1, nci.read());
+			nci.close();
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	@Test
+	public void testReadLineSequence() throws IOException {
+		File tempFile = File.createTempFile("nci", ".spdx");
+		try {
+			Files.write(tempFile.toPath(), "FileName: <text>foo.c</text>\nabc".getBytes(StandardCharsets.UTF_8));
+			NoCommentInputStream nci = new NoCommentInputStream(tempFile);
+			CharSequence line = nci.readLineSequence();
+			assertEquals("FileName: <text>foo.c</text>", line.toString());
+			assertEquals(28, line.length());
+			assertEquals('F', line.charAt(0));
+			assertEquals("foo.c", line.subSequence(16, 21).toString());
+			assertEquals(10, NoCommentInputStream.indexOf(line, "<text>", 0));
+			assertEquals(21, NoCommentInputStream.indexOf(line, "</text>", 10));
+			assertEquals(-1, NoCommentInputStream.indexOf(line, "<text>", 11));
+			// the earlier line is still valid after reading the next line
+			assertEquals("abc", nci.readLineSequence().toString());
+			assertEquals("foo.c", line.subSequence(16, 21).toString());
+			assertNull(nci.readLineSequence());
+			nci.close();
+		} finally {
+			tempFile.delete();
+		}
+	}
 }
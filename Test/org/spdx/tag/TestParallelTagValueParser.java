@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.DisjunctiveLicenseSet;
+import org.spdx.rdfparser.license.ListedLicenses;
+import org.spdx.rdfparser.license.SpdxListedLicense;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestParallelTagValueParser {
+
+	static final String TAG_FILE_PATH = "TestFiles"+File.separator+"SPDXTagExample-v2.1.spdx";
+
+	static final String DOC_HEADER = "SPDXVersion: SPDX-2.1\n" +
+			"DataLicense: CC0-1.0\n" +
+			"DocumentNamespace: http://spdx.org/spdxdocs/parallel-test\n" +
+			"DocumentName: parallel-test\n" +
+			"SPDXID: SPDXRef-DOCUMENT\n" +
+			"Creator: Tool: test\n" +
+			"Created: 2026-01-01T00:00:00Z\n" +
+			"PackageName: package\n" +
+			"SPDXID: SPDXRef-package\n" +
+			"PackageDownloadLocation: NOASSERTION\n" +
+			"FilesAnalyzed: true\n" +
+			"PackageLicenseConcluded: NOASSERTION\n" +
+			"PackageLicenseDeclared: (Apache-2.0 OR MIT)\n" +
+			"PackageCopyrightText: NOASSERTION\n";
+
+	Properties constants;
+
+	@Before
+	public void setUp() throws Exception {
+		constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
+	}
+
+	private SpdxDocumentContainer parseSerial(String text, List<String> warnings) throws Exception {
+		SpdxDocumentContainer[] result = new SpdxDocumentContainer[1];
+		HandBuiltParser parser = new HandBuiltParser(new NoCommentInputStream(
+				new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))));
+		parser.setBehavior(new BuildDocument(result, constants, warnings));
+		parser.data();
+		return result[0];
+	}
+
+	private SpdxDocumentContainer parseParallel(String text, List<String> warnings, int chunkSize) throws Exception {
+		SpdxDocumentContainer[] result = new SpdxDocumentContainer[1];
+		ParallelTagValueParser parser = new ParallelTagValueParser(new NoCommentInputStream(
+				new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))),
+				new BuildDocument(result, constants, warnings), 4, chunkSize);
+		parser.data();
+		return result[0];
+	}
+
+	private static String generateDocument(int numFiles) {
+		StringBuilder sb = new StringBuilder(DOC_HEADER);
+		for (int i = 0; i < numFiles; i++) {
+			sb.append("FileName: ./src/file");
+			sb.append(i);
+			sb.append(".c\nSPDXID: SPDXRef-file");
+			sb.append(i);
+			sb.append("\nFileType: SOURCE\n");
+			sb.append("FileChecksum: SHA1: 85ed0817af83a24ad8da68c2b5094de69833983c\n");
+			if (i % 3 == 0) {
+				sb.append("LicenseConcluded: (Apache-2.0 AND LicenseRef-");
+				sb.append(i % 5);
+				sb.append(")\n");
+			} else {
+				sb.append("LicenseConcluded: GPL-2.0-or-later WITH Classpath-exception-2.0\n");
+			}
+			sb.append("LicenseInfoInFile: Apache-2.0\n");
+			sb.append("FileCopyrightText: <text>Copyright 2026\nExample</text>\n");
+			if (i > 0) {
+				sb.append("Relationship: SPDXRef-file");
+				sb.append(i);
+				sb.append(" GENERATED_FROM SPDXRef-file");
+				sb.append(i - 1);
+				sb.append('\n');
+			}
+		}
+		for (int i = 0; i < 5; i++) {
+			sb.append("LicenseID: LicenseRef-");
+			sb.append(i);
+			sb.append("\nExtractedText: <text>License text ");
+			sb.append(i);
+			sb.append("</text>\n");
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testSameAsSerialExample() throws Exception {
+		String text = new String(Files.readAllBytes(new File(TAG_FILE_PATH).toPath()), StandardCharsets.UTF_8);
+		List<String> serialWarnings = Lists.newArrayList();
+		SpdxDocumentContainer serial = parseSerial(text, serialWarnings);
+		List<String> parallelWarnings = Lists.newArrayList();
+		SpdxDocumentContainer parallel = parseParallel(text, parallelWarnings, 1);
+		assertTrue(serial.getModel().isIsomorphicWith(parallel.getModel()));
+		assertEquals(serialWarnings, parallelWarnings);
+	}
+
+	@Test
+	public void testSameAsSerialManyChunks() throws Exception {
+		String text = generateDocument(200);
+		List<String> serialWarnings = Lists.newArrayList();
+		SpdxDocumentContainer serial = parseSerial(text, serialWarnings);
+		List<String> parallelWarnings = Lists.newArrayList();
+		SpdxDocumentContainer parallel = parseParallel(text, parallelWarnings, 7);
+		assertEquals(serial.findAllFiles().size(), parallel.findAllFiles().size());
+		assertEquals(200, parallel.findAllFiles().size());
+		assertEquals(5, parallel.getExtractedLicenseInfos().length);
+		assertTrue(serial.getModel().isIsomorphicWith(parallel.getModel()));
+		assertEquals(serialWarnings, parallelWarnings);
+	}
+
+	@Test
+	public void testDifferentListedLicenses() throws Exception {
+		String[] licenseIds = new String[] {"MIT", "Apache-1.1", "BSD-3-Clause", "ISC", "Zlib",
+				"EPL-1.0", "MPL-2.0", "Artistic-2.0"};
+		StringBuilder sb = new StringBuilder(DOC_HEADER);
+		for (int i = 0; i < licenseIds.length * 2; i++) {
+			sb.append("FileName: ./src/file");
+			sb.append(i);
+			sb.append(".c\nSPDXID: SPDXRef-file");
+			sb.append(i);
+			sb.append("\nFileChecksum: SHA1: 85ed0817af83a24ad8da68c2b5094de69833983c\nLicenseConcluded: ");
+			sb.append(licenseIds[i % licenseIds.length]);
+			sb.append("\nLicenseInfoInFile: NOASSERTION\nFileCopyrightText: NOASSERTION\n");
+		}
+		String text = sb.toString();
+		// the workers load the licenses into an empty cache at the same time
+		ListedLicenses.resetListedLicenses();
+		List<String> parallelWarnings = Lists.newArrayList();
+		SpdxDocumentContainer parallel = parseParallel(text, parallelWarnings, 1);
+		List<String> serialWarnings = Lists.newArrayList();
+		SpdxDocumentContainer serial = parseSerial(text, serialWarnings);
+		assertEquals(licenseIds.length * 2, parallel.findAllFiles().size());
+		assertTrue(serial.getModel().isIsomorphicWith(parallel.getModel()));
+		assertEquals(serialWarnings, parallelWarnings);
+	}
+
+	@Test
+	public void testBuilderErrorReportedInOrder() throws Exception {
+		// invalid file type followed by an unterminated text block
+		String text = generateDocument(20) + "FileName: ./bad.c\nSPDXID: SPDXRef-bad\nFileType: NOTATYPE\n" +
+				"FileComment: <text>unterminated\n";
+		String serialMessage = null;
+		try {
+			parseSerial(text, Lists.<String>newArrayList());
+			fail("Expected an exception");
+		} catch (InvalidSpdxTagFileException ex) {
+			serialMessage = ex.getMessage();
+		}
+		try {
+			parseParallel(text, Lists.<String>newArrayList(), 5);
+			fail("Expected an exception");
+		} catch (InvalidSpdxTagFileException ex) {
+			assertEquals(serialMessage, ex.getMessage());
+		}
+	}
+
+	@Test
+	public void testParseListedLicenseExpression() {
+		AnyLicenseInfo result = BuildDocument.parseListedLicenseExpression("Apache-2.0");
+		assertTrue(result instanceof SpdxListedLicense);
+		result = BuildDocument.parseListedLicenseExpression("<text>Apache-2.0 OR MIT</text>");
+		assertTrue(result instanceof DisjunctiveLicenseSet);
+		result = BuildDocument.parseListedLicenseExpression("NOASSERTION");
+		assertTrue(result instanceof SpdxNoAssertionLicense);
+		assertNull(BuildDocument.parseListedLicenseExpression("LicenseRef-1"));
+		assertNull(BuildDocument.parseListedLicenseExpression("(Apache-2.0 AND LicenseRef-1)"));
+		assertNull(BuildDocument.parseListedLicenseExpression("Apache-2.0 AND"));
+	}
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+import org.spdx.tag.TagValueSection.SectionType;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestTagValueStreamParser {
+
+	static final String TAG_FILE_PATH = "TestFiles"+File.separator+"SPDXTagExample-v2.1.spdx";
+
+	/**
+	 * Records all events
+	 */
+	static class RecordingHandler implements TagValueEventHandler {
+		TagValueSection document = null;
+		List<TagValueSection> sections = Lists.newArrayList();
+		List<TagValueRelationship> relationships = Lists.newArrayList();
+		/**
+		 * Number of sections read before each of the relationships
+		 */
+		List<Integer> relationshipSections = Lists.newArrayList();
+		int numEndDocument = 0;
+
+		@Override
+		public void startDocument(TagValueSection document) throws Exception {
+			assertNull(this.document);
+			this.document = document;
+		}
+
+		@Override
+		public void packageDefinition(TagValueSection pkg) throws Exception {
+			sections.add(pkg);
+		}
+
+		@Override
+		public void fileDefinition(TagValueSection file) throws Exception {
+			sections.add(file);
+		}
+
+		@Override
+		public void snippetDefinition(TagValueSection snippet) throws Exception {
+			sections.add(snippet);
+		}
+
+		@Override
+		public void extractedLicenseDefinition(TagValueSection license) throws Exception {
+			sections.add(license);
+		}
+
+		@Override
+		public void relationship(TagValueRelationship relationship) throws Exception {
+			assertNotNull("Relationship before the start of the document", document);
+			relationships.add(relationship);
+			relationshipSections.add(sections.size());
+		}
+
+		@Override
+		public void endDocument() throws Exception {
+			numEndDocument++;
+		}
+
+		List<TagValueSection> getSections(SectionType type) {
+			List<TagValueSection> retval = Lists.newArrayList();
+			for (TagValueSection section:sections) {
+				if (type.equals(section.getType())) {
+					retval.add(section);
+				}
+			}
+			return retval;
+		}
+	}
+
+	private static RecordingHandler parse(String text) throws Exception {
+		RecordingHandler handler = new RecordingHandler();
+		new TagValueStreamParser(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))).parse(handler);
+		return handler;
+	}
+
+	@Test
+	public void testExampleFile() throws Exception {
+		RecordingHandler handler = new RecordingHandler();
+		new TagValueStreamParser(new FileInputStream(TAG_FILE_PATH)).parse(handler);
+		assertEquals(1, handler.numEndDocument);
+		assertEquals(SectionType.DOCUMENT, handler.document.getType());
+		assertEquals("SPDXRef-DOCUMENT", handler.document.getId());
+		assertEquals("SPDX-2.0", handler.document.getValue("SPDXVersion"));
+		assertEquals(1, handler.document.getLineNumber());
+
+		List<TagValueSection> files = handler.getSections(SectionType.FILE);
+		assertEquals(4, files.size());
+		assertEquals("./package/foo.c", files.get(0).getValue("FileName"));
+		assertEquals("SPDXRef-File", files.get(0).getId());
+		assertNull(files.get(0).getPackageId());
+		assertEquals(31, files.get(0).getLineNumber());
+		assertEquals("(LGPL-2.0 OR LicenseRef-2)", files.get(0).getValue("LicenseConcluded"));
+		assertEquals("SPDXRef-CommonsLangSrc", files.get(1).getId());
+		assertEquals("SPDXRef-Package", files.get(1).getPackageId());
+
+		List<TagValueSection> packages = handler.getSections(SectionType.PACKAGE);
+		assertEquals(2, packages.size());
+		assertEquals("glibc", packages.get(0).getValue("PackageName"));
+		assertEquals("SPDXRef-Package", packages.get(0).getId());
+		assertEquals("SPDXRef-Saxon", packages.get(1).getId());
+
+		List<TagValueSection> snippets = handler.getSections(SectionType.SNIPPET);
+		assertEquals(1, snippets.size());
+		assertEquals("SPDXRef-Snippet", snippets.get(0).getId());
+
+		List<TagValueSection> licenses = handler.getSections(SectionType.EXTRACTED_LICENSE);
+		assertEquals(5, licenses.size());
+		assertEquals("LicenseRef-3", licenses.get(0).getId());
+
+		assertEquals(7, handler.relationships.size());
+		TagValueRelationship relationship = handler.relationships.get(0);
+		assertEquals("SPDXRef-DOCUMENT", relationship.getElementId());
+		assertEquals("DESCRIBES", relationship.getRelationshipType());
+		assertEquals("SPDXRef-File", relationship.getRelatedElementId());
+		assertEquals(26, relationship.getLineNumber());
+		// the document describes relationship is passed after startDocument and before the first package
+		assertEquals(0, handler.relationshipSections.get(0).intValue());
+	}
+
+	@Test
+	public void testSectionValues() throws Exception {
+		RecordingHandler handler = parse("SPDXVersion: SPDX-2.1\n" +
+				"FileName: a.c\n" +
+				"SPDXID: SPDXRef-a\n" +
+				"LicenseInfoInFile: MIT\n" +
+				"LicenseInfoInFile: Apache-2.0\n" +
+				"FileComment: <text>line 1\nline 2</text>\n" +
+				"Relationship: SPDXRef-a GENERATED_FROM SPDXRef-b\n" +
+				"RelationshipComment: <text>generated</text>\n" +
+				"FileName: b.c\n");
+		assertEquals(2, handler.sections.size());
+		TagValueSection file = handler.sections.get(0);
+		assertEquals(Lists.newArrayList("MIT", "Apache-2.0"), file.getValues("LicenseInfoInFile"));
+		assertEquals("line 1\nline 2", file.getValue("FileComment"));
+		assertNull(file.getValue("Relationship"));
+		assertEquals(5, file.getTagValues().size());
+		assertEquals("FileName", file.getTagValues().get(0).getTag());
+		assertEquals(5, file.getTagValues().get(3).getLineNumber());
+		assertEquals(1, handler.relationships.size());
+		assertEquals("generated", handler.relationships.get(0).getComment());
+		assertEquals("b.c", handler.sections.get(1).getValue("FileName"));
+	}
+
+	@Test
+	public void testNoSections() throws Exception {
+		RecordingHandler handler = parse("SPDXVersion: SPDX-2.1\nDataLicense: CC0-1.0\n" +
+				"Relationship: SPDXRef-DOCUMENT DESCRIBES SPDXRef-a\n");
+		assertNotNull(handler.document);
+		assertEquals("CC0-1.0", handler.document.getValue("DataLicense"));
+		assertEquals(0, handler.sections.size());
+		assertEquals(1, handler.relationships.size());
+		assertEquals(1, handler.numEndDocument);
+	}
+
+	@Test(expected = InvalidSpdxTagFileException.class)
+	public void testRelationshipCommentWithoutRelationship() throws Exception {
+		parse("SPDXVersion: SPDX-2.1\nRelationshipComment: orphan\n");
+	}
+}
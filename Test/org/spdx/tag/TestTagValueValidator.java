@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestTagValueValidator {
+
+	static final String TAG_FILE_PATH = "TestFiles"+File.separator+"SPDXTagExample-v2.0.spdx";
+
+	static final String DOCUMENT_HEADER = "SPDXVersion: SPDX-2.1\n" +
+			"DataLicense: CC0-1.0\n" +
+			"DocumentNamespace: http://spdx.org/spdxdocs/test-1\n" +
+			"DocumentName: test\n" +
+			"SPDXID: SPDXRef-DOCUMENT\n" +
+			"Creator: Tool: test\n" +
+			"Created: 2026-01-01T00:00:00Z\n" +
+			"Relationship: SPDXRef-DOCUMENT DESCRIBES SPDXRef-a\n";
+
+	static final String FILE_A = "FileName: a.c\n" +
+			"SPDXID: SPDXRef-a\n" +
+			"FileChecksum: SHA1: 2fd4e1c67a2d28fced849ee1bb76e7391b93eb12\n" +
+			"LicenseConcluded: (Apache-2.0 OR LicenseRef-1)\n" +
+			"LicenseInfoInFile: LicenseRef-1\n" +
+			"FileCopyrightText: NOASSERTION\n";
+
+	static final String LICENSE_1 = "LicenseID: LicenseRef-1\n" +
+			"ExtractedText: <text>license text</text>\n";
+
+	private static List<String> validate(String text, int maxErrors) throws Exception {
+		return new TagValueValidator(maxErrors).validate(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static boolean containsError(List<String> errors, String text) {
+		for (String error:errors) {
+			if (error.contains(text)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Test
+	public void testExampleFile() throws Exception {
+		List<String> errors = new TagValueValidator().validate(new File(TAG_FILE_PATH));
+		assertTrue(errors.toString(), errors.isEmpty());
+	}
+
+	@Test
+	public void testValid() throws Exception {
+		List<String> errors = validate(DOCUMENT_HEADER + FILE_A + LICENSE_1, 0);
+		assertTrue(errors.toString(), errors.isEmpty());
+	}
+
+	@Test
+	public void testMissingRequiredTag() throws Exception {
+		List<String> errors = validate(DOCUMENT_HEADER.replace("DocumentName: test\n", "") + FILE_A + LICENSE_1, 0);
+		assertEquals(1, errors.size());
+		assertTrue(errors.get(0).contains("DocumentName"));
+		errors = validate(DOCUMENT_HEADER + FILE_A.replace("FileCopyrightText: NOASSERTION\n", "") + LICENSE_1, 0);
+		assertEquals(1, errors.size());
+		assertEquals("Missing required tag FileCopyrightText for file at line number 9", errors.get(0));
+	}
+
+	@Test
+	public void testUnrecognizedTag() throws Exception {
+		List<String> errors = validate(DOCUMENT_HEADER + FILE_A + "FileColor: blue\n" + LICENSE_1, 0);
+		assertEquals(1, errors.size());
+		assertEquals("Unrecognized tag FileColor at line number 15", errors.get(0));
+	}
+
+	@Test
+	public void testDuplicateIds() throws Exception {
+		List<String> errors = validate(DOCUMENT_HEADER + FILE_A + FILE_A + LICENSE_1 + LICENSE_1, 0);
+		assertEquals(2, errors.size());
+		assertTrue(containsError(errors, "Duplicate SPDX ID SPDXRef-a"));
+		assertTrue(containsError(errors, "Duplicate license ID LicenseRef-1"));
+	}
+
+	@Test
+	public void testUnresolvedReferences() throws Exception {
+		List<String> errors = validate(DOCUMENT_HEADER + FILE_A +
+				"Relationship: SPDXRef-a CONTAINS SPDXRef-missing\n" +
+				"Relationship: SPDXRef-a CONTAINS NONE\n" +
+				"Relationship: SPDXRef-a GENERATED_FROM DocumentRef-ext:SPDXRef-b\n", 0);
+		assertEquals(3, errors.size());
+		assertTrue(containsError(errors, "Undefined SPDX ID SPDXRef-missing"));
+		assertTrue(containsError(errors, "Undefined SPDX ID DocumentRef-ext:SPDXRef-b"));
+		assertTrue(containsError(errors, "Missing extracted license definition for LicenseRef-1"));
+		errors = validate(DOCUMENT_HEADER.replace("Created:", "ExternalDocumentRef: DocumentRef-ext http://spdx.org/spdxdocs/ext SHA1: d6a770ba38583ed4bb4525bd96e50461655d2759\nCreated:") +
+				FILE_A + LICENSE_1 +
+				"Relationship: SPDXRef-a GENERATED_FROM DocumentRef-ext:SPDXRef-b\n", 0);
+		assertTrue(errors.toString(), errors.isEmpty());
+	}
+
+	@Test
+	public void testInvalidLicenseExpression() throws Exception {
+		List<String> errors = validate(DOCUMENT_HEADER + FILE_A.replace("LicenseInfoInFile: LicenseRef-1", "LicenseInfoInFile: (MIT AND") + LICENSE_1, 0);
+		assertEquals(1, errors.size());
+		assertTrue(errors.get(0).startsWith("Invalid license expression (MIT AND"));
+		errors = validate(DOCUMENT_HEADER + FILE_A.replace("LicenseInfoInFile: LicenseRef-1", "LicenseInfoInFile: NotAListedLicense") + LICENSE_1, 0);
+		assertEquals(1, errors.size());
+		assertTrue(errors.get(0).startsWith("Unknown license ID NotAListedLicense"));
+	}
+
+	@Test
+	public void testSyntaxError() throws Exception {
+		List<String> errors = validate(DOCUMENT_HEADER + FILE_A + "FileComment: <text>unterminated\n", 0);
+		assertEquals(1, errors.size());
+		assertTrue(errors.get(0).startsWith("Syntax error"));
+	}
+
+	@Test
+	public void testMaxErrors() throws Exception {
+		StringBuilder sb = new StringBuilder(DOCUMENT_HEADER);
+		for (int i = 0; i < 10; i++) {
+			sb.append("FileName: f");
+			sb.append(i);
+			sb.append(".c\nSPDXID: SPDXRef-a\n");
+		}
+		assertTrue(validate(sb.toString(), 0).size() > 10);
+		List<String> errors = validate(sb.toString(), 3);
+		assertEquals(3, errors.size());
+	}
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.SPDXDocumentFactory;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.model.SpdxDocument;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestTagValueWriter {
+
+	static final String RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample-v2.1.rdf";
+	static final String TAG_FILE_PATH = "TestFiles"+File.separator+"SPDXTagExample-v2.1.spdx";
+	/**
+	 * Output of <code>CommonCode.printDoc</code> for RDF_FILE_PATH before printing was moved to <code>TagValueWriter</code>
+	 */
+	static final String PRINT_DOC_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample-v2.1-printDoc.spdx";
+
+	Properties constants;
+
+	@Before
+	public void setUp() throws Exception {
+		constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
+	}
+
+	private SpdxDocumentContainer parse(String text, List<String> warnings) throws Exception {
+		SpdxDocumentContainer[] result = new SpdxDocumentContainer[1];
+		HandBuiltParser parser = new HandBuiltParser(new NoCommentInputStream(
+				new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))));
+		parser.setBehavior(new BuildDocument(result, constants, warnings));
+		parser.data();
+		return result[0];
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		String tagText = new String(Files.readAllBytes(new File(TAG_FILE_PATH).toPath()), StandardCharsets.UTF_8);
+		SpdxDocumentContainer expected = parse(tagText, Lists.<String>newArrayList());
+		StringWriter sw = new StringWriter();
+		new TagValueWriter(sw, constants).writeDocument(expected.getSpdxDocument());
+		String text = sw.toString();
+		assertTrue(text.startsWith("SPDXVersion: SPDX-2.0" + System.lineSeparator()));
+		assertTrue(text.contains("PackageName: glibc" + System.lineSeparator()));
+		SpdxDocumentContainer result = parse(text, Lists.<String>newArrayList());
+		assertEquals(expected.getDocumentNamespace(), result.getDocumentNamespace());
+		assertEquals(expected.findAllFiles().size(), result.findAllFiles().size());
+		assertEquals(expected.findAllPackages().size(), result.findAllPackages().size());
+		assertEquals(expected.findAllSnippets().size(), result.findAllSnippets().size());
+		assertEquals(expected.getExtractedLicenseInfos().length, result.getExtractedLicenseInfos().length);
+		assertEquals(expected.getSpdxDocument().getRelationships().length, result.getSpdxDocument().getRelationships().length);
+	}
+
+	/**
+	 * Compare to the output of the original <code>CommonCode.printDoc</code> - only the order
+	 * of multi-valued properties may differ between reads of the model
+	 * @param result
+	 * @throws IOException
+	 */
+	private void assertSameAsPrintDoc(String result) throws IOException {
+		String expected = new String(Files.readAllBytes(new File(PRINT_DOC_FILE_PATH).toPath()), StandardCharsets.UTF_8);
+		String[] expectedLines = expected.split("\\r?\\n");
+		String[] resultLines = result.split(System.lineSeparator());
+		Arrays.sort(expectedLines);
+		Arrays.sort(resultLines);
+		assertArrayEquals(expectedLines, resultLines);
+	}
+
+	@Test
+	public void testPrintDoc() throws Exception {
+		SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(RDF_FILE_PATH);
+		StringWriter result = new StringWriter();
+		PrintWriter out = new PrintWriter(result);
+		CommonCode.printDoc(doc, out, constants);
+		out.flush();
+		assertSameAsPrintDoc(result.toString());
+	}
+
+	@Test
+	public void testWriteDocument() throws Exception {
+		SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(RDF_FILE_PATH);
+		StringWriter result = new StringWriter();
+		new TagValueWriter(result, constants).writeDocument(doc);
+		assertSameAsPrintDoc(result.toString());
+	}
+
+	@Test
+	public void testNoDocument() throws Exception {
+		StringWriter sw = new StringWriter();
+		new TagValueWriter(sw, constants).writeDocument(null);
+		assertEquals("Warning: No document to print" + System.lineSeparator(), sw.toString());
+	}
+
+	@Test
+	public void testCreateFileWriter() throws Exception {
+		SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(RDF_FILE_PATH);
+		File tempFile = File.createTempFile("spdx", ".spdx");
+		try {
+			PrintWriter out = TagValueWriter.createFileWriter(tempFile);
+			try {
+				CommonCode.printDoc(doc, out, constants);
+			} finally {
+				out.close();
+			}
+			String text = new String(Files.readAllBytes(tempFile.toPath()), StandardCharsets.UTF_8);
+			StringWriter expected = new StringWriter();
+			new TagValueWriter(expected, constants).writeDocument(doc);
+			assertEquals(expected.toString().length(), text.length());
+			assertEquals(doc.getDocumentContainer().findAllFiles().size(),
+					parse(text, Lists.<String>newArrayList()).findAllFiles().size());
+		} finally {
+			tempFile.delete();
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.SPDXDocumentFactory;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ListedLicenses;
+import org.spdx.rdfparser.license.SpdxListedLicense;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.tools.BatchConvert.ConversionResult;
+import org.spdx.tools.BatchConvert.Status;
+import org.spdx.tools.BatchConvert.TargetFormat;
+
+import com.google.common.collect.Lists;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestBatchConvert {
+
+	static final String RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample-v2.1.rdf";
+	static final String TAG_FILE_PATH = "TestFiles"+File.separator+"SPDXTagExample-v2.1.spdx";
+
+	File tempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("spdx-batch").toFile();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir);
+	}
+
+	@Test
+	public void testConvertToRdf() throws Exception {
+		File badFile = new File(tempDir, "bad.spdx");
+		Files.write(badFile.toPath(), "not an SPDX document".getBytes(StandardCharsets.UTF_8));
+		File outputDir = new File(tempDir, "output");
+		List<File> inputs = Lists.newArrayList(new File(TAG_FILE_PATH), badFile, new File(RDF_FILE_PATH));
+		List<ConversionResult> results = new BatchConvert(outputDir, TargetFormat.RDF, 2).convert(inputs);
+		assertEquals(3, results.size());
+		assertEquals(new File(TAG_FILE_PATH), results.get(0).getInputFile());
+		assertNull(results.get(0).getErrorMessage());
+		assertFalse(Status.ERROR.equals(results.get(0).getStatus()));
+		assertEquals(new File(outputDir, "SPDXTagExample-v2.1.rdf"), results.get(0).getOutputFile());
+		SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(results.get(0).getOutputFile().getPath());
+		assertEquals(2, doc.getDocumentContainer().findAllPackages().size());
+		assertEquals(Status.ERROR, results.get(1).getStatus());
+		assertTrue(results.get(1).getErrorMessage().contains("bad.spdx"));
+		// same base name as the first input
+		assertEquals(new File(outputDir, "SPDXRdfExample-v2.1.rdf"), results.get(2).getOutputFile());
+		assertTrue(results.get(2).getOutputFile().exists());
+		assertTrue(results.get(2).getMillis() >= 0);
+	}
+
+	@Test
+	public void testConcurrentListedLicenses() throws Exception {
+		String[] licenseIds = new String[] {"MIT", "Apache-1.1", "BSD-3-Clause", "ISC", "Zlib",
+				"EPL-1.0", "MPL-2.0", "Artistic-2.0"};
+		String tagDoc = new String(Files.readAllBytes(new File(TAG_FILE_PATH).toPath()), StandardCharsets.UTF_8);
+		List<File> inputs = Lists.newArrayList();
+		for (int i = 0; i < licenseIds.length; i++) {
+			File input = new File(tempDir, "doc" + i + ".spdx");
+			String text = tagDoc.replace("LicenseConcluded: (LGPL-2.0 OR LicenseRef-2)", "LicenseConcluded: " + licenseIds[i])
+					.replace("spdx-example-444504E0", "spdx-example-" + i);
+			Files.write(input.toPath(), text.getBytes(StandardCharsets.UTF_8));
+			inputs.add(input);
+		}
+		// none of the licenses are cached when the workers start
+		ListedLicenses.resetListedLicenses();
+		File outputDir = new File(tempDir, "output");
+		List<ConversionResult> results = new BatchConvert(outputDir, TargetFormat.RDF, 4).convert(inputs);
+		assertEquals(licenseIds.length, results.size());
+		for (int i = 0; i < licenseIds.length; i++) {
+			assertNull(results.get(i).getErrorMessage());
+			assertFalse(Status.ERROR.equals(results.get(i).getStatus()));
+			SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(results.get(i).getOutputFile().getPath());
+			AnyLicenseInfo concluded = null;
+			for (SpdxFile file:doc.getDocumentContainer().findAllFiles()) {
+				if ("SPDXRef-File".equals(file.getId())) {
+					concluded = file.getLicenseConcluded();
+				}
+			}
+			assertTrue(concluded instanceof SpdxListedLicense);
+			assertEquals(licenseIds[i], ((SpdxListedLicense)concluded).getLicenseId());
+			assertEquals(ListedLicenses.getListedLicenses().getListedLicenseById(licenseIds[i]).getLicenseText(),
+					((SpdxListedLicense)concluded).getLicenseText());
+		}
+	}
+
+	@Test
+	public void testOutputNameCollision() throws Exception {
+		File outputDir = new File(tempDir, "output");
+		List<File> inputs = Lists.newArrayList(new File(TAG_FILE_PATH), new File(TAG_FILE_PATH));
+		List<ConversionResult> results = new BatchConvert(outputDir, TargetFormat.TAG, 2).convert(inputs);
+		assertEquals(new File(outputDir, "SPDXTagExample-v2.1.spdx"), results.get(0).getOutputFile());
+		assertEquals(new File(outputDir, "SPDXTagExample-v2.1-2.spdx"), results.get(1).getOutputFile());
+		assertTrue(results.get(0).getOutputFile().exists());
+		assertTrue(results.get(1).getOutputFile().exists());
+		// existing outputs are not overwritten
+		results = new BatchConvert(outputDir, TargetFormat.TAG, 1).convert(inputs.subList(0, 1));
+		assertEquals(Status.ERROR, results.get(0).getStatus());
+	}
+
+	@Test
+	public void testVerify() throws Exception {
+		File outputDir = new File(tempDir, "output");
+		List<ConversionResult> results = new BatchConvert(outputDir, TargetFormat.VERIFY, 1).convert(
+				Lists.newArrayList(new File(RDF_FILE_PATH)));
+		assertNull(results.get(0).getOutputFile());
+		assertEquals(Verify.verify(RDF_FILE_PATH).size(), results.get(0).getVerificationErrors().size());
+		assertEquals(0, outputDir.listFiles().length);
+	}
+
+	@Test
+	public void testExtractHtmlTemplates() throws Exception {
+		// the templates are only extracted when the tool is run outside of the source tree
+		File templateDir = RdfToHtml.extractTemplates().toFile();
+		try {
+			for (String template:new String[] {RdfToHtml.SPDX_DOCUMENT_HTML_TEMPLATE, RdfToHtml.SPDX_PACKAGE_HTML_TEMPLATE,
+					RdfToHtml.SPDX_FILE_HTML_TEMPLATE, RdfToHtml.SPDX_SNIPPET_HTML_TEMPLATE, RdfToHtml.SPDX_LICENSE_HTML_TEMPLATE}) {
+				assertTrue(template, new File(templateDir, template).length() > 0);
+			}
+			SpdxDocument doc = SPDXDocumentFactory.createSpdxDocument(RDF_FILE_PATH);
+			File docHtml = new File(tempDir, "doc" + RdfToHtml.DOC_HTML_FILE_POSTFIX);
+			RdfToHtml.rdfToHtml(doc, templateDir, docHtml, new File(tempDir, "doc" + RdfToHtml.LICENSE_HTML_FILE_POSTFIX),
+					new File(tempDir, RdfToHtml.SNIPPET_FILE_NAME), new File(tempDir, "doc" + RdfToHtml.DOCUMENT_FILE_HTML_FILE_POSTFIX));
+			assertTrue(new String(Files.readAllBytes(docHtml.toPath()), StandardCharsets.UTF_8).contains(doc.getName()));
+		} finally {
+			FileUtils.deleteDirectory(templateDir);
+		}
+	}
+
+	@Test
+	public void testCollectInputFiles() throws Exception {
+		File inputDir = new File(tempDir, "input");
+		inputDir.mkdir();
+		Files.write(new File(inputDir, "b.spdx").toPath(), new byte[0]);
+		Files.write(new File(inputDir, "a.rdf").toPath(), new byte[0]);
+		new File(inputDir, "subdir").mkdir();
+		List<File> result = BatchConvert.collectInputFiles(inputDir);
+		assertEquals(Lists.newArrayList(new File(inputDir, "a.rdf"), new File(inputDir, "b.spdx")), result);
+		File manifest = new File(tempDir, "manifest.txt");
+		Files.write(manifest.toPath(), ("# inputs\n" + RDF_FILE_PATH + "\n\n " + TAG_FILE_PATH + "\n").getBytes(StandardCharsets.UTF_8));
+		result = BatchConvert.collectInputFiles(manifest);
+		assertEquals(Lists.newArrayList(new File(RDF_FILE_PATH), new File(TAG_FILE_PATH)), result);
+	}
+
+	@Test
+	public void testWriteSummary() throws Exception {
+		ConversionResult ok = new ConversionResult(new File("a.spdx"), new File("out", "a.rdf"));
+		ConversionResult error = new ConversionResult(new File("b.spdx"), new File("out", "b.rdf"));
+		error.getVerificationErrors().add("ignored");
+		StringWriter writer = new StringWriter();
+		BatchConvert.writeSummary(Lists.newArrayList(ok, error), writer);
+		String[] lines = writer.toString().split("\n");
+		assertEquals(3, lines.length);
+		assertTrue(lines[0].startsWith("\"Input\",\"Output\",\"Status\""));
+		assertTrue(lines[1].startsWith("\"a.spdx\",\""+new File("out", "a.rdf").getPath()+"\",\"OK\""));
+		assertTrue(lines[2].contains("\"WARNINGS\""));
+		assertTrue(lines[2].endsWith("\"1\",\"ignored\""));
+	}
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.spdx.rdfparser.JavaSha1ChecksumGenerator;
+import org.spdx.rdfparser.MultiChecksumGenerator;
+import org.spdx.rdfparser.SkipRules;
+import org.spdx.rdfparser.SpdxPackageVerificationCode;
+import org.spdx.rdfparser.SpdxRdfConstants;
+import org.spdx.rdfparser.VerificationCodeGenerator;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.SpdxListedLicense;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxElement;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.rdfparser.model.SpdxPackage;
+import org.spdx.tools.BatchConvert.TargetFormat;
+import org.spdx.tag.CommonCode;
+
+import com.google.common.collect.Sets;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestSourceToSpdx {
+
+	static final String NAMESPACE = "http://spdx.org/spdxdocs/source-to-spdx-test";
+	static final String MAIN_JAVA =
+			"/*\n" +
+			" * Copyright (c) 2019 Example Inc.\n" +
+			" * SPDX-License-Identifier: Apache-2.0 OR MIT\n" +
+			" */\n" +
+			"public class Main {\n" +
+			"\t// the copyright holder is not a copyright line\n" +
+			"}\n";
+	static final String UTIL_C =
+			"// SPDX-License-Identifier: GPL-2.0-only */\n" +
+			"// Copyright 2001-2003 Someone Else\n" +
+			"int util(void) { return 0; }\n";
+
+	File tempDir;
+
+	@Before
+	public void setUp() throws Exception {
+		tempDir = Files.createTempDirectory("spdx-source").toFile();
+		File src = new File(tempDir, "src");
+		src.mkdirs();
+		Files.write(new File(src, "Main.java").toPath(), MAIN_JAVA.getBytes(StandardCharsets.UTF_8));
+		Files.write(new File(src, "util.c").toPath(), UTIL_C.getBytes(StandardCharsets.UTF_8));
+		Files.write(new File(src, "data.bin").toPath(), new byte[] {1, 0, 2, 0, 3});
+		Files.write(new File(src, "Bad.java").toPath(),
+				"// SPDX-License-Identifier: AND AND\n".getBytes(StandardCharsets.UTF_8));
+		FileUtils.copyFile(new File("TestFiles" + File.separator + "ISC.txt"), new File(tempDir, "LICENSE"));
+		Files.write(new File(tempDir, "build.log").toPath(), "log".getBytes(StandardCharsets.UTF_8));
+		File git = new File(tempDir, ".git");
+		git.mkdirs();
+		Files.write(new File(git, "HEAD").toPath(), "ref: refs/heads/master".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		FileUtils.deleteDirectory(tempDir);
+	}
+
+	private SkipRules skipRules() {
+		return new SkipRules().addSkippedFileGlob("*.log").addPrunedDirectoryGlob(".git");
+	}
+
+	private SpdxFile findFile(SpdxFile[] files, String name) {
+		for (SpdxFile file:files) {
+			if (file.getName().equals(name)) {
+				return file;
+			}
+		}
+		fail("File not found: "+name);
+		return null;
+	}
+
+	@Test
+	public void testCreateDocument() throws Exception {
+		SpdxDocument doc = new SourceToSpdx(2, 2, 2).createDocument(tempDir, skipRules(), NAMESPACE, "test-package");
+		assertEquals("test-package", doc.getName());
+		SpdxElement[] described = doc.getDocumentDescribes();
+		assertEquals(1, described.length);
+		SpdxPackage pkg = (SpdxPackage)described[0];
+		SpdxFile[] files = pkg.getFiles();
+		assertEquals(5, files.length);
+
+		SpdxPackageVerificationCode expected = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator())
+				.generatePackageVerificationCode(tempDir, skipRules());
+		assertEquals(expected.getValue(), pkg.getPackageVerificationCode().getValue());
+		assertArrayEquals(new String[] {"./build.log"}, pkg.getPackageVerificationCode().getExcludedFileNames());
+
+		SpdxFile main = findFile(files, "./src/Main.java");
+		assertEquals(FileType.fileType_source, main.getFileTypes()[0]);
+		assertEquals("Copyright (c) 2019 Example Inc.", main.getCopyrightText());
+		Set<String> mainLicenseIds = Sets.newHashSet();
+		for (AnyLicenseInfo info:main.getLicenseInfoFromFiles()) {
+			mainLicenseIds.add(((SpdxListedLicense)info).getLicenseId());
+		}
+		assertEquals(Sets.newHashSet("Apache-2.0", "MIT"), mainLicenseIds);
+		assertTrue(main.getLicenseConcluded() instanceof SpdxNoAssertionLicense);
+		assertEquals(2, main.getChecksums().length);
+		Checksum sha1 = null;
+		for (Checksum checksum:main.getChecksums()) {
+			if (checksum.getAlgorithm() == ChecksumAlgorithm.checksumAlgorithm_sha1) {
+				sha1 = checksum;
+			}
+		}
+		assertEquals(new JavaSha1ChecksumGenerator().getFileChecksum(new File(tempDir, "src/Main.java")), sha1.getValue());
+
+		SpdxFile util = findFile(files, "./src/util.c");
+		assertEquals("Copyright 2001-2003 Someone Else", util.getCopyrightText());
+		assertEquals("GPL-2.0-only", ((SpdxListedLicense)util.getLicenseInfoFromFiles()[0]).getLicenseId());
+
+		SpdxFile data = findFile(files, "./src/data.bin");
+		assertEquals(FileType.fileType_binary, data.getFileTypes()[0]);
+		assertEquals(SpdxRdfConstants.NOASSERTION_VALUE, data.getCopyrightText());
+		assertTrue(data.getLicenseInfoFromFiles()[0] instanceof SpdxNoAssertionLicense);
+
+		SpdxFile bad = findFile(files, "./src/Bad.java");
+		assertTrue(bad.getLicenseInfoFromFiles()[0] instanceof SpdxNoAssertionLicense);
+		assertTrue(bad.getLicenseComments().contains("AND AND"));
+
+		SpdxFile license = findFile(files, "./LICENSE");
+		Set<String> licenseIds = Sets.newHashSet();
+		for (AnyLicenseInfo info:license.getLicenseInfoFromFiles()) {
+			if (info instanceof SpdxListedLicense) {
+				licenseIds.add(((SpdxListedLicense)info).getLicenseId());
+			}
+		}
+		assertTrue(licenseIds.contains("ISC"));
+
+		Set<String> packageLicenses = Sets.newHashSet();
+		for (AnyLicenseInfo info:pkg.getLicenseInfoFromFiles()) {
+			assertFalse(info instanceof ExtractedLicenseInfo);
+			packageLicenses.add(info.toString());
+		}
+		assertTrue(packageLicenses.contains("GPL-2.0-only"));
+		assertTrue(packageLicenses.contains("ISC"));
+		assertTrue(packageLicenses.contains("MIT"));
+		assertTrue(packageLicenses.contains("Apache-2.0"));
+
+		List<String> verify = doc.verify();
+		assertTrue(verify.toString(), verify.isEmpty());
+	}
+
+	@Test
+	public void testWriteTag() throws Exception {
+		SpdxDocument doc = new SourceToSpdx(1).createDocument(tempDir, skipRules(), NAMESPACE, "test-package");
+		File outputFile = new File(tempDir, "output.spdx");
+		BatchConvert.writeDocument(doc, TargetFormat.TAG, outputFile,
+				CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties"));
+		String tag = FileUtils.readFileToString(outputFile, StandardCharsets.UTF_8);
+		assertTrue(tag.contains("PackageVerificationCode: " + doc.getDocumentContainer().findAllPackages().get(0)
+				.getPackageVerificationCode().getValue()));
+		assertTrue(tag.contains("FileName: ./src/util.c"));
+	}
+
+	@Test
+	public void testExtractCopyrights() throws Exception {
+		SourceToSpdx sourceToSpdx = new SourceToSpdx(1);
+		SourceToSpdx.FileAnalysis fileAnalysis = new SourceToSpdx.FileAnalysis(new File("test.c"), "./test.c");
+		fileAnalysis.text = "# Copyright (C) 2010, 2011 First Holder\n" +
+				" * (c) 1999 Second Holder */\n" +
+				"<!-- © 2020 Third Holder -->\n" +
+				"Copyright notice without a date\n" +
+				"# Copyright (C) 2010, 2011 First Holder\n" +
+				"int copyright = 2019;\n";
+		sourceToSpdx.extractCopyrights(fileAnalysis);
+		assertEquals(Sets.newLinkedHashSet(Arrays.asList("Copyright (C) 2010, 2011 First Holder",
+				"(c) 1999 Second Holder", "© 2020 Third Holder")), fileAnalysis.copyrights);
+		assertNull(fileAnalysis.text);
+	}
+
+	private void assertSameChecksums(Checksum[] expected, Checksum[] result) {
+		assertEquals(expected.length, result.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertTrue(expected[i].equivalent(result[i]));
+		}
+	}
+
+	@Test
+	public void testHashFile() throws Exception {
+		SourceToSpdx sourceToSpdx = new SourceToSpdx(1);
+		MultiChecksumGenerator expectedGenerator = new MultiChecksumGenerator(false,
+				ChecksumAlgorithm.checksumAlgorithm_sha1, ChecksumAlgorithm.checksumAlgorithm_sha256);
+		File textFile = new File(tempDir, "src" + File.separator + "util.c");
+		SourceToSpdx.FileAnalysis fileAnalysis = new SourceToSpdx.FileAnalysis(textFile, "./src/util.c");
+		sourceToSpdx.hashFile(fileAnalysis);
+		assertSameChecksums(expectedGenerator.getFileChecksums(textFile), fileAnalysis.checksums);
+		assertEquals(UTIL_C, fileAnalysis.text);
+		assertFalse(fileAnalysis.binary);
+		// only the start of large files is kept as text
+		StringBuilder sb = new StringBuilder();
+		while (sb.length() <= SourceToSpdx.MAX_TEXT_BYTES) {
+			sb.append(UTIL_C);
+		}
+		File largeFile = new File(tempDir, "large.c");
+		Files.write(largeFile.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+		fileAnalysis = new SourceToSpdx.FileAnalysis(largeFile, "./large.c");
+		sourceToSpdx.hashFile(fileAnalysis);
+		assertSameChecksums(expectedGenerator.getFileChecksums(largeFile), fileAnalysis.checksums);
+		assertEquals(sb.substring(0, SourceToSpdx.MAX_TEXT_BYTES), fileAnalysis.text);
+		File binaryFile = new File(tempDir, "src" + File.separator + "data.bin");
+		fileAnalysis = new SourceToSpdx.FileAnalysis(binaryFile, "./src/data.bin");
+		sourceToSpdx.hashFile(fileAnalysis);
+		assertTrue(fileAnalysis.binary);
+		assertNull(fileAnalysis.text);
+		assertSameChecksums(expectedGenerator.getFileChecksums(binaryFile), fileAnalysis.checksums);
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.spdx.compare.SpdxCompareException;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ListedLicenses;
+import org.spdx.rdfparser.license.SpdxListedLicense;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.tools.SpdxDocumentLoader.LoadedDocument;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestSpdxDocumentLoader {
+
+	static final String RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample-v2.1.rdf";
+	static final String TAG_FILE_PATH = "TestFiles"+File.separator+"SPDXTagExample-v2.1.spdx";
+
+	@Test
+	public void testLoad() throws Exception {
+		String[] fileNames = new String[] {RDF_FILE_PATH, TAG_FILE_PATH, RDF_FILE_PATH};
+		LoadedDocument[] result = new SpdxDocumentLoader(2).load(fileNames);
+		assertEquals(fileNames.length, result.length);
+		for (int i = 0; i < fileNames.length; i++) {
+			assertEquals(fileNames[i], result[i].getFileName());
+			assertNotNull(result[i].getDocument());
+			assertNotNull(result[i].getVerificationErrors());
+			assertTrue(result[i].getLoadMillis() >= 0);
+			assertTrue(result[i].getVerifyMillis() >= 0);
+		}
+		assertEquals(result[0].getDocument().getName(), result[2].getDocument().getName());
+	}
+
+	@Test
+	public void testLoadDifferentLicenses() throws Exception {
+		String[] licenseIds = new String[] {"MIT", "Apache-1.1", "BSD-3-Clause", "ISC", "Zlib", "EPL-1.0"};
+		String tagDoc = new String(Files.readAllBytes(new File(TAG_FILE_PATH).toPath()), StandardCharsets.UTF_8);
+		File tempDir = Files.createTempDirectory("spdx-loader").toFile();
+		try {
+			String[] fileNames = new String[licenseIds.length];
+			for (int i = 0; i < licenseIds.length; i++) {
+				File file = new File(tempDir, "doc" + i + ".spdx");
+				Files.write(file.toPath(), tagDoc.replace("LicenseConcluded: (LGPL-2.0 OR LicenseRef-2)",
+						"LicenseConcluded: " + licenseIds[i]).getBytes(StandardCharsets.UTF_8));
+				fileNames[i] = file.getPath();
+			}
+			// none of the licenses are cached when the workers start
+			ListedLicenses.resetListedLicenses();
+			LoadedDocument[] result = new SpdxDocumentLoader(licenseIds.length).load(fileNames);
+			for (int i = 0; i < licenseIds.length; i++) {
+				AnyLicenseInfo concluded = null;
+				for (SpdxFile file:result[i].getDocument().getDocumentContainer().findAllFiles()) {
+					if ("SPDXRef-File".equals(file.getId())) {
+						concluded = file.getLicenseConcluded();
+					}
+				}
+				assertTrue(concluded instanceof SpdxListedLicense);
+				assertEquals(licenseIds[i], ((SpdxListedLicense)concluded).getLicenseId());
+				assertFalse(((SpdxListedLicense)concluded).getLicenseText().isEmpty());
+			}
+		} finally {
+			FileUtils.deleteDirectory(tempDir);
+		}
+	}
+
+	@Test
+	public void testLoadMissingFile() throws Exception {
+		String[] fileNames = new String[] {RDF_FILE_PATH, "TestFiles"+File.separator+"DoesNotExist.spdx"};
+		try {
+			new SpdxDocumentLoader().load(fileNames);
+			fail("Expected missing file exception");
+		} catch (SpdxCompareException ex) {
+			assertTrue(ex.getMessage().contains("DoesNotExist.spdx"));
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+import org.spdx.tools.SpdxFormatDetector.SpdxFormat;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestSpdxFormatDetector {
+
+	static final String RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample-v2.1.rdf";
+	static final String TAG_FILE_PATH = "TestFiles"+File.separator+"SPDXTagExample-v2.1.spdx";
+	static final String JSONLD_FILE_PATH = "TestFiles"+File.separator+"BSD-3-Clause.jsonld";
+
+	private static SpdxFormat detect(String text) {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		return SpdxFormatDetector.detect(bytes, bytes.length);
+	}
+
+	@Test
+	public void testDetectFiles() throws Exception {
+		assertEquals(SpdxFormat.RDF_XML, SpdxFormatDetector.detect(new File(RDF_FILE_PATH)));
+		assertEquals(SpdxFormat.TAG_VALUE, SpdxFormatDetector.detect(new File(TAG_FILE_PATH)));
+		assertEquals(SpdxFormat.JSON_LD, SpdxFormatDetector.detect(new File(JSONLD_FILE_PATH)));
+	}
+
+	@Test
+	public void testDetectTagValue() {
+		assertEquals(SpdxFormat.TAG_VALUE, detect("SPDXVersion: SPDX-2.1\nDataLicense: CC0-1.0\n"));
+		assertEquals(SpdxFormat.TAG_VALUE, detect("# comment <rdf>\n\n  SPDXVersion: SPDX-2.1\n"));
+		assertEquals(SpdxFormat.TAG_VALUE, detect("\uFEFFDocumentComment: <text>comment</text>\n"));
+	}
+
+	@Test
+	public void testDetectRdf() {
+		assertEquals(SpdxFormat.RDF_XML, detect("<?xml version=\"1.0\"?>\n<rdf:RDF>"));
+		assertEquals(SpdxFormat.RDF_XML, detect("  <rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\">"));
+		assertEquals(SpdxFormat.RDFA, detect("<!DOCTYPE html>\n<html>"));
+		assertEquals(SpdxFormat.RDFA, detect("<?xml version=\"1.0\"?>\n<!-- comment -->\n<html xmlns=\"http://www.w3.org/1999/xhtml\">"));
+		assertEquals(SpdxFormat.JSON_LD, detect("\n{ \"@context\": {} }"));
+	}
+
+	@Test
+	public void testDetectUnknown() {
+		assertEquals(SpdxFormat.UNKNOWN, detect(""));
+		assertEquals(SpdxFormat.UNKNOWN, detect("# only a comment"));
+		assertEquals(SpdxFormat.UNKNOWN, detect("this is not an SPDX document"));
+	}
+}
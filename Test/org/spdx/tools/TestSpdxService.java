@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
+
+/**
+ * @author SPDX Contributors
+ *
+ */
+public class TestSpdxService {
+
+	static final String RDF_FILE_PATH = "TestFiles"+File.separator+"SPDXRdfExample-v2.1.rdf";
+	static final String TAG_FILE_PATH = "TestFiles"+File.separator+"SPDXTagExample-v2.1.spdx";
+
+	SpdxService service;
+
+	/**
+	 * Response from the service
+	 */
+	static class Response {
+		int status;
+		String contentType;
+		String verificationErrors;
+		byte[] body;
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		service = new SpdxService(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2);
+		service.start();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		service.stop(0);
+	}
+
+	private Response request(String method, String path, byte[] body) throws Exception {
+		HttpURLConnection connection = (HttpURLConnection)new URL("http://localhost:"+service.getPort()+path).openConnection();
+		connection.setRequestMethod(method);
+		if (body != null) {
+			connection.setDoOutput(true);
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body);
+			}
+		}
+		Response retval = new Response();
+		retval.status = connection.getResponseCode();
+		retval.contentType = connection.getContentType();
+		retval.verificationErrors = connection.getHeaderField(SpdxService.VERIFICATION_ERRORS_HEADER);
+		InputStream in = retval.status < 400 ? connection.getInputStream() : connection.getErrorStream();
+		try {
+			retval.body = ByteStreams.toByteArray(in);
+		} finally {
+			in.close();
+		}
+		return retval;
+	}
+
+	private static JSONObject json(Response response) throws Exception {
+		return (JSONObject)new JSONParser().parse(new String(response.body, StandardCharsets.UTF_8));
+	}
+
+	private static byte[] readFile(String path) throws Exception {
+		return Files.readAllBytes(new File(path).toPath());
+	}
+
+	@Test
+	public void testVerify() throws Exception {
+		Response response = request("POST", "/verify", readFile(TAG_FILE_PATH));
+		assertEquals(200, response.status);
+		assertTrue(response.contentType.startsWith("application/json"));
+		JSONObject result = json(response);
+		JSONArray errors = (JSONArray)result.get("errors");
+		assertEquals(Verify.verify(TAG_FILE_PATH).size(), errors.size());
+		assertEquals(errors.isEmpty(), result.get("valid"));
+	}
+
+	@Test
+	public void testInvalidDocument() throws Exception {
+		Response response = request("POST", "/verify", "not an SPDX document".getBytes(StandardCharsets.UTF_8));
+		assertEquals(400, response.status);
+		assertTrue(((String)json(response).get("error")).startsWith("Unable to read the SPDX document"));
+	}
+
+	@Test
+	public void testConvert() throws Exception {
+		Response response = request("POST", "/convert?format=tag", readFile(RDF_FILE_PATH));
+		assertEquals(200, response.status);
+		assertNotNull(response.verificationErrors);
+		List<String> warnings = Lists.newArrayList();
+		assertEquals(2, TagToRDF.convertTagFileToRdf(new ByteArrayInputStream(response.body), "RDF/XML", warnings)
+				.findAllPackages().size());
+		response = request("POST", "/convert?format=HTML", readFile(RDF_FILE_PATH));
+		assertEquals(200, response.status);
+		assertEquals(SpdxService.ZIP_CONTENT_TYPE, response.contentType);
+		response = request("POST", "/convert?format=VERIFY", readFile(RDF_FILE_PATH));
+		assertEquals(400, response.status);
+		response = request("POST", "/convert", readFile(RDF_FILE_PATH));
+		assertEquals(400, response.status);
+		assertEquals("Missing format parameter", json(response).get("error"));
+	}
+
+	@Test
+	public void testCompare() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+			for (String path:new String[] {TAG_FILE_PATH, RDF_FILE_PATH}) {
+				zip.putNextEntry(new ZipEntry("docs/"+new File(path).getName()));
+				zip.write(readFile(path));
+				zip.closeEntry();
+			}
+		}
+		Response response = request("POST", "/compare", bytes.toByteArray());
+		assertEquals(200, response.status);
+		assertEquals(SpdxService.XLSX_CONTENT_TYPE, response.contentType);
+		// xlsx files are zip archives
+		assertEquals('P', response.body[0]);
+		assertEquals('K', response.body[1]);
+		response = request("POST", "/compare", new byte[0]);
+		assertEquals(400, response.status);
+	}
+
+	@Test
+	public void testMethodNotAllowed() throws Exception {
+		Response response = request("GET", "/verify", null);
+		assertEquals(405, response.status);
+	}
+}
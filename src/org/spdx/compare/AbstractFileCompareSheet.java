@@ -46,8 +46,6 @@ public abstract class AbstractFileCompareSheet extends AbstractSheet {
 	static final String NO_FILE_VALUE = "[No File]";
 	private static final int MAX_VALUE_LENGTH = 32000;
 
-	private NormalizedFileNameComparator normalizedFileNameComparator = new NormalizedFileNameComparator();
-
 	/**
 	 * @param workbook
 	 * @param sheetName
@@ -68,8 +66,10 @@ public abstract class AbstractFileCompareSheet extends AbstractSheet {
 	/**
 	 * @param wb
 	 * @param sheetName
+	 * @param columnWidth
+	 * @param numDocuments Number of document columns to create
 	 */
-	public static void create(Workbook wb, String sheetName, int columnWidth) {
+	public static void create(Workbook wb, String sheetName, int columnWidth, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -89,7 +89,7 @@ public abstract class AbstractFileCompareSheet extends AbstractSheet {
 		diffHeaderCell.setCellStyle(headerStyle);
 		diffHeaderCell.setCellValue(DIFF_TITLE);
 
-		for (int i = FIRST_DOCUMENT_COL; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS + FIRST_DOCUMENT_COL; i++) {
+		for (int i = FIRST_DOCUMENT_COL; i < numDocuments + FIRST_DOCUMENT_COL; i++) {
 			sheet.setColumnWidth(i, columnWidth*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = row.createCell(i);
@@ -98,14 +98,22 @@ public abstract class AbstractFileCompareSheet extends AbstractSheet {
 	}
 
 	/**
-	 * @param files Array of SPDX document files - arrays must be sorted
+	 * @param files Array of SPDX document files
 	 * @param docNames Document names.  Much match the documents in the files.
 	 */
 	public void importCompareResults(SpdxComparer comparer, SpdxFile[][] files, String[] docNames) throws SpdxCompareException {
+		importCompareResults(comparer, new FileCompareMatrix(files), docNames);
+	}
+
+	/**
+	 * @param fileMatrix Files for all documents aligned by file name
+	 * @param docNames Document names.  Much match the documents in the file matrix.
+	 */
+	public void importCompareResults(SpdxComparer comparer, FileCompareMatrix fileMatrix, String[] docNames) throws SpdxCompareException {
 		if (docNames == null) {
 			throw(new SpdxCompareException("Document names can not be null"));
 		}
-		if (files.length != docNames.length) {
+		if (fileMatrix.getNumDocuments() != docNames.length) {
 			throw(new SpdxCompareException("Number of document names does not match the number of SPDX documents being compared"));
 		}
 		this.clear();
@@ -114,34 +122,28 @@ public abstract class AbstractFileCompareSheet extends AbstractSheet {
 			Cell headerCell = header.getCell(i + FIRST_DOCUMENT_COL);
 			headerCell.setCellValue(docNames[i]);
 		}
-		int[] fileIndexes = new int[files.length];
-		for (int i = 0; i < fileIndexes.length; i++) {
-			fileIndexes[i] = 0;
-		}
-		while (!allFilesExhausted(files, fileIndexes)) {
+		for (int rowNum = 0; rowNum < fileMatrix.getNumRows(); rowNum++) {
 			Row currentRow = this.addRow();
-			String fileName = getNextFileName(files, fileIndexes);
 			Cell fileNameCell = currentRow.createCell(FILENAME_COL);
-			fileNameCell.setCellValue(fileName);
+			fileNameCell.setCellValue(fileMatrix.getFileName(rowNum));
 			boolean allValuesMatch = true;
 			SpdxFile lastFile = null;
 			int lastDocIndex = 0;
 			// fill in the data cells and see if all values match
-			for (int i = 0; i < files.length; i++) {
+			for (int i = 0; i < docNames.length; i++) {
 				Cell cell = currentRow.createCell(i + FIRST_DOCUMENT_COL);
-				if (fileIndexes[i] < files[i].length &&
-						normalizedFileNameComparator.compare(files[i][fileIndexes[i]].getName(), fileName) == 0) {
-					String val = getFileValue(files[i][fileIndexes[i]]);
+				SpdxFile file = fileMatrix.getFile(rowNum, i);
+				if (file != null) {
+					String val = getFileValue(file);
 					if (allValuesMatch && lastFile != null &&
-							!valuesMatch(comparer, lastFile, lastDocIndex, files[i][fileIndexes[i]], i)) {
+							!valuesMatch(comparer, lastFile, lastDocIndex, file, i)) {
 						allValuesMatch = false;
 					}
-					lastFile = files[i][fileIndexes[i]];
+					lastFile = file;
 					if (val.length() > MAX_VALUE_LENGTH) {
 						val = val.substring(0, MAX_VALUE_LENGTH-9) + "[more...]";
 					}
 					cell.setCellValue(val);
-					fileIndexes[i]++;
 				} else {
 					cell.setCellValue(NO_FILE_VALUE);
 					allValuesMatch = false;	// no file name, no match
@@ -190,38 +192,4 @@ public abstract class AbstractFileCompareSheet extends AbstractSheet {
 	 * @return
 	 */
 	abstract String getFileValue(SpdxFile spdxFile);
-
-	/**
-	 * Get the next filename in alpha sort order from the files
-	 * @param files
-	 * @param fileIndexes
-	 * @return
-	 */
-	private String getNextFileName(SpdxFile[][] files, int[] fileIndexes) {
-		String retval = null;
-		for (int i = 0; i < files.length; i++) {
-			if (files[i].length > fileIndexes[i]) {
-				String fileName = files[i][fileIndexes[i]].getName();
-				if (retval == null || normalizedFileNameComparator.compare(retval, fileName) > 0) {
-					retval = fileName;
-				}
-			}
-		}
-		return NormalizedFileNameComparator.normalizeFileName(retval);
-	}
-
-	/**
-	 * Returns true if the file indexes is greater than the size of the files for all documents
-	 * @param files
-	 * @param fileIndexes
-	 * @return
-	 */
-	private boolean allFilesExhausted(SpdxFile[][] files, int[] fileIndexes) {
-		for (int i = 0; i < fileIndexes.length; i++) {
-			if (fileIndexes[i] < files[i].length) {
-				return false;
-			}
-		}
-		return true;
-	}
 }
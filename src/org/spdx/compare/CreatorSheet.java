@@ -58,6 +58,15 @@ public class CreatorSheet extends AbstractSheet {
 	 * @param sheetName
 	 */
 	public static void create(Workbook wb, String sheetName) {
+		create(wb, sheetName, MultiDocumentSpreadsheet.MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param wb
+	 * @param sheetName
+	 * @param numDocuments Number of document columns to create
+	 */
+	public static void create(Workbook wb, String sheetName, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -66,7 +75,7 @@ public class CreatorSheet extends AbstractSheet {
 		CellStyle headerStyle = AbstractSheet.createHeaderStyle(wb);
 		CellStyle defaultStyle = AbstractSheet.createLeftWrapStyle(wb);
 		Row row = sheet.createRow(0);
-		for (int i = 0; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS; i++) {
+		for (int i = 0; i < numDocuments; i++) {
 			sheet.setColumnWidth(i, COL_WIDTH*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = row.createCell(i);
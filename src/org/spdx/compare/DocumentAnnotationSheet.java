@@ -96,6 +96,15 @@ public class DocumentAnnotationSheet extends AbstractSheet {
 	 * @param sheetName
 	 */
 	public static void create(Workbook wb, String sheetName) {
+		create(wb, sheetName, MultiDocumentSpreadsheet.MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param wb
+	 * @param sheetName
+	 * @param numDocuments Number of document columns to create
+	 */
+	public static void create(Workbook wb, String sheetName, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -122,7 +131,7 @@ public class DocumentAnnotationSheet extends AbstractSheet {
 		commentHeaderCell.setCellStyle(headerStyle);
 		commentHeaderCell.setCellValue(COMMENT_COL_TEXT_TITLE);
 
-		for (int i = FIRST_DATE_COL; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS; i++) {
+		for (int i = FIRST_DATE_COL; i < numDocuments+FIRST_DATE_COL; i++) {
 			sheet.setColumnWidth(i, DATE_COL_WIDTH*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = row.createCell(i);
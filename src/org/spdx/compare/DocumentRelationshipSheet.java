@@ -91,6 +91,15 @@ public class DocumentRelationshipSheet extends AbstractSheet {
 	 * @param sheetName
 	 */
 	public static void create(Workbook wb, String sheetName) {
+		create(wb, sheetName, MultiDocumentSpreadsheet.MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param wb
+	 * @param sheetName
+	 * @param numDocuments Number of document columns to create
+	 */
+	public static void create(Workbook wb, String sheetName, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -106,7 +115,7 @@ public class DocumentRelationshipSheet extends AbstractSheet {
 		typeHeaderCell.setCellStyle(headerStyle);
 		typeHeaderCell.setCellValue(TYPE_COL_TEXT_TITLE);
 
-		for (int i = FIRST_RELATIONSHIP_COL; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS; i++) {
+		for (int i = FIRST_RELATIONSHIP_COL; i < numDocuments+FIRST_RELATIONSHIP_COL; i++) {
 			sheet.setColumnWidth(i, FIRST_RELATIONSHIP_COL_WIDTH*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = row.createCell(i);
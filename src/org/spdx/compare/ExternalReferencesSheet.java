@@ -104,6 +104,15 @@ public class ExternalReferencesSheet extends AbstractSheet {
 	 * @param sheetName
 	 */
 	public static void create(Workbook wb, String sheetName) {
+		create(wb, sheetName, MultiDocumentSpreadsheet.MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param wb
+	 * @param sheetName
+	 * @param numDocuments Number of document columns to create
+	 */
+	public static void create(Workbook wb, String sheetName, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -124,7 +133,7 @@ public class ExternalReferencesSheet extends AbstractSheet {
 		checksumHeaderCell.setCellStyle(headerStyle);
 		checksumHeaderCell.setCellValue(CHECKSUM_TEXT_TITLE);
 
-		for (int i = FIRST_DOC_ID_COL; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS; i++) {
+		for (int i = FIRST_DOC_ID_COL; i < numDocuments+FIRST_DOC_ID_COL; i++) {
 			sheet.setColumnWidth(i, DOC_ID_COL_WIDTH*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = row.createCell(i);
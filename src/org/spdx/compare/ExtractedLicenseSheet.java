@@ -106,6 +106,15 @@ public class ExtractedLicenseSheet extends AbstractSheet {
 	 * @param sheetName
 	 */
 	public static void create(Workbook wb, String sheetName) {
+		create(wb, sheetName, MultiDocumentSpreadsheet.MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param wb
+	 * @param sheetName
+	 * @param numDocuments Number of document columns to create
+	 */
+	public static void create(Workbook wb, String sheetName, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -119,7 +128,7 @@ public class ExtractedLicenseSheet extends AbstractSheet {
 		Cell extractedHeaderCell = row.createCell(EXTRACTED_TEXT_COL);
 		extractedHeaderCell.setCellStyle(headerStyle);
 		extractedHeaderCell.setCellValue(EXTRACTED_TEXT_TITLE);
-		for (int i = FIRST_LIC_ID_COL; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS; i++) {
+		for (int i = FIRST_LIC_ID_COL; i < numDocuments+FIRST_LIC_ID_COL; i++) {
 			sheet.setColumnWidth(i, LIC_ID_COL_WIDTH*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = row.createCell(i);
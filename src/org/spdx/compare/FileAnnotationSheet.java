@@ -32,8 +32,8 @@ public class FileAnnotationSheet extends AbstractFileCompareSheet {
 		super(workbook, sheetName);
 	}
 
-	static void create(Workbook wb, String sheetName) {
-		AbstractFileCompareSheet.create(wb, sheetName, ANNOTATION_COL_WIDTH);
+	static void create(Workbook wb, String sheetName, int numDocuments) {
+		AbstractFileCompareSheet.create(wb, sheetName, ANNOTATION_COL_WIDTH, numDocuments);
 	}
 
 	/* (non-Javadoc)
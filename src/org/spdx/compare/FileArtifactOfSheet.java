@@ -36,8 +36,8 @@ public class FileArtifactOfSheet extends AbstractFileCompareSheet {
 		super(workbook, sheetName);
 	}
 
-	static void create(Workbook wb, String sheetName) {
-		AbstractFileCompareSheet.create(wb, sheetName, FILE_ARTIFACTOF_COL_WIDTH);
+	static void create(Workbook wb, String sheetName, int numDocuments) {
+		AbstractFileCompareSheet.create(wb, sheetName, FILE_ARTIFACTOF_COL_WIDTH, numDocuments);
 	}
 
 	/* (non-Javadoc)
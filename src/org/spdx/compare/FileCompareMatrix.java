@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.spdx.rdfparser.model.SpdxFile;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Files from a set of SPDX documents aligned by normalized file name.
+ *
+ * Each row contains a normalized file name and, for each document, the file with that name
+ * or null if the document does not contain the file.  File names are normalized once when
+ * the matrix is built so that all of the file comparison sheets can be rendered from the same
+ * rows without re-sorting or re-normalizing the file names.
+ * @author SPDX Contributors
+ *
+ */
+public class FileCompareMatrix {
+
+	/**
+	 * File with its precomputed normalized name
+	 */
+	private static class NormalizedFile {
+		String normalizedName;
+		SpdxFile file;
+
+		NormalizedFile(SpdxFile file) {
+			this.file = file;
+			this.normalizedName = NormalizedFileNameComparator.normalizeFileName(file.getName());
+		}
+	}
+
+	private static final Comparator<NormalizedFile> NORMALIZED_NAME_COMPARATOR = new Comparator<NormalizedFile>() {
+		@Override
+		public int compare(NormalizedFile o1, NormalizedFile o2) {
+			return o1.normalizedName.compareTo(o2.normalizedName);
+		}
+	};
+
+	private int numDocuments;
+	private String[] fileNames;
+	private SpdxFile[][] rows;
+
+	/**
+	 * @param files Array of files for each document - the arrays do not need to be sorted
+	 */
+	public FileCompareMatrix(SpdxFile[][] files) {
+		this.numDocuments = files.length;
+		NormalizedFile[][] sortedFiles = new NormalizedFile[files.length][];
+		for (int i = 0; i < files.length; i++) {
+			sortedFiles[i] = new NormalizedFile[files[i].length];
+			for (int j = 0; j < files[i].length; j++) {
+				sortedFiles[i][j] = new NormalizedFile(files[i][j]);
+			}
+			Arrays.sort(sortedFiles[i], NORMALIZED_NAME_COMPARATOR);
+		}
+		List<String> nameList = Lists.newArrayList();
+		List<SpdxFile[]> rowList = Lists.newArrayList();
+		int[] fileIndexes = new int[files.length];
+		String fileName = getNextFileName(sortedFiles, fileIndexes);
+		while (fileName != null) {
+			SpdxFile[] row = new SpdxFile[files.length];
+			for (int i = 0; i < sortedFiles.length; i++) {
+				if (fileIndexes[i] < sortedFiles[i].length &&
+						sortedFiles[i][fileIndexes[i]].normalizedName.equals(fileName)) {
+					row[i] = sortedFiles[i][fileIndexes[i]].file;
+					fileIndexes[i]++;
+				}
+			}
+			nameList.add(fileName);
+			rowList.add(row);
+			fileName = getNextFileName(sortedFiles, fileIndexes);
+		}
+		this.fileNames = nameList.toArray(new String[nameList.size()]);
+		this.rows = rowList.toArray(new SpdxFile[rowList.size()][]);
+	}
+
+	/**
+	 * Get the next normalized filename in sort order from the files
+	 * @param sortedFiles
+	 * @param fileIndexes
+	 * @return the next file name or null if all files have been consumed
+	 */
+	private static String getNextFileName(NormalizedFile[][] sortedFiles, int[] fileIndexes) {
+		String retval = null;
+		for (int i = 0; i < sortedFiles.length; i++) {
+			if (fileIndexes[i] < sortedFiles[i].length) {
+				String fileName = sortedFiles[i][fileIndexes[i]].normalizedName;
+				if (retval == null || retval.compareTo(fileName) > 0) {
+					retval = fileName;
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * @return number of documents (columns) in the matrix
+	 */
+	public int getNumDocuments() {
+		return numDocuments;
+	}
+
+	/**
+	 * @return number of distinct file rows in the matrix
+	 */
+	public int getNumRows() {
+		return rows.length;
+	}
+
+	/**
+	 * @param row
+	 * @return normalized file name for the row
+	 */
+	public String getFileName(int row) {
+		return fileNames[row];
+	}
+
+	/**
+	 * @param row
+	 * @param docIndex
+	 * @return the file in the document for the row or null if the document does not contain the file
+	 */
+	public SpdxFile getFile(int row, int docIndex) {
+		return rows[row][docIndex];
+	}
+}
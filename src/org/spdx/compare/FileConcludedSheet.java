@@ -37,8 +37,8 @@ public class FileConcludedSheet extends AbstractFileCompareSheet {
 		super(workbook, sheetName);
 	}
 
-	static void create(Workbook wb, String sheetName) {
-		AbstractFileCompareSheet.create(wb, sheetName, LICENSE_COL_WIDTH);
+	static void create(Workbook wb, String sheetName, int numDocuments) {
+		AbstractFileCompareSheet.create(wb, sheetName, LICENSE_COL_WIDTH, numDocuments);
 	}
 
 	/* (non-Javadoc)
@@ -34,8 +34,8 @@ public class FileCopyrightSheet extends AbstractFileCompareSheet {
 		super(workbook, sheetName);
 	}
 
-	static void create(Workbook wb, String sheetName) {
-		AbstractFileCompareSheet.create(wb, sheetName, COPYRIGHT_COL_WIDTH);
+	static void create(Workbook wb, String sheetName, int numDocuments) {
+		AbstractFileCompareSheet.create(wb, sheetName, COPYRIGHT_COL_WIDTH, numDocuments);
 	}
 
 	/* (non-Javadoc)
@@ -38,8 +38,8 @@ public class FileLicenseCommentsSheet extends AbstractFileCompareSheet {
 		super(workbook, sheetName);
 	}
 
-	static void create(Workbook wb, String sheetName) {
-		AbstractFileCompareSheet.create(wb, sheetName, FILE_COMMENT_COL_WIDTH);
+	static void create(Workbook wb, String sheetName, int numDocuments) {
+		AbstractFileCompareSheet.create(wb, sheetName, FILE_COMMENT_COL_WIDTH, numDocuments);
 	}
 
 	/* (non-Javadoc)
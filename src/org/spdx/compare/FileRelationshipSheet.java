@@ -32,8 +32,8 @@ public class FileRelationshipSheet extends AbstractFileCompareSheet {
 		super(workbook, sheetName);
 	}
 
-	static void create(Workbook wb, String sheetName) {
-		AbstractFileCompareSheet.create(wb, sheetName, RELATIONSHIP_COL_WIDTH);
+	static void create(Workbook wb, String sheetName, int numDocuments) {
+		AbstractFileCompareSheet.create(wb, sheetName, RELATIONSHIP_COL_WIDTH, numDocuments);
 	}
 
 	/* (non-Javadoc)
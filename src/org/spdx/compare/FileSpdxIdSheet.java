@@ -30,8 +30,8 @@ public class FileSpdxIdSheet extends AbstractFileCompareSheet {
 	public FileSpdxIdSheet(Workbook workbook, String sheetName) {
 		super(workbook, sheetName);
 	}
-	static void create(Workbook wb, String sheetName) {
-		AbstractFileCompareSheet.create(wb, sheetName, FILE_TYPE_COL_WIDTH);
+	static void create(Workbook wb, String sheetName, int numDocuments) {
+		AbstractFileCompareSheet.create(wb, sheetName, FILE_TYPE_COL_WIDTH, numDocuments);
 	}
 
 	/* (non-Javadoc)
@@ -40,8 +40,8 @@ public class FileTypeSheet extends AbstractFileCompareSheet {
 		super(workbook, sheetName);
 	}
 
-	static void create(Workbook wb, String sheetName) {
-		AbstractFileCompareSheet.create(wb, sheetName, FILE_TYPE_COL_WIDTH);
+	static void create(Workbook wb, String sheetName, int numDocuments) {
+		AbstractFileCompareSheet.create(wb, sheetName, FILE_TYPE_COL_WIDTH, numDocuments);
 	}
 
 	/* (non-Javadoc)
@@ -20,12 +20,12 @@ package org.spdx.compare;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
@@ -52,26 +52,15 @@ import org.spdx.spdxspreadsheet.SpreadsheetException;
  *   - reviewers: review information
  *   - verification: List of any verification errors
  *
+ * The default constructor creates an Excel 97 (.xls) workbook limited to <code>MAX_DOCUMENTS</code>
+ * documents.  For larger comparisons, use the streaming constructor which writes an .xlsx workbook
+ * keeping only a window of rows in memory for the file comparison sheets.
+ *
  * @author Gary O'Neall
  *
  */
 public class MultiDocumentSpreadsheet extends AbstractSpreadsheet {
 
-	private static final class SpdxFileComparator implements Comparator<SpdxFile> {
-
-		private NormalizedFileNameComparator normalizedFileNameComparator = new NormalizedFileNameComparator();
-
-		/* (non-Javadoc)
-		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
-		 */
-		@Override
-		public int compare(SpdxFile arg0, SpdxFile arg1) {
-			return normalizedFileNameComparator.compare(arg0.getName(), arg1.getName());
-		}
-	}
-
-	private SpdxFileComparator fileComparator = new SpdxFileComparator();
-
 	static Logger logger = LoggerFactory.getLogger(MultiDocumentSpreadsheet.class);
 	private static final String DOCUMENT_SHEET_NAME = "Document";
 	private DocumentSheet documentSheet;
@@ -107,6 +96,15 @@ public class MultiDocumentSpreadsheet extends AbstractSpreadsheet {
 	private FileNoticeSheet fileNoticeSheet;
 	private static final String VERIFICATION_SHEET_NAME = "Verification Errors";
 	public static final int MAX_DOCUMENTS = 25;
+	/**
+	 * Maximum number of documents for the streaming (.xlsx) workbook - limited by the
+	 * number of columns in a sheet less the fixed columns preceding the document columns
+	 */
+	public static final int MAX_STREAMING_DOCUMENTS = SpreadsheetVersion.EXCEL2007.getMaxColumns() - 3;
+	/**
+	 * Number of rows kept in memory for each sheet of a streaming workbook
+	 */
+	private static final int STREAMING_ROW_WINDOW = 200;
 	private static final String EXTERNAL_REFERENCES_SHEET_NAME = "Ext. Doc. References";
 	private static final String DOCUMENT_RELATIONSHIP_SHEET_NAME = "Doc. Relationships";
 	private static final String DOCUMENT_ANNOTATION_SHEET_NAME = "Doc. Annotations";
@@ -143,6 +141,50 @@ public class MultiDocumentSpreadsheet extends AbstractSpreadsheet {
 	public MultiDocumentSpreadsheet(File spreadsheetFile, boolean create,
 			boolean readonly) throws SpreadsheetException {
 		super(spreadsheetFile, create, readonly);
+		openSheets();
+	}
+
+	/**
+	 * Create a new streaming .xlsx spreadsheet sized for <code>numDocuments</code> documents.
+	 * Rows of the file comparison sheets are flushed to temporary files as they are written,
+	 * so the memory used does not grow with the number of files.  The spreadsheet is
+	 * written to <code>spreadsheetFile</code> on <code>close()</code>.
+	 * @param spreadsheetFile File to write the spreadsheet to - must not already exist
+	 * @param numDocuments Number of documents to be compared
+	 * @throws SpreadsheetException
+	 */
+	public MultiDocumentSpreadsheet(File spreadsheetFile, int numDocuments) throws SpreadsheetException {
+		super(spreadsheetFile, createStreamingWorkbook(numDocuments));
+		openSheets();
+	}
+
+	/**
+	 * Create a streaming workbook containing all the comparison sheets
+	 * @param numDocuments
+	 * @return
+	 * @throws SpreadsheetException
+	 */
+	private static Workbook createStreamingWorkbook(int numDocuments) throws SpreadsheetException {
+		if (numDocuments > MAX_STREAMING_DOCUMENTS) {
+			throw(new SpreadsheetException("Too many compare documents - must be less than "+String.valueOf(MAX_STREAMING_DOCUMENTS+1)));
+		}
+		SXSSFWorkbook wb = new SXSSFWorkbook(STREAMING_ROW_WINDOW);
+		createSheets(wb, numDocuments);
+		// The following sheets are filled in column by column and have a number of rows
+		// proportional to the number of documents rather than the number of files, so all
+		// rows are kept available
+		wb.getSheet(DOCUMENT_SHEET_NAME).setRandomAccessWindowSize(-1);
+		wb.getSheet(CREATOR_SHEET_NAME).setRandomAccessWindowSize(-1);
+		wb.getSheet(REVIEWER_SHEET_NAME).setRandomAccessWindowSize(-1);
+		wb.getSheet(VERIFICATION_SHEET_NAME).setRandomAccessWindowSize(-1);
+		return wb;
+	}
+
+	/**
+	 * Create the sheet objects from the workbook and verify the workbook
+	 * @throws SpreadsheetException
+	 */
+	private void openSheets() throws SpreadsheetException {
 		documentSheet = new DocumentSheet(this.workbook, DOCUMENT_SHEET_NAME);
 		externalReferencesSheet = new ExternalReferencesSheet(this.workbook, EXTERNAL_REFERENCES_SHEET_NAME);
 		creatorSheet = new CreatorSheet(this.workbook, CREATOR_SHEET_NAME);
@@ -188,31 +230,7 @@ public class MultiDocumentSpreadsheet extends AbstractSpreadsheet {
 		try {
 			excelOut = new FileOutputStream(spreadsheetFile);
 			Workbook wb = new HSSFWorkbook();
-			DocumentSheet.create(wb, DOCUMENT_SHEET_NAME);
-			CreatorSheet.create(wb, CREATOR_SHEET_NAME);
-			ExternalReferencesSheet.create(wb, EXTERNAL_REFERENCES_SHEET_NAME);
-			DocumentAnnotationSheet.create(wb, DOCUMENT_ANNOTATION_SHEET_NAME);
-			DocumentRelationshipSheet.create(wb, DOCUMENT_RELATIONSHIP_SHEET_NAME);
-			PackageSheet.create(wb, PACKAGE_SHEET_NAME);
-			ExtractedLicenseSheet.create(wb, EXTRACTED_LICENSE_SHEET_NAME);
-			FileSpdxIdSheet.create(wb, FILE_SPDX_ID_SHEET_NAME);
-			FileChecksumSheet.create(wb, FILE_CHECKSUM_SHEET_NAME);
-			FileConcludedSheet.create(wb, FILE_CONCLUDED_SHEET_NAME);
-			FileLicenseInfoSheet.create(wb, FILE_FOUND_SHEET_NAME);
-			FileCommentSheet.create(wb, FILE_COMMENT_SHEET_NAME);
-			FileCopyrightSheet.create(wb, FILE_COPYRIGHT_SHEET_NAME);
-			FileLicenseCommentsSheet.create(wb, FILE_LICENSE_COMMENT_SHEET_NAME);
-			FileArtifactOfSheet.create(wb, FILE_ARTIFACT_OF_SHEET_NAME);
-			FileTypeSheet.create(wb, FILE_TYPE_SHEET_NAME);
-			FileContributorsSheet.create(wb, FILE_CONTRIBUTOR_SHEET_NAME);
-			FileAttributionSheet.create(wb, FILE_ATTRIBUTION_SHEET_NAME);
-			FileDependenciesSheet.create(wb, FILE_DEPENDENCIES_SHEET_NAME);
-			FileNoticeSheet.create(wb, FILE_NOTICE_SHEET_NAME);
-			FileAnnotationSheet.create(wb, FILE_ANNOTATION_SHEET_NAME);
-			FileRelationshipSheet.create(wb, FILE_RELATIONSHIP_SHEET);
-			SnippetSheet.create(wb, SNIPPET_SHEET_NAME);
-			ReviewerSheet.create(wb, REVIEWER_SHEET_NAME);
-			VerificationSheet.create(wb, VERIFICATION_SHEET_NAME);
+			createSheets(wb, MAX_DOCUMENTS);
 			wb.write(excelOut);
 		} finally {
 		    if(excelOut != null){
@@ -221,6 +239,39 @@ public class MultiDocumentSpreadsheet extends AbstractSpreadsheet {
 		}
 	}
 
+	/**
+	 * Create all of the comparison sheets in a workbook
+	 * @param wb
+	 * @param numDocuments Number of document columns to create in each sheet
+	 */
+	private static void createSheets(Workbook wb, int numDocuments) {
+		DocumentSheet.create(wb, DOCUMENT_SHEET_NAME);
+		CreatorSheet.create(wb, CREATOR_SHEET_NAME, numDocuments);
+		ExternalReferencesSheet.create(wb, EXTERNAL_REFERENCES_SHEET_NAME, numDocuments);
+		DocumentAnnotationSheet.create(wb, DOCUMENT_ANNOTATION_SHEET_NAME, numDocuments);
+		DocumentRelationshipSheet.create(wb, DOCUMENT_RELATIONSHIP_SHEET_NAME, numDocuments);
+		PackageSheet.create(wb, PACKAGE_SHEET_NAME, numDocuments);
+		ExtractedLicenseSheet.create(wb, EXTRACTED_LICENSE_SHEET_NAME, numDocuments);
+		FileSpdxIdSheet.create(wb, FILE_SPDX_ID_SHEET_NAME, numDocuments);
+		FileChecksumSheet.create(wb, FILE_CHECKSUM_SHEET_NAME, numDocuments);
+		FileConcludedSheet.create(wb, FILE_CONCLUDED_SHEET_NAME, numDocuments);
+		FileLicenseInfoSheet.create(wb, FILE_FOUND_SHEET_NAME, numDocuments);
+		FileCommentSheet.create(wb, FILE_COMMENT_SHEET_NAME, numDocuments);
+		FileCopyrightSheet.create(wb, FILE_COPYRIGHT_SHEET_NAME, numDocuments);
+		FileLicenseCommentsSheet.create(wb, FILE_LICENSE_COMMENT_SHEET_NAME, numDocuments);
+		FileArtifactOfSheet.create(wb, FILE_ARTIFACT_OF_SHEET_NAME, numDocuments);
+		FileTypeSheet.create(wb, FILE_TYPE_SHEET_NAME, numDocuments);
+		FileContributorsSheet.create(wb, FILE_CONTRIBUTOR_SHEET_NAME, numDocuments);
+		FileAttributionSheet.create(wb, FILE_ATTRIBUTION_SHEET_NAME, numDocuments);
+		FileDependenciesSheet.create(wb, FILE_DEPENDENCIES_SHEET_NAME, numDocuments);
+		FileNoticeSheet.create(wb, FILE_NOTICE_SHEET_NAME, numDocuments);
+		FileAnnotationSheet.create(wb, FILE_ANNOTATION_SHEET_NAME, numDocuments);
+		FileRelationshipSheet.create(wb, FILE_RELATIONSHIP_SHEET, numDocuments);
+		SnippetSheet.create(wb, SNIPPET_SHEET_NAME, numDocuments);
+		ReviewerSheet.create(wb, REVIEWER_SHEET_NAME, numDocuments);
+		VerificationSheet.create(wb, VERIFICATION_SHEET_NAME, numDocuments);
+	}
+
 	public void importCompareResults(SpdxComparer comparer, String[] docNames) throws SpdxCompareException, InvalidSPDXAnalysisException {
 		if (docNames == null) {
 			throw(new SpdxCompareException("Doc names can not be null"));
@@ -231,12 +282,12 @@ public class MultiDocumentSpreadsheet extends AbstractSpreadsheet {
 		if (docNames.length != comparer.getNumSpdxDocs()) {
 			throw(new SpdxCompareException("Number of document names does not match the number of documents compared"));
 		}
-		org.spdx.rdfparser.model.SpdxFile[][] files = new SpdxFile[comparer.getNumSpdxDocs()][];
-		for (int i = 0; i < files.length; i++) {
-			SpdxFile[] docFiles = comparer.collectAllFiles(comparer.getSpdxDoc(i));
-			Arrays.sort(docFiles, fileComparator);
-			files[i] = docFiles;
+		SpdxFile[][] docFiles = new SpdxFile[comparer.getNumSpdxDocs()][];
+		for (int i = 0; i < docFiles.length; i++) {
+			docFiles[i] = comparer.collectAllFiles(comparer.getSpdxDoc(i));
 		}
+		// align the files once and share the rows across all of the file sheets
+		FileCompareMatrix files = new FileCompareMatrix(docFiles);
 		documentSheet.importCompareResults(comparer, docNames);
 		documentSheet.resizeRows();
 		creatorSheet.importCompareResults(comparer, docNames);
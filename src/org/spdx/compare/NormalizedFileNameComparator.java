@@ -19,6 +19,8 @@ package org.spdx.compare;
 import java.io.Serializable;
 import java.util.Comparator;
 
+import org.spdx.rdfparser.FilePathNormalizer;
+
 /**
  * Compares to file name strings normalizing them to a common format using the following rules:
  *  - File separator character is "/"
@@ -71,11 +73,7 @@ public class NormalizedFileNameComparator implements Comparator<String>, Seriali
 	}
 
 	public static String normalizeFileName(String fileName) {
-		String retval = fileName.replace(DOS_SEPARATOR, UNIX_SEPARATOR);
-		if (!retval.startsWith(RELATIVE_DIR)) {
-			retval = RELATIVE_DIR + retval;
-		}
-		return retval;
+		return FilePathNormalizer.normalizeFileName(fileName);
 	}
 
 }
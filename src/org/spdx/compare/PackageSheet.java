@@ -102,6 +102,15 @@ public class PackageSheet extends AbstractSheet {
 	 * @param sheetName
 	 */
 	public static void create(Workbook wb, String sheetName) {
+		create(wb, sheetName, MultiDocumentSpreadsheet.MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param wb
+	 * @param sheetName
+	 * @param numDocuments Number of document columns to create
+	 */
+	public static void create(Workbook wb, String sheetName, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -122,7 +131,7 @@ public class PackageSheet extends AbstractSheet {
 		equalsCell.setCellStyle(headerStyle);
 		equalsCell.setCellValue(EQUALS_HEADER_TEXT);
 
-		for (int i = FIRST_DOC_COL; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS+FIRST_DOC_COL; i++) {
+		for (int i = FIRST_DOC_COL; i < numDocuments+FIRST_DOC_COL; i++) {
 			sheet.setColumnWidth(i, COL_WIDTH*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = headerRow.createCell(i);
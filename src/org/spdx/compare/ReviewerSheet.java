@@ -88,6 +88,15 @@ public class ReviewerSheet extends AbstractSheet {
 	 * @param reviewerSheetName
 	 */
 	public static void create(Workbook wb, String sheetName) {
+		create(wb, sheetName, MultiDocumentSpreadsheet.MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param wb
+	 * @param reviewerSheetName
+	 * @param numDocuments Number of document columns to create
+	 */
+	public static void create(Workbook wb, String sheetName, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -96,7 +105,7 @@ public class ReviewerSheet extends AbstractSheet {
 		CellStyle headerStyle = AbstractSheet.createHeaderStyle(wb);
 		CellStyle defaultStyle = AbstractSheet.createLeftWrapStyle(wb);
 		Row row = sheet.createRow(0);
-		for (int i = 0; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS; i++) {
+		for (int i = 0; i < numDocuments; i++) {
 			sheet.setColumnWidth(i, COL_WIDTH*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = row.createCell(i);
@@ -0,0 +1,733 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.compare;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SpdxPackageVerificationCode;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.LicenseSet;
+import org.spdx.rdfparser.model.Annotation;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.DoapProject;
+import org.spdx.rdfparser.model.ExternalRef;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxElement;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.rdfparser.model.SpdxPackage;
+import org.spdx.rdfparser.referencetype.ReferenceType;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.BaseEncoding;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+/**
+ * A persisted index of previously compared SPDX documents.
+ *
+ * For each baseline document, the index stores a fingerprint for every file (keyed by the
+ * normalized file name) and every package (keyed by the package name and version) together
+ * with the translation of the document's extracted license IDs into a pool of distinct
+ * extracted license texts shared by all baseline documents.  The same license text
+ * equivalence used in <code>SpdxComparer.compareExtractedLicenseInfos</code> is used to
+ * build the translation, so fingerprints of files and packages using equivalent extracted
+ * licenses under different IDs are equal.
+ *
+ * The fingerprints cover the fields compared by <code>SpdxFileComparer</code> and
+ * <code>SpdxPackageComparer</code> including annotations, relationships, artifactOf projects,
+ * file dependencies, external references and the files contained in packages.  Files with the
+ * same normalized name and packages with the same name and version share a single key whose
+ * fingerprint combines all of them.
+ *
+ * Comparing a new document against the baseline only requires parsing the new document
+ * and a single pass of its fingerprints against the stored index - the baseline documents
+ * are not reparsed or recompared.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class SpdxComparisonBaseline {
+
+	static final String LICENSE_POOL_PREFIX = "BaselineLicense-";
+	static final String FIELD_SEPARATOR = "\u0000";
+	static final String VALUE_SEPARATOR = "\u0001";
+
+	/**
+	 * Fingerprints and license translation for a single baseline document
+	 */
+	static class BaselineDocument {
+		String name;
+		String documentNamespace;
+		/**
+		 * Map of the document's extracted license IDs to the license pool IDs
+		 */
+		Map<String, String> extractedLicenseIdMap = new TreeMap<String, String>();
+		/**
+		 * Map of normalized file names to file fingerprints
+		 */
+		Map<String, String> fileFingerprints = new TreeMap<String, String>();
+		/**
+		 * Map of package name and version to package fingerprints
+		 */
+		Map<String, String> packageFingerprints = new TreeMap<String, String>();
+	}
+
+	/**
+	 * Differences between a compared document and one of the baseline documents.
+	 * File and package arrays contain normalized file names and package keys respectively.
+	 */
+	public static class BaselineDifference {
+		private String baselineDocumentName;
+		private String[] uniqueFiles;
+		private String[] missingFiles;
+		private String[] differentFiles;
+		private String[] uniquePackages;
+		private String[] missingPackages;
+		private String[] differentPackages;
+		private String[] uniqueExtractedLicenseIds;
+
+		BaselineDifference(String baselineDocumentName, String[] uniqueFiles,
+				String[] missingFiles, String[] differentFiles,
+				String[] uniquePackages, String[] missingPackages,
+				String[] differentPackages, String[] uniqueExtractedLicenseIds) {
+			this.baselineDocumentName = baselineDocumentName;
+			this.uniqueFiles = uniqueFiles;
+			this.missingFiles = missingFiles;
+			this.differentFiles = differentFiles;
+			this.uniquePackages = uniquePackages;
+			this.missingPackages = missingPackages;
+			this.differentPackages = differentPackages;
+			this.uniqueExtractedLicenseIds = uniqueExtractedLicenseIds;
+		}
+
+		/**
+		 * @return the name of the baseline document compared against
+		 */
+		public String getBaselineDocumentName() {
+			return baselineDocumentName;
+		}
+
+		/**
+		 * @return files in the compared document which are not in the baseline document
+		 */
+		public String[] getUniqueFiles() {
+			return uniqueFiles;
+		}
+
+		/**
+		 * @return files in the baseline document which are not in the compared document
+		 */
+		public String[] getMissingFiles() {
+			return missingFiles;
+		}
+
+		/**
+		 * @return files present in both documents with one or more different properties
+		 */
+		public String[] getDifferentFiles() {
+			return differentFiles;
+		}
+
+		/**
+		 * @return packages in the compared document which are not in the baseline document
+		 */
+		public String[] getUniquePackages() {
+			return uniquePackages;
+		}
+
+		/**
+		 * @return packages in the baseline document which are not in the compared document
+		 */
+		public String[] getMissingPackages() {
+			return missingPackages;
+		}
+
+		/**
+		 * @return packages present in both documents with one or more different properties
+		 */
+		public String[] getDifferentPackages() {
+			return differentPackages;
+		}
+
+		/**
+		 * @return extracted license IDs of the compared document with no equivalent license text in the baseline document
+		 */
+		public String[] getUniqueExtractedLicenseIds() {
+			return uniqueExtractedLicenseIds;
+		}
+
+		/**
+		 * @return true if any difference was found
+		 */
+		public boolean isDifferenceFound() {
+			return uniqueFiles.length > 0 || missingFiles.length > 0 || differentFiles.length > 0 ||
+					uniquePackages.length > 0 || missingPackages.length > 0 || differentPackages.length > 0 ||
+					uniqueExtractedLicenseIds.length > 0;
+		}
+	}
+
+	/**
+	 * Map of license pool IDs to the extracted license text
+	 */
+	private Map<String, String> licensePool = new TreeMap<String, String>();
+	private List<BaselineDocument> documents = Lists.newArrayList();
+
+	public SpdxComparisonBaseline() {
+
+	}
+
+	/**
+	 * Load a baseline previously saved with <code>save</code>
+	 * @param baselineFile
+	 * @return
+	 * @throws IOException
+	 * @throws SpdxCompareException if the file is not a valid baseline
+	 */
+	public static SpdxComparisonBaseline load(File baselineFile) throws IOException, SpdxCompareException {
+		Reader reader = new InputStreamReader(new FileInputStream(baselineFile), StandardCharsets.UTF_8);
+		try {
+			SpdxComparisonBaseline retval = new Gson().fromJson(reader, SpdxComparisonBaseline.class);
+			if (retval == null || retval.licensePool == null || retval.documents == null) {
+				throw(new SpdxCompareException("Invalid comparison baseline file "+baselineFile.getName()));
+			}
+			return retval;
+		} catch (JsonParseException e) {
+			throw(new SpdxCompareException("Invalid comparison baseline file "+baselineFile.getName()+": "+e.getMessage()));
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Save the baseline to a file
+	 * @param baselineFile
+	 * @throws IOException
+	 */
+	public void save(File baselineFile) throws IOException {
+		Writer writer = new OutputStreamWriter(new FileOutputStream(baselineFile), StandardCharsets.UTF_8);
+		try {
+			new GsonBuilder().disableHtmlEscaping().create().toJson(this, writer);
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * @return the number of documents in the baseline
+	 */
+	public int getNumDocuments() {
+		return documents.size();
+	}
+
+	/**
+	 * @return the names of the documents in the baseline
+	 */
+	public String[] getDocumentNames() {
+		String[] retval = new String[documents.size()];
+		for (int i = 0; i < retval.length; i++) {
+			retval[i] = documents.get(i).name;
+		}
+		return retval;
+	}
+
+	/**
+	 * Add a document to the baseline.  Any extracted licenses with text not equivalent
+	 * to a license already in the baseline are added to the license pool.
+	 * @param name Name of the document - must be unique within the baseline
+	 * @param spdxDoc
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws SpdxCompareException
+	 */
+	public synchronized void addDocument(String name, SpdxDocument spdxDoc) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		for (BaselineDocument doc:documents) {
+			if (doc.name.equals(name)) {
+				throw(new SpdxCompareException("Document "+name+" already exists in the baseline"));
+			}
+		}
+		Map<String, String> idMap = Maps.newHashMap();
+		for (ExtractedLicenseInfo license:spdxDoc.getExtractedLicenseInfos()) {
+			String poolId = findPoolLicense(license.getExtractedText());
+			if (poolId == null) {
+				poolId = LICENSE_POOL_PREFIX + String.valueOf(licensePool.size());
+				licensePool.put(poolId, license.getExtractedText());
+			}
+			idMap.put(license.getLicenseId(), poolId);
+		}
+		BaselineDocument doc = buildBaselineDocument(name, spdxDoc, idMap);
+		documents.add(doc);
+	}
+
+	/**
+	 * Compare a document against all documents in the baseline.  The document is not added to the baseline.
+	 * @param spdxDoc
+	 * @return one difference per baseline document in the order the baseline documents were added
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws SpdxCompareException
+	 */
+	public synchronized BaselineDifference[] compare(SpdxDocument spdxDoc) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		Map<String, String> idMap = Maps.newHashMap();
+		List<String> unmatchedLicenseIds = Lists.newArrayList();
+		for (ExtractedLicenseInfo license:spdxDoc.getExtractedLicenseInfos()) {
+			String poolId = findPoolLicense(license.getExtractedText());
+			if (poolId == null) {
+				// Use the document's own ID, it can not match anything in the baseline
+				unmatchedLicenseIds.add(license.getLicenseId());
+				idMap.put(license.getLicenseId(), license.getLicenseId());
+			} else {
+				idMap.put(license.getLicenseId(), poolId);
+			}
+		}
+		BaselineDocument compareDoc = buildBaselineDocument(null, spdxDoc, idMap);
+		BaselineDifference[] retval = new BaselineDifference[documents.size()];
+		for (int i = 0; i < retval.length; i++) {
+			BaselineDocument baselineDoc = documents.get(i);
+			List<String> uniqueFiles = Lists.newArrayList();
+			List<String> differentFiles = Lists.newArrayList();
+			List<String> missingFiles = Lists.newArrayList();
+			compareFingerprints(compareDoc.fileFingerprints, baselineDoc.fileFingerprints,
+					uniqueFiles, differentFiles, missingFiles);
+			List<String> uniquePackages = Lists.newArrayList();
+			List<String> differentPackages = Lists.newArrayList();
+			List<String> missingPackages = Lists.newArrayList();
+			compareFingerprints(compareDoc.packageFingerprints, baselineDoc.packageFingerprints,
+					uniquePackages, differentPackages, missingPackages);
+			List<String> uniqueLicenses = Lists.newArrayList(unmatchedLicenseIds);
+			for (Entry<String, String> entry:idMap.entrySet()) {
+				if (!unmatchedLicenseIds.contains(entry.getKey()) &&
+						!baselineDoc.extractedLicenseIdMap.containsValue(entry.getValue())) {
+					uniqueLicenses.add(entry.getKey());
+				}
+			}
+			Collections.sort(uniqueLicenses);
+			retval[i] = new BaselineDifference(baselineDoc.name, toArray(uniqueFiles),
+					toArray(missingFiles), toArray(differentFiles), toArray(uniquePackages),
+					toArray(missingPackages), toArray(differentPackages), toArray(uniqueLicenses));
+		}
+		return retval;
+	}
+
+	private static String[] toArray(List<String> list) {
+		return list.toArray(new String[list.size()]);
+	}
+
+	/**
+	 * Compare two maps of fingerprints.  Since the maps are sorted, the results are sorted.
+	 * @param fingerprintsA
+	 * @param fingerprintsB
+	 * @param uniqueA Keys in A but not in B
+	 * @param different Keys in both A and B with different fingerprints
+	 * @param uniqueB Keys in B but not in A
+	 */
+	private static void compareFingerprints(Map<String, String> fingerprintsA,
+			Map<String, String> fingerprintsB, List<String> uniqueA,
+			List<String> different, List<String> uniqueB) {
+		for (Entry<String, String> entry:fingerprintsA.entrySet()) {
+			String fingerprintB = fingerprintsB.get(entry.getKey());
+			if (fingerprintB == null) {
+				uniqueA.add(entry.getKey());
+			} else if (!fingerprintB.equals(entry.getValue())) {
+				different.add(entry.getKey());
+			}
+		}
+		for (String key:fingerprintsB.keySet()) {
+			if (!fingerprintsA.containsKey(key)) {
+				uniqueB.add(key);
+			}
+		}
+	}
+
+	/**
+	 * @param extractedText
+	 * @return the ID of the license in the license pool with equivalent text or null if none was found
+	 */
+	private String findPoolLicense(String extractedText) {
+		for (Entry<String, String> entry:licensePool.entrySet()) {
+			if (LicenseCompareHelper.isLicenseTextEquivalent(entry.getValue(), extractedText)) {
+				return entry.getKey();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Compute the fingerprints for all files and packages in a document
+	 * @param name
+	 * @param spdxDoc
+	 * @param idMap Map of the document extracted license IDs to license pool IDs
+	 * @return
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws SpdxCompareException
+	 */
+	private BaselineDocument buildBaselineDocument(String name, SpdxDocument spdxDoc,
+			Map<String, String> idMap) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		BaselineDocument retval = new BaselineDocument();
+		retval.name = name;
+		retval.documentNamespace = spdxDoc.getDocumentNamespace();
+		retval.extractedLicenseIdMap.putAll(idMap);
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (NoSuchAlgorithmException e) {
+			throw(new SpdxCompareException("SHA-1 digest not available"));
+		}
+		SpdxComparer comparer = new SpdxComparer();
+		Map<String, List<String>> fileFingerprints = Maps.newTreeMap();
+		Map<SpdxFile, String> fingerprintOfFile = Maps.newHashMap();
+		for (SpdxFile file:comparer.collectAllFiles(spdxDoc)) {
+			String fingerprint = fingerprint(digest, fileFields(file, idMap));
+			fingerprintOfFile.put(file, fingerprint);
+			addFingerprint(fileFingerprints, NormalizedFileNameComparator.normalizeFileName(file.getName()), fingerprint);
+		}
+		Map<String, List<String>> packageFingerprints = Maps.newTreeMap();
+		for (SpdxPackage pkg:comparer.collectAllPackages(spdxDoc)) {
+			addFingerprint(packageFingerprints, packageKey(pkg),
+					fingerprint(digest, packageFields(pkg, idMap, fingerprintOfFile, digest)));
+		}
+		combineFingerprints(fileFingerprints, retval.fileFingerprints);
+		combineFingerprints(packageFingerprints, retval.packageFingerprints);
+		return retval;
+	}
+
+	private static void addFingerprint(Map<String, List<String>> fingerprints, String key, String fingerprint) {
+		List<String> keyFingerprints = fingerprints.get(key);
+		if (keyFingerprints == null) {
+			keyFingerprints = Lists.newArrayList();
+			fingerprints.put(key, keyFingerprints);
+		}
+		keyFingerprints.add(fingerprint);
+	}
+
+	/**
+	 * Files with the same normalized name or packages with the same name and version are kept
+	 * under a single key with the sorted fingerprints of all of the elements combined, so a change
+	 * to any one of them or to the number of elements is reported as a difference for the key
+	 * @param fingerprints
+	 * @param result
+	 */
+	private static void combineFingerprints(Map<String, List<String>> fingerprints, Map<String, String> result) {
+		for (Entry<String, List<String>> entry:fingerprints.entrySet()) {
+			List<String> keyFingerprints = entry.getValue();
+			if (keyFingerprints.size() == 1) {
+				result.put(entry.getKey(), keyFingerprints.get(0));
+			} else {
+				Collections.sort(keyFingerprints);
+				StringBuilder sb = new StringBuilder();
+				for (String fingerprint:keyFingerprints) {
+					if (sb.length() > 0) {
+						sb.append(',');
+					}
+					sb.append(fingerprint);
+				}
+				result.put(entry.getKey(), sb.toString());
+			}
+		}
+	}
+
+	/**
+	 * @param pkg
+	 * @return key for a package based on the name and version
+	 */
+	static String packageKey(SpdxPackage pkg) {
+		String version = pkg.getVersionInfo();
+		if (version == null || version.trim().isEmpty()) {
+			return pkg.getName();
+		}
+		return pkg.getName() + " " + version.trim();
+	}
+
+	/**
+	 * @param file
+	 * @param idMap
+	 * @return the field values of a file which are compared.  The artifact of and file dependency
+	 * fields are deprecated but are still compared for compatibility with older documents
+	 */
+	@SuppressWarnings("deprecation")
+	private static String[] fileFields(SpdxFile file, Map<String, String> idMap) {
+		FileType[] fileTypes = file.getFileTypes();
+		String[] types = new String[fileTypes == null ? 0 : fileTypes.length];
+		for (int i = 0; i < types.length; i++) {
+			types[i] = fileTypes[i].toString();
+		}
+		return new String[] {
+				checksumsToString(file.getChecksums()),
+				licenseToString(file.getLicenseConcluded(), idMap),
+				licensesToString(file.getLicenseInfoFromFiles(), idMap),
+				normalize(file.getCopyrightText()),
+				normalize(file.getLicenseComments()),
+				normalize(file.getComment()),
+				normalize(file.getNoticeText()),
+				sortedValues(types),
+				sortedValues(file.getFileContributors()),
+				sortedValues(file.getAttributionText()),
+				annotationsToString(file.getAnnotations()),
+				relationshipsToString(file.getRelationships()),
+				artifactOfsToString(file.getArtifactOf()),
+				fileNamesToString(file.getFileDependencies())
+		};
+	}
+
+	/**
+	 * @param pkg
+	 * @param idMap
+	 * @param fingerprintOfFile fingerprints of the files in the document
+	 * @param digest digest used for files not in <code>fingerprintOfFile</code>
+	 * @return the field values of a package which are compared
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static String[] packageFields(SpdxPackage pkg, Map<String, String> idMap,
+			Map<SpdxFile, String> fingerprintOfFile, MessageDigest digest) throws InvalidSPDXAnalysisException {
+		SpdxFile[] files = pkg.getFiles();
+		String[] fileValues = new String[files.length];
+		for (int i = 0; i < files.length; i++) {
+			String fileFingerprint = fingerprintOfFile.get(files[i]);
+			if (fileFingerprint == null) {
+				fileFingerprint = fingerprint(digest, fileFields(files[i], idMap));
+			}
+			fileValues[i] = NormalizedFileNameComparator.normalizeFileName(files[i].getName()) +
+					VALUE_SEPARATOR + fileFingerprint;
+		}
+		ExternalRef[] externalRefs = pkg.getExternalRefs();
+		String[] externalRefValues = new String[externalRefs == null ? 0 : externalRefs.length];
+		for (int i = 0; i < externalRefValues.length; i++) {
+			ReferenceType referenceType = externalRefs[i].getReferenceType();
+			externalRefValues[i] = String.valueOf(externalRefs[i].getReferenceCategory()) + VALUE_SEPARATOR +
+					(referenceType == null ? "" : String.valueOf(referenceType.getReferenceTypeUri())) + VALUE_SEPARATOR +
+					normalize(externalRefs[i].getReferenceLocator());
+		}
+		SpdxPackageVerificationCode verificationCode = pkg.getPackageVerificationCode();
+		String verificationValue = "";
+		if (verificationCode != null) {
+			verificationValue = normalize(verificationCode.getValue()) + VALUE_SEPARATOR +
+					sortedValues(verificationCode.getExcludedFileNames());
+		}
+		return new String[] {
+				normalize(pkg.getPackageFileName()),
+				normalize(pkg.getSupplier()),
+				normalize(pkg.getOriginator()),
+				normalize(pkg.getDownloadLocation()),
+				verificationValue,
+				checksumsToString(pkg.getChecksums()),
+				normalize(pkg.getSourceInfo()),
+				licenseToString(pkg.getLicenseConcluded(), idMap),
+				licenseToString(pkg.getLicenseDeclared(), idMap),
+				licensesToString(pkg.getLicenseInfoFromFiles(), idMap),
+				normalize(pkg.getLicenseComments()),
+				normalize(pkg.getCopyrightText()),
+				normalize(pkg.getSummary()),
+				normalize(pkg.getDescription()),
+				normalize(pkg.getHomepage()),
+				normalize(pkg.getComment()),
+				String.valueOf(pkg.isFilesAnalyzed()),
+				sortedValues(pkg.getAttributionText()),
+				sortedValues(externalRefValues),
+				annotationsToString(pkg.getAnnotations()),
+				relationshipsToString(pkg.getRelationships()),
+				sortedValues(fileValues)
+		};
+	}
+
+	/**
+	 * @param element
+	 * @return key identifying a related element independent of its SPDX ID
+	 */
+	private static String elementKey(SpdxElement element) {
+		if (element == null) {
+			return "";
+		} else if (element instanceof SpdxFile) {
+			return NormalizedFileNameComparator.normalizeFileName(element.getName());
+		} else if (element instanceof SpdxPackage) {
+			return packageKey((SpdxPackage)element);
+		} else if (element.getName() != null) {
+			return normalize(element.getName());
+		} else {
+			return normalize(element.getId());
+		}
+	}
+
+	/**
+	 * Annotations are compared using the same properties as <code>Annotation.equivalent</code>
+	 */
+	private static String annotationsToString(Annotation[] annotations) {
+		if (annotations == null) {
+			return "";
+		}
+		String[] values = new String[annotations.length];
+		for (int i = 0; i < annotations.length; i++) {
+			values[i] = normalize(annotations[i].getAnnotator()) + VALUE_SEPARATOR +
+					String.valueOf(annotations[i].getAnnotationType()) + VALUE_SEPARATOR +
+					normalize(annotations[i].getComment()) + VALUE_SEPARATOR +
+					normalize(annotations[i].getAnnotationDate());
+		}
+		return sortedValues(values);
+	}
+
+	/**
+	 * Relationships are compared by type, comment and the related element - the related element
+	 * is identified by its name rather than its SPDX ID as in <code>Relationship.equivalent</code>
+	 */
+	private static String relationshipsToString(Relationship[] relationships) {
+		if (relationships == null) {
+			return "";
+		}
+		String[] values = new String[relationships.length];
+		for (int i = 0; i < relationships.length; i++) {
+			values[i] = String.valueOf(relationships[i].getRelationshipType()) + VALUE_SEPARATOR +
+					elementKey(relationships[i].getRelatedSpdxElement()) + VALUE_SEPARATOR +
+					normalize(relationships[i].getComment());
+		}
+		return sortedValues(values);
+	}
+
+	private static String artifactOfsToString(DoapProject[] artifactOfs) {
+		if (artifactOfs == null) {
+			return "";
+		}
+		String[] values = new String[artifactOfs.length];
+		for (int i = 0; i < artifactOfs.length; i++) {
+			values[i] = normalize(artifactOfs[i].getName()) + VALUE_SEPARATOR + normalize(artifactOfs[i].getHomePage());
+		}
+		return sortedValues(values);
+	}
+
+	private static String fileNamesToString(SpdxFile[] files) {
+		if (files == null) {
+			return "";
+		}
+		String[] values = new String[files.length];
+		for (int i = 0; i < files.length; i++) {
+			values[i] = NormalizedFileNameComparator.normalizeFileName(files[i].getName());
+		}
+		return sortedValues(values);
+	}
+
+	private static String fingerprint(MessageDigest digest, String[] fields) {
+		digest.reset();
+		for (String field:fields) {
+			digest.update(field.getBytes(StandardCharsets.UTF_8));
+			digest.update(FIELD_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+		}
+		return BaseEncoding.base16().lowerCase().encode(digest.digest());
+	}
+
+	/**
+	 * Normalize a string using the same rules as <code>SpdxComparer.stringsEqual</code>
+	 * @param s
+	 * @return
+	 */
+	private static String normalize(String s) {
+		if (s == null) {
+			return "";
+		}
+		return s.replace("\r\n", "\n").trim();
+	}
+
+	private static String sortedValues(String[] values) {
+		if (values == null) {
+			return "";
+		}
+		String[] normalized = new String[values.length];
+		for (int i = 0; i < values.length; i++) {
+			normalized[i] = normalize(values[i]);
+		}
+		Arrays.sort(normalized);
+		StringBuilder sb = new StringBuilder();
+		for (String value:normalized) {
+			sb.append(value);
+			sb.append(VALUE_SEPARATOR);
+		}
+		return sb.toString();
+	}
+
+	private static String checksumsToString(Checksum[] checksums) {
+		if (checksums == null) {
+			return "";
+		}
+		String[] values = new String[checksums.length];
+		for (int i = 0; i < checksums.length; i++) {
+			values[i] = checksums[i].toString().toLowerCase();
+		}
+		return sortedValues(values);
+	}
+
+	private static String licensesToString(AnyLicenseInfo[] licenses, Map<String, String> idMap) {
+		if (licenses == null) {
+			return "";
+		}
+		String[] values = new String[licenses.length];
+		for (int i = 0; i < licenses.length; i++) {
+			values[i] = licenseToString(licenses[i], idMap);
+		}
+		return sortedValues(values);
+	}
+
+	/**
+	 * Converts a license to a canonical string replacing extracted license IDs with the
+	 * license pool IDs and ordering the members of license sets
+	 * @param license
+	 * @param idMap
+	 * @return
+	 */
+	private static String licenseToString(AnyLicenseInfo license, Map<String, String> idMap) {
+		if (license == null) {
+			return "";
+		}
+		if (license instanceof ExtractedLicenseInfo) {
+			String id = ((ExtractedLicenseInfo)license).getLicenseId();
+			String poolId = idMap.get(id);
+			return poolId == null ? id : poolId;
+		} else if (license instanceof LicenseSet) {
+			AnyLicenseInfo[] members = ((LicenseSet)license).getMembers();
+			String[] values = new String[members.length];
+			for (int i = 0; i < members.length; i++) {
+				values[i] = licenseToString(members[i], idMap);
+			}
+			Arrays.sort(values);
+			StringBuilder sb = new StringBuilder("(");
+			sb.append(license.getClass().getSimpleName());
+			for (String value:values) {
+				sb.append(' ');
+				sb.append(value);
+			}
+			sb.append(')');
+			return sb.toString();
+		} else {
+			return license.toString();
+		}
+	}
+}
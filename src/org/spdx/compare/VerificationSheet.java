@@ -59,6 +59,15 @@ public class VerificationSheet extends AbstractSheet {
 	 * @param sheetName
 	 */
 	public static void create(Workbook wb, String sheetName) {
+		create(wb, sheetName, MultiDocumentSpreadsheet.MAX_DOCUMENTS);
+	}
+
+	/**
+	 * @param wb
+	 * @param sheetName
+	 * @param numDocuments Number of document columns to create
+	 */
+	public static void create(Workbook wb, String sheetName, int numDocuments) {
 		int sheetNum = wb.getSheetIndex(sheetName);
 		if (sheetNum >= 0) {
 			wb.removeSheetAt(sheetNum);
@@ -67,7 +76,7 @@ public class VerificationSheet extends AbstractSheet {
 		CellStyle headerStyle = AbstractSheet.createHeaderStyle(wb);
 		CellStyle defaultStyle = AbstractSheet.createLeftWrapStyle(wb);
 		Row row = sheet.createRow(0);
-		for (int i = 0; i < MultiDocumentSpreadsheet.MAX_DOCUMENTS; i++) {
+		for (int i = 0; i < numDocuments; i++) {
 			sheet.setColumnWidth(i, COL_WIDTH*256);
 			sheet.setDefaultColumnStyle(i, defaultStyle);
 			Cell cell = row.createCell(i);
@@ -92,10 +101,10 @@ public class VerificationSheet extends AbstractSheet {
 		if (verificationErrors.length != docNames.length) {
 			throw(new SpreadsheetException("Number of verification errors does not equal the number of documents."));
 		}
-		if (docNames.length > MultiDocumentSpreadsheet.MAX_DOCUMENTS) {
-			throw(new SpreadsheetException("Too many compare documents - must be less than "+String.valueOf(MultiDocumentSpreadsheet.MAX_DOCUMENTS+1)));
-		}
 		Row header = sheet.getRow(0);
+		if (docNames.length > header.getLastCellNum()) {
+			throw(new SpreadsheetException("Too many compare documents - must be less than "+String.valueOf(header.getLastCellNum()+1)));
+		}
 		int lastRowCreated = 0;
 		for (int i = 0; i < docNames.length; i++) {
 			Cell hCell = header.getCell(i);
@@ -0,0 +1,438 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveException;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.ArchiveStreamFactory;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Generates a package verification code directly from an archive without extracting it.
+ *
+ * The archive entries are read as a stream and each regular file is hashed as it is read.
+ * Tar (optionally gzip or bzip2 compressed), zip and jar archives are supported.  File paths
+ * are the entry names normalized with <code>normalizeFilePath</code>.
+ *
+ * Links are followed the same as when walking the extracted directory.  Symbolic and hard links to
+ * files in the archive are hashed using the content of the target file and symbolic links to
+ * directories in the archive include the files below the target directory under the path of the link.
+ * Links to directories containing the link, to paths outside of the archive or to paths not in the
+ * archive are not included.  If an archive contains the same path more than once, the last entry is used.
+ * Entries in directories pruned by the <code>SkipRules</code> are not read.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class ArchiveVerificationCodeGenerator extends VerificationCodeGenerator {
+
+	private MultiChecksumGenerator checksumGenerator;
+
+	/**
+	 * @param algorithms checksum algorithms to calculate for each file in addition to SHA1
+	 * @throws NoSuchAlgorithmException if one of the algorithms is not supported
+	 */
+	public ArchiveVerificationCodeGenerator(ChecksumAlgorithm... algorithms) throws NoSuchAlgorithmException {
+		this(new MultiChecksumGenerator(false, algorithms));
+	}
+
+	private ArchiveVerificationCodeGenerator(MultiChecksumGenerator checksumGenerator) {
+		super(checksumGenerator);
+		this.checksumGenerator = checksumGenerator;
+	}
+
+	/**
+	 * Generate the SPDX Package Verification Code from an archive file
+	 * @param archive tar, compressed tar, zip or jar file
+	 * @param skippedFilePaths paths of files within the archive to not include in the verification code
+	 * @param fileChecksums if not null, the checksums for each file included in the verification code are added using the normalized file path as the key
+	 * @return verification code
+	 * @throws NoSuchAlgorithmException
+	 * @throws IOException if the archive can not be read or is not a supported format
+	 */
+	public SpdxPackageVerificationCode generatePackageVerificationCode(File archive,
+			String[] skippedFilePaths, Map<String, Checksum[]> fileChecksums) throws NoSuchAlgorithmException, IOException {
+		try (InputStream in = new FileInputStream(archive)) {
+			return generatePackageVerificationCode(in, skippedFilePaths, fileChecksums);
+		}
+	}
+
+	/**
+	 * Generate the SPDX Package Verification Code from an archive file reading the archive once.
+	 * Files skipped by the rules are listed as excluded files and files in pruned directories are ignored.
+	 * @param archive tar, compressed tar, zip or jar file
+	 * @param skipRules rules for the files to skip and directories to prune
+	 * @param fileChecksums if not null, the checksums for each file included in the verification code are added using the normalized file path as the key
+	 * @return verification code
+	 * @throws NoSuchAlgorithmException
+	 * @throws IOException if the archive can not be read or is not a supported format
+	 */
+	public SpdxPackageVerificationCode generatePackageVerificationCode(File archive,
+			SkipRules skipRules, Map<String, Checksum[]> fileChecksums) throws NoSuchAlgorithmException, IOException {
+		try (InputStream in = new FileInputStream(archive)) {
+			return generatePackageVerificationCode(in, skipRules, fileChecksums);
+		}
+	}
+
+	/**
+	 * Generate the SPDX Package Verification Code from an archive stream.  The stream is not closed.
+	 * @param archive stream containing a tar, compressed tar, zip or jar file
+	 * @param skippedFilePaths paths of files within the archive to not include in the verification code
+	 * @param fileChecksums if not null, the checksums for each file included in the verification code are added using the normalized file path as the key
+	 * @return verification code
+	 * @throws NoSuchAlgorithmException
+	 * @throws IOException if the archive can not be read or is not a supported format
+	 */
+	public SpdxPackageVerificationCode generatePackageVerificationCode(InputStream archive,
+			String[] skippedFilePaths, Map<String, Checksum[]> fileChecksums) throws NoSuchAlgorithmException, IOException {
+		Set<String> skippedFiles = Sets.newTreeSet();
+		SkipRules skipRules = new SkipRules();
+		if (skippedFilePaths != null) {
+			for (String skippedFilePath:skippedFilePaths) {
+				if (skippedFilePath != null) {
+					skippedFiles.add(normalizeFilePath(skippedFilePath));
+					skipRules.addSkippedFile(skippedFilePath);
+				}
+			}
+		}
+		List<String> fileSha1s = collectArchiveData(archive, skipRules, Sets.<String>newHashSet(), fileChecksums);
+		return generatePackageVerificationCode(fileSha1s, skippedFiles.toArray(new String[skippedFiles.size()]));
+	}
+
+	/**
+	 * Generate the SPDX Package Verification Code from an archive stream reading the archive once.
+	 * Files skipped by the rules are listed as excluded files and files in pruned directories are ignored.
+	 * The stream is not closed.
+	 * @param archive stream containing a tar, compressed tar, zip or jar file
+	 * @param skipRules rules for the files to skip and directories to prune
+	 * @param fileChecksums if not null, the checksums for each file included in the verification code are added using the normalized file path as the key
+	 * @return verification code
+	 * @throws NoSuchAlgorithmException
+	 * @throws IOException if the archive can not be read or is not a supported format
+	 */
+	public SpdxPackageVerificationCode generatePackageVerificationCode(InputStream archive,
+			SkipRules skipRules, Map<String, Checksum[]> fileChecksums) throws NoSuchAlgorithmException, IOException {
+		Set<String> skippedFiles = Sets.newTreeSet();
+		List<String> fileSha1s = collectArchiveData(archive, skipRules, skippedFiles, fileChecksums);
+		return generatePackageVerificationCode(fileSha1s, skippedFiles.toArray(new String[skippedFiles.size()]));
+	}
+
+	/**
+	 * Read the archive collecting the SHA1 checksums of the files included in the verification code
+	 * @param archive
+	 * @param skipRules
+	 * @param skippedFiles the normalized paths of files skipped by the rules are added to this set
+	 * @param fileChecksums if not null, the checksums for each included file are added
+	 * @return SHA1 checksums of the included files
+	 * @throws IOException
+	 */
+	private List<String> collectArchiveData(InputStream archive, SkipRules skipRules,
+			Set<String> skippedFiles, Map<String, Checksum[]> fileChecksums) throws IOException {
+		Map<String, Checksum[]> checksums = Maps.newTreeMap();
+		// links are resolved once all of the files in the archive have been read
+		Map<String, String> linkTargets = Maps.newHashMap();
+		Map<String, Boolean> prunedDirectories = Maps.newHashMap();
+		ArchiveInputStream archiveStream = openArchive(archive);
+		ArchiveEntry entry;
+		while ((entry = archiveStream.getNextEntry()) != null) {
+			if (entry.isDirectory() || !archiveStream.canReadEntryData(entry)) {
+				continue;
+			}
+			String path = normalizeFilePath(entry.getName());
+			if (isInPrunedDirectory(path, skipRules, prunedDirectories)) {
+				continue;
+			}
+			if (entry instanceof TarArchiveEntry) {
+				TarArchiveEntry tarEntry = (TarArchiveEntry)entry;
+				if (tarEntry.isSymbolicLink()) {
+					linkTargets.put(path, resolveLinkTarget(path, tarEntry.getLinkName()));
+					checksums.remove(path);
+					continue;
+				} else if (tarEntry.isLink()) {
+					// hard link targets are relative to the root of the archive
+					linkTargets.put(path, normalizeFilePath(tarEntry.getLinkName()));
+					checksums.remove(path);
+					continue;
+				} else if (!tarEntry.isFile() || tarEntry.isCharacterDevice() || tarEntry.isBlockDevice() || tarEntry.isFIFO()) {
+					continue;
+				}
+			} else if (entry instanceof ZipArchiveEntry && ((ZipArchiveEntry)entry).isUnixSymlink()) {
+				String target = new String(ByteStreams.toByteArray(archiveStream), StandardCharsets.UTF_8);
+				linkTargets.put(path, resolveLinkTarget(path, target));
+				checksums.remove(path);
+				continue;
+			}
+			checksums.put(path, checksumGenerator.getChecksums(archiveStream));
+			linkTargets.remove(path);
+		}
+		if (!linkTargets.isEmpty()) {
+			addLinkedFiles(checksums, linkTargets, skipRules, prunedDirectories);
+		}
+		List<String> fileSha1s = Lists.newArrayList();
+		for (Map.Entry<String, Checksum[]> fileEntry:checksums.entrySet()) {
+			String path = fileEntry.getKey();
+			if (skipRules.isSkippedFile(path)) {
+				skippedFiles.add(path);
+			} else {
+				fileSha1s.add(checksumGenerator.getSha1(fileEntry.getValue()));
+				if (fileChecksums != null) {
+					fileChecksums.put(path, fileEntry.getValue());
+				}
+			}
+		}
+		return fileSha1s;
+	}
+
+	/**
+	 * Add the files reached through links to the checksums
+	 * @param checksums normalized paths of the files in the archive to their checksums - the linked files are added
+	 * @param linkTargets normalized paths of the links in the archive to their normalized targets or null if outside the archive
+	 * @param skipRules
+	 * @param prunedDirectories results for directories already checked
+	 */
+	private static void addLinkedFiles(Map<String, Checksum[]> checksums, Map<String, String> linkTargets,
+			SkipRules skipRules, Map<String, Boolean> prunedDirectories) {
+		Map<String, Set<String>> directoryEntries = Maps.newHashMap();
+		for (String path:checksums.keySet()) {
+			addDirectoryEntry(path, directoryEntries);
+		}
+		for (String path:linkTargets.keySet()) {
+			addDirectoryEntry(path, directoryEntries);
+		}
+		Map<String, Checksum[]> linkedChecksums = Maps.newHashMap();
+		for (String linkPath:linkTargets.keySet()) {
+			Set<String> ancestors = Sets.newHashSet();
+			for (String directory = parentDirectory(linkPath); directory != null; directory = parentDirectory(directory)) {
+				ancestors.add(directory);
+			}
+			followLink(linkPath, linkPath, checksums, linkTargets, directoryEntries, ancestors, linkedChecksums);
+		}
+		for (Map.Entry<String, Checksum[]> linkedFile:linkedChecksums.entrySet()) {
+			if (!isInPrunedDirectory(linkedFile.getKey(), skipRules, prunedDirectories)) {
+				checksums.put(linkedFile.getKey(), linkedFile.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Add the file or the files in the directory a link refers to
+	 * @param path path of the link including any links to the directories containing it
+	 * @param linkPath normalized path of the link in the archive
+	 * @param checksums
+	 * @param linkTargets
+	 * @param directoryEntries paths of the files and links in each directory
+	 * @param ancestors archive paths of the directories containing <code>path</code>
+	 * @param linkedChecksums the files reached through the link are added
+	 */
+	private static void followLink(String path, String linkPath, Map<String, Checksum[]> checksums,
+			Map<String, String> linkTargets, Map<String, Set<String>> directoryEntries,
+			Set<String> ancestors, Map<String, Checksum[]> linkedChecksums) {
+		String target = resolvePath(linkPath, linkTargets);
+		if (target == null) {
+			return;
+		}
+		Checksum[] targetChecksums = checksums.get(target);
+		if (targetChecksums != null) {
+			linkedChecksums.put(path, targetChecksums);
+		} else if (directoryEntries.containsKey(target) && !ancestors.contains(target)) {
+			addDirectoryFiles(path, target, checksums, linkTargets, directoryEntries, ancestors, linkedChecksums);
+		}
+	}
+
+	/**
+	 * Add the files below a directory reached through a link
+	 * @param path path of the directory including the link
+	 * @param directory normalized path of the directory in the archive
+	 * @param checksums
+	 * @param linkTargets
+	 * @param directoryEntries paths of the files and links in each directory
+	 * @param ancestors archive paths of the directories containing <code>path</code>
+	 * @param linkedChecksums the files below the directory are added
+	 */
+	private static void addDirectoryFiles(String path, String directory, Map<String, Checksum[]> checksums,
+			Map<String, String> linkTargets, Map<String, Set<String>> directoryEntries,
+			Set<String> ancestors, Map<String, Checksum[]> linkedChecksums) {
+		ancestors.add(directory);
+		for (String entry:directoryEntries.get(directory)) {
+			String entryPath = path + entry.substring(directory.length());
+			Checksum[] entryChecksums = checksums.get(entry);
+			if (entryChecksums != null) {
+				linkedChecksums.put(entryPath, entryChecksums);
+			} else if (linkTargets.containsKey(entry)) {
+				followLink(entryPath, entry, checksums, linkTargets, directoryEntries, ancestors, linkedChecksums);
+			} else {
+				addDirectoryFiles(entryPath, entry, checksums, linkTargets, directoryEntries, ancestors, linkedChecksums);
+			}
+		}
+		ancestors.remove(directory);
+	}
+
+	/**
+	 * Add a file or link to the entries of the directory containing it and of all parent directories
+	 * @param path normalized path
+	 * @param directoryEntries
+	 */
+	private static void addDirectoryEntry(String path, Map<String, Set<String>> directoryEntries) {
+		String directory = parentDirectory(path);
+		while (directory != null) {
+			Set<String> entries = directoryEntries.get(directory);
+			boolean newDirectory = entries == null;
+			if (newDirectory) {
+				entries = Sets.newHashSet();
+				directoryEntries.put(directory, entries);
+			}
+			if (!entries.add(path) || !newDirectory) {
+				return;
+			}
+			path = directory;
+			directory = parentDirectory(path);
+		}
+	}
+
+	/**
+	 * @param path normalized path
+	 * @return the normalized path of the directory containing the path or null for the root of the archive
+	 */
+	private static String parentDirectory(String path) {
+		int separator = path.lastIndexOf('/');
+		return separator > 0 ? path.substring(0, separator) : null;
+	}
+
+	/**
+	 * Replace the links in a path with their targets
+	 * @param path normalized path
+	 * @param linkTargets
+	 * @return path without any links or null if a link is outside of the archive or the links form a loop
+	 */
+	private static String resolvePath(String path, Map<String, String> linkTargets) {
+		for (int i = 0; i <= linkTargets.size(); i++) {
+			String link = null;
+			int separator = path.indexOf('/', 2);
+			while (link == null && separator > 0) {
+				if (linkTargets.containsKey(path.substring(0, separator))) {
+					link = path.substring(0, separator);
+				}
+				separator = path.indexOf('/', separator + 1);
+			}
+			if (link == null) {
+				if (!linkTargets.containsKey(path)) {
+					return path;
+				}
+				link = path;
+			}
+			String target = linkTargets.get(link);
+			if (target == null) {
+				return null;
+			}
+			path = target + path.substring(link.length());
+		}
+		return null;
+	}
+
+	/**
+	 * @param path normalized file path
+	 * @param skipRules
+	 * @param prunedDirectories results for directories already checked
+	 * @return true if any of the directories containing the file are pruned
+	 */
+	private static boolean isInPrunedDirectory(String path, SkipRules skipRules, Map<String, Boolean> prunedDirectories) {
+		int separator = path.indexOf('/', 2);
+		while (separator > 0) {
+			String directory = path.substring(0, separator);
+			Boolean pruned = prunedDirectories.get(directory);
+			if (pruned == null) {
+				pruned = skipRules.isPrunedDirectory(directory);
+				prunedDirectories.put(directory, pruned);
+			}
+			if (pruned) {
+				return true;
+			}
+			separator = path.indexOf('/', separator + 1);
+		}
+		return false;
+	}
+
+	/**
+	 * Open an archive stream detecting the compression and archive formats
+	 * @param in
+	 * @return
+	 * @throws IOException
+	 */
+	private static ArchiveInputStream openArchive(InputStream in) throws IOException {
+		InputStream archiveIn = new BufferedInputStream(in);
+		try {
+			String compression = CompressorStreamFactory.detect(archiveIn);
+			archiveIn = new BufferedInputStream(new CompressorStreamFactory().createCompressorInputStream(compression, archiveIn));
+		} catch (CompressorException e) {
+			// not compressed
+		}
+		try {
+			return new ArchiveStreamFactory().createArchiveInputStream(archiveIn);
+		} catch (ArchiveException e) {
+			throw(new IOException("Unsupported archive format: "+e.getMessage(), e));
+		}
+	}
+
+	/**
+	 * @param linkPath normalized path of the link
+	 * @param linkTarget target of the link relative to the directory containing the link
+	 * @return normalized path of the target or null if the target is outside of the archive
+	 */
+	private static String resolveLinkTarget(String linkPath, String linkTarget) {
+		if (linkTarget.startsWith("/")) {
+			return null;	// outside of the archive
+		}
+		// each .. refers to the parent directory as it does in the file system rather than
+		// removing only the preceding name as normalizeFilePath does
+		List<String> names = Lists.newArrayList(linkPath.split("/"));
+		names.remove(names.size() - 1);
+		for (String name:linkTarget.split("/")) {
+			if (name.equals("..")) {
+				if (names.size() <= 1) {
+					return null;	// above the root of the archive
+				}
+				names.remove(names.size() - 1);
+			} else if (!name.isEmpty() && !name.equals(".")) {
+				names.add(name);
+			}
+		}
+		return normalizeFilePath(Joiner.on('/').join(names));
+	}
+}
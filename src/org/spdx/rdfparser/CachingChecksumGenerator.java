@@ -0,0 +1,289 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+import com.google.common.collect.Maps;
+
+import au.com.bytecode.opencsv.CSVReader;
+import au.com.bytecode.opencsv.CSVWriter;
+
+/**
+ * Checksum generator which keeps the checksums in a file on disk so that files which
+ * have not changed are not hashed again.
+ *
+ * A cached checksum is used only if the size, last modified time and, where the file system
+ * supports it, the file key (inode) of the file all match the cached values.  Files modified
+ * within <code>RACY_INTERVAL_MILLIS</code> of being hashed are not cached since a later change
+ * may not alter the modified time.
+ *
+ * Each entry keeps the checksum for every algorithm calculated for the file and the header of
+ * the cache file lists the algorithms stored.  A <code>MultiChecksumGenerator</code> calculates all
+ * of its algorithms and the checksums of files found in the cache are added to its collected
+ * checksums.  Any other generator is assumed to produce SHA1 checksums.  An entry missing one of
+ * the algorithms of the generator is treated as a cache miss.
+ *
+ * The cache is read when the generator is created and written by <code>save()</code>.
+ * A cache file which can not be parsed is ignored and replaced on save.
+ * The generator is safe to use from multiple threads if the underlying generator is.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class CachingChecksumGenerator implements IFileChecksumGenerator {
+
+	static final String CACHE_HEADER = "SPDX Checksum Cache";
+	static final String CACHE_VERSION = "2";
+	static final long RACY_INTERVAL_MILLIS = 2000;
+	static final int NUM_ENTRY_ATTRIBUTES = 4;
+
+	/**
+	 * Cached checksums and the file attributes at the time the checksums were calculated
+	 */
+	private static class CacheEntry {
+		long size;
+		long lastModified;
+		String fileKey;
+		Map<ChecksumAlgorithm, String> checksums;
+
+		CacheEntry(long size, long lastModified, String fileKey, Map<ChecksumAlgorithm, String> checksums) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.fileKey = fileKey;
+			this.checksums = checksums;
+		}
+
+		boolean matches(long size, long lastModified, String fileKey) {
+			return this.size == size && this.lastModified == lastModified &&
+					this.fileKey.equals(fileKey);
+		}
+
+		boolean hasAll(ChecksumAlgorithm[] algorithms) {
+			for (ChecksumAlgorithm algorithm:algorithms) {
+				if (!checksums.containsKey(algorithm)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private IFileChecksumGenerator fileChecksumGenerator;
+	/**
+	 * Underlying generator if it calculates multiple algorithms - otherwise null
+	 */
+	private MultiChecksumGenerator multiChecksumGenerator = null;
+	/**
+	 * Algorithms calculated by the underlying generator
+	 */
+	private ChecksumAlgorithm[] algorithms;
+	/**
+	 * Algorithms stored in the cache file - those in the loaded file and those of the generator
+	 */
+	private Set<ChecksumAlgorithm> cacheAlgorithms = Collections.synchronizedSet(EnumSet.noneOf(ChecksumAlgorithm.class));
+	private File cacheFile;
+	private ConcurrentMap<String, CacheEntry> cache = Maps.newConcurrentMap();
+	private AtomicInteger numHits = new AtomicInteger();
+	private AtomicInteger numMisses = new AtomicInteger();
+
+	/**
+	 * @param fileChecksumGenerator generator used for files not in the cache
+	 * @param cacheFile file storing the cache - the file is created by <code>save()</code> if it does not exist
+	 * @throws IOException if the cache file exists and can not be read
+	 */
+	public CachingChecksumGenerator(IFileChecksumGenerator fileChecksumGenerator, File cacheFile) throws IOException {
+		this.fileChecksumGenerator = fileChecksumGenerator;
+		if (fileChecksumGenerator instanceof MultiChecksumGenerator) {
+			this.multiChecksumGenerator = (MultiChecksumGenerator)fileChecksumGenerator;
+			this.algorithms = multiChecksumGenerator.getAlgorithms();
+		} else {
+			this.algorithms = new ChecksumAlgorithm[] {ChecksumAlgorithm.checksumAlgorithm_sha1};
+		}
+		this.cacheFile = cacheFile;
+		if (cacheFile.exists()) {
+			load();
+		}
+		cacheAlgorithms.addAll(Arrays.asList(algorithms));
+	}
+
+	/**
+	 * Read the cache file
+	 * @throws IOException
+	 */
+	private void load() throws IOException {
+		try (Reader reader = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8)) {
+			CSVReader csvReader = new CSVReader(reader);
+			String[] row = csvReader.readNext();
+			if (row == null || row.length < 3 || !CACHE_HEADER.equals(row[0]) || !CACHE_VERSION.equals(row[1])) {
+				return;	// not a cache file - it will be replaced on save
+			}
+			ChecksumAlgorithm[] fileAlgorithms = new ChecksumAlgorithm[row.length - 2];
+			try {
+				for (int i = 0; i < fileAlgorithms.length; i++) {
+					fileAlgorithms[i] = ChecksumAlgorithm.valueOf(row[i + 2]);
+				}
+			} catch (IllegalArgumentException e) {
+				return;	// unknown algorithm - the cache will be replaced on save
+			}
+			cacheAlgorithms.addAll(Arrays.asList(fileAlgorithms));
+			while ((row = csvReader.readNext()) != null) {
+				if (row.length != NUM_ENTRY_ATTRIBUTES + fileAlgorithms.length) {
+					continue;
+				}
+				Map<ChecksumAlgorithm, String> checksums = new EnumMap<ChecksumAlgorithm, String>(ChecksumAlgorithm.class);
+				for (int i = 0; i < fileAlgorithms.length; i++) {
+					String checksum = row[NUM_ENTRY_ATTRIBUTES + i];
+					if (!checksum.isEmpty()) {
+						checksums.put(fileAlgorithms[i], checksum);
+					}
+				}
+				try {
+					cache.put(row[0], new CacheEntry(Long.parseLong(row[1]), Long.parseLong(row[2]), row[3], checksums));
+				} catch (NumberFormatException e) {
+					// ignore the invalid entry - the file will be hashed again
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write the cache file.  Entries for files which no longer exist are removed.
+	 * @throws IOException
+	 */
+	public synchronized void save() throws IOException {
+		ChecksumAlgorithm[] fileAlgorithms;
+		synchronized(cacheAlgorithms) {
+			fileAlgorithms = cacheAlgorithms.toArray(new ChecksumAlgorithm[cacheAlgorithms.size()]);
+		}
+		String[] header = new String[fileAlgorithms.length + 2];
+		header[0] = CACHE_HEADER;
+		header[1] = CACHE_VERSION;
+		for (int i = 0; i < fileAlgorithms.length; i++) {
+			header[i + 2] = fileAlgorithms[i].toString();
+		}
+		File parent = cacheFile.getAbsoluteFile().getParentFile();
+		File tempFile = File.createTempFile(cacheFile.getName(), ".tmp", parent);
+		try {
+			try (Writer writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+				CSVWriter csvWriter = new CSVWriter(writer);
+				csvWriter.writeNext(header);
+				String[] row = new String[NUM_ENTRY_ATTRIBUTES + fileAlgorithms.length];
+				for (Map.Entry<String, CacheEntry> entry:cache.entrySet()) {
+					if (!new File(entry.getKey()).exists()) {
+						continue;
+					}
+					CacheEntry value = entry.getValue();
+					row[0] = entry.getKey();
+					row[1] = String.valueOf(value.size);
+					row[2] = String.valueOf(value.lastModified);
+					row[3] = value.fileKey;
+					for (int i = 0; i < fileAlgorithms.length; i++) {
+						String checksum = value.checksums.get(fileAlgorithms[i]);
+						row[NUM_ENTRY_ATTRIBUTES + i] = checksum == null ? "" : checksum;
+					}
+					csvWriter.writeNext(row);
+				}
+				csvWriter.flush();
+			}
+			Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.IFileChecksumGenerator#getFileChecksum(java.io.File)
+	 */
+	@Override
+	public String getFileChecksum(File file) throws IOException {
+		String path = file.getAbsolutePath();
+		BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+		Object key = attributes.fileKey();
+		String fileKey = key == null ? "" : key.toString();
+		CacheEntry entry = cache.get(path);
+		if (entry != null && entry.matches(size, lastModified, fileKey) && entry.hasAll(algorithms)) {
+			numHits.incrementAndGet();
+			if (multiChecksumGenerator != null) {
+				Checksum[] checksums = new Checksum[algorithms.length];
+				for (int i = 0; i < algorithms.length; i++) {
+					checksums[i] = new Checksum(algorithms[i], entry.checksums.get(algorithms[i]));
+				}
+				multiChecksumGenerator.collectChecksums(file, checksums);
+			}
+			return entry.checksums.get(ChecksumAlgorithm.checksumAlgorithm_sha1);
+		}
+		numMisses.incrementAndGet();
+		long hashTime = System.currentTimeMillis();
+		Map<ChecksumAlgorithm, String> checksums = new EnumMap<ChecksumAlgorithm, String>(ChecksumAlgorithm.class);
+		if (entry != null && entry.matches(size, lastModified, fileKey)) {
+			checksums.putAll(entry.checksums);	// keep the other algorithms for the unchanged file
+		}
+		String sha1;
+		if (multiChecksumGenerator != null) {
+			Checksum[] fileChecksums = multiChecksumGenerator.getFileChecksums(file);
+			for (Checksum checksum:fileChecksums) {
+				checksums.put(checksum.getAlgorithm(), checksum.getValue());
+			}
+			sha1 = multiChecksumGenerator.getSha1(fileChecksums);
+		} else {
+			sha1 = fileChecksumGenerator.getFileChecksum(file);
+			checksums.put(ChecksumAlgorithm.checksumAlgorithm_sha1, sha1);
+		}
+		if (attributes.lastModifiedTime().toMillis() < hashTime - RACY_INTERVAL_MILLIS) {
+			cache.put(path, new CacheEntry(size, lastModified, fileKey, checksums));
+		} else {
+			cache.remove(path);
+		}
+		return sha1;
+	}
+
+	/**
+	 * @return number of checksums returned from the cache
+	 */
+	public int getNumHits() {
+		return numHits.get();
+	}
+
+	/**
+	 * @return number of checksums calculated by the underlying generator
+	 */
+	public int getNumMisses() {
+		return numMisses.get();
+	}
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+/**
+ * Normalization of the file paths used in SPDX documents.
+ *
+ * Paths which are already normalized are recognized by a single scan and returned
+ * unchanged.  "\" separators are replaced using <code>String.replace</code> and paths which
+ * then only need the "./" prefix are concatenated with it.  Paths containing "./" or "../"
+ * references are copied once into a char array which is then compacted in place rather than
+ * being split into intermediate strings.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public final class FilePathNormalizer {
+
+	static final char DOS_SEPARATOR = '\\';
+	static final char UNIX_SEPARATOR = '/';
+
+	private FilePathNormalizer() {
+		// static methods only
+	}
+
+	/**
+	 * Normalize a file path as used in the package verification code:
+	 *  - "\" is converted to "/" and surrounding white space is removed
+	 *  - directories followed by ".." and the ".." references are removed
+	 *  - "./" references are removed
+	 *  - the path starts with "./"
+	 * @param filePath
+	 * @return the normalized path - filePath itself if it is already normalized
+	 */
+	public static String normalizeFilePath(String filePath) {
+		if (isNormalizedFilePath(filePath)) {
+			return filePath;
+		}
+		filePath = filePath.replace(DOS_SEPARATOR, UNIX_SEPARATOR);	// returns filePath if there are no DOS separators
+		int start = 0;
+		int end = filePath.length();
+		while (start < end && filePath.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && filePath.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (isPlainPath(filePath, start, end)) {
+			// only the prefix needs to be added
+			String path = filePath.substring(start, end);
+			return start < end && path.charAt(0) == UNIX_SEPARATOR ? "." + path : "./" + path;
+		}
+		// the path is copied after 2 characters reserved for the "./" prefix
+		char[] chars = new char[end - start + 2];
+		int len = 2;
+		boolean parentReference = false;
+		for (int i = start; i < end; i++) {
+			char c = filePath.charAt(i);
+			if (c == UNIX_SEPARATOR && len > 3 && chars[len - 1] == '.' && chars[len - 2] == '.') {
+				parentReference = true;
+			}
+			chars[len++] = c;
+		}
+		if (parentReference) {
+			len = removeParentReferences(chars, len);
+		}
+		len = removeCurrentDirReferences(chars, len);
+		if (len > 2 && chars[2] == UNIX_SEPARATOR) {
+			chars[1] = '.';
+			return new String(chars, 1, len - 1);
+		} else {
+			chars[0] = '.';
+			chars[1] = UNIX_SEPARATOR;
+			return new String(chars, 0, len);
+		}
+	}
+
+	/**
+	 * @param filePath
+	 * @return true if <code>normalizeFilePath</code> would return the same path
+	 */
+	static boolean isNormalizedFilePath(String filePath) {
+		int len = filePath.length();
+		if (len < 2 || filePath.charAt(0) != '.' || filePath.charAt(1) != UNIX_SEPARATOR ||
+				filePath.charAt(len - 1) <= ' ') {
+			return false;
+		}
+		char previous = UNIX_SEPARATOR;
+		for (int i = 2; i < len; i++) {
+			char c = filePath.charAt(i);
+			if (c == DOS_SEPARATOR) {
+				return false;
+			}
+			if (c == UNIX_SEPARATOR && (i == 2 || previous == '.')) {
+				return false;
+			}
+			previous = c;
+		}
+		return true;
+	}
+
+	/**
+	 * @param filePath
+	 * @param start
+	 * @param end
+	 * @return true if the path between start and end contains no "./"
+	 */
+	private static boolean isPlainPath(String filePath, int start, int end) {
+		char previous = UNIX_SEPARATOR;
+		for (int i = start; i < end; i++) {
+			char c = filePath.charAt(i);
+			if (c == UNIX_SEPARATOR && previous == '.') {
+				return false;
+			}
+			previous = c;
+		}
+		return true;
+	}
+
+	/**
+	 * Remove the "/" separated segments which are ".." or are followed by ".." compacting
+	 * the array in place.  Trailing empty segments are dropped.
+	 * @param chars path starting at index 2
+	 * @param len end of the path
+	 * @return new end of the path
+	 */
+	private static int removeParentReferences(char[] chars, int len) {
+		int end = len;
+		while (end > 2 && chars[end - 1] == UNIX_SEPARATOR) {
+			end--;
+		}
+		int write = 2;
+		int segmentStart = 2;
+		boolean first = true;
+		while (segmentStart <= end) {
+			int segmentEnd = indexOfSeparator(chars, segmentStart, end);
+			boolean nextIsParent = false;
+			if (segmentEnd < end) {
+				int nextStart = segmentEnd + 1;
+				nextIsParent = isParent(chars, nextStart, indexOfSeparator(chars, nextStart, end));
+			}
+			if (!nextIsParent && !isParent(chars, segmentStart, segmentEnd)) {
+				if (!first) {
+					chars[write++] = UNIX_SEPARATOR;
+				}
+				int segmentLen = segmentEnd - segmentStart;
+				System.arraycopy(chars, segmentStart, chars, write, segmentLen);
+				write += segmentLen;
+			}
+			first = false;
+			segmentStart = segmentEnd + 1;
+		}
+		return write;
+	}
+
+	private static int indexOfSeparator(char[] chars, int from, int end) {
+		for (int i = from; i < end; i++) {
+			if (chars[i] == UNIX_SEPARATOR) {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	private static boolean isParent(char[] chars, int start, int end) {
+		return end - start == 2 && chars[start] == '.' && chars[start + 1] == '.';
+	}
+
+	/**
+	 * Remove every "./" scanning from left to right without rescanning the result,
+	 * compacting the array in place
+	 * @param chars path starting at index 2
+	 * @param len end of the path
+	 * @return new end of the path
+	 */
+	private static int removeCurrentDirReferences(char[] chars, int len) {
+		int write = 2;
+		int read = 2;
+		while (read < len) {
+			if (chars[read] == '.' && read + 1 < len && chars[read + 1] == UNIX_SEPARATOR) {
+				read += 2;
+			} else {
+				chars[write++] = chars[read++];
+			}
+		}
+		return write;
+	}
+
+	/**
+	 * Normalize a file name for comparison: "\" is converted to "/" and the name starts with "./"
+	 * @param fileName
+	 * @return the normalized name - fileName itself if it is already normalized
+	 */
+	public static String normalizeFileName(String fileName) {
+		String retval = fileName.replace(DOS_SEPARATOR, UNIX_SEPARATOR);	// returns fileName if there are no DOS separators
+		if (retval.length() >= 2 && retval.charAt(0) == '.' && retval.charAt(1) == UNIX_SEPARATOR) {
+			return retval;
+		}
+		return "./" + retval;
+	}
+}
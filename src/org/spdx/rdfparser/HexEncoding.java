@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+/**
+ * Table driven conversion of message digest bytes to the lower case hex strings used
+ * for SPDX checksum values.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public final class HexEncoding {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private HexEncoding() {
+		// static utility methods only
+	}
+
+	/**
+	 * Convert digest bytes to a lower case hex string
+	 * @param bytes
+	 * @return
+	 */
+	public static String toHex(byte[] bytes) {
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+			hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+		}
+		return new String(hex);
+	}
+}
@@ -50,16 +50,7 @@ public class JavaSha1ChecksumGenerator implements IFileChecksumGenerator {
 				digest.update(buffer, 0, numBytes);
 				numBytes = in.read(buffer);
 			}
-			byte[] digestBytes = digest.digest();
-			StringBuilder sb = new StringBuilder();
-			for (int i = 0; i < digestBytes.length; i++) {
-				String hex = Integer.toHexString(0xff & digestBytes[i]);
-				if (hex.length() < 2) {
-					sb.append('0');
-				}
-				sb.append(hex);
-			}
-			return sb.toString();
+			return HexEncoding.toHex(digest.digest());
 		} finally {
 			in.close();
 		}
@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+/**
+ * Checksum generator which calculates the checksums for several algorithms while
+ * reading each file only once.
+ *
+ * The file is read through a direct buffer and each buffer full of data is fed to all
+ * of the message digests before the next read.  The generator can be passed to
+ * <code>VerificationCodeGenerator</code> - <code>getFileChecksum</code> returns the SHA1
+ * used for the verification code and the checksums for all of the algorithms are retained
+ * and available from <code>getCollectedChecksums</code>.
+ *
+ * Each thread uses its own digests and buffer, so the same generator can be used by
+ * <code>ParallelVerificationCodeGenerator</code>.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class MultiChecksumGenerator implements IFileChecksumGenerator {
+
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Java message digest algorithm names for the SPDX checksum algorithms.  MD4 and MD6
+	 * are not supported by the Java security providers.
+	 */
+	public static final ImmutableMap<ChecksumAlgorithm, String> CHECKSUM_ALGORITHM_TO_DIGEST =
+			new ImmutableMap.Builder<ChecksumAlgorithm, String>()
+				.put(ChecksumAlgorithm.checksumAlgorithm_sha1, "SHA-1")
+				.put(ChecksumAlgorithm.checksumAlgorithm_sha256, "SHA-256")
+				.put(ChecksumAlgorithm.checksumAlgorithm_md5, "MD5")
+				.put(ChecksumAlgorithm.checksumAlgorithm_sha224, "SHA-224")
+				.put(ChecksumAlgorithm.checksumAlgorithm_sha384, "SHA-384")
+				.put(ChecksumAlgorithm.checksumAlgorithm_sha512, "SHA-512")
+				.put(ChecksumAlgorithm.checksumAlgorithm_md2, "MD2")
+				.build();
+
+	/**
+	 * Digests and read buffer used by a single thread
+	 */
+	private class DigestState {
+		MessageDigest[] digests = new MessageDigest[algorithms.length];
+		ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		byte[] bytes = null;
+
+		DigestState() throws NoSuchAlgorithmException {
+			for (int i = 0; i < algorithms.length; i++) {
+				digests[i] = MessageDigest.getInstance(CHECKSUM_ALGORITHM_TO_DIGEST.get(algorithms[i]));
+			}
+		}
+	}
+
+	private ChecksumAlgorithm[] algorithms;
+	private int sha1Index = -1;
+	private boolean collectChecksums;
+	private ConcurrentMap<File, Checksum[]> collectedChecksums = Maps.newConcurrentMap();
+	private ThreadLocal<DigestState> digestState = new ThreadLocal<DigestState>() {
+		@Override
+		protected DigestState initialValue() {
+			try {
+				return new DigestState();
+			} catch (NoSuchAlgorithmException e) {
+				// checked in the constructor
+				throw(new RuntimeException("Message digest is not available", e));
+			}
+		}
+	};
+
+	/**
+	 * Create a generator which retains the checksums of every file passed to <code>getFileChecksum</code>
+	 * @param algorithms Algorithms to calculate - SHA1 is always calculated
+	 * @throws NoSuchAlgorithmException if one of the algorithms is not supported
+	 */
+	public MultiChecksumGenerator(ChecksumAlgorithm... algorithms) throws NoSuchAlgorithmException {
+		this(true, algorithms);
+	}
+
+	/**
+	 * @param collectChecksums if true, retain the checksums of every file passed to <code>getFileChecksum</code>
+	 * @param algorithms Algorithms to calculate - SHA1 is always calculated
+	 * @throws NoSuchAlgorithmException if one of the algorithms is not supported
+	 */
+	public MultiChecksumGenerator(boolean collectChecksums, ChecksumAlgorithm... algorithms) throws NoSuchAlgorithmException {
+		this.collectChecksums = collectChecksums;
+		int numAlgorithms = 0;
+		ChecksumAlgorithm[] uniqueAlgorithms = new ChecksumAlgorithm[algorithms.length + 1];
+		for (ChecksumAlgorithm algorithm:algorithms) {
+			boolean found = false;
+			for (int i = 0; i < numAlgorithms; i++) {
+				if (uniqueAlgorithms[i] == algorithm) {
+					found = true;
+					break;
+				}
+			}
+			if (!found) {
+				String digestName = CHECKSUM_ALGORITHM_TO_DIGEST.get(algorithm);
+				if (digestName == null) {
+					throw(new NoSuchAlgorithmException("Unsupported checksum algorithm: "+algorithm));
+				}
+				MessageDigest.getInstance(digestName);
+				if (algorithm == ChecksumAlgorithm.checksumAlgorithm_sha1) {
+					sha1Index = numAlgorithms;
+				}
+				uniqueAlgorithms[numAlgorithms++] = algorithm;
+			}
+		}
+		if (sha1Index < 0) {
+			MessageDigest.getInstance(CHECKSUM_ALGORITHM_TO_DIGEST.get(ChecksumAlgorithm.checksumAlgorithm_sha1));
+			sha1Index = numAlgorithms;
+			uniqueAlgorithms[numAlgorithms++] = ChecksumAlgorithm.checksumAlgorithm_sha1;
+		}
+		this.algorithms = new ChecksumAlgorithm[numAlgorithms];
+		System.arraycopy(uniqueAlgorithms, 0, this.algorithms, 0, numAlgorithms);
+	}
+
+	/**
+	 * @return the algorithms calculated for each file in the order the checksums are returned
+	 */
+	public ChecksumAlgorithm[] getAlgorithms() {
+		return algorithms.clone();
+	}
+
+	/**
+	 * Calculate the checksums for all of the algorithms reading the file once
+	 * @param file
+	 * @return checksums in the same order as <code>getAlgorithms()</code>
+	 * @throws IOException
+	 */
+	public Checksum[] getFileChecksums(File file) throws IOException {
+		DigestState state = digestState.get();
+		for (MessageDigest digest:state.digests) {
+			digest.reset();
+		}
+		ByteBuffer buffer = state.buffer;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			buffer.clear();
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				int limit = buffer.limit();
+				for (MessageDigest digest:state.digests) {
+					buffer.position(0);
+					buffer.limit(limit);
+					digest.update(buffer);
+				}
+				buffer.clear();
+			}
+		}
+		Checksum[] retval = getChecksums(state);
+		collectChecksums(file, retval);
+		return retval;
+	}
+
+	/**
+	 * Retain the checksums for a file if this generator collects checksums.  Used for
+	 * checksums calculated earlier by this generator, e.g. by <code>CachingChecksumGenerator</code>.
+	 * @param file
+	 * @param checksums checksums in the same order as <code>getAlgorithms()</code>
+	 */
+	void collectChecksums(File file, Checksum[] checksums) {
+		if (collectChecksums) {
+			collectedChecksums.put(file, checksums);
+		}
+	}
+
+	/**
+	 * Calculate the checksums for all of the algorithms reading the stream once.  The stream
+	 * is read to the end but not closed.
+	 * @param in
+	 * @return checksums in the same order as <code>getAlgorithms()</code>
+	 * @throws IOException
+	 */
+	public Checksum[] getChecksums(InputStream in) throws IOException {
+		DigestState state = digestState.get();
+		for (MessageDigest digest:state.digests) {
+			digest.reset();
+		}
+		if (state.bytes == null) {
+			state.bytes = new byte[BUFFER_SIZE];
+		}
+		byte[] bytes = state.bytes;
+		int numBytes = in.read(bytes);
+		while (numBytes >= 0) {
+			for (MessageDigest digest:state.digests) {
+				digest.update(bytes, 0, numBytes);
+			}
+			numBytes = in.read(bytes);
+		}
+		return getChecksums(state);
+	}
+
+	/**
+	 * @param state state containing the completed digests
+	 * @return the checksums from the digests
+	 */
+	private Checksum[] getChecksums(DigestState state) {
+		Checksum[] retval = new Checksum[algorithms.length];
+		for (int i = 0; i < algorithms.length; i++) {
+			retval[i] = new Checksum(algorithms[i], HexEncoding.toHex(state.digests[i].digest()));
+		}
+		return retval;
+	}
+
+	/**
+	 * @param checksums checksums returned by this generator
+	 * @return the SHA1 value from the checksums
+	 */
+	public String getSha1(Checksum[] checksums) {
+		return checksums[sha1Index].getValue();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.rdfparser.IFileChecksumGenerator#getFileChecksum(java.io.File)
+	 */
+	@Override
+	public String getFileChecksum(File file) throws IOException {
+		return getSha1(getFileChecksums(file));
+	}
+
+	/**
+	 * @return checksums for each file passed to <code>getFileChecksum</code> or <code>getFileChecksums</code>
+	 */
+	public Map<File, Checksum[]> getCollectedChecksums() {
+		return Collections.unmodifiableMap(collectedChecksums);
+	}
+
+	/**
+	 * Remove all of the collected checksums
+	 */
+	public void clearCollectedChecksums() {
+		collectedChecksums.clear();
+	}
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Generates a package verification code from a directory of source code hashing the files on
+ * multiple threads.
+ *
+ * The directory tree is walked once using NIO and the files are then hashed on a work-stealing
+ * pool.  The verification code is identical to the code produced by <code>VerificationCodeGenerator</code>.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class ParallelVerificationCodeGenerator extends VerificationCodeGenerator {
+
+	/**
+	 * Maximum number of files hashed by a task without splitting it
+	 */
+	static final int FILES_PER_TASK = 8;
+
+	/**
+	 * Checksum generator which uses a separate SHA1 digest for each thread
+	 */
+	private static class ThreadLocalSha1ChecksumGenerator implements IFileChecksumGenerator {
+		private ThreadLocal<JavaSha1ChecksumGenerator> generators = new ThreadLocal<JavaSha1ChecksumGenerator>() {
+			@Override
+			protected JavaSha1ChecksumGenerator initialValue() {
+				try {
+					return new JavaSha1ChecksumGenerator();
+				} catch (NoSuchAlgorithmException e) {
+					throw(new RuntimeException("SHA1 digest is not available", e));
+				}
+			}
+		};
+
+		@Override
+		public String getFileChecksum(File file) throws IOException {
+			return generators.get().getFileChecksum(file);
+		}
+	}
+
+	/**
+	 * Hashes a range of files, splitting the range until it is small enough to hash directly
+	 */
+	private class HashTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private File[] files;
+		private String[] checksums;
+		private int start;
+		private int end;
+
+		HashTask(File[] files, String[] checksums, int start, int end) {
+			this.files = files;
+			this.checksums = checksums;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start <= FILES_PER_TASK) {
+				for (int i = start; i < end; i++) {
+					try {
+						checksums[i] = fileChecksumGenerator.getFileChecksum(files[i]).toLowerCase();
+					} catch (IOException e) {
+						throw(new UncheckedIOException(e));
+					}
+				}
+			} else {
+				int middle = (start + end) >>> 1;
+				invokeAll(new HashTask(files, checksums, start, middle),
+						new HashTask(files, checksums, middle, end));
+			}
+		}
+	}
+
+	private IFileChecksumGenerator fileChecksumGenerator;
+	private int numThreads;
+
+	/**
+	 * Create a generator using SHA1 with one thread per available processor
+	 */
+	public ParallelVerificationCodeGenerator() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Create a generator using SHA1
+	 * @param numThreads number of threads used to hash the files
+	 */
+	public ParallelVerificationCodeGenerator(int numThreads) {
+		this(new ThreadLocalSha1ChecksumGenerator(), numThreads);
+	}
+
+	/**
+	 * @param fileChecksumGenerator generator called for each file - must be safe to call from multiple threads at the same time
+	 * @param numThreads number of threads used to hash the files
+	 */
+	public ParallelVerificationCodeGenerator(IFileChecksumGenerator fileChecksumGenerator, int numThreads) {
+		super(fileChecksumGenerator);
+		this.fileChecksumGenerator = fileChecksumGenerator;
+		this.numThreads = numThreads < 1 ? 1 : numThreads;
+	}
+
+	@Override
+	protected void collectFileData(String prefixForRelative, File sourceDirectory,
+			List<String> fileNameAndChecksums, final SkipRules skipRules, final Set<String> skippedFiles) throws IOException {
+		if (!sourceDirectory.isDirectory()) {
+			return;
+		}
+		final Path root = sourceDirectory.toPath();
+		final int rootLen = prefixForRelative.length()+1;
+		final List<File> files = Lists.newArrayList();
+		// Links are followed and unreadable directories are skipped, the same as File.listFiles()
+		Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+				new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+				if (!dir.equals(root) &&
+						skipRules.isPrunedDirectory(normalizeFilePath(dir.toFile().getAbsolutePath().substring(rootLen)))) {
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				File f = file.toFile();
+				String filePath = normalizeFilePath(f.getAbsolutePath().substring(rootLen));
+				if (skipRules.isSkippedFile(filePath)) {
+					skippedFiles.add(filePath);
+				} else {
+					files.add(f);
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+				if (exc instanceof FileSystemLoopException || Files.isDirectory(file)) {
+					return FileVisitResult.CONTINUE;
+				}
+				throw(exc);
+			}
+
+			@Override
+			public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		if (files.isEmpty()) {
+			return;
+		}
+		File[] fileArray = files.toArray(new File[files.size()]);
+		String[] checksums = new String[fileArray.length];
+		ForkJoinPool pool = new ForkJoinPool(numThreads);
+		try {
+			pool.invoke(new HashTask(fileArray, checksums, 0, fileArray.length));
+		} catch (UncheckedIOException e) {
+			throw(e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+		fileNameAndChecksums.addAll(Arrays.asList(checksums));
+	}
+}
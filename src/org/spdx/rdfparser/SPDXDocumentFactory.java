@@ -108,6 +108,25 @@ public class SPDXDocumentFactory {
 		return createSpdxDocument(spdxRdfInput, figureBaseUri(fileNameOrUrl), fileType(fileNameOrUrl));
 	}
 
+	/**
+	 * Create an SPDX Document from a file in a specific RDF format
+	 * @param fileNameOrUrl local file name or Url containing the SPDX data
+	 * @param fileType RDF language of the file (e.g. RDF/XML, HTML, JSON-LD)
+	 * @return SPDX Document initialized with the exsiting data
+	 * @throws IOException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static SpdxDocument createSpdxDocument(String fileNameOrUrl, String fileType) throws IOException, InvalidSPDXAnalysisException {
+		InputStream spdxRdfInput = FileManager.get().open(fileNameOrUrl);
+		if (spdxRdfInput == null)
+			throw new FileNotFoundException("Unable to open \"" + fileNameOrUrl + "\" for reading");
+		try {
+			return createSpdxDocument(spdxRdfInput, figureBaseUri(fileNameOrUrl), fileType);
+		} finally {
+			spdxRdfInput.close();
+		}
+	}
+
 	public static SpdxDocument createSpdxDocument(InputStream input, String baseUri, String fileType) throws InvalidSPDXAnalysisException {
 		Model model = ModelFactory.createDefaultModel();
 		model.read(input, baseUri, fileType);
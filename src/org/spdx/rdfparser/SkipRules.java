@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.rdfparser;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Rules for the files skipped and the directories pruned when generating a verification code.
+ *
+ * Skipped files are not included in the verification code and are listed as excluded files.
+ * Pruned directories are never descended, so none of the files below them are hashed or listed.
+ *
+ * Rules are either exact file paths, regular expressions or globs.  Regular expressions and globs
+ * are matched against the path relative to the source directory using '/' as the separator and
+ * without a leading "./".  A glob without a '/' matches the file or directory name at any depth,
+ * for example "node_modules" or "*.class".  In a glob, "*" and "?" do not match '/', "**" matches
+ * any number of directories and "{a,b}" matches either alternative.
+ *
+ * All of the regular expressions and globs of each kind are compiled into a single pattern.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class SkipRules {
+
+	private Set<String> skippedFilePaths = Sets.newHashSet();
+	private List<String> skippedFileRegexes = Lists.newArrayList();
+	private List<String> prunedDirectoryRegexes = Lists.newArrayList();
+	private Pattern skippedFilePattern = null;
+	private Pattern prunedDirectoryPattern = null;
+
+	/**
+	 * @param filePath path of a file to skip - normalized using <code>VerificationCodeGenerator.normalizeFilePath</code>
+	 * @return this
+	 */
+	public SkipRules addSkippedFile(String filePath) {
+		skippedFilePaths.add(VerificationCodeGenerator.normalizeFilePath(filePath));
+		return this;
+	}
+
+	/**
+	 * @param regex regular expression matching the relative paths of files to skip
+	 * @return this
+	 */
+	public synchronized SkipRules addSkippedFileRegex(String regex) {
+		Pattern.compile(regex);	// check the syntax
+		skippedFileRegexes.add(regex);
+		skippedFilePattern = null;
+		return this;
+	}
+
+	/**
+	 * @param glob glob matching the relative paths of files to skip
+	 * @return this
+	 */
+	public SkipRules addSkippedFileGlob(String glob) {
+		return addSkippedFileRegex(globToRegex(glob));
+	}
+
+	/**
+	 * @param regex regular expression matching the relative paths of directories which should not be descended
+	 * @return this
+	 */
+	public synchronized SkipRules addPrunedDirectoryRegex(String regex) {
+		Pattern.compile(regex);	// check the syntax
+		prunedDirectoryRegexes.add(regex);
+		prunedDirectoryPattern = null;
+		return this;
+	}
+
+	/**
+	 * @param glob glob matching the relative paths of directories which should not be descended
+	 * @return this
+	 */
+	public SkipRules addPrunedDirectoryGlob(String glob) {
+		return addPrunedDirectoryRegex(globToRegex(glob));
+	}
+
+	/**
+	 * @param normalizedPath file path normalized using <code>VerificationCodeGenerator.normalizeFilePath</code>
+	 * @return true if the file should not be included in the verification code
+	 */
+	public boolean isSkippedFile(String normalizedPath) {
+		if (skippedFilePaths.contains(normalizedPath)) {
+			return true;
+		}
+		Pattern pattern = getSkippedFilePattern();
+		return pattern != null && pattern.matcher(relativePath(normalizedPath)).matches();
+	}
+
+	/**
+	 * @param normalizedPath directory path normalized using <code>VerificationCodeGenerator.normalizeFilePath</code>
+	 * @return true if the directory should not be descended
+	 */
+	public boolean isPrunedDirectory(String normalizedPath) {
+		Pattern pattern = getPrunedDirectoryPattern();
+		return pattern != null && pattern.matcher(relativePath(normalizedPath)).matches();
+	}
+
+	/**
+	 * @return true if there are no rules
+	 */
+	public boolean isEmpty() {
+		return skippedFilePaths.isEmpty() && skippedFileRegexes.isEmpty() && prunedDirectoryRegexes.isEmpty();
+	}
+
+	private synchronized Pattern getSkippedFilePattern() {
+		if (skippedFilePattern == null && !skippedFileRegexes.isEmpty()) {
+			skippedFilePattern = compile(skippedFileRegexes);
+		}
+		return skippedFilePattern;
+	}
+
+	private synchronized Pattern getPrunedDirectoryPattern() {
+		if (prunedDirectoryPattern == null && !prunedDirectoryRegexes.isEmpty()) {
+			prunedDirectoryPattern = compile(prunedDirectoryRegexes);
+		}
+		return prunedDirectoryPattern;
+	}
+
+	/**
+	 * @param regexes
+	 * @return a single pattern matching any of the regular expressions
+	 */
+	private static Pattern compile(List<String> regexes) {
+		if (regexes.size() == 1) {
+			return Pattern.compile(regexes.get(0));
+		}
+		StringBuilder sb = new StringBuilder();
+		for (String regex:regexes) {
+			if (sb.length() > 0) {
+				sb.append('|');
+			}
+			sb.append("(?:").append(regex).append(')');
+		}
+		return Pattern.compile(sb.toString());
+	}
+
+	/**
+	 * @param normalizedPath
+	 * @return the path without the leading "./"
+	 */
+	private static String relativePath(String normalizedPath) {
+		return normalizedPath.startsWith("./") ? normalizedPath.substring(2) : normalizedPath;
+	}
+
+	/**
+	 * Convert a glob to a regular expression
+	 * @param glob
+	 * @return
+	 */
+	static String globToRegex(String glob) {
+		StringBuilder sb = new StringBuilder();
+		String pattern = glob;
+		if (pattern.startsWith("./")) {
+			pattern = pattern.substring(2);
+		} else if (pattern.startsWith("/")) {
+			pattern = pattern.substring(1);
+		} else if (pattern.indexOf('/') < 0) {
+			sb.append("(?:.*/)?");	// match the name in any directory
+		}
+		int braceDepth = 0;
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			if (c == '*') {
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+					i++;
+					if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '/') {
+						i++;
+						sb.append("(?:.*/)?");
+					} else {
+						sb.append(".*");
+					}
+				} else {
+					sb.append("[^/]*");
+				}
+			} else if (c == '?') {
+				sb.append("[^/]");
+			} else if (c == '{') {
+				sb.append("(?:");
+				braceDepth++;
+			} else if (c == '}' && braceDepth > 0) {
+				sb.append(')');
+				braceDepth--;
+			} else if (c == ',' && braceDepth > 0) {
+				sb.append('|');
+			} else if (c == '[' && pattern.indexOf(']', i + 2) > 0) {
+				int end = pattern.indexOf(']', i + 2);
+				sb.append('[');
+				int start = i + 1;
+				if (pattern.charAt(start) == '!') {
+					sb.append('^');
+					start++;
+				}
+				for (int j = start; j < end; j++) {
+					char classChar = pattern.charAt(j);
+					if (classChar == '\\' || classChar == '[' || (classChar == '^' && j == start)) {
+						sb.append('\\');
+					}
+					sb.append(classChar);
+				}
+				sb.append(']');
+				i = end;
+			} else if (c == '\\' && i + 1 < pattern.length()) {
+				i++;
+				appendLiteral(sb, pattern.charAt(i));
+			} else {
+				appendLiteral(sb, c);
+			}
+			i++;
+		}
+		return sb.toString();
+	}
+
+	private static void appendLiteral(StringBuilder sb, char c) {
+		if ("\\.^$|()+*?{}[]".indexOf(c) >= 0) {
+			sb.append('\\');
+		}
+		sb.append(c);
+	}
+}
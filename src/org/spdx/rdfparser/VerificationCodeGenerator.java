@@ -18,7 +18,7 @@ package org.spdx.rdfparser;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
@@ -37,13 +37,16 @@ import com.google.common.collect.Sets;
  * A class implementing the IFileChecksumGenerator is supplied as a parameter to the constructor.
  * The method <code>getFileChecksum</code> is called for each file in the directory.  This can
  * be used as a hook to capture all files in the directory and capture the checksum values at
- * a file level.
+ * a file level.  <code>MultiChecksumGenerator</code> can be used to capture additional checksum
+ * algorithms for each file in the same pass used to calculate the SHA1 for the verification code.
  *
  * @author Gary O'Neall
  *
  */
 public class VerificationCodeGenerator {
 
+	static final int HASH_INPUT_SIZE = 64;
+
 	private IFileChecksumGenerator fileChecksumGenerator;
 
 	public VerificationCodeGenerator(IFileChecksumGenerator fileChecksumGenerator) {
@@ -92,12 +95,14 @@ public class VerificationCodeGenerator {
 		Set<String> skippedFilesPath = Sets.newTreeSet();
 		String rootOfDirectory = sourceDirectory.getAbsolutePath();
 		int rootLen = rootOfDirectory.length()+1;
+		SkipRules skipRules = new SkipRules();
 		for (int i = 0; i < skippedFiles.length; i++) {
 			String skippedPath = normalizeFilePath(skippedFiles[i].getAbsolutePath().substring(rootLen));
 			skippedFilesPath.add(skippedPath);
+			skipRules.addSkippedFile(skippedPath);
 		}
 		List<String> fileChecksums = Lists.newArrayList();
-		collectFileData(rootOfDirectory, sourceDirectory, fileChecksums, skippedFilesPath);
+		collectFileData(rootOfDirectory, sourceDirectory, fileChecksums, skipRules, Sets.<String>newHashSet());
 		String[] skippedFileNames = new String[skippedFilesPath.size()];
 		Iterator<String> iter = skippedFilesPath.iterator();
 		int i = 0;
@@ -107,15 +112,50 @@ public class VerificationCodeGenerator {
 		return generatePackageVerificationCode(fileChecksums, skippedFileNames);
 	}
 
+	/**
+	 * Generate the SPDX Package Verification Code from a directory of files walking the directory once.
+	 * Files skipped by the rules are listed as excluded files and pruned directories are not descended.
+	 * @param sourceDirectory
+	 * @param skipRules rules for the files to skip and directories to prune
+	 * @return
+	 * @throws NoSuchAlgorithmException
+	 * @throws IOException
+	 */
+	public SpdxPackageVerificationCode generatePackageVerificationCode(File sourceDirectory, SkipRules skipRules) throws NoSuchAlgorithmException, IOException {
+		Set<String> skippedFilesPath = Sets.newTreeSet();
+		List<String> fileChecksums = Lists.newArrayList();
+		collectFileData(sourceDirectory.getAbsolutePath(), sourceDirectory, fileChecksums, skipRules, skippedFilesPath);
+		return generatePackageVerificationCode(fileChecksums, skippedFilesPath.toArray(new String[skippedFilesPath.size()]));
+	}
+
 	protected SpdxPackageVerificationCode generatePackageVerificationCode(List<String> fileChecksums,
 			String[] skippedFilePaths) throws NoSuchAlgorithmException {
 		Collections.sort(fileChecksums);
 		MessageDigest verificationCodeDigest = MessageDigest.getInstance("SHA-1");
+		byte[] hashInput = new byte[HASH_INPUT_SIZE];
 		for (int i = 0;i < fileChecksums.size(); i++) {
-			byte[] hashInput = fileChecksums.get(i).getBytes(Charset.forName("UTF-8"));
-			verificationCodeDigest.update(hashInput);
+			String checksum = fileChecksums.get(i);
+			int len = checksum.length();
+			if (len > hashInput.length) {
+				hashInput = new byte[len];
+			}
+			// checksums are normally ASCII hex digits which can be copied without encoding
+			boolean ascii = true;
+			for (int j = 0; j < len; j++) {
+				char c = checksum.charAt(j);
+				if (c >= 0x80) {
+					ascii = false;
+					break;
+				}
+				hashInput[j] = (byte)c;
+			}
+			if (ascii) {
+				verificationCodeDigest.update(hashInput, 0, len);
+			} else {
+				verificationCodeDigest.update(checksum.getBytes(StandardCharsets.UTF_8));
+			}
 		}
-		String value = convertChecksumToString(verificationCodeDigest.digest());
+		String value = HexEncoding.toHex(verificationCodeDigest.digest());
 		SpdxPackageVerificationCode retval = new SpdxPackageVerificationCode(value, skippedFilePaths);
 		return retval;
 	}
@@ -125,10 +165,12 @@ public class VerificationCodeGenerator {
 	 * @param prefixForRelative The portion of the filepath which preceeds the relative file path for the archive
 	 * @param sourceDirectory
 	 * @param fileNameAndChecksums
+	 * @param skipRules rules for the files to skip and directories to prune
+	 * @param skippedFiles the normalized paths of files skipped by the rules are added to this set
 	 * @throws IOException
 	 */
-	private void collectFileData(String prefixForRelative, File sourceDirectory,
-			List<String> fileNameAndChecksums, Set<String> skippedFiles) throws IOException {
+	protected void collectFileData(String prefixForRelative, File sourceDirectory,
+			List<String> fileNameAndChecksums, SkipRules skipRules, Set<String> skippedFiles) throws IOException {
 		if (!sourceDirectory.isDirectory()) {
 			return;
 		}
@@ -137,67 +179,28 @@ public class VerificationCodeGenerator {
 			return;
 		}
 		for (int i = 0; i < filesAndDirs.length; i++) {
+			String filePath = normalizeFilePath(filesAndDirs[i].getAbsolutePath()
+					.substring(prefixForRelative.length()+1));
 			if (filesAndDirs[i].isDirectory()) {
-				collectFileData(prefixForRelative, filesAndDirs[i], fileNameAndChecksums, skippedFiles);
-			} else {
-				String filePath = normalizeFilePath(filesAndDirs[i].getAbsolutePath()
-						.substring(prefixForRelative.length()+1));
-				if (!skippedFiles.contains(filePath)) {
-					String checksumValue = this.fileChecksumGenerator.getFileChecksum(filesAndDirs[i]).toLowerCase();
-					fileNameAndChecksums.add(checksumValue);
+				if (!skipRules.isPrunedDirectory(filePath)) {
+					collectFileData(prefixForRelative, filesAndDirs[i], fileNameAndChecksums, skipRules, skippedFiles);
 				}
+			} else if (skipRules.isSkippedFile(filePath)) {
+				skippedFiles.add(filePath);
+			} else {
+				String checksumValue = this.fileChecksumGenerator.getFileChecksum(filesAndDirs[i]).toLowerCase();
+				fileNameAndChecksums.add(checksumValue);
 			}
 		}
 	}
 
 	/**
-	 * Normalizes a file path per the SPDX spec
+	 * Normalizes a file path per the SPDX spec - see <code>FilePathNormalizer</code>
 	 * @param nonNormalizedFilePath
 	 * @return
 	 */
 	public static String normalizeFilePath(String nonNormalizedFilePath) {
-		String filePath = nonNormalizedFilePath.replace('\\', '/').trim();
-		if (filePath.contains("../")) {
-			// need to remove these references
-			String[] filePathParts = filePath.split("/");
-			StringBuilder normalizedFilePath = new StringBuilder();
-			for (int j = 0; j < filePathParts.length; j++) {
-				if (j+1 < filePathParts.length && filePathParts[j+1].equals("..")) {
-					// skip this directory
-				} else if (filePathParts[j].equals("..")) {
-					// remove these from the filePath
-				} else {
-					if (j > 0) {
-						normalizedFilePath.append('/');
-					}
-					normalizedFilePath.append(filePathParts[j]);
-				}
-			}
-			filePath = normalizedFilePath.toString();
-		}
-		filePath = filePath.replace("./", "");
-		if (!filePath.isEmpty() && filePath.charAt(0) == '/') {
-			filePath = "." + filePath;
-		} else {
-			filePath = "./" + filePath;
-		}
-		return filePath;
-	}
-	/**
-	 * Convert a byte array SHA-1 digest into a 40 character hex string
-	 * @param digest
-	 * @return
-	 */
-	private static String convertChecksumToString(byte[] digest) {
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < digest.length; i++) {
-			String hex = Integer.toHexString(0xff & digest[i]);
-			if (hex.length() < 2) {
-				sb.append('0');
-			}
-			sb.append(hex);
-		}
-		return sb.toString();
+		return FilePathNormalizer.normalizeFilePath(nonNormalizedFilePath);
 	}
 	/**
 	 * @param sourceDirectory
@@ -61,7 +61,7 @@ public class ListedExceptions implements IModelContainer {
 	static final String LISTED_LICENSE_ID_URL = "http://spdx.org/licenses/";
 	private static final String EXCEPTION_TOC_FILENAME = "exceptions.json";
 
-	private Model listedExceptionModel = null;
+	private volatile Model listedExceptionModel = null;
 
 	Set<String> listdExceptionIds = null;
 
@@ -127,6 +127,10 @@ public class ListedExceptions implements IModelContainer {
 	 */
 	@Override
 	public Model getModel() {
+		if (listedExceptionModel != null) {
+			// no lock is needed once created - this may be called while the read lock is held
+			return listedExceptionModel;
+		}
 		listedExceptionModificationLock.writeLock().lock();
 		try {
 			if (listedExceptionModel == null) {
@@ -154,7 +158,6 @@ public class ListedExceptions implements IModelContainer {
             throw new InvalidSPDXAnalysisException("Invalid listed exception URL: " + e.getMessage());
         }
         String id = urlToId(exceptionUrl);
-        //We will not enforce that the cache miss and the subsequent caching of the retrieved license be atomic.
         listedExceptionModificationLock.readLock().lock();
         try {
             if (listedExceptionCache.containsKey(id)) {
@@ -227,21 +230,26 @@ public class ListedExceptions implements IModelContainer {
 			}
 
 		};
-		ListedLicenseException retval;
-		if (this.getModel().equals(localExceptionModel)) {
-			retval = new ListedLicenseException(localExceptionContainer, exceptionResource.asNode());
-		} else {	// we need to copy from the local model into this model
-			ListedLicenseException localException = new ListedLicenseException(localExceptionContainer, exceptionResource.asNode());
-			retval = (ListedLicenseException)localException.clone();
-			retval.createResource(this);
-        }
-        listedExceptionModificationLock.writeLock().lock();
-        try {
-            listedExceptionCache.put(id, retval);
-        } finally {
-            listedExceptionModificationLock.writeLock().unlock();
-        }
-		return retval;
+		// Copying the exception writes to the shared listed exception model which is not thread safe.
+		// The write lock serializes cache misses and excludes threads cloning cached exceptions.
+		listedExceptionModificationLock.writeLock().lock();
+		try {
+			ListedLicenseException retval = listedExceptionCache.get(id);
+			if (retval != null) {
+				return retval;	// loaded by another thread
+			}
+			if (this.getModel().equals(localExceptionModel)) {
+				retval = new ListedLicenseException(localExceptionContainer, exceptionResource.asNode());
+			} else {	// we need to copy from the local model into this model
+				ListedLicenseException localException = new ListedLicenseException(localExceptionContainer, exceptionResource.asNode());
+				retval = (ListedLicenseException)localException.clone();
+				retval.createResource(this);
+			}
+			listedExceptionCache.put(id, retval);
+			return retval;
+		} finally {
+			listedExceptionModificationLock.writeLock().unlock();
+		}
 	}
 
 	/**
@@ -440,10 +448,13 @@ public class ListedExceptions implements IModelContainer {
 	 */
 	public ListedLicenseException getLicenseFromStdLicModel(
 			IModelContainer modelContainer, Node node) throws InvalidSPDXAnalysisException {
-		Map<Node, ListedLicenseException> modelNodeCache = this.listedExceptionNodeCache.get(modelContainer);
-		if (modelNodeCache == null) {
-			modelNodeCache = Maps.newHashMap();
-			this.listedExceptionNodeCache.put(modelContainer, modelNodeCache);
+		Map<Node, ListedLicenseException> modelNodeCache;
+		synchronized(this.listedExceptionNodeCache) {
+			modelNodeCache = this.listedExceptionNodeCache.get(modelContainer);
+			if (modelNodeCache == null) {
+				modelNodeCache = Maps.newHashMap();
+				this.listedExceptionNodeCache.put(modelContainer, modelNodeCache);
+			}
 		}
 		if (modelNodeCache.containsKey(node)) {
 			return modelNodeCache.get(node);
@@ -575,7 +586,12 @@ public class ListedExceptions implements IModelContainer {
 	public ListedLicenseException getListedExceptionById(String id) throws InvalidSPDXAnalysisException {
 		ListedLicenseException retval = getExceptionFromUri(ListedLicenses.LISTED_LICENSE_URI_PREFIX + id + JSONLD_URL_SUFFIX);
 		if (retval != null) {
-			retval = (ListedLicenseException)retval.clone();	// We need to clone the license to remove the references to the model in the cache
+			listedExceptionModificationLock.readLock().lock();
+			try {
+				retval = (ListedLicenseException)retval.clone();	// We need to clone the license to remove the references to the model in the cache
+			} finally {
+				listedExceptionModificationLock.readLock().unlock();
+			}
 		}
 		return retval;
 	}
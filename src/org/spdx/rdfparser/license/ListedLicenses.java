@@ -68,7 +68,7 @@ public class ListedLicenses implements IModelContainer {
 
 	private static final String LISTED_LICENSE_PROPERTIES_FILENAME = LISTED_LICENSE_RDF_LOCAL_DIR + "/" + "licenses.properties";
 
-	private Model listedLicenseModel = null;
+	private volatile Model listedLicenseModel = null;
 
 	/**
 	 * Map of lowercase listed license ID to proper cased listed license ID
@@ -169,6 +169,10 @@ public class ListedLicenses implements IModelContainer {
 	 */
 	@Override
 	public Model getModel() {
+		if (listedLicenseModel != null) {
+			// no lock is needed once created - this may be called while the read lock is held
+			return listedLicenseModel;
+		}
 		listedLicenseModificationLock.writeLock().lock();
 		try {
 			if (listedLicenseModel == null) {
@@ -196,7 +200,6 @@ public class ListedLicenses implements IModelContainer {
             throw new InvalidSPDXAnalysisException("Invalid listed license URL: " + e.getMessage());
         }
         String id = urlToId(licenseUrl);
-        //We will not enforce that the cache miss and the subsequent caching of the retrieved license be atomic.
         listedLicenseModificationLock.readLock().lock();
         try {
             if (listedLicenseCache.containsKey(id)) {
@@ -269,21 +272,26 @@ public class ListedLicenses implements IModelContainer {
 			}
 
 		};
-		SpdxListedLicense retval;
-		if (this.getModel().equals(localLicenseModel)) {
-			retval = new SpdxListedLicense(localLicenseContainer, licResource.asNode());
-		} else {	// we need to copy from the local model into this model
-			SpdxListedLicense localLicense = new SpdxListedLicense(localLicenseContainer, licResource.asNode());
-			retval = (SpdxListedLicense)localLicense.clone();
-			retval.createResource(this);
-        }
-        listedLicenseModificationLock.writeLock().lock();
-        try {
-            listedLicenseCache.put(id, retval);
-        } finally {
-            listedLicenseModificationLock.writeLock().unlock();
-        }
-		return retval;
+		// Copying the license writes to the shared listed license model which is not thread safe.
+		// The write lock serializes cache misses and excludes threads cloning cached licenses.
+		listedLicenseModificationLock.writeLock().lock();
+		try {
+			SpdxListedLicense retval = listedLicenseCache.get(id);
+			if (retval != null) {
+				return retval;	// loaded by another thread
+			}
+			if (this.getModel().equals(localLicenseModel)) {
+				retval = new SpdxListedLicense(localLicenseContainer, licResource.asNode());
+			} else {	// we need to copy from the local model into this model
+				SpdxListedLicense localLicense = new SpdxListedLicense(localLicenseContainer, licResource.asNode());
+				retval = (SpdxListedLicense)localLicense.clone();
+				retval.createResource(this);
+			}
+			listedLicenseCache.put(id, retval);
+			return retval;
+		} finally {
+			listedLicenseModificationLock.writeLock().unlock();
+		}
 	}
 
 	/**
@@ -570,7 +578,12 @@ public class ListedLicenses implements IModelContainer {
 	public SpdxListedLicense getListedLicenseById(String licenseId)throws InvalidSPDXAnalysisException {
 		SpdxListedLicense retval = getLicenseFromUri(LISTED_LICENSE_URI_PREFIX + listdLicenseIds.get(licenseId.toLowerCase()) + JSONLD_URL_SUFFIX);
 		if (retval != null) {
-			retval = (SpdxListedLicense)retval.clone();	// We need to clone the license to remove the references to the model in the cache
+			listedLicenseModificationLock.readLock().lock();
+			try {
+				retval = (SpdxListedLicense)retval.clone();	// We need to clone the license to remove the references to the model in the cache
+			} finally {
+				listedLicenseModificationLock.readLock().unlock();
+			}
 		}
 		return retval;
 	}
@@ -585,10 +598,13 @@ public class ListedLicenses implements IModelContainer {
 	 */
 	public AnyLicenseInfo getLicenseFromStdLicModel(
 			IModelContainer modelContainer, Node node) throws InvalidSPDXAnalysisException {
-		Map<Node, SpdxListedLicense> modelNodeCache = this.listedLicenseNodeCache.get(modelContainer);
-		if (modelNodeCache == null) {
-			modelNodeCache = Maps.newHashMap();
-			this.listedLicenseNodeCache.put(modelContainer, modelNodeCache);
+		Map<Node, SpdxListedLicense> modelNodeCache;
+		synchronized(this.listedLicenseNodeCache) {
+			modelNodeCache = this.listedLicenseNodeCache.get(modelContainer);
+			if (modelNodeCache == null) {
+				modelNodeCache = Maps.newHashMap();
+				this.listedLicenseNodeCache.put(modelContainer, modelNodeCache);
+			}
 		}
 		if (modelNodeCache.containsKey(node)) {
 			return modelNodeCache.get(node);
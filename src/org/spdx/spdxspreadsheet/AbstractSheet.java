@@ -214,6 +214,9 @@ public abstract class AbstractSheet {
 		int lastRow = this.getNumDataRows()+this.getFirstDataRow()-1;
 		for (int i = 0; i <= lastRow; i++) {
 			Row row = sheet.getRow(i);
+			if (row == null) {
+				continue;	// already flushed to disk by a streaming workbook
+			}
 			int lastCell = row.getLastCellNum();	// last cell + 1
 			int maxNumLines = 1;
 			for (int j = 0; j < lastCell; j++) {
@@ -26,6 +26,7 @@ import java.io.InputStream;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -91,6 +92,24 @@ public abstract class AbstractSpreadsheet {
 		}
 	}
 
+	/**
+	 * Creates a spreadsheet backed by a workbook which has already been constructed
+	 * in memory.  The workbook is not written to disk until <code>close()</code>
+	 * is called, which avoids writing and re-reading an empty workbook for
+	 * streaming workbooks.
+	 * @param spreadsheetFile File the workbook is written to on close
+	 * @param workbook Workbook containing the created sheets
+	 * @throws SpreadsheetException if the file already exists
+	 */
+	protected AbstractSpreadsheet(File spreadsheetFile, Workbook workbook) throws SpreadsheetException {
+		if (spreadsheetFile.exists()) {
+			throw(new SpreadsheetException("File "+spreadsheetFile.getName()+" already exists"));
+		}
+		this.readonly = false;
+		this.saveFile = spreadsheetFile;
+		this.workbook = workbook;
+	}
+
 	public abstract void create(File spreadsheetFile) throws IOException, SpreadsheetException;
 	public abstract void clear();
 	public abstract String verifyWorkbook();
@@ -125,6 +144,11 @@ public abstract class AbstractSpreadsheet {
 		} catch (IOException ex) {
 			logger.error("Error writing excel sheet to file: "+ex.getMessage());
 			throw(new SpreadsheetException("Error writing excel workbook to file, see log for details."));
+		} finally {
+			if (this.workbook instanceof SXSSFWorkbook) {
+				// remove the temporary files holding the flushed rows
+				((SXSSFWorkbook)this.workbook).dispose();
+			}
 		}
 	}
 }
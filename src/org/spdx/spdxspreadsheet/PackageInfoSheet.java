@@ -90,4 +90,12 @@ public abstract class PackageInfoSheet extends AbstractSheet {
 	 * @throws SpreadsheetException
 	 */
 	public abstract SpdxPackage[] getPackages(SpdxDocumentContainer container) throws SpreadsheetException;
+
+	/**
+	 * @param rowNum row number of the package
+	 * @param container
+	 * @return the package at the row or null if the row does not exist or has no package name
+	 * @throws SpreadsheetException
+	 */
+	public abstract SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException;
 }
\ No newline at end of file
@@ -281,7 +281,7 @@ public class PackageInfoSheetV09d3 extends PackageInfoSheet {
 		return retval;
 	}
 
-	private SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException {
+	public SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException {
 		Row row = sheet.getRow(rowNum);
 		if (row == null) {
 			return null;
@@ -291,7 +291,7 @@ public class PackageInfoSheetV2d0 extends PackageInfoSheet {
 		return retval;
 	}
 
-	private SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException {
+	public SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException {
 		Row row = sheet.getRow(rowNum);
 		if (row == null) {
 			return null;
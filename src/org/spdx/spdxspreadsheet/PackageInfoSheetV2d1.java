@@ -311,7 +311,7 @@ public class PackageInfoSheetV2d1 extends PackageInfoSheet {
 	}
 
 	@SuppressWarnings("deprecation")
-	private SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException {
+	public SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException {
 		Row row = sheet.getRow(rowNum);
 		if (row == null) {
 			return null;
@@ -240,7 +240,7 @@ public class PackageInfoSheetV9d1 extends PackageInfoSheet {
 		return retval;
 	}
 
-	private SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException {		Row row = sheet.getRow(rowNum);
+	public SpdxPackage getPackage(int rowNum, SpdxDocumentContainer container) throws SpreadsheetException {		Row row = sheet.getRow(rowNum);
 		if (row == null) {
 			return null;
 		}
@@ -41,6 +41,11 @@ public abstract class PerFileSheet extends AbstractSheet {
 
 	protected String version;
 
+	/**
+	 * If false, <code>getFileInfo</code> does not look up the files listed in the File Dependencies column
+	 */
+	protected boolean resolveFileDependencies = true;
+
 	public PerFileSheet(Workbook workbook, String sheetName, String version) {
 		super(workbook, sheetName);
 		this.version = version;
@@ -143,4 +148,21 @@ public abstract class PerFileSheet extends AbstractSheet {
 	 * @return
 	 */
 	public abstract String[] getPackageIds(int row);
+
+	/**
+	 * @param row
+	 * @return names of the files listed in the File Dependencies column of the row
+	 */
+	public String[] getFileDependencyNames(int row) {
+		return new String[0];
+	}
+
+	/**
+	 * @param resolveFileDependencies if false, <code>getFileInfo</code> does not set the file dependencies
+	 * and the caller links them using <code>getFileDependencyNames</code>.  This is required when
+	 * a dependency may refer to a row which has not been read.
+	 */
+	public void setResolveFileDependencies(boolean resolveFileDependencies) {
+		this.resolveFileDependencies = resolveFileDependencies;
+	}
 }
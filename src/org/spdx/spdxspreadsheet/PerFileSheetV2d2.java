@@ -263,12 +263,11 @@ public class PerFileSheetV2d2 extends PerFileSheet {
 		}
 
 		SpdxFile[] fileDependencies = new SpdxFile[0];
-		Cell fileDependencyCells = row.getCell(FILE_DEPENDENCIES_COL);
-		if (fileDependencyCells != null && !fileDependencyCells.getStringCellValue().isEmpty()) {
-			String[] fileDependencyNames = csvToStrings(fileDependencyCells.getStringCellValue());
+		if (resolveFileDependencies) {
+			String[] fileDependencyNames = getFileDependencyNames(rowNum);
 			fileDependencies = new SpdxFile[fileDependencyNames.length];
 			for (int i = 0; i < fileDependencyNames.length; i++) {
-				fileDependencies[i] = findFileByName(fileDependencyNames[i].trim(), container);
+				fileDependencies[i] = findFileByName(fileDependencyNames[i], container);
 			}
 		}
 		String[] contributors = new String[0];
@@ -312,6 +311,26 @@ public class PerFileSheetV2d2 extends PerFileSheet {
 		return retval;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.spdx.spdxspreadsheet.PerFileSheet#getFileDependencyNames(int)
+	 */
+	@Override
+	public String[] getFileDependencyNames(int rowNum) {
+		Row row = sheet.getRow(rowNum);
+		if (row == null) {
+			return new String[0];
+		}
+		Cell fileDependencyCells = row.getCell(FILE_DEPENDENCIES_COL);
+		if (fileDependencyCells == null || fileDependencyCells.getStringCellValue().isEmpty()) {
+			return new String[0];
+		}
+		String[] fileDependencyNames = csvToStrings(fileDependencyCells.getStringCellValue());
+		for (int i = 0; i < fileDependencyNames.length; i++) {
+			fileDependencyNames[i] = fileDependencyNames[i].trim();
+		}
+		return fileDependencyNames;
+	}
+
 	/**
 	 * Finds an SPDX file by name by searching through the rows for a matching file name
 	 * @param fileName
@@ -25,6 +25,8 @@ import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 import com.google.common.collect.ImmutableList;
 
@@ -39,6 +41,10 @@ import com.google.common.collect.ImmutableList;
  *   - Reviewers - Information on any organizations who have reviewed the documents
  *
  *   See notes below on version management
+ *
+ * A new spreadsheet can also be created as a streaming .xlsx workbook which keeps only
+ * a window of rows of each sheet in memory and is not limited to the 65,536 rows of
+ * an .xls sheet.
  * @author Gary O'Neall
  *
  */
@@ -69,6 +75,14 @@ public class SPDXSpreadsheet extends AbstractSpreadsheet {
 							.add(VERSION_2_1_0)
 							.build();
 	public static final String UNKNOWN_VERSION = "UNKNOWN";
+	/**
+	 * Output files with this extension are written as streaming workbooks by <code>createOutputSpreadsheet</code>
+	 */
+	public static final String STREAMING_SPREADSHEET_EXTENSION = ".xlsx";
+	/**
+	 * Default number of rows kept in memory for each sheet of a streaming workbook
+	 */
+	public static final int DEFAULT_STREAMING_ROW_WINDOW = 200;
 
 	private DocumentInfoSheet documentInfoSheet;
 	static final String DOCUMENT_INFO_NAME = "Document Info";
@@ -89,6 +103,7 @@ public class SPDXSpreadsheet extends AbstractSpreadsheet {
 	private ExternalRefsSheet externalRefsSheet;
 	static final String EXTERNAL_REFS_SHEET_NAME = "External Refs";
 	private String version;
+	private boolean streaming = false;
 
 
 	/**
@@ -105,6 +120,64 @@ public class SPDXSpreadsheet extends AbstractSpreadsheet {
 		if (this.version.equals(UNKNOWN_VERSION)) {
 			throw(new SpreadsheetException("The version for the SPDX spreadsheet could not be read."));
 		}
+		openSheets();
+	}
+
+	/**
+	 * Create a new streaming .xlsx spreadsheet.  Rows are flushed to temporary files once
+	 * more than <code>rowWindow</code> rows have been added to a sheet, so the memory used
+	 * does not grow with the number of files.  The spreadsheet is written to
+	 * <code>spreadsheetFile</code> on <code>close()</code>.
+	 * @param spreadsheetFile File to write the spreadsheet to - must not already exist
+	 * @param rowWindow Number of rows of each sheet kept in memory
+	 * @throws SpreadsheetException
+	 */
+	public SPDXSpreadsheet(File spreadsheetFile, int rowWindow) throws SpreadsheetException {
+		super(spreadsheetFile, createStreamingWorkbook(rowWindow));
+		this.version = CURRENT_VERSION;
+		this.streaming = true;
+		openSheets();
+	}
+
+	/**
+	 * Create a new spreadsheet for writing - a streaming workbook is used if the file name
+	 * ends with <code>STREAMING_SPREADSHEET_EXTENSION</code>
+	 * @param spreadsheetFile File to write the spreadsheet to - must not already exist
+	 * @return
+	 * @throws SpreadsheetException
+	 */
+	public static SPDXSpreadsheet createOutputSpreadsheet(File spreadsheetFile) throws SpreadsheetException {
+		if (spreadsheetFile.getName().trim().toLowerCase().endsWith(STREAMING_SPREADSHEET_EXTENSION)) {
+			return new SPDXSpreadsheet(spreadsheetFile, DEFAULT_STREAMING_ROW_WINDOW);
+		} else {
+			return new SPDXSpreadsheet(spreadsheetFile, true, false);
+		}
+	}
+
+	/**
+	 * Create a streaming workbook containing all of the sheets
+	 * @param rowWindow
+	 * @return
+	 */
+	private static Workbook createStreamingWorkbook(int rowWindow) {
+		// keep all rows until the header rows have been created and verified
+		SXSSFWorkbook wb = new SXSSFWorkbook(-1);
+		createSheets(wb);
+		for (int i = 0; i < wb.getNumberOfSheets(); i++) {
+			SXSSFSheet sheet = wb.getSheetAt(i);
+			// The document info sheet is filled in column by column
+			if (!DOCUMENT_INFO_NAME.equals(sheet.getSheetName())) {
+				sheet.setRandomAccessWindowSize(rowWindow);
+			}
+		}
+		return wb;
+	}
+
+	/**
+	 * Create the sheet objects for the version from the workbook and verify the workbook
+	 * @throws SpreadsheetException
+	 */
+	private void openSheets() throws SpreadsheetException {
 		this.documentInfoSheet = DocumentInfoSheet.openVersion(this.workbook, DOCUMENT_INFO_NAME, this.version);
 		String verifyMsg = documentInfoSheet.verify();
 		if (verifyMsg != null) {
@@ -134,7 +207,7 @@ public class SPDXSpreadsheet extends AbstractSpreadsheet {
 	 * @return
 	 * @throws SpreadsheetException
 	 */
-	private String readVersion(Workbook workbook, String originSheetName) throws SpreadsheetException {
+	static String readVersion(Workbook workbook, String originSheetName) throws SpreadsheetException {
 		Sheet sheet = workbook.getSheet(originSheetName);
 		if (sheet == null) {
 			throw new SpreadsheetException("Invalid SPDX spreadsheet.  Sheet "+originSheetName+" does not exist.");
@@ -174,15 +247,7 @@ public class SPDXSpreadsheet extends AbstractSpreadsheet {
 		try {
 			excelOut = new FileOutputStream(spreadsheetFile);
 			Workbook wb = new HSSFWorkbook();
-			DocumentInfoSheet.create(wb, DOCUMENT_INFO_NAME);
-			PackageInfoSheet.create(wb, PACKAGE_INFO_SHEET_NAME);
-			ExternalRefsSheet.create(wb, EXTERNAL_REFS_SHEET_NAME);
-			NonStandardLicensesSheet.create(wb, NON_STANDARD_LICENSE_SHEET_NAME);
-			PerFileSheet.create(wb, PER_FILE_SHEET_NAME);
-			RelationshipsSheet.create(wb, RELATIONSHIPS_SHEET_NAME);
-			AnnotationsSheet.create(wb, ANNOTATIONS_SHEET_NAME);
-			SnippetSheet.create(wb, SNIPPET_SHEET_NAME);
-			ReviewersSheet.create(wb, REVIEWERS_SHEET_NAME);
+			createSheets(wb);
 			wb.write(excelOut);
 		} finally {
 		    if(excelOut != null){
@@ -191,6 +256,29 @@ public class SPDXSpreadsheet extends AbstractSpreadsheet {
 		}
 	}
 
+	/**
+	 * Create all of the sheets for the current version in a workbook
+	 * @param wb
+	 */
+	private static void createSheets(Workbook wb) {
+		DocumentInfoSheet.create(wb, DOCUMENT_INFO_NAME);
+		PackageInfoSheet.create(wb, PACKAGE_INFO_SHEET_NAME);
+		ExternalRefsSheet.create(wb, EXTERNAL_REFS_SHEET_NAME);
+		NonStandardLicensesSheet.create(wb, NON_STANDARD_LICENSE_SHEET_NAME);
+		PerFileSheet.create(wb, PER_FILE_SHEET_NAME);
+		RelationshipsSheet.create(wb, RELATIONSHIPS_SHEET_NAME);
+		AnnotationsSheet.create(wb, ANNOTATIONS_SHEET_NAME);
+		SnippetSheet.create(wb, SNIPPET_SHEET_NAME);
+		ReviewersSheet.create(wb, REVIEWERS_SHEET_NAME);
+	}
+
+	/**
+	 * @return true if this is a streaming workbook which keeps only a window of rows in memory
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.spdx.rdfparser.AbstractSpreadsheet#clear()
 	 */
@@ -369,9 +457,13 @@ public class SPDXSpreadsheet extends AbstractSpreadsheet {
 	}
 
 	/**
-	 * Resize the height of all rows - will not exceed a maximum height
+	 * Resize the height of all rows - will not exceed a maximum height.  Rows of a streaming
+	 * workbook have already been written, so they are not resized.
 	 */
 	public void resizeRow() {
+		if (streaming) {
+			return;
+		}
 		nonStandardLicensesSheet.resizeRows();
 //		originsSheet.resizeRows(); - Can't resize the origins sheet since it uses blank cells
 		packageInfoSheet.resizeRows();
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.spdxspreadsheet;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+
+/**
+ * Reads the rows of a single sheet of a spreadsheet file as a sequence of events
+ * using the POI event APIs rather than loading the workbook into memory.
+ *
+ * Implementations exist for .xlsx (<code>XlsxEventReader</code>) and .xls
+ * (<code>XlsEventReader</code>) files.
+ * @author SPDX Contributors
+ *
+ */
+abstract class SpreadsheetEventReader {
+
+	static final Logger logger = LoggerFactory.getLogger(SpreadsheetEventReader.class);
+
+	/**
+	 * Receives the cells of the rows of a sheet in row order
+	 */
+	interface RowListener {
+		/**
+		 * Called before the cells of a row
+		 * @param rowNum zero based row number
+		 */
+		void startRow(int rowNum);
+
+		/**
+		 * Called for each cell of the current row
+		 * @param col zero based column number
+		 * @param value <code>String</code>, <code>Double</code>, <code>Boolean</code>
+		 * or null for a cell without a value
+		 */
+		void cell(int col, Object value);
+
+		/**
+		 * Called after the last cell of a row
+		 * @return false to stop reading the sheet
+		 * @throws SpreadsheetException
+		 * @throws InvalidSPDXAnalysisException
+		 */
+		boolean endRow() throws SpreadsheetException, InvalidSPDXAnalysisException;
+	}
+
+	protected File file;
+
+	protected SpreadsheetEventReader(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Open an event reader for the format of the spreadsheet file
+	 * @param file .xls or .xlsx file
+	 * @return
+	 * @throws SpreadsheetException
+	 */
+	static SpreadsheetEventReader open(File file) throws SpreadsheetException {
+		if (!file.exists()) {
+			throw(new SpreadsheetException("File "+file.getName()+" does not exist"));
+		}
+		FileMagic magic;
+		InputStream input = null;
+		try {
+			input = new BufferedInputStream(new FileInputStream(file));
+			magic = FileMagic.valueOf(input);
+		} catch (IOException ex) {
+			throw(new SpreadsheetException("IO Exception opening excel workbook: "+ex.getMessage()));
+		} finally {
+			if (input != null) {
+				try {
+					input.close();
+				} catch (IOException ex) {
+					logger.warn("IO Error closing excel file: "+ex.getMessage());
+				}
+			}
+		}
+		if (magic == FileMagic.OOXML) {
+			return new XlsxEventReader(file);
+		} else if (magic == FileMagic.OLE2) {
+			return new XlsEventReader(file);
+		} else {
+			throw(new SpreadsheetException("Unable to open workbook.  Invalid format"));
+		}
+	}
+
+	/**
+	 * Read the rows of a sheet
+	 * @param sheetName name of the sheet - not case sensitive
+	 * @param listener
+	 * @return false if the sheet does not exist
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException if thrown by the listener
+	 */
+	abstract boolean readSheet(String sheetName, RowListener listener) throws SpreadsheetException, InvalidSPDXAnalysisException;
+
+	/**
+	 * Release any resources held for the file
+	 * @throws SpreadsheetException
+	 */
+	abstract void close() throws SpreadsheetException;
+
+	/**
+	 * Rethrow an exception thrown by a listener which was wrapped to pass through
+	 * the POI event API
+	 * @param cause
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	static void rethrowListenerException(Throwable cause) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		if (cause instanceof SpreadsheetException) {
+			throw((SpreadsheetException)cause);
+		} else if (cause instanceof InvalidSPDXAnalysisException) {
+			throw((InvalidSPDXAnalysisException)cause);
+		}
+	}
+}
@@ -0,0 +1,444 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.spdxspreadsheet;
+
+import java.io.File;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.spdxspreadsheet.SpreadsheetEventReader.RowListener;
+
+/**
+ * Read only view of an existing SPDX spreadsheet which reads the rows of the
+ * Package Info, Per File Info, Snippets, Annotations and Relationships sheets
+ * as events without loading the workbook into memory.
+ *
+ * Each streamed row is copied into a scratch workbook holding only the header row
+ * and the current row so that the version specific sheet implementations can parse
+ * it.  The Document Info, Extracted License Info, External Refs and Reviewers sheets
+ * are small and are read completely into the scratch workbook when the spreadsheet
+ * is opened.
+ *
+ * Streamed sheets end at the first missing row or row with an empty first column.
+ * File dependencies in the Per File Info sheet may refer to later rows so they are not
+ * resolved while streaming - see <code>readPerFileInfo</code>.
+ * @author SPDX Contributors
+ *
+ */
+public class StreamingSPDXSpreadsheet {
+
+	static final Logger logger = LoggerFactory.getLogger(StreamingSPDXSpreadsheet.class);
+
+	/**
+	 * Row number of the current streamed row in the scratch workbook
+	 */
+	static final int STREAMED_DATA_ROW = 1;
+
+	/**
+	 * Handles the rows of a streamed sheet
+	 */
+	public interface SheetRowHandler<T extends AbstractSheet> {
+		/**
+		 * @param sheet sheet containing the row
+		 * @param rowNum row number of the row within <code>sheet</code>
+		 * @return false to stop reading the sheet
+		 * @throws SpreadsheetException
+		 * @throws InvalidSPDXAnalysisException
+		 */
+		boolean handleRow(T sheet, int rowNum) throws SpreadsheetException, InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Opens the version specific sheet once the header row is in the scratch workbook
+	 */
+	private interface SheetFactory<T extends AbstractSheet> {
+		T open(Workbook workbook, String sheetName);
+	}
+
+	/**
+	 * Copies all rows of a sheet into the scratch workbook
+	 */
+	private class SheetLoader implements RowListener {
+		private Sheet scratchSheet;
+		private Row row = null;
+		private int rowNum;
+
+		SheetLoader(Sheet scratchSheet) {
+			this.scratchSheet = scratchSheet;
+		}
+
+		@Override
+		public void startRow(int rowNum) {
+			this.rowNum = rowNum;
+			if (rowNum <= SpreadsheetVersion.EXCEL97.getLastRowIndex()) {
+				row = scratchSheet.createRow(rowNum);
+			}
+		}
+
+		@Override
+		public void cell(int col, Object value) {
+			if (rowNum <= SpreadsheetVersion.EXCEL97.getLastRowIndex()) {
+				setCellValue(row, col, value);
+			}
+		}
+
+		@Override
+		public boolean endRow() throws SpreadsheetException {
+			if (rowNum > SpreadsheetVersion.EXCEL97.getLastRowIndex()) {
+				throw(new SpreadsheetException("Too many rows in worksheet "+scratchSheet.getSheetName()));
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Keeps the header row and the current row of a sheet in the scratch workbook
+	 * passing each row to a handler
+	 */
+	private class StreamedSheet<T extends AbstractSheet> implements RowListener {
+		private String sheetName;
+		private SheetFactory<T> factory;
+		private boolean verify;
+		private SheetRowHandler<T> handler;
+		private Sheet scratchSheet;
+		private T sheet = null;
+		private Row row;
+		private int rowNum;
+		private int previousRowNum;
+
+		StreamedSheet(String sheetName, SheetFactory<T> factory, boolean verify, SheetRowHandler<T> handler) {
+			this.sheetName = sheetName;
+			this.factory = factory;
+			this.verify = verify;
+			this.handler = handler;
+			this.scratchSheet = createScratchSheet(sheetName);
+		}
+
+		@Override
+		public void startRow(int rowNum) {
+			this.rowNum = rowNum;
+			if (sheet == null) {
+				row = scratchSheet.createRow(0);
+			} else {
+				Row previousRow = scratchSheet.getRow(STREAMED_DATA_ROW);
+				if (previousRow != null) {
+					scratchSheet.removeRow(previousRow);
+				}
+				row = scratchSheet.createRow(STREAMED_DATA_ROW);
+			}
+		}
+
+		@Override
+		public void cell(int col, Object value) {
+			setCellValue(row, col, value);
+		}
+
+		@Override
+		public boolean endRow() throws SpreadsheetException, InvalidSPDXAnalysisException {
+			if (sheet == null) {
+				openSheet();
+				previousRowNum = rowNum;
+				return true;
+			}
+			if (rowNum != previousRowNum + 1 || isEmptyRow(row, sheet.firstCellNum)) {
+				return false;
+			}
+			previousRowNum = rowNum;
+			return handler.handleRow(sheet, STREAMED_DATA_ROW);
+		}
+
+		/**
+		 * Open and verify the sheet from the header row in the scratch workbook
+		 * @throws SpreadsheetException
+		 */
+		void openSheet() throws SpreadsheetException {
+			sheet = factory.open(scratch, sheetName);
+			if (verify) {
+				String verifyMsg = sheet.verify();
+				if (verifyMsg != null && !verifyMsg.isEmpty()) {
+					logger.error(verifyMsg);
+					throw(new SpreadsheetException(verifyMsg));
+				}
+			}
+		}
+	}
+
+	private SpreadsheetEventReader reader;
+	private Workbook scratch = new HSSFWorkbook();
+	private String version;
+	private DocumentInfoSheet documentInfoSheet;
+	private NonStandardLicensesSheet nonStandardLicensesSheet;
+	private ReviewersSheet reviewersSheet;
+	private ExternalRefsSheet externalRefsSheet;
+
+	/**
+	 * Open an existing .xls or .xlsx SPDX spreadsheet
+	 * @param spreadsheetFile
+	 * @throws SpreadsheetException
+	 */
+	public StreamingSPDXSpreadsheet(File spreadsheetFile) throws SpreadsheetException {
+		this.reader = SpreadsheetEventReader.open(spreadsheetFile);
+		try {
+			loadSheet(SPDXSpreadsheet.DOCUMENT_INFO_NAME);
+			this.version = SPDXSpreadsheet.readVersion(scratch, SPDXSpreadsheet.DOCUMENT_INFO_NAME);
+			if (this.version.equals(SPDXSpreadsheet.UNKNOWN_VERSION)) {
+				throw(new SpreadsheetException("The version for the SPDX spreadsheet could not be read."));
+			}
+			this.documentInfoSheet = DocumentInfoSheet.openVersion(scratch, SPDXSpreadsheet.DOCUMENT_INFO_NAME, version);
+			verifySheet(documentInfoSheet);
+			loadSheet(SPDXSpreadsheet.NON_STANDARD_LICENSE_SHEET_NAME);
+			this.nonStandardLicensesSheet = NonStandardLicensesSheet.openVersion(scratch,
+					SPDXSpreadsheet.NON_STANDARD_LICENSE_SHEET_NAME, version);
+			verifySheet(nonStandardLicensesSheet);
+			loadSheet(SPDXSpreadsheet.REVIEWERS_SHEET_NAME);
+			this.reviewersSheet = new ReviewersSheet(scratch, SPDXSpreadsheet.REVIEWERS_SHEET_NAME, version);
+			verifySheet(reviewersSheet);
+			loadSheet(SPDXSpreadsheet.EXTERNAL_REFS_SHEET_NAME);
+			this.externalRefsSheet = new ExternalRefsSheet(scratch, SPDXSpreadsheet.EXTERNAL_REFS_SHEET_NAME);
+			if (hasSnippetsAndExternalRefs()) {
+				verifySheet(externalRefsSheet);
+			}
+		} catch (SpreadsheetException ex) {
+			close();
+			throw(ex);
+		}
+	}
+
+	/**
+	 * @return true if the spreadsheet version includes the Snippets and External Refs sheets
+	 */
+	private boolean hasSnippetsAndExternalRefs() {
+		return SPDXSpreadsheet.VERSION_2_0_0.compareTo(this.version) < 0;
+	}
+
+	private void verifySheet(AbstractSheet sheet) throws SpreadsheetException {
+		String verifyMsg = sheet.verify();
+		if (verifyMsg != null && !verifyMsg.isEmpty()) {
+			logger.error(verifyMsg);
+			throw(new SpreadsheetException(verifyMsg));
+		}
+	}
+
+	/**
+	 * Create an empty sheet in the scratch workbook replacing any previous copy
+	 * @param sheetName
+	 * @return
+	 */
+	private Sheet createScratchSheet(String sheetName) {
+		int index = scratch.getSheetIndex(sheetName);
+		if (index >= 0) {
+			scratch.removeSheetAt(index);
+		}
+		return scratch.createSheet(sheetName);
+	}
+
+	/**
+	 * Read all rows of a sheet into the scratch workbook.  The sheet is not created if
+	 * it does not exist in the spreadsheet.
+	 * @param sheetName
+	 * @throws SpreadsheetException
+	 */
+	private void loadSheet(String sheetName) throws SpreadsheetException {
+		Sheet scratchSheet = createScratchSheet(sheetName);
+		boolean found;
+		try {
+			found = reader.readSheet(sheetName, new SheetLoader(scratchSheet));
+		} catch (InvalidSPDXAnalysisException ex) {
+			// not thrown by the loader
+			throw(new SpreadsheetException("Unexpected error loading worksheet "+sheetName+": "+ex.getMessage()));
+		}
+		if (!found) {
+			scratch.removeSheetAt(scratch.getSheetIndex(scratchSheet));
+		}
+	}
+
+	/**
+	 * Stream the rows of a sheet to a handler
+	 * @param sheetName
+	 * @param factory
+	 * @param verify true if the sheet header must be verified
+	 * @param handler
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private <T extends AbstractSheet> void streamSheet(String sheetName, SheetFactory<T> factory,
+			boolean verify, SheetRowHandler<T> handler) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		StreamedSheet<T> streamedSheet = new StreamedSheet<T>(sheetName, factory, verify, handler);
+		boolean found = reader.readSheet(sheetName, streamedSheet);
+		if (streamedSheet.sheet == null) {
+			// empty or missing sheet - verify it the same way as the workbook
+			if (!found) {
+				scratch.removeSheetAt(scratch.getSheetIndex(streamedSheet.scratchSheet));
+			}
+			streamedSheet.openSheet();
+		}
+	}
+
+	/**
+	 * Set the value of a scratch cell to a value read from the spreadsheet
+	 * @param row
+	 * @param col
+	 * @param value <code>String</code>, <code>Double</code>, <code>Boolean</code> or null for a blank cell
+	 */
+	static void setCellValue(Row row, int col, Object value) {
+		Cell cell = row.createCell(col);
+		if (value instanceof String) {
+			cell.setCellValue((String)value);
+		} else if (value instanceof Double) {
+			cell.setCellValue((Double)value);
+		} else if (value instanceof Boolean) {
+			cell.setCellValue((Boolean)value);
+		}
+	}
+
+	/**
+	 * @param row
+	 * @param firstCellNum
+	 * @return true if the first cell of the row is empty - the same test used to count the rows of a sheet
+	 */
+	static boolean isEmptyRow(Row row, int firstCellNum) {
+		try {
+			Cell cell = row.getCell(firstCellNum);
+			return cell == null || cell.getStringCellValue() == null || cell.getStringCellValue().isEmpty();
+		} catch (Exception ex) {
+			return true;
+		}
+	}
+
+	/**
+	 * @return the spreadsheet version
+	 */
+	public String getVersion() {
+		return this.version;
+	}
+
+	public DocumentInfoSheet getOriginsSheet() {
+		return this.documentInfoSheet;
+	}
+
+	public NonStandardLicensesSheet getNonStandardLicensesSheet() {
+		return this.nonStandardLicensesSheet;
+	}
+
+	public ReviewersSheet getReviewersSheet() {
+		return this.reviewersSheet;
+	}
+
+	public ExternalRefsSheet getExternalRefsSheet() {
+		return this.externalRefsSheet;
+	}
+
+	/**
+	 * Stream the rows of the Package Info sheet
+	 * @param handler
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void readPackageInfo(SheetRowHandler<PackageInfoSheet> handler) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		streamSheet(SPDXSpreadsheet.PACKAGE_INFO_SHEET_NAME, new SheetFactory<PackageInfoSheet>() {
+			@Override
+			public PackageInfoSheet open(Workbook workbook, String sheetName) {
+				return PackageInfoSheet.openVersion(workbook, sheetName, version);
+			}
+		}, true, handler);
+	}
+
+	/**
+	 * Stream the rows of the Per File Info sheet.  The files returned by <code>getFileInfo</code>
+	 * do not include their file dependencies - the handler must collect the names from
+	 * <code>getFileDependencyNames</code> and link them once all of the files have been read.
+	 * @param handler
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void readPerFileInfo(SheetRowHandler<PerFileSheet> handler) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		streamSheet(SPDXSpreadsheet.PER_FILE_SHEET_NAME, new SheetFactory<PerFileSheet>() {
+			@Override
+			public PerFileSheet open(Workbook workbook, String sheetName) {
+				PerFileSheet perFileSheet = PerFileSheet.openVersion(workbook, sheetName, version);
+				perFileSheet.setResolveFileDependencies(false);
+				return perFileSheet;
+			}
+		}, true, handler);
+	}
+
+	/**
+	 * Stream the rows of the Snippets sheet
+	 * @param handler
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void readSnippets(SheetRowHandler<SnippetSheet> handler) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		streamSheet(SPDXSpreadsheet.SNIPPET_SHEET_NAME, new SheetFactory<SnippetSheet>() {
+			@Override
+			public SnippetSheet open(Workbook workbook, String sheetName) {
+				return new SnippetSheet(workbook, sheetName);
+			}
+		}, hasSnippetsAndExternalRefs(), handler);
+	}
+
+	/**
+	 * Stream the rows of the Annotations sheet
+	 * @param handler
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void readAnnotations(SheetRowHandler<AnnotationsSheet> handler) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		streamSheet(SPDXSpreadsheet.ANNOTATIONS_SHEET_NAME, new SheetFactory<AnnotationsSheet>() {
+			@Override
+			public AnnotationsSheet open(Workbook workbook, String sheetName) {
+				return new AnnotationsSheet(workbook, sheetName);
+			}
+		}, true, handler);
+	}
+
+	/**
+	 * Stream the rows of the Relationships sheet
+	 * @param handler
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void readRelationships(SheetRowHandler<RelationshipsSheet> handler) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		streamSheet(SPDXSpreadsheet.RELATIONSHIPS_SHEET_NAME, new SheetFactory<RelationshipsSheet>() {
+			@Override
+			public RelationshipsSheet open(Workbook workbook, String sheetName) {
+				return new RelationshipsSheet(workbook, sheetName);
+			}
+		}, true, handler);
+	}
+
+	/**
+	 * Release the spreadsheet file
+	 * @throws SpreadsheetException
+	 */
+	public void close() throws SpreadsheetException {
+		if (reader != null) {
+			try {
+				reader.close();
+			} finally {
+				reader = null;
+			}
+		}
+	}
+}
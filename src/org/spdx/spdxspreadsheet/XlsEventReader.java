@@ -0,0 +1,260 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.spdxspreadsheet;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BlankRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.poifs.filesystem.NPOIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Reads the rows of an .xls sheet from the records of the workbook stream using the
+ * HSSF event API.  Only the shared string table of the workbook is kept in memory.
+ * @author SPDX Contributors
+ *
+ */
+class XlsEventReader extends SpreadsheetEventReader {
+
+	static final short STOP_READING = 1;
+
+	private NPOIFSFileSystem fs;
+
+	/**
+	 * Converts the cell records of a single sheet into listener events.  Sheets are
+	 * identified by the order of their BOF records in the workbook stream.
+	 */
+	private static class SheetRecordListener extends AbortableHSSFListener {
+		private String sheetName;
+		private RowListener listener;
+		private List<BoundSheetRecord> boundSheets = Lists.newArrayList();
+		private BoundSheetRecord[] orderedSheets = null;
+		private SSTRecord sst = null;
+		private int depth = 0;
+		private boolean globalsRead = false;
+		private int sheetIndex = -1;
+		private boolean inSheet = false;
+		private boolean found = false;
+		private boolean rowOpen = false;
+		private int rowNum = -1;
+		private int formulaRow;
+		private int formulaCol;
+
+		SheetRecordListener(String sheetName, RowListener listener) {
+			this.sheetName = sheetName;
+			this.listener = listener;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.apache.poi.hssf.eventusermodel.AbortableHSSFListener#abortableProcessRecord(org.apache.poi.hssf.record.Record)
+		 */
+		@Override
+		public short abortableProcessRecord(Record record) throws HSSFUserException {
+			switch (record.getSid()) {
+			case BoundSheetRecord.sid:
+				boundSheets.add((BoundSheetRecord)record);
+				return 0;
+			case SSTRecord.sid:
+				sst = (SSTRecord)record;
+				return 0;
+			case BOFRecord.sid:
+				depth++;
+				if (depth == 1 && globalsRead) {
+					if (orderedSheets == null) {
+						orderedSheets = BoundSheetRecord.orderByBofPosition(boundSheets);
+					}
+					sheetIndex++;
+					inSheet = sheetIndex < orderedSheets.length &&
+							((BOFRecord)record).getType() == BOFRecord.TYPE_WORKSHEET &&
+							sheetName.equalsIgnoreCase(orderedSheets[sheetIndex].getSheetname());
+					found = found || inSheet;
+				}
+				return 0;
+			case EOFRecord.sid:
+				depth--;
+				if (depth == 0) {
+					if (!globalsRead) {
+						globalsRead = true;
+					} else if (inSheet) {
+						if (rowOpen) {
+							endRow();
+						}
+						return STOP_READING;
+					}
+				}
+				return 0;
+			default:
+				if (!inSheet || depth != 1) {
+					return 0;
+				}
+				return processCellRecord(record) ? 0 : STOP_READING;
+			}
+		}
+
+		/**
+		 * @param record
+		 * @return false if the listener does not need any more rows
+		 * @throws HSSFUserException
+		 */
+		private boolean processCellRecord(Record record) throws HSSFUserException {
+			switch (record.getSid()) {
+			case LabelSSTRecord.sid:
+				LabelSSTRecord label = (LabelSSTRecord)record;
+				return cell(label.getRow(), label.getColumn(), sst.getString(label.getSSTIndex()).getString());
+			case LabelRecord.sid:
+				LabelRecord oldLabel = (LabelRecord)record;
+				return cell(oldLabel.getRow(), oldLabel.getColumn(), oldLabel.getValue());
+			case NumberRecord.sid:
+				NumberRecord number = (NumberRecord)record;
+				return cell(number.getRow(), number.getColumn(), number.getValue());
+			case BoolErrRecord.sid:
+				BoolErrRecord boolErr = (BoolErrRecord)record;
+				return cell(boolErr.getRow(), boolErr.getColumn(),
+						boolErr.isBoolean() ? Boolean.valueOf(boolErr.getBooleanValue()) : null);
+			case BlankRecord.sid:
+				BlankRecord blank = (BlankRecord)record;
+				return cell(blank.getRow(), blank.getColumn(), null);
+			case MulBlankRecord.sid:
+				MulBlankRecord blanks = (MulBlankRecord)record;
+				for (int col = blanks.getFirstColumn(); col <= blanks.getLastColumn(); col++) {
+					if (!cell(blanks.getRow(), col, null)) {
+						return false;
+					}
+				}
+				return true;
+			case FormulaRecord.sid:
+				FormulaRecord formula = (FormulaRecord)record;
+				@SuppressWarnings("deprecation")
+				CellType resultType = CellType.forInt(formula.getCachedResultType());
+				if (resultType == CellType.STRING) {
+					// the value is in the following string record
+					formulaRow = formula.getRow();
+					formulaCol = formula.getColumn();
+					return true;
+				} else if (resultType == CellType.NUMERIC) {
+					return cell(formula.getRow(), formula.getColumn(), formula.getValue());
+				} else if (resultType == CellType.BOOLEAN) {
+					return cell(formula.getRow(), formula.getColumn(), formula.getCachedBooleanValue());
+				} else {
+					return cell(formula.getRow(), formula.getColumn(), null);
+				}
+			case StringRecord.sid:
+				return cell(formulaRow, formulaCol, ((StringRecord)record).getString());
+			default:
+				return true;
+			}
+		}
+
+		/**
+		 * Pass a cell to the listener starting a new row if needed
+		 * @return false if the listener does not need any more rows
+		 * @throws HSSFUserException
+		 */
+		private boolean cell(int row, int col, Object value) throws HSSFUserException {
+			if (!rowOpen || row != rowNum) {
+				if (rowOpen && !endRow()) {
+					return false;
+				}
+				rowNum = row;
+				rowOpen = true;
+				listener.startRow(row);
+			}
+			listener.cell(col, value);
+			return true;
+		}
+
+		private boolean endRow() throws HSSFUserException {
+			rowOpen = false;
+			try {
+				return listener.endRow();
+			} catch (SpreadsheetException e) {
+				throw new HSSFUserException(e.getMessage(), e);
+			} catch (InvalidSPDXAnalysisException e) {
+				throw new HSSFUserException(e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * @param file .xls file
+	 * @throws SpreadsheetException
+	 */
+	XlsEventReader(File file) throws SpreadsheetException {
+		super(file);
+		try {
+			this.fs = new NPOIFSFileSystem(file, true);
+		} catch (IOException ex) {
+			throw(new SpreadsheetException("IO Exception opening excel workbook: "+ex.getMessage()));
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.spdxspreadsheet.SpreadsheetEventReader#readSheet(java.lang.String, org.spdx.spdxspreadsheet.SpreadsheetEventReader.RowListener)
+	 */
+	@Override
+	boolean readSheet(String sheetName, RowListener listener) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		SheetRecordListener recordListener = new SheetRecordListener(sheetName, listener);
+		HSSFRequest request = new HSSFRequest();
+		request.addListenerForAllRecords(recordListener);
+		try {
+			new HSSFEventFactory().abortableProcessWorkbookEvents(request, fs.getRoot());
+		} catch (HSSFUserException ex) {
+			rethrowListenerException(ex.getReason());
+			throw(new SpreadsheetException("Error reading excel sheet: "+ex.getMessage()));
+		} catch (IOException ex) {
+			throw(new SpreadsheetException("IO Exception reading excel sheet: "+ex.getMessage()));
+		}
+		return recordListener.found;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.spdxspreadsheet.SpreadsheetEventReader#close()
+	 */
+	@Override
+	void close() throws SpreadsheetException {
+		if (fs != null) {
+			try {
+				fs.close();
+			} catch (IOException ex) {
+				throw(new SpreadsheetException("IO Error closing excel file: "+ex.getMessage()));
+			} finally {
+				fs = null;
+			}
+		}
+	}
+}
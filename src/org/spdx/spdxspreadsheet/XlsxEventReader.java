@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.spdxspreadsheet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Reads the rows of an .xlsx sheet by parsing the sheet XML with SAX.  Only the
+ * shared strings table of the workbook is kept in memory.
+ * @author SPDX Contributors
+ *
+ */
+class XlsxEventReader extends SpreadsheetEventReader {
+
+	private OPCPackage pkg;
+	private XSSFReader reader;
+	private ReadOnlySharedStringsTable sharedStrings;
+
+	/**
+	 * Thrown to stop parsing a sheet once the listener has read all of the rows it needs
+	 */
+	@SuppressWarnings("serial")
+	private static class StopReadingException extends SAXException {
+	}
+
+	/**
+	 * SAX handler converting the row and cell elements of a sheet into listener events
+	 */
+	private class SheetHandler extends DefaultHandler {
+		private RowListener listener;
+		private int rowNum = -1;
+		private int col = -1;
+		private String cellType;
+		private boolean inRow = false;
+		private boolean inCell = false;
+		private boolean inInlineString = false;
+		private boolean collectText = false;
+		private StringBuilder text = new StringBuilder();
+		private boolean hasValue = false;
+
+		SheetHandler(RowListener listener) {
+			this.listener = listener;
+		}
+
+		@Override
+		public void startElement(String uri, String localName, String qName,
+				Attributes attributes) throws SAXException {
+			if ("row".equals(localName)) {
+				String ref = attributes.getValue("r");
+				rowNum = ref == null ? rowNum + 1 : Integer.parseInt(ref) - 1;
+				col = -1;
+				inRow = true;
+				listener.startRow(rowNum);
+			} else if ("c".equals(localName) && inRow) {
+				String ref = attributes.getValue("r");
+				col = ref == null ? col + 1 : columnOf(ref);
+				cellType = attributes.getValue("t");
+				inCell = true;
+				hasValue = false;
+				text.setLength(0);
+			} else if (inCell && "v".equals(localName)) {
+				collectText = true;
+				hasValue = true;
+			} else if (inCell && "is".equals(localName)) {
+				inInlineString = true;
+				hasValue = true;
+			} else if (inInlineString && "t".equals(localName)) {
+				collectText = true;
+			}
+		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName)
+				throws SAXException {
+			if ("v".equals(localName) || "t".equals(localName)) {
+				collectText = false;
+			} else if ("is".equals(localName)) {
+				inInlineString = false;
+			} else if ("c".equals(localName) && inCell) {
+				inCell = false;
+				listener.cell(col, hasValue ? cellValue(cellType, text.toString()) : null);
+			} else if ("row".equals(localName) && inRow) {
+				inRow = false;
+				boolean more;
+				try {
+					more = listener.endRow();
+				} catch (SpreadsheetException e) {
+					throw new SAXException(e);
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new SAXException(e);
+				}
+				if (!more) {
+					throw new StopReadingException();
+				}
+			}
+		}
+
+		@Override
+		public void characters(char[] ch, int start, int length) throws SAXException {
+			if (collectText) {
+				text.append(ch, start, length);
+			}
+		}
+	}
+
+	/**
+	 * @param file .xlsx file
+	 * @throws SpreadsheetException
+	 */
+	XlsxEventReader(File file) throws SpreadsheetException {
+		super(file);
+		try {
+			this.pkg = OPCPackage.open(file, PackageAccess.READ);
+			this.reader = new XSSFReader(pkg);
+			this.sharedStrings = new ReadOnlySharedStringsTable(pkg);
+		} catch (InvalidFormatException ex) {
+			close();
+			throw(new SpreadsheetException("Unable to open workbook.  Invalid format: "+ex.getMessage()));
+		} catch (OpenXML4JException ex) {
+			close();
+			throw(new SpreadsheetException("Unable to open workbook: "+ex.getMessage()));
+		} catch (IOException ex) {
+			close();
+			throw(new SpreadsheetException("IO Exception opening excel workbook: "+ex.getMessage()));
+		} catch (SAXException ex) {
+			close();
+			throw(new SpreadsheetException("Unable to read the shared strings of the workbook: "+ex.getMessage()));
+		}
+	}
+
+	/**
+	 * @param cellRef cell reference such as "AB12"
+	 * @return zero based column number
+	 */
+	static int columnOf(String cellRef) {
+		int col = 0;
+		for (int i = 0; i < cellRef.length(); i++) {
+			char c = cellRef.charAt(i);
+			if (c < 'A' || c > 'Z') {
+				break;
+			}
+			col = col * 26 + (c - 'A' + 1);
+		}
+		return col - 1;
+	}
+
+	/**
+	 * @param cellType value of the t attribute of the cell
+	 * @param value text of the v or is element
+	 * @return value of the cell
+	 */
+	private Object cellValue(String cellType, String value) {
+		if ("s".equals(cellType)) {
+			return sharedStrings.getEntryAt(Integer.parseInt(value.trim()));
+		} else if ("inlineStr".equals(cellType) || "str".equals(cellType) || "d".equals(cellType)) {
+			return value;
+		} else if ("b".equals(cellType)) {
+			return "1".equals(value.trim());
+		} else if ("e".equals(cellType) || value.trim().isEmpty()) {
+			return null;
+		} else {
+			return Double.parseDouble(value);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.spdxspreadsheet.SpreadsheetEventReader#readSheet(java.lang.String, org.spdx.spdxspreadsheet.SpreadsheetEventReader.RowListener)
+	 */
+	@Override
+	boolean readSheet(String sheetName, RowListener listener) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		XSSFReader.SheetIterator iter;
+		try {
+			iter = (XSSFReader.SheetIterator)reader.getSheetsData();
+		} catch (InvalidFormatException ex) {
+			throw(new SpreadsheetException("Unable to read the sheets of the workbook: "+ex.getMessage()));
+		} catch (IOException ex) {
+			throw(new SpreadsheetException("IO Exception reading the sheets of the workbook: "+ex.getMessage()));
+		}
+		while (iter.hasNext()) {
+			InputStream sheetInput = iter.next();
+			try {
+				if (sheetName.equalsIgnoreCase(iter.getSheetName())) {
+					parseSheet(sheetInput, listener);
+					return true;
+				}
+			} finally {
+				try {
+					sheetInput.close();
+				} catch (IOException ex) {
+					logger.warn("IO Error closing excel sheet: "+ex.getMessage());
+				}
+			}
+		}
+		return false;
+	}
+
+	private void parseSheet(InputStream sheetInput, RowListener listener) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		try {
+			XMLReader parser = SAXHelper.newXMLReader();
+			parser.setContentHandler(new SheetHandler(listener));
+			parser.parse(new InputSource(sheetInput));
+		} catch (StopReadingException ex) {
+			// the listener does not need any more rows
+		} catch (SAXException ex) {
+			rethrowListenerException(ex.getException());
+			throw(new SpreadsheetException("Error parsing excel sheet: "+ex.getMessage()));
+		} catch (ParserConfigurationException ex) {
+			throw(new SpreadsheetException("Unable to create an XML parser: "+ex.getMessage()));
+		} catch (IOException ex) {
+			throw(new SpreadsheetException("IO Exception reading excel sheet: "+ex.getMessage()));
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.spdxspreadsheet.SpreadsheetEventReader#close()
+	 */
+	@Override
+	void close() {
+		if (pkg != null) {
+			// the package is read only - revert releases the file without saving
+			pkg.revert();
+			pkg = null;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,9 @@ import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.license.AnyLicenseInfo;
 import org.spdx.rdfparser.license.ExtractedLicenseInfo;
 import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.LicenseSet;
+import org.spdx.rdfparser.license.OrLaterOperator;
+import org.spdx.rdfparser.license.WithExceptionOperator;
 import org.spdx.rdfparser.model.Annotation;
 import org.spdx.rdfparser.model.Annotation.AnnotationType;
 import org.spdx.rdfparser.model.Checksum;
@@ -149,8 +153,100 @@ public class BuildDocument implements TagValueBehavior {
 		}
 	}
 
+	/**
+	 * Tags recognized by the builder - the names match the property keys in SpdxTagValueConstants.properties
+	 */
+	enum Tag {
+		PROP_ANNOTATION_COMMENT,
+		PROP_ANNOTATION_DATE,
+		PROP_ANNOTATION_ID,
+		PROP_ANNOTATION_TYPE,
+		PROP_ANNOTATOR,
+		PROP_CREATION_COMMENT,
+		PROP_CREATION_CREATED,
+		PROP_CREATION_CREATOR,
+		PROP_DOCUMENT_NAME,
+		PROP_DOCUMENT_NAMESPACE,
+		PROP_ELEMENT_ID,
+		PROP_EXTERNAL_DOC_URI,
+		PROP_EXTERNAL_REFERENCE,
+		PROP_EXTERNAL_REFERENCE_COMMENT,
+		PROP_EXTRACTED_TEXT,
+		PROP_FILE_ATTRIBUTION_TEXT,
+		PROP_FILE_CHECKSUM,
+		PROP_FILE_COMMENT,
+		PROP_FILE_CONTRIBUTOR,
+		PROP_FILE_COPYRIGHT,
+		PROP_FILE_DEPENDENCY,
+		PROP_FILE_LICENSE,
+		PROP_FILE_LIC_COMMENTS,
+		PROP_FILE_NAME,
+		PROP_FILE_NOTICE_TEXT,
+		PROP_FILE_SEEN_LICENSE,
+		PROP_FILE_TYPE,
+		PROP_LICENSE_COMMENT,
+		PROP_LICENSE_ID,
+		PROP_LICENSE_LIST_VERSION,
+		PROP_LICENSE_NAME,
+		PROP_LICENSE_TEXT,
+		PROP_PACKAGE_ATTRIBUTION_TEXT,
+		PROP_PACKAGE_CHECKSUM,
+		PROP_PACKAGE_COMMENT,
+		PROP_PACKAGE_CONCLUDED_LICENSE,
+		PROP_PACKAGE_DECLARED_COPYRIGHT,
+		PROP_PACKAGE_DECLARED_LICENSE,
+		PROP_PACKAGE_DECLARED_NAME,
+		PROP_PACKAGE_DESCRIPTION,
+		PROP_PACKAGE_DOWNLOAD_URL,
+		PROP_PACKAGE_FILES_ANALYZED,
+		PROP_PACKAGE_FILE_NAME,
+		PROP_PACKAGE_HOMEPAGE_URL,
+		PROP_PACKAGE_LICENSE_COMMENT,
+		PROP_PACKAGE_LICENSE_INFO_FROM_FILES,
+		PROP_PACKAGE_ORIGINATOR,
+		PROP_PACKAGE_SHORT_DESC,
+		PROP_PACKAGE_SOURCE_INFO,
+		PROP_PACKAGE_SUPPLIER,
+		PROP_PACKAGE_VERIFICATION_CODE,
+		PROP_PACKAGE_VERSION_INFO,
+		PROP_PROJECT_HOMEPAGE,
+		PROP_PROJECT_NAME,
+		PROP_PROJECT_URI,
+		PROP_RELATIONSHIP,
+		PROP_RELATIONSHIP_COMMENT,
+		PROP_REVIEW_COMMENT,
+		PROP_REVIEW_DATE,
+		PROP_REVIEW_REVIEWER,
+		PROP_SNIPPET_BYTE_RANGE,
+		PROP_SNIPPET_COMMENT,
+		PROP_SNIPPET_CONCLUDED_LICENSE,
+		PROP_SNIPPET_COPYRIGHT,
+		PROP_SNIPPET_FROM_FILE_ID,
+		PROP_SNIPPET_LIC_COMMENTS,
+		PROP_SNIPPET_LINE_RANGE,
+		PROP_SNIPPET_NAME,
+		PROP_SNIPPET_SEEN_LICENSE,
+		PROP_SNIPPET_SPDX_ID,
+		PROP_SOURCE_URLS,
+		PROP_SPDX_COMMENT,
+		PROP_SPDX_DATA_LICENSE,
+		PROP_SPDX_VERSION;
+	}
+
+	/**
+	 * Tags whose values are license expressions
+	 */
+	static final Set<Tag> LICENSE_EXPRESSION_TAGS = EnumSet.of(Tag.PROP_FILE_LICENSE, Tag.PROP_FILE_SEEN_LICENSE,
+			Tag.PROP_SNIPPET_CONCLUDED_LICENSE, Tag.PROP_SNIPPET_SEEN_LICENSE, Tag.PROP_PACKAGE_CONCLUDED_LICENSE,
+			Tag.PROP_PACKAGE_DECLARED_LICENSE, Tag.PROP_PACKAGE_LICENSE_INFO_FROM_FILES);
+	/**
+	 * Tags which start the definition of a file, snippet or package
+	 */
+	static final Set<Tag> SECTION_START_TAGS = EnumSet.of(Tag.PROP_FILE_NAME, Tag.PROP_SNIPPET_SPDX_ID,
+			Tag.PROP_PACKAGE_DECLARED_NAME);
+
 	private static Pattern EXTERNAL_DOC_REF_PATTERN = Pattern.compile("(\\S+)\\s+(\\S+)\\s+SHA1:\\s+(\\S+)");
-	private static Pattern RELATIONSHIP_PATTERN = Pattern.compile("(\\S+)\\s+(\\S+)\\s+(\\S+)");
+	static Pattern RELATIONSHIP_PATTERN = Pattern.compile("(\\S+)\\s+(\\S+)\\s+(\\S+)");
 	public static Pattern CHECKSUM_PATTERN = Pattern.compile("(\\S+)\\s+(\\S+)");
 	private static Pattern NUMBER_RANGE_PATTERN = Pattern.compile("(\\d+):(\\d+)");
 	private static Pattern EXTERNAL_REF_PATTERN = Pattern.compile("([^ ]+) ([^ ]+) (.+)");
@@ -158,23 +254,27 @@ public class BuildDocument implements TagValueBehavior {
 	/**
 	 * Tags used in the definition of an annotation
 	 */
-	private Set<String> ANNOTATION_TAGS = Sets.newHashSet();
+	private Set<Tag> ANNOTATION_TAGS = EnumSet.noneOf(Tag.class);
 	/**
 	 * Tags used in the definition of a file
 	 */
-	private Set<String> FILE_TAGS = Sets.newHashSet();
+	private Set<Tag> FILE_TAGS = EnumSet.noneOf(Tag.class);
 	/**
 	 * Tags used in the definition of a Snippet
 	 */
-	private Set<String> SNIPPET_TAGS = Sets.newHashSet();
+	private Set<Tag> SNIPPET_TAGS = EnumSet.noneOf(Tag.class);
 	/**
 	 * Tags used in the definition of a package
 	 */
 	/**
 	 * Tags used in the definition of an extracted license
 	 */
-	private Set<String> EXTRACTED_LICENSE_TAGS = Sets.newHashSet();
-	private Set<String> PACKAGE_TAGS = Sets.newHashSet();
+	private Set<Tag> EXTRACTED_LICENSE_TAGS = EnumSet.noneOf(Tag.class);
+	private Set<Tag> PACKAGE_TAGS = EnumSet.noneOf(Tag.class);
+	/**
+	 * Map of the tag text to the tag - built once from the constants so that each line is dispatched with a single lookup
+	 */
+	private Map<String, Tag> tagMap = Maps.newHashMap();
 	private Properties constants;
 	private SpdxDocument analysis;
 	private DateFormat format = new SimpleDateFormat(SpdxRdfConstants.SPDX_DATE_FORMAT);
@@ -218,6 +318,16 @@ public class BuildDocument implements TagValueBehavior {
 	 */
 	private List<AnnotationWithId> annotations = Lists.newArrayList();
 	private SpdxDocumentContainer[] result = null;
+	/**
+	 * License parsed ahead of time for the value currently being built, null if the value is to be parsed by the builder
+	 */
+	private AnyLicenseInfo parsedLicense = null;
+	/**
+	 * Licenses parsed for the document container keyed by the license expression.  Each distinct expression
+	 * is parsed once and the license is shared by all elements using the expression.
+	 * Concurrent since the parallel parser checks for expressions already parsed from its worker threads.
+	 */
+	private Map<String, AnyLicenseInfo> licenseExpressionCache = Maps.newConcurrentMap();
 
 	private String specVersion;
 
@@ -267,90 +377,109 @@ public class BuildDocument implements TagValueBehavior {
 		this.constants = constants;
 		this.warningMessages = warnings;
 		this.result = result;
-		this.ANNOTATION_TAGS.add(constants.getProperty("PROP_ANNOTATION_DATE").trim()+" ");
-		this.ANNOTATION_TAGS.add(constants.getProperty("PROP_ANNOTATION_COMMENT").trim()+" ");
-		this.ANNOTATION_TAGS.add(constants.getProperty("PROP_ANNOTATION_ID").trim()+" ");
-		this.ANNOTATION_TAGS.add(constants.getProperty("PROP_ANNOTATION_TYPE").trim()+" ");
-
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_TYPE").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_LICENSE").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_COPYRIGHT").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_CHECKSUM").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_SEEN_LICENSE").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_LIC_COMMENTS").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_COMMENT").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_DEPENDENCY").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_CONTRIBUTOR").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_NOTICE_TEXT").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_ELEMENT_ID").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_PROJECT_NAME").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_PROJECT_HOMEPAGE").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_PROJECT_URI").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_DOCUMENT_NAMESPACE").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_RELATIONSHIP").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_RELATIONSHIP_COMMENT").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_ANNOTATOR").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_ANNOTATION_DATE").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_ANNOTATION_COMMENT").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_ANNOTATION_ID").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_ANNOTATION_TYPE").trim()+" ");
-		this.FILE_TAGS.add(constants.getProperty("PROP_FILE_ATTRIBUTION_TEXT").trim()+" ");
-
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_SPDX_ID").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_FROM_FILE_ID").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_BYTE_RANGE").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_LINE_RANGE").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_CONCLUDED_LICENSE").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_LIC_COMMENTS").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_COPYRIGHT").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_COMMENT").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_NAME").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_SNIPPET_SEEN_LICENSE").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_DOCUMENT_NAMESPACE").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_RELATIONSHIP").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_RELATIONSHIP_COMMENT").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_ANNOTATOR").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_ANNOTATION_DATE").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_ANNOTATION_COMMENT").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_ANNOTATION_ID").trim()+" ");
-		this.SNIPPET_TAGS.add(constants.getProperty("PROP_ANNOTATION_TYPE").trim()+" ");
-
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_COMMENT").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_FILE_NAME").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_CHECKSUM").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_DOWNLOAD_URL").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_SOURCE_INFO").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_DECLARED_LICENSE").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_CONCLUDED_LICENSE").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_DECLARED_COPYRIGHT").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_SHORT_DESC").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_DESCRIPTION").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_VERIFICATION_CODE").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_LICENSE_INFO_FROM_FILES").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_LICENSE_COMMENT").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_VERSION_INFO").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_ORIGINATOR").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_SUPPLIER").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_HOMEPAGE_URL").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_ELEMENT_ID").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_FILE_NAME").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_RELATIONSHIP").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_RELATIONSHIP_COMMENT").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_ANNOTATOR").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_ANNOTATION_DATE").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_ANNOTATION_COMMENT").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_ANNOTATION_ID").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_ANNOTATION_TYPE").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_EXTERNAL_REFERENCE").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_EXTERNAL_REFERENCE_COMMENT").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_FILES_ANALYZED").trim()+" ");
-		this.PACKAGE_TAGS.add(constants.getProperty("PROP_PACKAGE_ATTRIBUTION_TEXT").trim()+" ");
-
-		this.EXTRACTED_LICENSE_TAGS.add(constants.getProperty("PROP_LICENSE_TEXT").trim()+" ");
-		this.EXTRACTED_LICENSE_TAGS.add(constants.getProperty("PROP_EXTRACTED_TEXT").trim()+" ");
-		this.EXTRACTED_LICENSE_TAGS.add(constants.getProperty("PROP_LICENSE_COMMENT").trim()+" ");
-		this.EXTRACTED_LICENSE_TAGS.add(constants.getProperty("PROP_LICENSE_NAME").trim()+" ");
-		this.EXTRACTED_LICENSE_TAGS.add(constants.getProperty("PROP_SOURCE_URLS").trim()+" ");
+		for (Tag tag:Tag.values()) {
+			tagMap.put(constants.getProperty(tag.name()).trim(), tag);
+		}
+		this.ANNOTATION_TAGS.add(Tag.PROP_ANNOTATION_DATE);
+		this.ANNOTATION_TAGS.add(Tag.PROP_ANNOTATION_COMMENT);
+		this.ANNOTATION_TAGS.add(Tag.PROP_ANNOTATION_ID);
+		this.ANNOTATION_TAGS.add(Tag.PROP_ANNOTATION_TYPE);
+
+		this.FILE_TAGS.add(Tag.PROP_FILE_TYPE);
+		this.FILE_TAGS.add(Tag.PROP_FILE_LICENSE);
+		this.FILE_TAGS.add(Tag.PROP_FILE_COPYRIGHT);
+		this.FILE_TAGS.add(Tag.PROP_FILE_CHECKSUM);
+		this.FILE_TAGS.add(Tag.PROP_FILE_SEEN_LICENSE);
+		this.FILE_TAGS.add(Tag.PROP_FILE_LIC_COMMENTS);
+		this.FILE_TAGS.add(Tag.PROP_FILE_COMMENT);
+		this.FILE_TAGS.add(Tag.PROP_FILE_DEPENDENCY);
+		this.FILE_TAGS.add(Tag.PROP_FILE_CONTRIBUTOR);
+		this.FILE_TAGS.add(Tag.PROP_FILE_NOTICE_TEXT);
+		this.FILE_TAGS.add(Tag.PROP_ELEMENT_ID);
+		this.FILE_TAGS.add(Tag.PROP_PROJECT_NAME);
+		this.FILE_TAGS.add(Tag.PROP_PROJECT_HOMEPAGE);
+		this.FILE_TAGS.add(Tag.PROP_PROJECT_URI);
+		this.FILE_TAGS.add(Tag.PROP_DOCUMENT_NAMESPACE);
+		this.FILE_TAGS.add(Tag.PROP_RELATIONSHIP);
+		this.FILE_TAGS.add(Tag.PROP_RELATIONSHIP_COMMENT);
+		this.FILE_TAGS.add(Tag.PROP_ANNOTATOR);
+		this.FILE_TAGS.add(Tag.PROP_ANNOTATION_DATE);
+		this.FILE_TAGS.add(Tag.PROP_ANNOTATION_COMMENT);
+		this.FILE_TAGS.add(Tag.PROP_ANNOTATION_ID);
+		this.FILE_TAGS.add(Tag.PROP_ANNOTATION_TYPE);
+		this.FILE_TAGS.add(Tag.PROP_FILE_ATTRIBUTION_TEXT);
+
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_SPDX_ID);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_FROM_FILE_ID);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_BYTE_RANGE);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_LINE_RANGE);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_CONCLUDED_LICENSE);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_LIC_COMMENTS);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_COPYRIGHT);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_COMMENT);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_NAME);
+		this.SNIPPET_TAGS.add(Tag.PROP_SNIPPET_SEEN_LICENSE);
+		this.SNIPPET_TAGS.add(Tag.PROP_DOCUMENT_NAMESPACE);
+		this.SNIPPET_TAGS.add(Tag.PROP_RELATIONSHIP);
+		this.SNIPPET_TAGS.add(Tag.PROP_RELATIONSHIP_COMMENT);
+		this.SNIPPET_TAGS.add(Tag.PROP_ANNOTATOR);
+		this.SNIPPET_TAGS.add(Tag.PROP_ANNOTATION_DATE);
+		this.SNIPPET_TAGS.add(Tag.PROP_ANNOTATION_COMMENT);
+		this.SNIPPET_TAGS.add(Tag.PROP_ANNOTATION_ID);
+		this.SNIPPET_TAGS.add(Tag.PROP_ANNOTATION_TYPE);
+
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_COMMENT);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_FILE_NAME);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_CHECKSUM);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_DOWNLOAD_URL);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_SOURCE_INFO);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_DECLARED_LICENSE);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_CONCLUDED_LICENSE);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_DECLARED_COPYRIGHT);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_SHORT_DESC);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_DESCRIPTION);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_VERIFICATION_CODE);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_LICENSE_INFO_FROM_FILES);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_LICENSE_COMMENT);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_VERSION_INFO);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_ORIGINATOR);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_SUPPLIER);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_HOMEPAGE_URL);
+		this.PACKAGE_TAGS.add(Tag.PROP_ELEMENT_ID);
+		this.PACKAGE_TAGS.add(Tag.PROP_FILE_NAME);
+		this.PACKAGE_TAGS.add(Tag.PROP_RELATIONSHIP);
+		this.PACKAGE_TAGS.add(Tag.PROP_RELATIONSHIP_COMMENT);
+		this.PACKAGE_TAGS.add(Tag.PROP_ANNOTATOR);
+		this.PACKAGE_TAGS.add(Tag.PROP_ANNOTATION_DATE);
+		this.PACKAGE_TAGS.add(Tag.PROP_ANNOTATION_COMMENT);
+		this.PACKAGE_TAGS.add(Tag.PROP_ANNOTATION_ID);
+		this.PACKAGE_TAGS.add(Tag.PROP_ANNOTATION_TYPE);
+		this.PACKAGE_TAGS.add(Tag.PROP_EXTERNAL_REFERENCE);
+		this.PACKAGE_TAGS.add(Tag.PROP_EXTERNAL_REFERENCE_COMMENT);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_FILES_ANALYZED);
+		this.PACKAGE_TAGS.add(Tag.PROP_PACKAGE_ATTRIBUTION_TEXT);
+
+		this.EXTRACTED_LICENSE_TAGS.add(Tag.PROP_LICENSE_TEXT);
+		this.EXTRACTED_LICENSE_TAGS.add(Tag.PROP_EXTRACTED_TEXT);
+		this.EXTRACTED_LICENSE_TAGS.add(Tag.PROP_LICENSE_COMMENT);
+		this.EXTRACTED_LICENSE_TAGS.add(Tag.PROP_LICENSE_NAME);
+		this.EXTRACTED_LICENSE_TAGS.add(Tag.PROP_SOURCE_URLS);
+	}
+
+	/**
+	 * @param tag
+	 * @return true if the value of the tag is a license expression
+	 */
+	boolean isLicenseExpressionTag(String tag) {
+		return LICENSE_EXPRESSION_TAGS.contains(tagMap.get(tag.trim()));
+	}
+
+	/**
+	 * @param tag
+	 * @return true if the tag starts the definition of a file, snippet or package
+	 */
+	boolean isSectionStartTag(String tag) {
+		return SECTION_START_TAGS.contains(tagMap.get(tag.trim()));
 	}
 
 	@Override
@@ -360,18 +489,19 @@ public class BuildDocument implements TagValueBehavior {
 
 	@Override
 	public void buildDocument(String tag, String value, int lineNumber) throws Exception {
-		tag = tag.trim()+" ";
-		value = trim(value.trim());
-		if (this.inAnnotation && ANNOTATION_TAGS.contains(tag)) {
-			buildAnnotation(tag, value, lastAnnotation);
-		} else if (this.inFileDefinition && FILE_TAGS.contains(tag)) {
-			buildFile(this.lastFile, tag, value, lineNumber);
-		} else if (this.inSnippetDefinition && SNIPPET_TAGS.contains(tag)) {
-			buildSnippet(this.lastSnippet, tag, value, lineNumber);
-		} else if (this.inPackageDefinition && PACKAGE_TAGS.contains(tag)) {
-			buildPackage(this.lastPackage, tag, value, lineNumber);
-		} else if (this.inExtractedLicenseDefinition && EXTRACTED_LICENSE_TAGS.contains(tag)) {
-			buildExtractedLicense(this.lastExtractedLicense, tag, value, lineNumber);
+		tag = tag.trim();
+		Tag tagId = tagMap.get(tag);
+		value = trim(value);
+		if (this.inAnnotation && ANNOTATION_TAGS.contains(tagId)) {
+			buildAnnotation(tagId, tag, value, lastAnnotation);
+		} else if (this.inFileDefinition && FILE_TAGS.contains(tagId)) {
+			buildFile(this.lastFile, tagId, tag, value, lineNumber);
+		} else if (this.inSnippetDefinition && SNIPPET_TAGS.contains(tagId)) {
+			buildSnippet(this.lastSnippet, tagId, tag, value, lineNumber);
+		} else if (this.inPackageDefinition && PACKAGE_TAGS.contains(tagId)) {
+			buildPackage(this.lastPackage, tagId, tag, value, lineNumber);
+		} else if (this.inExtractedLicenseDefinition && EXTRACTED_LICENSE_TAGS.contains(tagId)) {
+			buildExtractedLicense(this.lastExtractedLicense, tagId, tag, value, lineNumber);
 		} else {
 			if (inExtractedLicenseDefinition && lastExtractedLicense != null) {
 				verifyElement(lastExtractedLicense.verify(), "Extracted License", lastExtractedLicenseLineNumber, false);
@@ -386,13 +516,14 @@ public class BuildDocument implements TagValueBehavior {
 			inFileDefinition = false;
 			inPackageDefinition = false;
 			inSnippetDefinition = false;
-			buildDocumentProperties(tag, value, lineNumber);
+			buildDocumentProperties(tagId, tag, value, lineNumber);
 		}
 	}
 
 	/**
 	 * Add tag value properties to an existing snippet
 	 * @param snippet
+	 * @param tagId
 	 * @param tag
 	 * @param value
 	 * @param lineNumber
@@ -400,57 +531,86 @@ public class BuildDocument implements TagValueBehavior {
 	 * @throws InvalidSPDXAnalysisException
 	 * @throws InvalidLicenseStringException
 	 */
-	private void buildSnippet(SpdxSnippet snippet, String tag, String value, int lineNumber) throws InvalidSpdxTagFileException, InvalidSPDXAnalysisException, InvalidLicenseStringException {
+	private void buildSnippet(SpdxSnippet snippet, Tag tagId, String tag, String value, int lineNumber) throws InvalidSpdxTagFileException, InvalidSPDXAnalysisException, InvalidLicenseStringException {
 		if (snippet == null) {
 			throw(new InvalidSpdxTagFileException("Missing Snippet ID - An SPDX Snippet ID must be specified before the snippet properties"));
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_SPDX_ID"))) {
-			snippet.setId(value);
-			elementIdLineNumberMap.put(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_FROM_FILE_ID"))) {
-			// Since the files have not all been parsed, we just keep track of the
-			// dependencies in a hashmap until we finish all processing and are building the package
-			List<SpdxSnippet> snippetsWithThisAsADependency = this.snippetDependencyMap.get(value);
-			if (snippetsWithThisAsADependency == null) {
-				snippetsWithThisAsADependency = Lists.newArrayList();
-				this.snippetDependencyMap.put(value, snippetsWithThisAsADependency);
-			}
-			snippetsWithThisAsADependency.add(snippet);
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_BYTE_RANGE"))) {
-			snippet.setByteRange(parseByteRange(value, lineNumber));
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_LINE_RANGE"))) {
-			snippet.setLineRange(parseLineRange(value, lineNumber));
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_CONCLUDED_LICENSE"))) {
-			snippet.setLicenseConcluded(LicenseInfoFactory.parseSPDXLicenseString(value, this.analysis.getDocumentContainer()));
-			// can not verify any licenses at this point since the extracted license infos may not be set
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_LIC_COMMENTS"))) {
-			snippet.setLicenseComments(value);
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_COPYRIGHT"))) {
-			snippet.setCopyrightText(value);
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_COMMENT"))) {
-			snippet.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_NAME"))) {
-			snippet.setName(value);
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_SEEN_LICENSE"))) {
-			snippet.setLicenseInfosFromFiles(new AnyLicenseInfo[] {LicenseInfoFactory.parseSPDXLicenseString(value, this.analysis.getDocumentContainer())});
-			// can not verify any licenses at this point since the extracted license infos may not be set
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATOR"))) {
-			if (lastAnnotation != null) {
-				annotations.add(lastAnnotation);
-			}
-			this.inAnnotation = true;
-			lastAnnotation = new AnnotationWithId(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_RELATIONSHIP"))) {
-			if (lastRelationship != null) {
-				relationships.add(lastRelationship);
-			}
-			lastRelationship = parseRelationship(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_RELATIONSHIP_COMMENT"))) {
-			if (lastRelationship == null) {
-				throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value + " at line number "+lineNumber));
-			}
-			lastRelationship.setComment(value);
-		} else {
-			throw new InvalidSPDXAnalysisException("Error parsing snippet.  Unrecognized tag: "+tag + " at line number " + lineNumber);
+		}
+		switch (tagId) {
+			case PROP_SNIPPET_SPDX_ID: {
+				snippet.setId(value);
+				elementIdLineNumberMap.put(value, lineNumber);
+				break;
+			}
+			case PROP_SNIPPET_FROM_FILE_ID: {
+				// Since the files have not all been parsed, we just keep track of the
+				// dependencies in a hashmap until we finish all processing and are building the package
+				List<SpdxSnippet> snippetsWithThisAsADependency = this.snippetDependencyMap.get(value);
+				if (snippetsWithThisAsADependency == null) {
+					snippetsWithThisAsADependency = Lists.newArrayList();
+					this.snippetDependencyMap.put(value, snippetsWithThisAsADependency);
+				}
+				snippetsWithThisAsADependency.add(snippet);
+				break;
+			}
+			case PROP_SNIPPET_BYTE_RANGE: {
+				snippet.setByteRange(parseByteRange(value, lineNumber));
+				break;
+			}
+			case PROP_SNIPPET_LINE_RANGE: {
+				snippet.setLineRange(parseLineRange(value, lineNumber));
+				break;
+			}
+			case PROP_SNIPPET_CONCLUDED_LICENSE: {
+				snippet.setLicenseConcluded(parseLicense(value));
+				// can not verify any licenses at this point since the extracted license infos may not be set
+				break;
+			}
+			case PROP_SNIPPET_LIC_COMMENTS: {
+				snippet.setLicenseComments(value);
+				break;
+			}
+			case PROP_SNIPPET_COPYRIGHT: {
+				snippet.setCopyrightText(value);
+				break;
+			}
+			case PROP_SNIPPET_COMMENT: {
+				snippet.setComment(value);
+				break;
+			}
+			case PROP_SNIPPET_NAME: {
+				snippet.setName(value);
+				break;
+			}
+			case PROP_SNIPPET_SEEN_LICENSE: {
+				snippet.setLicenseInfosFromFiles(new AnyLicenseInfo[] {parseLicense(value)});
+				// can not verify any licenses at this point since the extracted license infos may not be set
+				break;
+			}
+			case PROP_ANNOTATOR: {
+				if (lastAnnotation != null) {
+					annotations.add(lastAnnotation);
+				}
+				this.inAnnotation = true;
+				lastAnnotation = new AnnotationWithId(value, lineNumber);
+				break;
+			}
+			case PROP_RELATIONSHIP: {
+				if (lastRelationship != null) {
+					relationships.add(lastRelationship);
+				}
+				lastRelationship = parseRelationship(value, lineNumber);
+				break;
+			}
+			case PROP_RELATIONSHIP_COMMENT: {
+				if (lastRelationship == null) {
+					throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value + " at line number "+lineNumber));
+				}
+				lastRelationship.setComment(value);
+				break;
+			}
+			default: {
+				throw new InvalidSPDXAnalysisException("Error parsing snippet.  Unrecognized tag: "+tag + " at line number " + lineNumber);
+			}
 		}
 	}
 
@@ -539,222 +699,284 @@ public class BuildDocument implements TagValueBehavior {
 
 	/**
 	 * @param license
+	 * @param tagId
 	 * @param tag
 	 * @param value
 	 * @param lineNumber
 	 * @throws InvalidSpdxTagFileException
 	 */
 	private void buildExtractedLicense(
-			ExtractedLicenseInfo license, String tag, String value, int lineNumber) throws InvalidSpdxTagFileException {
-		if (tag.equals(constants.getProperty("PROP_EXTRACTED_TEXT"))) {
-			if (lastExtractedLicense == null) {
-				throw(new InvalidSpdxTagFileException("Missing Extracted License - An  extracted license ID must be provided before the license text at line number "+lineNumber));
-			}
-			license.setExtractedText(value);
-		} else if (tag.equals(constants.getProperty("PROP_LICENSE_NAME"))) {
-			if (lastExtractedLicense == null) {
-				throw(new InvalidSpdxTagFileException("Missing Extracted License - An  extracted license ID must be provided before the license name at line number "+lineNumber));
+			ExtractedLicenseInfo license, Tag tagId, String tag, String value, int lineNumber) throws InvalidSpdxTagFileException {
+		switch (tagId) {
+			case PROP_EXTRACTED_TEXT: {
+				if (lastExtractedLicense == null) {
+					throw(new InvalidSpdxTagFileException("Missing Extracted License - An  extracted license ID must be provided before the license text at line number "+lineNumber));
+				}
+				license.setExtractedText(value);
+				break;
 			}
-			license.setName(value);
-		} else if (tag.equals(constants.getProperty("PROP_SOURCE_URLS"))) {
-			if (lastExtractedLicense == null) {
-				throw(new InvalidSpdxTagFileException("Missing Extracted License - An  extracted license ID must be provided before the license URL at line number "+lineNumber));
+			case PROP_LICENSE_NAME: {
+				if (lastExtractedLicense == null) {
+					throw(new InvalidSpdxTagFileException("Missing Extracted License - An  extracted license ID must be provided before the license name at line number "+lineNumber));
+				}
+				license.setName(value);
+				break;
 			}
-			String[] values = value.split(",");
-			for (int i = 0; i < values.length; i++) {
-				values[i] = values[i].trim();
+			case PROP_SOURCE_URLS: {
+				if (lastExtractedLicense == null) {
+					throw(new InvalidSpdxTagFileException("Missing Extracted License - An  extracted license ID must be provided before the license URL at line number "+lineNumber));
+				}
+				String[] values = value.split(",");
+				for (int i = 0; i < values.length; i++) {
+					values[i] = values[i].trim();
+				}
+				license.setSeeAlso(values);
+				break;
 			}
-			license.setSeeAlso(values);
-		} else if (tag.equals(constants.getProperty("PROP_LICENSE_COMMENT"))) {
-			if (lastExtractedLicense == null) {
-				throw(new InvalidSpdxTagFileException("Missing Extracted License - An  extracted license ID must be provided before the license comment at line number "+lineNumber));
+			case PROP_LICENSE_COMMENT: {
+				if (lastExtractedLicense == null) {
+					throw(new InvalidSpdxTagFileException("Missing Extracted License - An  extracted license ID must be provided before the license comment at line number "+lineNumber));
+				}
+				license.setComment(value);
+				break;
 			}
-			license.setComment(value);
 		}
 	}
 
 	@SuppressWarnings("deprecation")
-	private void buildDocumentProperties(String tag, String value, int lineNumber) throws Exception {
-		if (tag.equals(constants.getProperty("PROP_SPDX_VERSION"))) {
-			this.specVersion = value;
-			if (analysis != null) {
-				analysis.setSpecVersion(value);
+	private void buildDocumentProperties(Tag tagId, String tag, String value, int lineNumber) throws Exception {
+		if (tagId == null) {
+			throw new InvalidSpdxTagFileException("Expecting a definition of a file, package, license information, or document property at "+tag+" "+value+" line number "+lineNumber);
+		}
+		switch (tagId) {
+			case PROP_SPDX_VERSION: {
+				this.specVersion = value;
+				if (analysis != null) {
+					analysis.setSpecVersion(value);
+				}
+				break;
 			}
-		} else if (tag.equals(constants.getProperty("PROP_SPDX_DATA_LICENSE"))) {
-			try {
-				this.dataLicense = LicenseInfoFactory.getListedLicenseById(value);
-			} catch(InvalidSPDXAnalysisException ex) {
-				this.dataLicense = null;
+			case PROP_SPDX_DATA_LICENSE: {
+				try {
+					this.dataLicense = LicenseInfoFactory.getListedLicenseById(value);
+				} catch(InvalidSPDXAnalysisException ex) {
+					this.dataLicense = null;
+				}
+				if (this.dataLicense == null) {
+					this.dataLicense = new ExtractedLicenseInfo(value, "NO TEXT FOR "+value);
+				}
+				if (analysis != null) {
+					analysis.setDataLicense(this.dataLicense);
+				}
+				break;
 			}
-			if (this.dataLicense == null) {
-				this.dataLicense = new ExtractedLicenseInfo(value, "NO TEXT FOR "+value);
+			case PROP_DOCUMENT_NAME: {
+				this.documentName = value;
+				if (analysis != null) {
+					this.analysis.setName(value);
+				}
+				break;
 			}
-			if (analysis != null) {
-				analysis.setDataLicense(this.dataLicense);
+			case PROP_DOCUMENT_NAMESPACE: {
+				if (this.analysis != null) {
+					throw(new InvalidSpdxTagFileException("More than one document namespace was specified at line number "+lineNumber));
+				}
+				if (this.specVersion == null) {
+					result[0] = new SpdxDocumentContainer(value);
+				} else {
+					result[0] = new SpdxDocumentContainer(value, this.specVersion);
+				}
+				this.analysis = result[0].getSpdxDocument();
+				this.licenseExpressionCache.clear();
+				if (this.dataLicense != null) {
+					this.analysis.setDataLicense(this.dataLicense);
+				}
+				if (this.documentName != null) {
+					this.analysis.setName(this.documentName);
+				}
+				break;
 			}
-		} else if (tag.equals(constants.getProperty("PROP_DOCUMENT_NAME"))) {
-			this.documentName = value;
-			if (analysis != null) {
-				this.analysis.setName(value);
+			case PROP_ELEMENT_ID: {
+				if (!value.equals(SpdxRdfConstants.SPDX_DOCUMENT_ID)) {
+					throw(new InvalidSpdxTagFileException("SPDX Document "+value
+							+" is invalid.  Document IDs must be "+SpdxRdfConstants.SPDX_DOCUMENT_ID + " at line number "+lineNumber));
+				}
+				break;
 			}
-		} else if (tag.equals(constants.getProperty("PROP_DOCUMENT_NAMESPACE"))) {
-			if (this.analysis != null) {
-				throw(new InvalidSpdxTagFileException("More than one document namespace was specified at line number "+lineNumber));
+			case PROP_EXTERNAL_DOC_URI: {
+				checkAnalysisNull();
+				addExternalDocRef(value, lineNumber);
+				break;
 			}
-			if (this.specVersion == null) {
-				result[0] = new SpdxDocumentContainer(value);
-			} else {
-				result[0] = new SpdxDocumentContainer(value, this.specVersion);
-			}
-			this.analysis = result[0].getSpdxDocument();
-			if (this.dataLicense != null) {
-				this.analysis.setDataLicense(this.dataLicense);
-			}
-			if (this.documentName != null) {
-				this.analysis.setName(this.documentName);
-			}
-		} else if (tag.equals(constants.getProperty("PROP_ELEMENT_ID"))) {
-			if (!value.equals(SpdxRdfConstants.SPDX_DOCUMENT_ID)) {
-				throw(new InvalidSpdxTagFileException("SPDX Document "+value
-						+" is invalid.  Document IDs must be "+SpdxRdfConstants.SPDX_DOCUMENT_ID + " at line number "+lineNumber));
-			}
-		} else if (tag.equals(constants.getProperty("PROP_EXTERNAL_DOC_URI"))) {
-			checkAnalysisNull();
-			addExternalDocRef(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_RELATIONSHIP"))) {
-			if (lastRelationship != null) {
-				relationships.add(lastRelationship);
-			}
-			lastRelationship = parseRelationship(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_RELATIONSHIP_COMMENT"))) {
-			if (lastRelationship == null) {
-				throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value + " at line number "+lineNumber));
-			}
-			lastRelationship.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATOR"))) {
-			if (lastAnnotation != null) {
-				annotations.add(lastAnnotation);
-			}
-			this.inAnnotation = true;
-			lastAnnotation = new AnnotationWithId(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATION_DATE"))) {
-			throw(new InvalidSpdxTagFileException("Annotation date found outside of an annotation: "+value + " at line number "+lineNumber));
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATION_COMMENT"))) {
-			throw(new InvalidSpdxTagFileException("Annotation comment found outside of an annotation: "+value + " at line number "+lineNumber));
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATION_ID"))) {
-			throw(new InvalidSpdxTagFileException("Annotation ID found outside of an annotation: "+value + " at line number "+lineNumber));
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATION_TYPE"))) {
-			throw(new InvalidSpdxTagFileException("Annotation type found outside of an annotation: "+value + " at line number "+lineNumber));
-		} else if (tag.equals(constants.getProperty("PROP_CREATION_CREATOR"))) {
-			checkAnalysisNull();
-			if (analysis.getCreationInfo() == null) {
-				SPDXCreatorInformation creator = new SPDXCreatorInformation(new String[] { value }, "", "", "");
-				analysis.setCreationInfo(creator);
-			} else {
-				List<String> creators = Lists.newArrayList(analysis.getCreationInfo().getCreators());
-				creators.add(value);
-				analysis.getCreationInfo().setCreators(creators.toArray(new String[0]));
-			}
-		} else if (tag.equals(constants.getProperty("PROP_CREATION_CREATED"))) {
-			checkAnalysisNull();
-			if (analysis.getCreationInfo() == null) {
-				SPDXCreatorInformation creator = new SPDXCreatorInformation(new String[] {  }, "", "", "");
-				analysis.setCreationInfo(creator);
-			}
-			analysis.getCreationInfo().setCreated(value);
-		} else if (tag.equals(constants.getProperty("PROP_CREATION_COMMENT"))) {
-			checkAnalysisNull();
-			if (analysis.getCreationInfo() == null) {
-				SPDXCreatorInformation creator = new SPDXCreatorInformation(new String[] { value }, "", "", "");
-				analysis.setCreationInfo(creator);
-			}
-			analysis.getCreationInfo().setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_LICENSE_LIST_VERSION"))) {
-			checkAnalysisNull();
-			if (analysis.getCreationInfo() == null) {
-				SPDXCreatorInformation creator = new SPDXCreatorInformation(new String[] { value }, "", "", "");
-				analysis.setCreationInfo(creator);
-			}
-			analysis.getCreationInfo().setLicenseListVersion(value);
-		} else if (tag.equals(constants.getProperty("PROP_SPDX_COMMENT"))) {
-			checkAnalysisNull();
-			analysis.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_REVIEW_REVIEWER"))) {
-			checkAnalysisNull();
-			lastReviewer = new SPDXReview(value, format.format(new Date()), ""); // update date later
-			List<SPDXReview> reviewers = Lists.newArrayList(analysis.getReviewers());
-			reviewers.add(lastReviewer);
-			analysis.setReviewers(reviewers.toArray(new SPDXReview[0]));
-			this.verifyElement(lastReviewer.verify(), "Reviewer", lastReviewerLineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_REVIEW_DATE"))) {
-			checkAnalysisNull();
-			if (lastReviewer == null) {
-				throw(new InvalidSpdxTagFileException("Missing Reviewer - A reviewer must be provided before a review date"));
-			}
-			lastReviewer.setReviewDate(value);
-			this.verifyElement(lastReviewer.verify(), "Reviewer", lastReviewerLineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_REVIEW_COMMENT"))) {
-			checkAnalysisNull();
-			if (lastReviewer == null) {
-				throw(new InvalidSpdxTagFileException("Missing Reviewer - A reviewer must be provided before a review comment"));
-			}
-			lastReviewer.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_LICENSE_ID"))) {
-			checkAnalysisNull();
-			if (inExtractedLicenseDefinition) {
-				verifyElement(lastExtractedLicense.verify(), "Extracted License", lastExtractedLicenseLineNumber, false);
+			case PROP_RELATIONSHIP: {
+				if (lastRelationship != null) {
+					relationships.add(lastRelationship);
+				}
+				lastRelationship = parseRelationship(value, lineNumber);
+				break;
+			}
+			case PROP_RELATIONSHIP_COMMENT: {
+				if (lastRelationship == null) {
+					throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value + " at line number "+lineNumber));
+				}
+				lastRelationship.setComment(value);
+				break;
+			}
+			case PROP_ANNOTATOR: {
+				if (lastAnnotation != null) {
+					annotations.add(lastAnnotation);
+				}
+				this.inAnnotation = true;
+				lastAnnotation = new AnnotationWithId(value, lineNumber);
+				break;
+			}
+			case PROP_ANNOTATION_DATE: {
+				throw(new InvalidSpdxTagFileException("Annotation date found outside of an annotation: "+value + " at line number "+lineNumber));
+			}
+			case PROP_ANNOTATION_COMMENT: {
+				throw(new InvalidSpdxTagFileException("Annotation comment found outside of an annotation: "+value + " at line number "+lineNumber));
+			}
+			case PROP_ANNOTATION_ID: {
+				throw(new InvalidSpdxTagFileException("Annotation ID found outside of an annotation: "+value + " at line number "+lineNumber));
+			}
+			case PROP_ANNOTATION_TYPE: {
+				throw(new InvalidSpdxTagFileException("Annotation type found outside of an annotation: "+value + " at line number "+lineNumber));
+			}
+			case PROP_CREATION_CREATOR: {
+				checkAnalysisNull();
+				if (analysis.getCreationInfo() == null) {
+					SPDXCreatorInformation creator = new SPDXCreatorInformation(new String[] { value }, "", "", "");
+					analysis.setCreationInfo(creator);
+				} else {
+					List<String> creators = Lists.newArrayList(analysis.getCreationInfo().getCreators());
+					creators.add(value);
+					analysis.getCreationInfo().setCreators(creators.toArray(new String[0]));
+				}
+				break;
+			}
+			case PROP_CREATION_CREATED: {
+				checkAnalysisNull();
+				if (analysis.getCreationInfo() == null) {
+					SPDXCreatorInformation creator = new SPDXCreatorInformation(new String[] {  }, "", "", "");
+					analysis.setCreationInfo(creator);
+				}
+				analysis.getCreationInfo().setCreated(value);
+				break;
+			}
+			case PROP_CREATION_COMMENT: {
+				checkAnalysisNull();
+				if (analysis.getCreationInfo() == null) {
+					SPDXCreatorInformation creator = new SPDXCreatorInformation(new String[] { value }, "", "", "");
+					analysis.setCreationInfo(creator);
+				}
+				analysis.getCreationInfo().setComment(value);
+				break;
+			}
+			case PROP_LICENSE_LIST_VERSION: {
+				checkAnalysisNull();
+				if (analysis.getCreationInfo() == null) {
+					SPDXCreatorInformation creator = new SPDXCreatorInformation(new String[] { value }, "", "", "");
+					analysis.setCreationInfo(creator);
+				}
+				analysis.getCreationInfo().setLicenseListVersion(value);
+				break;
+			}
+			case PROP_SPDX_COMMENT: {
+				checkAnalysisNull();
+				analysis.setComment(value);
+				break;
+			}
+			case PROP_REVIEW_REVIEWER: {
+				checkAnalysisNull();
+				lastReviewer = new SPDXReview(value, format.format(new Date()), ""); // update date later
+				List<SPDXReview> reviewers = Lists.newArrayList(analysis.getReviewers());
+				reviewers.add(lastReviewer);
+				analysis.setReviewers(reviewers.toArray(new SPDXReview[0]));
+				this.verifyElement(lastReviewer.verify(), "Reviewer", lastReviewerLineNumber);
+				break;
+			}
+			case PROP_REVIEW_DATE: {
+				checkAnalysisNull();
+				if (lastReviewer == null) {
+					throw(new InvalidSpdxTagFileException("Missing Reviewer - A reviewer must be provided before a review date"));
+				}
+				lastReviewer.setReviewDate(value);
+				this.verifyElement(lastReviewer.verify(), "Reviewer", lastReviewerLineNumber);
+				break;
+			}
+			case PROP_REVIEW_COMMENT: {
+				checkAnalysisNull();
+				if (lastReviewer == null) {
+					throw(new InvalidSpdxTagFileException("Missing Reviewer - A reviewer must be provided before a review comment"));
+				}
+				lastReviewer.setComment(value);
+				break;
+			}
+			case PROP_LICENSE_ID: {
+				checkAnalysisNull();
+				if (inExtractedLicenseDefinition) {
+					verifyElement(lastExtractedLicense.verify(), "Extracted License", lastExtractedLicenseLineNumber, false);
+				}
+				if (analysis.getDocumentContainer().extractedLicenseExists(value)) {
+					lastExtractedLicense = analysis.getDocumentContainer().getExtractedLicense(value);
+				} else {
+					lastExtractedLicense = new ExtractedLicenseInfo(value, "WARNING: TEXT IS REQUIRED", null, null, null); //change text later
+					lastExtractedLicenseLineNumber = lineNumber;
+					analysis.addExtractedLicenseInfos(lastExtractedLicense);
+				}
+				this.inExtractedLicenseDefinition = true;
+				break;
+			}
+			case PROP_PACKAGE_DECLARED_NAME: {
+				checkAnalysisNull();
+				inPackageDefinition = true;
+				inFileDefinition = false;
+				inAnnotation = false;
+				inSnippetDefinition = false;
+				inExtractedLicenseDefinition = false;
+				if (this.lastPackage != null) {
+					this.analysis.getDocumentContainer().addElement(this.lastPackage);
+					elementIdLineNumberMap.put(this.lastPackage.getId(), lastPackageLineNumber);
+				}
+				this.lastPackage = new SpdxPackage(value, null, null, null, null, null, null, null);
+				lastPackageLineNumber = lineNumber;
+				break;
+			}
+			case PROP_FILE_NAME: {
+				checkAnalysisNull();
+				//NOTE: This must follow the inPackageDefinition check since
+				// if a file is defined following a package, it is assumed to
+				// be part of the package and not something standalone
+				addLastFile();
+				inFileDefinition = true;
+				inPackageDefinition = false;
+				inAnnotation = false;
+				inSnippetDefinition = false;
+				inExtractedLicenseDefinition = false;
+
+				this.lastFile = new SpdxFile(value, null, new Annotation[0], new Relationship[0], null,
+						new AnyLicenseInfo[0], null, null, new FileType[0], new Checksum[0],
+						new String[0] , null, new DoapProject[0]);
+				lastFileLineNumber = lineNumber;
+				break;
+			}
+			case PROP_SNIPPET_SPDX_ID: {
+				checkAnalysisNull();
+				addLastSnippet();
+				inSnippetDefinition = true;
+				inFileDefinition = false;
+				inPackageDefinition = false;
+				inAnnotation = false;
+				inExtractedLicenseDefinition = false;
+				this.lastSnippet = new SpdxSnippet(null, null, new Annotation[0], new Relationship[0], null,
+						new AnyLicenseInfo[0], null, null, null, null, null);
+				this.lastSnippet.setId(value);
+				this.lastSnippetLineNumber = lineNumber;
+				break;
+			}
+			default: {
+				throw new InvalidSpdxTagFileException("Expecting a definition of a file, package, license information, or document property at "+tag+" "+value+" line number "+lineNumber);
 			}
-			if (analysis.getDocumentContainer().extractedLicenseExists(value)) {
-				lastExtractedLicense = analysis.getDocumentContainer().getExtractedLicense(value);
-			} else {
-				lastExtractedLicense = new ExtractedLicenseInfo(value, "WARNING: TEXT IS REQUIRED", null, null, null); //change text later
-				lastExtractedLicenseLineNumber = lineNumber;
-				analysis.addExtractedLicenseInfos(lastExtractedLicense);
-			}
-			this.inExtractedLicenseDefinition = true;
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_DECLARED_NAME"))) {
-			checkAnalysisNull();
-			inPackageDefinition = true;
-			inFileDefinition = false;
-			inAnnotation = false;
-			inSnippetDefinition = false;
-			inExtractedLicenseDefinition = false;
-			if (this.lastPackage != null) {
-				this.analysis.getDocumentContainer().addElement(this.lastPackage);
-				elementIdLineNumberMap.put(this.lastPackage.getId(), lastPackageLineNumber);
-			}
-			this.lastPackage = new SpdxPackage(value, null, null, null, null, null, null, null);
-			lastPackageLineNumber = lineNumber;
-		} else if (tag.equals(constants.getProperty("PROP_FILE_NAME"))) {
-			checkAnalysisNull();
-			//NOTE: This must follow the inPackageDefinition check since
-			// if a file is defined following a package, it is assumed to
-			// be part of the package and not something standalone
-			addLastFile();
-			inFileDefinition = true;
-			inPackageDefinition = false;
-			inAnnotation = false;
-			inSnippetDefinition = false;
-			inExtractedLicenseDefinition = false;
-
-			this.lastFile = new SpdxFile(value, null, new Annotation[0], new Relationship[0], null,
-					new AnyLicenseInfo[0], null, null, new FileType[0], new Checksum[0],
-					new String[0] , null, new DoapProject[0]);
-			lastFileLineNumber = lineNumber;
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_SPDX_ID"))) {
-			checkAnalysisNull();
-			addLastSnippet();
-			inSnippetDefinition = true;
-			inFileDefinition = false;
-			inPackageDefinition = false;
-			inAnnotation = false;
-			inExtractedLicenseDefinition = false;
-			this.lastSnippet = new SpdxSnippet(null, null, new Annotation[0], new Relationship[0], null,
-					new AnyLicenseInfo[0], null, null, null, null, null);
-			this.lastSnippet.setId(value);
-			this.lastSnippetLineNumber = lineNumber;
-		} else {
-			throw new InvalidSpdxTagFileException("Expecting a definition of a file, package, license information, or document property at "+tag+value+" line number "+lineNumber);
 		}
 	}
 
@@ -790,25 +1012,35 @@ public class BuildDocument implements TagValueBehavior {
 	}
 
 	/**
+	 * @param tagId
 	 * @param tag
 	 * @param value
 	 * @param annotation
 	 * @throws InvalidSPDXAnalysisException
 	 */
-	private void buildAnnotation(String tag, String value,
+	private void buildAnnotation(Tag tagId, String tag, String value,
 			AnnotationWithId annotation) throws InvalidSPDXAnalysisException {
-		if (tag.equals(constants.getProperty("PROP_ANNOTATION_DATE"))) {
-			annotation.setDate(value);
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATION_COMMENT"))) {
-			annotation.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATION_ID"))) {
-			annotation.setId(value);
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATION_TYPE"))) {
-			AnnotationType annotationType = AnnotationType.fromTag(value);
-			if (annotationType == null) {
-				throw(new InvalidSPDXAnalysisException("Invalid annotation type: "+value + " at line number "+annotation.getLineNumber()));
+		switch (tagId) {
+			case PROP_ANNOTATION_DATE: {
+				annotation.setDate(value);
+				break;
+			}
+			case PROP_ANNOTATION_COMMENT: {
+				annotation.setComment(value);
+				break;
+			}
+			case PROP_ANNOTATION_ID: {
+				annotation.setId(value);
+				break;
+			}
+			case PROP_ANNOTATION_TYPE: {
+				AnnotationType annotationType = AnnotationType.fromTag(value);
+				if (annotationType == null) {
+					throw(new InvalidSPDXAnalysisException("Invalid annotation type: "+value + " at line number "+annotation.getLineNumber()));
+				}
+				annotation.setAnnotationType(annotationType);
+				break;
 			}
-			annotation.setAnnotationType(annotationType);
 		}
 	}
 
@@ -837,6 +1069,7 @@ public class BuildDocument implements TagValueBehavior {
 			if (this.specVersion != null && this.specVersion.compareTo("SPDX-2.0") < 0) {
 				result[0] = new SpdxDocumentContainer(generateDocumentNamespace());
 				this.analysis = result[0].getSpdxDocument();
+				this.licenseExpressionCache.clear();
 			} else {
 				throw(new InvalidFileFormatException("The SPDX Document Namespace must be set before other SPDX document properties are set."));
 			}
@@ -888,6 +1121,7 @@ public class BuildDocument implements TagValueBehavior {
 
 	/**
 	 * @param pkg
+	 * @param tagId
 	 * @param tag
 	 * @param value
 	 * @param lineNumber
@@ -895,125 +1129,181 @@ public class BuildDocument implements TagValueBehavior {
 	 * @throws InvalidSpdxTagFileException
 	 * @throws InvalidLicenseStringException
 	 */
-	private void buildPackage(SpdxPackage pkg, String tag, String value, int lineNumber)
+	private void buildPackage(SpdxPackage pkg, Tag tagId, String tag, String value, int lineNumber)
 			throws InvalidSPDXAnalysisException, InvalidSpdxTagFileException, InvalidLicenseStringException {
-		if (tag.equals(constants.getProperty("PROP_ELEMENT_ID"))) {
-			pkg.setId(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_VERSION_INFO"))) {
-			pkg.setVersionInfo(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_FILE_NAME"))) {
-			pkg.setPackageFileName(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_SUPPLIER"))) {
-			pkg.setSupplier(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_ORIGINATOR"))) {
-			pkg.setOriginator(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_DOWNLOAD_URL"))) {
-			pkg.setDownloadLocation(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_VERIFICATION_CODE"))) {
-			SpdxPackageVerificationCode verificationCode = null;
-			if (value.contains("(")) {
-				String[] verification = value.split("\\(");
-				String[] excludedFiles = verification[1].replace(")", "").split(",");
-				for (int i = 0; i < excludedFiles.length; i++) {
-					excludedFiles[i] = excludedFiles[i].trim();
+		switch (tagId) {
+			case PROP_ELEMENT_ID: {
+				pkg.setId(value);
+				break;
+			}
+			case PROP_PACKAGE_VERSION_INFO: {
+				pkg.setVersionInfo(value);
+				break;
+			}
+			case PROP_PACKAGE_FILE_NAME: {
+				pkg.setPackageFileName(value);
+				break;
+			}
+			case PROP_PACKAGE_SUPPLIER: {
+				pkg.setSupplier(value);
+				break;
+			}
+			case PROP_PACKAGE_ORIGINATOR: {
+				pkg.setOriginator(value);
+				break;
+			}
+			case PROP_PACKAGE_DOWNLOAD_URL: {
+				pkg.setDownloadLocation(value);
+				break;
+			}
+			case PROP_PACKAGE_VERIFICATION_CODE: {
+				SpdxPackageVerificationCode verificationCode = null;
+				if (value.contains("(")) {
+					String[] verification = value.split("\\(");
+					String[] excludedFiles = verification[1].replace(")", "").split(",");
+					for (int i = 0; i < excludedFiles.length; i++) {
+						excludedFiles[i] = excludedFiles[i].trim();
+					}
+					verificationCode = new SpdxPackageVerificationCode(verification[0].trim(), excludedFiles);
 				}
-				verificationCode = new SpdxPackageVerificationCode(verification[0].trim(), excludedFiles);
-			}
-			else {
-				verificationCode = new SpdxPackageVerificationCode(value, new String[0]);
-			}
-			verifyElement(verificationCode.verify(), "Verification Code", lineNumber);
-			pkg.setPackageVerificationCode(verificationCode);
-		} else if (constants.getProperty("PROP_PACKAGE_CHECKSUM").startsWith(tag)) {
-			Checksum checksum = parseChecksum(value, lineNumber);
-			verifyElement(checksum.verify(), "Package Checksum", lineNumber);
-			pkg.addChecksum(checksum);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_HOMEPAGE_URL"))) {
-			pkg.setHomepage(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_SOURCE_INFO"))) {
-			pkg.setSourceInfo(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_CONCLUDED_LICENSE"))) {
-			AnyLicenseInfo licenseSet = LicenseInfoFactory.parseSPDXLicenseString(value, this.analysis.getDocumentContainer());
-			// can not verify any licenses at this point since the extracted license infos may not be set
-			pkg.setLicenseConcluded(licenseSet);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_LICENSE_INFO_FROM_FILES"))) {
-			AnyLicenseInfo license = LicenseInfoFactory.parseSPDXLicenseString(value, this.analysis.getDocumentContainer());
-			// can not verify any licenses at this point since the extracted license infos may not be set
-			List<AnyLicenseInfo> licenses = Lists.newArrayList(pkg.getLicenseInfoFromFiles());
-			licenses.add(license);
-			pkg.setLicenseInfosFromFiles(licenses.toArray(new AnyLicenseInfo[0]));
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_DECLARED_LICENSE"))) {
-			AnyLicenseInfo licenseSet = LicenseInfoFactory.parseSPDXLicenseString(value, this.analysis.getDocumentContainer());
-			// can not verify any licenses at this point since the extracted license infos may not be set
-			pkg.setLicenseDeclared(licenseSet);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_LICENSE_COMMENT"))) {
-			pkg.setLicenseComments(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_DECLARED_COPYRIGHT"))) {
-			pkg.setCopyrightText(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_SHORT_DESC"))) {
-			pkg.setSummary(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_DESCRIPTION"))) {
-			pkg.setDescription(value);
-		} else if (tag.equals(constants.getProperty("PROP_EXTERNAL_REFERENCE"))) {
-			this.lastExternalRef = parseExternalRef(value, lineNumber);
-			verifyElement(this.lastExternalRef.verify(), "External Reference", lineNumber);
-			pkg.addExternalRef(this.lastExternalRef);
-		} else if (tag.equals(constants.getProperty("PROP_EXTERNAL_REFERENCE_COMMENT"))) {
-			if (this.lastExternalRef == null) {
-				throw new InvalidSpdxTagFileException("External reference comment found without an external reference: "+value + " at line number "+lineNumber);
-			}
-			if (this.lastExternalRef.getComment() != null && !this.lastExternalRef.getComment().isEmpty()) {
-				throw new InvalidSpdxTagFileException("Second reference comment found for the same external reference: "+value + " at line number "+lineNumber);
-			}
-			this.lastExternalRef.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATOR"))) {
-			if (lastAnnotation != null) {
-				annotations.add(lastAnnotation);
-			}
-			this.inAnnotation = true;
-			lastAnnotation = new AnnotationWithId(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_RELATIONSHIP"))) {
-			if (lastRelationship != null) {
-				relationships.add(lastRelationship);
-			}
-			lastRelationship = parseRelationship(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_RELATIONSHIP_COMMENT"))) {
-			if (lastRelationship == null) {
-				throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value + " at line number "+lineNumber));
-			}
-			lastRelationship.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_NAME"))) {
-			addLastFile();
-			this.lastFile = new SpdxFile(value, null, new Annotation[0], new Relationship[0], null,
-					new AnyLicenseInfo[0], null, null, new FileType[0], new Checksum[0],
-					new String[0] , null, new DoapProject[0]);
-			this.inFileDefinition = true;
-			inSnippetDefinition = false;
-			inAnnotation = false;
-		} else if (tag.equals(constants.getProperty("PROP_SNIPPET_SPDX_ID"))) {
-			addLastSnippet();
-			inSnippetDefinition = true;
-			inFileDefinition = false;
-			inPackageDefinition = false;
-			inAnnotation = false;
-			this.lastSnippet = new SpdxSnippet(null, null, new Annotation[0], new Relationship[0], null,
-					new AnyLicenseInfo[0], null, null, null, null, null);
-			this.lastSnippet.setId(value);
-			this.lastSnippetLineNumber = lineNumber;
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_COMMENT"))) {
-			pkg.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_ATTRIBUTION_TEXT"))) {
-			addAttributionText(pkg, value);
-		} else if (tag.equals(constants.getProperty("PROP_PACKAGE_FILES_ANALYZED"))) {
-			if ("TRUE".equals(value.toUpperCase())) {
-				pkg.setFilesAnalyzed(true);
-			} else if ("FALSE".equals(value.toUpperCase())) {
-				pkg.setFilesAnalyzed(false);
-			} else {
-				throw(new InvalidSpdxTagFileException("Invalid value for files analyzed.  Must be 'true' or 'false'.  Found value: "+value+" at line number "+lineNumber));
+				else {
+					verificationCode = new SpdxPackageVerificationCode(value, new String[0]);
+				}
+				verifyElement(verificationCode.verify(), "Verification Code", lineNumber);
+				pkg.setPackageVerificationCode(verificationCode);
+				break;
+			}
+			case PROP_PACKAGE_CHECKSUM: {
+				Checksum checksum = parseChecksum(value, lineNumber);
+				verifyElement(checksum.verify(), "Package Checksum", lineNumber);
+				pkg.addChecksum(checksum);
+				break;
+			}
+			case PROP_PACKAGE_HOMEPAGE_URL: {
+				pkg.setHomepage(value);
+				break;
+			}
+			case PROP_PACKAGE_SOURCE_INFO: {
+				pkg.setSourceInfo(value);
+				break;
+			}
+			case PROP_PACKAGE_CONCLUDED_LICENSE: {
+				AnyLicenseInfo licenseSet = parseLicense(value);
+				// can not verify any licenses at this point since the extracted license infos may not be set
+				pkg.setLicenseConcluded(licenseSet);
+				break;
+			}
+			case PROP_PACKAGE_LICENSE_INFO_FROM_FILES: {
+				AnyLicenseInfo license = parseLicense(value);
+				// can not verify any licenses at this point since the extracted license infos may not be set
+				List<AnyLicenseInfo> licenses = Lists.newArrayList(pkg.getLicenseInfoFromFiles());
+				licenses.add(license);
+				pkg.setLicenseInfosFromFiles(licenses.toArray(new AnyLicenseInfo[0]));
+				break;
+			}
+			case PROP_PACKAGE_DECLARED_LICENSE: {
+				AnyLicenseInfo licenseSet = parseLicense(value);
+				// can not verify any licenses at this point since the extracted license infos may not be set
+				pkg.setLicenseDeclared(licenseSet);
+				break;
+			}
+			case PROP_PACKAGE_LICENSE_COMMENT: {
+				pkg.setLicenseComments(value);
+				break;
+			}
+			case PROP_PACKAGE_DECLARED_COPYRIGHT: {
+				pkg.setCopyrightText(value);
+				break;
+			}
+			case PROP_PACKAGE_SHORT_DESC: {
+				pkg.setSummary(value);
+				break;
+			}
+			case PROP_PACKAGE_DESCRIPTION: {
+				pkg.setDescription(value);
+				break;
+			}
+			case PROP_EXTERNAL_REFERENCE: {
+				this.lastExternalRef = parseExternalRef(value, lineNumber);
+				verifyElement(this.lastExternalRef.verify(), "External Reference", lineNumber);
+				pkg.addExternalRef(this.lastExternalRef);
+				break;
+			}
+			case PROP_EXTERNAL_REFERENCE_COMMENT: {
+				if (this.lastExternalRef == null) {
+					throw new InvalidSpdxTagFileException("External reference comment found without an external reference: "+value + " at line number "+lineNumber);
+				}
+				if (this.lastExternalRef.getComment() != null && !this.lastExternalRef.getComment().isEmpty()) {
+					throw new InvalidSpdxTagFileException("Second reference comment found for the same external reference: "+value + " at line number "+lineNumber);
+				}
+				this.lastExternalRef.setComment(value);
+				break;
+			}
+			case PROP_ANNOTATOR: {
+				if (lastAnnotation != null) {
+					annotations.add(lastAnnotation);
+				}
+				this.inAnnotation = true;
+				lastAnnotation = new AnnotationWithId(value, lineNumber);
+				break;
+			}
+			case PROP_RELATIONSHIP: {
+				if (lastRelationship != null) {
+					relationships.add(lastRelationship);
+				}
+				lastRelationship = parseRelationship(value, lineNumber);
+				break;
+			}
+			case PROP_RELATIONSHIP_COMMENT: {
+				if (lastRelationship == null) {
+					throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value + " at line number "+lineNumber));
+				}
+				lastRelationship.setComment(value);
+				break;
+			}
+			case PROP_FILE_NAME: {
+				addLastFile();
+				this.lastFile = new SpdxFile(value, null, new Annotation[0], new Relationship[0], null,
+						new AnyLicenseInfo[0], null, null, new FileType[0], new Checksum[0],
+						new String[0] , null, new DoapProject[0]);
+				this.inFileDefinition = true;
+				inSnippetDefinition = false;
+				inAnnotation = false;
+				break;
+			}
+			case PROP_SNIPPET_SPDX_ID: {
+				addLastSnippet();
+				inSnippetDefinition = true;
+				inFileDefinition = false;
+				inPackageDefinition = false;
+				inAnnotation = false;
+				this.lastSnippet = new SpdxSnippet(null, null, new Annotation[0], new Relationship[0], null,
+						new AnyLicenseInfo[0], null, null, null, null, null);
+				this.lastSnippet.setId(value);
+				this.lastSnippetLineNumber = lineNumber;
+				break;
+			}
+			case PROP_PACKAGE_COMMENT: {
+				pkg.setComment(value);
+				break;
+			}
+			case PROP_PACKAGE_ATTRIBUTION_TEXT: {
+				addAttributionText(pkg, value);
+				break;
+			}
+			case PROP_PACKAGE_FILES_ANALYZED: {
+				if ("TRUE".equals(value.toUpperCase())) {
+					pkg.setFilesAnalyzed(true);
+				} else if ("FALSE".equals(value.toUpperCase())) {
+					pkg.setFilesAnalyzed(false);
+				} else {
+					throw(new InvalidSpdxTagFileException("Invalid value for files analyzed.  Must be 'true' or 'false'.  Found value: "+value+" at line number "+lineNumber));
+				}
+				break;
+			}
+			default: {
+				throw(new InvalidSpdxTagFileException("Expecting a file definition, snippet definition or a package property.  Found "+value+" at line number "+lineNumber));
 			}
-		} else {
-			throw(new InvalidSpdxTagFileException("Expecting a file definition, snippet definition or a package property.  Found "+value+" at line number "+lineNumber));
 		}
 	}
 
@@ -1081,76 +1371,109 @@ public class BuildDocument implements TagValueBehavior {
 
 	/**
 	 * @param file
+	 * @param tagId
 	 * @param tag
 	 * @param value
 	 * @param lineNumber
 	 */
-	private void buildFile(SpdxFile file, String tag, String value, int lineNumber)
+	private void buildFile(SpdxFile file, Tag tagId, String tag, String value, int lineNumber)
 			throws Exception {
 		if (file == null) {
-			if (FILE_TAGS.contains(tag)) {
+			if (FILE_TAGS.contains(tagId)) {
 				throw(new InvalidSpdxTagFileException("Missing File Name - A file name must be specified before the file properties at line number "+lineNumber));
 			} else {
 				throw(new InvalidSpdxTagFileException("Unrecognized SPDX Tag: "+tag+" at line number "+lineNumber));
 			}
 		}
-		if (tag.equals(constants.getProperty("PROP_ELEMENT_ID"))) {
-			file.setId(value);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_TYPE"))) {
-			FileType fileType = FileType.fromTag(value.trim());
-			if (fileType == null) {
-				fileType = FileType.fromTag(value.trim().toUpperCase());
+		switch (tagId) {
+			case PROP_ELEMENT_ID: {
+				file.setId(value);
+				break;
+			}
+			case PROP_FILE_TYPE: {
+				FileType fileType = FileType.fromTag(value.trim());
 				if (fileType == null) {
-					throw(new InvalidSpdxTagFileException("Unknown file type: "+value+" at line number "+lineNumber));
-				} else {
-					this.warningMessages.add("Invalid filetype - needs to be uppercased: "+value+" at line number "+lineNumber);
+					fileType = FileType.fromTag(value.trim().toUpperCase());
+					if (fileType == null) {
+						throw(new InvalidSpdxTagFileException("Unknown file type: "+value+" at line number "+lineNumber));
+					} else {
+						this.warningMessages.add("Invalid filetype - needs to be uppercased: "+value+" at line number "+lineNumber);
+					}
+				}
+				file.addFileType(fileType);
+				break;
+			}
+			case PROP_FILE_CHECKSUM: {
+				file.addChecksum(parseChecksum(value, lineNumber));
+				break;
+			}
+			case PROP_FILE_LICENSE: {
+				AnyLicenseInfo licenseSet = parseLicense(value);
+				// can not verify any licenses at this point since the extracted license infos may not be set
+				file.setLicenseConcluded(licenseSet);
+				break;
+			}
+			case PROP_FILE_SEEN_LICENSE: {
+				AnyLicenseInfo fileLicense = parseLicense(value);
+				// can not verify any licenses at this point since the extracted license infos may not be set
+				List<AnyLicenseInfo> seenLicenses = Lists.newArrayList(file.getLicenseInfoFromFiles());
+				seenLicenses.add(fileLicense);
+				file.setLicenseInfosFromFiles(seenLicenses.toArray(new AnyLicenseInfo[0]));
+				break;
+			}
+			case PROP_FILE_LIC_COMMENTS: {
+				file.setLicenseComments(value);
+				break;
+			}
+			case PROP_FILE_COPYRIGHT: {
+				file.setCopyrightText(value);
+				break;
+			}
+			case PROP_FILE_COMMENT: {
+				file.setComment(value);
+				break;
+			}
+			case PROP_FILE_NOTICE_TEXT: {
+				file.setNoticeText(value);
+				break;
+			}
+			case PROP_FILE_CONTRIBUTOR: {
+				addFileContributor(file, value);
+				break;
+			}
+			case PROP_FILE_DEPENDENCY: {
+				addFileDependency(file, value);
+				break;
+			}
+			case PROP_FILE_ATTRIBUTION_TEXT: {
+				addAttributionText(file, value);
+				break;
+			}
+			case PROP_ANNOTATOR: {
+				if (lastAnnotation != null) {
+					annotations.add(lastAnnotation);
 				}
+				this.inAnnotation = true;
+				lastAnnotation = new AnnotationWithId(value, lineNumber);
+				break;
+			}
+			case PROP_RELATIONSHIP: {
+				if (lastRelationship != null) {
+					relationships.add(lastRelationship);
+				}
+				lastRelationship = parseRelationship(value, lineNumber);
+				break;
+			}
+			case PROP_RELATIONSHIP_COMMENT: {
+				if (lastRelationship == null) {
+					throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value+" at line number "+lineNumber));
+				}
+				lastRelationship.setComment(value);
+				break;
+			}
+			default: {
+				buildProject(file, tagId, tag, value, lineNumber);
 			}
-			file.addFileType(fileType);
-		} else if (constants.getProperty("PROP_FILE_CHECKSUM").startsWith(tag)) {
-			file.addChecksum(parseChecksum(value, lineNumber));
-		} else if (tag.equals(constants.getProperty("PROP_FILE_LICENSE"))) {
-			AnyLicenseInfo licenseSet = LicenseInfoFactory.parseSPDXLicenseString(value, this.analysis.getDocumentContainer());
-			// can not verify any licenses at this point since the extracted license infos may not be set
-			file.setLicenseConcluded(licenseSet);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_SEEN_LICENSE"))) {
-			AnyLicenseInfo fileLicense = (LicenseInfoFactory.parseSPDXLicenseString(value, this.analysis.getDocumentContainer()));
-			// can not verify any licenses at this point since the extracted license infos may not be set
-			List<AnyLicenseInfo> seenLicenses = Lists.newArrayList(file.getLicenseInfoFromFiles());
-			seenLicenses.add(fileLicense);
-			file.setLicenseInfosFromFiles(seenLicenses.toArray(new AnyLicenseInfo[0]));
-		} else if (tag.equals(constants.getProperty("PROP_FILE_LIC_COMMENTS"))) {
-			file.setLicenseComments(value);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_COPYRIGHT"))) {
-			file.setCopyrightText(value);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_COMMENT"))) {
-			file.setComment(value);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_NOTICE_TEXT"))) {
-			file.setNoticeText(value);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_CONTRIBUTOR"))) {
-			addFileContributor(file, value);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_DEPENDENCY"))) {
-			addFileDependency(file, value);
-		} else if (tag.equals(constants.getProperty("PROP_FILE_ATTRIBUTION_TEXT"))) {
-			addAttributionText(file, value);
-		} else if (tag.equals(constants.getProperty("PROP_ANNOTATOR"))) {
-			if (lastAnnotation != null) {
-				annotations.add(lastAnnotation);
-			}
-			this.inAnnotation = true;
-			lastAnnotation = new AnnotationWithId(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_RELATIONSHIP"))) {
-			if (lastRelationship != null) {
-				relationships.add(lastRelationship);
-			}
-			lastRelationship = parseRelationship(value, lineNumber);
-		} else if (tag.equals(constants.getProperty("PROP_RELATIONSHIP_COMMENT"))) {
-			if (lastRelationship == null) {
-				throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value+" at line number "+lineNumber));
-			}
-			lastRelationship.setComment(value);
-		} else {
-			buildProject(file, tag, value, lineNumber);
 		}
 	}
 
@@ -1206,29 +1529,34 @@ public class BuildDocument implements TagValueBehavior {
 
 	/**
 	 * @param file
+	 * @param tagId
 	 * @param tag
 	 * @param value
 	 * @param lineNumber
 	 */
 	@SuppressWarnings("deprecation")
-	private void buildProject(SpdxFile file, String tag, String value, int lineNumber)
+	private void buildProject(SpdxFile file, Tag tagId, String tag, String value, int lineNumber)
 			throws Exception {
-		if (tag.equals(constants.getProperty("PROP_PROJECT_NAME"))) {
-			if (lastProject != null) {
-				verifyElement(lastProject.verify(), "DOAP Project", lastProjectLineNumber);
-			}
-			lastProject = new DoapProject(value, null);
-			lastProjectLineNumber = lineNumber;
-			List<DoapProject> projects = Lists.newArrayList(file.getArtifactOf());
-			projects.add(lastProject);
-			file.setArtifactOf(projects.toArray(new DoapProject[0]));
-		} else {
-			if (tag.equals(constants.getProperty("PROP_PROJECT_HOMEPAGE"))) {
+		switch (tagId) {
+			case PROP_PROJECT_NAME: {
+				if (lastProject != null) {
+					verifyElement(lastProject.verify(), "DOAP Project", lastProjectLineNumber);
+				}
+				lastProject = new DoapProject(value, null);
+				lastProjectLineNumber = lineNumber;
+				List<DoapProject> projects = Lists.newArrayList(file.getArtifactOf());
+				projects.add(lastProject);
+				file.setArtifactOf(projects.toArray(new DoapProject[0]));
+				break;
+			}
+			case PROP_PROJECT_HOMEPAGE: {
 				if (lastProject == null) {
 					throw(new InvalidSpdxTagFileException("Missing Project Name - A project name must be provided before the project properties at line number" + lineNumber));
 				}
 				lastProject.setHomePage(value);
-			} else if (tag.equals(constants.getProperty("PROP_PROJECT_URI"))) {
+				break;
+			}
+			case PROP_PROJECT_URI: {
 				if (lastProject == null) {
 					throw(new InvalidSpdxTagFileException("Missing Project Name - A project name must be provided before the project properties at line number" + lineNumber));
 				}
@@ -1245,16 +1573,114 @@ public class BuildDocument implements TagValueBehavior {
 				existingProjects[i].setProjectUri(value);
 				file.setArtifactOf(existingProjects);
 				lastProject = existingProjects[i];
-			} else {
+				break;
+			}
+			default: {
 				throw(new InvalidSpdxTagFileException("Unrecognized tag: "+tag+" at line number" + lineNumber));
 			}
 		}
 	}
 
-	private static String trim(String value) {
-		value = value.replaceAll("\u00A0", " ");
+	/**
+	 * Builds the document from a tag/value using a license expression parsed ahead of time
+	 * @param tag
+	 * @param value
+	 * @param lineNumber
+	 * @param parsedLicense license parsed from the value by <code>parseListedLicenseExpression</code> or null if the value is to be parsed by the builder
+	 * @throws Exception
+	 */
+	void buildDocument(String tag, String value, int lineNumber, AnyLicenseInfo parsedLicense) throws Exception {
+		this.parsedLicense = parsedLicense;
+		try {
+			buildDocument(tag, value, lineNumber);
+		} finally {
+			this.parsedLicense = null;
+		}
+	}
+
+	/**
+	 * Parses a license expression which only references listed licenses without using the document container.
+	 * This method can be called from multiple threads - the only shared state is the listed license cache
+	 * which serializes loading licenses not yet in the cache.
+	 * @param value tag value containing a license expression
+	 * @return the license or null if the expression references an extracted license or is not valid
+	 */
+	static AnyLicenseInfo parseListedLicenseExpression(String value) {
+		AnyLicenseInfo retval;
+		try {
+			retval = LicenseInfoFactory.parseSPDXLicenseString(trim(value));
+		} catch (InvalidLicenseStringException e) {
+			return null;	// the error will be reported when the builder parses the value
+		}
+		if (containsExtractedLicense(retval)) {
+			return null;	// extracted licenses must be resolved against the document container
+		}
+		return retval;
+	}
+
+	/**
+	 * @param license
+	 * @return true if the license or any of its members is an extracted license
+	 */
+	private static boolean containsExtractedLicense(AnyLicenseInfo license) {
+		if (license instanceof ExtractedLicenseInfo) {
+			return true;
+		} else if (license instanceof LicenseSet) {
+			for (AnyLicenseInfo member:((LicenseSet)license).getMembers()) {
+				if (containsExtractedLicense(member)) {
+					return true;
+				}
+			}
+			return false;
+		} else if (license instanceof WithExceptionOperator) {
+			return containsExtractedLicense(((WithExceptionOperator)license).getLicense());
+		} else if (license instanceof OrLaterOperator) {
+			return containsExtractedLicense(((OrLaterOperator)license).getLicense());
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Parse a license expression using the document container for any extracted licenses.
+	 * Expressions already parsed for the document return the same license.
+	 * @param value
+	 * @return the license previously parsed for the same expression, the license parsed ahead of time if available, otherwise the license parsed from the value
+	 * @throws InvalidLicenseStringException
+	 */
+	private AnyLicenseInfo parseLicense(String value) throws InvalidLicenseStringException {
+		AnyLicenseInfo retval = licenseExpressionCache.get(value);
+		if (retval == null) {
+			if (this.parsedLicense != null) {
+				retval = this.parsedLicense;
+			} else {
+				retval = LicenseInfoFactory.parseSPDXLicenseString(value, this.analysis.getDocumentContainer());
+			}
+			licenseExpressionCache.put(value, retval);
+		}
+		return retval;
+	}
+
+	/**
+	 * This method can be called from multiple threads.
+	 * @param value tag value containing a license expression
+	 * @return true if the license expression has already been parsed for the document
+	 */
+	boolean isLicenseExpressionParsed(String value) {
+		return licenseExpressionCache.containsKey(trim(value));
+	}
+
+	/**
+	 * Removes leading and trailing white space, including non-breaking spaces, and any text block delimiters
+	 * @param value
+	 * @return
+	 */
+	static String trim(String value) {
+		value = value.replace('\u00A0', ' ');
 		value = value.trim();
-		value = value.replaceAll("<text>", "").replaceAll("</text>", "");
+		if (value.indexOf('<') >= 0) {
+			value = value.replace("<text>", "").replace("</text>", "");
+		}
 		return value;
 	}
 
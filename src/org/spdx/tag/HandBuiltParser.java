@@ -16,9 +16,6 @@
 */
 package org.spdx.tag;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import antlr.RecognitionException;
 
 /**
@@ -35,9 +32,12 @@ public class HandBuiltParser {
 
 	private static final String END_TEXT = "</text>";
 	private static final String START_TEXT = "<text>";
-	Pattern tagPattern = Pattern.compile("^\\w+:");
 	private TagValueBehavior buildDocument;
 	private NoCommentInputStream textInput;
+	/**
+	 * Accumulates the lines of a multi-line text block - reused for all text blocks
+	 */
+	private StringBuilder textBlock = new StringBuilder();
 
 	/**
 	 * Creates a parser for an Input stream.
@@ -55,6 +55,61 @@ public class HandBuiltParser {
 		this.buildDocument = buildDocument;
 	}
 
+	/**
+	 * Returns the length of the tag, including the trailing colon, at the start of the line
+	 * This is equivalent to matching the regular expression <code>^\w+:</code>
+	 * @param line
+	 * @return length of the tag or 0 if the line does not start with a tag
+	 */
+	static int tagLength(CharSequence line) {
+		int len = line.length();
+		int i = 0;
+		while (i < len) {
+			char ch = line.charAt(i);
+			if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9') || ch == '_') {
+				i++;
+			} else {
+				break;
+			}
+		}
+		if (i > 0 && i < len && line.charAt(i) == ':') {
+			return i + 1;
+		}
+		return 0;
+	}
+
+	/**
+	 * @param line
+	 * @param start
+	 * @param end
+	 * @return the characters from start to end with leading and trailing white space removed as in <code>String.trim()</code>
+	 */
+	static String trimmed(CharSequence line, int start, int end) {
+		while (start < end && line.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && line.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return line.subSequence(start, end).toString();
+	}
+
+	/**
+	 * Append the trimmed characters from start to end to the text block without creating a string
+	 * @param line
+	 * @param start
+	 * @param end
+	 */
+	private void appendTrimmed(CharSequence line, int start, int end) {
+		while (start < end && line.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && line.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		textBlock.append(line, start, end);
+	}
+
 	/**
 	 * parses the data
 	 * @throws Exception
@@ -63,52 +118,50 @@ public class HandBuiltParser {
 		try {
 			boolean inTextBlock = false;
 			String tag = "";
-			String value = "";
-			String nextLine = textInput.readLine();
+			CharSequence nextLine = textInput.readLineSequence();
 			while (nextLine != null) {
 				if (inTextBlock) {
-					if (nextLine.indexOf(START_TEXT)>0){
+					if (NoCommentInputStream.indexOf(nextLine, START_TEXT, 0)>0){
 						throw(new RecognitionException("Found a text block inside another text block at line " +
 									(textInput.getCurrentLineNo()) + ".  Expecting "+END_TEXT));
 					}
-					int endText = nextLine.indexOf(END_TEXT);
+					int endText = NoCommentInputStream.indexOf(nextLine, END_TEXT, 0);
+					textBlock.append('\n');
 					if (endText >= 0) {
-						value = value + "\n" + nextLine.substring(0, endText).trim();
+						appendTrimmed(nextLine, 0, endText);
 						inTextBlock = false;	//NOTE: we are skipping any text after the </text>
-						this.buildDocument.buildDocument(tag, value, textInput.getCurrentLineNo());
+						this.buildDocument.buildDocument(tag, textBlock.toString(), textInput.getCurrentLineNo());
 						tag = "";
-						value = "";
 					} else {
-						value = value + "\n" + nextLine;
+						textBlock.append(nextLine);
 					}
 				} else {
 					// not in a text block
-					Matcher tagMatcher = this.tagPattern.matcher(nextLine);
-					if (tagMatcher.find()) {
-						tag = tagMatcher.group();
-						int startText = nextLine.indexOf(START_TEXT);
+					int tagLength = tagLength(nextLine);
+					if (tagLength > 0) {
+						tag = nextLine.subSequence(0, tagLength).toString();
+						int startText = NoCommentInputStream.indexOf(nextLine, START_TEXT, tagLength);
 						if (startText > 0) {
-							value = nextLine.substring(startText + START_TEXT.length()).trim();
-							if (value.contains(END_TEXT)) {
-								value = value.substring(0, value.indexOf(END_TEXT)).trim();
-								this.buildDocument.buildDocument(tag, value, textInput.getCurrentLineNo());
+							int valueStart = startText + START_TEXT.length();
+							int endText = NoCommentInputStream.indexOf(nextLine, END_TEXT, valueStart);
+							if (endText >= 0) {
+								this.buildDocument.buildDocument(tag, trimmed(nextLine, valueStart, endText),
+										textInput.getCurrentLineNo());
 								tag = "";
-								value = "";
 							} else {
+								textBlock.setLength(0);
+								appendTrimmed(nextLine, valueStart, nextLine.length());
 								inTextBlock = true;
 							}
 						} else {
-							value = nextLine.substring(tag.length()).trim();
-							this.buildDocument.buildDocument(tag, value, textInput.getCurrentLineNo());
+							this.buildDocument.buildDocument(tag, trimmed(nextLine, tagLength, nextLine.length()), textInput.getCurrentLineNo());
 							tag = "";
-							value = "";
-
 						}
 					} else {
 						// note - we just ignore any lines that do not start with a tag
 					}
 				}
-				nextLine = textInput.readLine();
+				nextLine = textInput.readLineSequence();
 			}
 			if (inTextBlock) {
 				throw(new RecognitionException("Unterminated text block at line " + (textInput.getCurrentLineNo()) + " Expecting "+END_TEXT ));
@@ -17,9 +17,18 @@
 package org.spdx.tag;
 
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,40 +40,233 @@ import org.slf4j.LoggerFactory;
  * Any new line which begins with a # is skipped until the end of line except
  * if it is within a <text> </text> wrapper
  *
+ * If the stream is created from a <code>File</code>, the file is memory mapped and decoded in
+ * a single pass.  The lines returned by <code>readLineSequence</code> are then views of the
+ * decoded characters rather than new strings.  The decoded characters of the whole file are
+ * held until the stream is closed, so this is only suitable for callers which keep the whole
+ * document in memory anyway.  Input streams, including a <code>FileInputStream</code>, and
+ * files too large to map are read line by line.
+ *
  */
 public class NoCommentInputStream extends InputStream {
 
 	static final Logger logger = LoggerFactory.getLogger(NoCommentInputStream.class.getName());
+
+	/**
+	 * A line within the decoded characters of a memory mapped file
+	 */
+	static final class LineSlice implements CharSequence {
+		private final char[] chars;
+		private final int offset;
+		private final int length;
+
+		LineSlice(char[] chars, int offset, int length) {
+			this.chars = chars;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length) {
+				throw(new IndexOutOfBoundsException("Index "+index+" out of bounds for length "+length));
+			}
+			return chars[offset + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || end > length || start > end) {
+				throw(new IndexOutOfBoundsException("Invalid range "+start+" to "+end+" for length "+length));
+			}
+			return new String(chars, offset + start, end - start);
+		}
+
+		/**
+		 * @param target
+		 * @param fromIndex
+		 * @return index of the first occurrence of target at or after fromIndex or -1 if not found
+		 */
+		int indexOf(CharSequence target, int fromIndex) {
+			int targetLen = target.length();
+			if (targetLen == 0) {
+				return Math.max(0, Math.min(fromIndex, length));
+			}
+			char first = target.charAt(0);
+			int max = offset + length - targetLen;
+			for (int i = offset + Math.max(0, fromIndex); i <= max; i++) {
+				if (chars[i] == first) {
+					int j = 1;
+					while (j < targetLen && chars[i + j] == target.charAt(j)) {
+						j++;
+					}
+					if (j == targetLen) {
+						return i - offset;
+					}
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public String toString() {
+			return new String(chars, offset, length);
+		}
+	}
+
 	private static final CharSequence START_TEXT_TAG = "<text>";
 	private static final CharSequence END_TEXT_TAG = "</text>";
 	private static final char COMMENT_CHAR = '#';
+	private static final int DECODE_CHUNK_SIZE = 64 * 1024;
 	private InputStream inputStream;
 	private InputStreamReader reader;
 	private BufferedReader bufferedReader;
-	private String currentLine;
+	/**
+	 * Decoded content of a memory mapped file - null if the input is read as a stream
+	 */
+	private char[] text = null;
+	/**
+	 * Index of the next unread character in text
+	 */
+	private int textPos = 0;
+	/**
+	 * Number of decoded characters in text
+	 */
+	private int textEnd = 0;
+	private CharSequence currentLine;
 	private int bytesIndex;
+	/**
+	 * UTF-8 bytes of the current line - only encoded if the line is read as bytes
+	 */
 	private byte[] currentBytes;
+	private boolean lineConsumed = false;
 	boolean inText = false;
 	private int currentLineNo = 0;
 
 	/**
+	 * Reads the input line by line - only the current line is held in memory
 	 * @param in Input stream containing the commented data
 	 * @throws IOException
 	 */
 	public NoCommentInputStream(InputStream in) throws IOException {
+		this(in, false);
+	}
+
+	/**
+	 * Memory maps the file and decodes it in a single pass - the decoded characters of the
+	 * whole file are held in memory until the stream is closed
+	 * @param file File containing the commented data
+	 * @throws IOException
+	 */
+	public NoCommentInputStream(File file) throws IOException {
+		this(new FileInputStream(file), true);
+	}
+
+	/**
+	 * @param in Input stream containing the commented data
+	 * @param map if true, <code>in</code> is a <code>FileInputStream</code> which is memory mapped if possible
+	 * @throws IOException
+	 */
+	private NoCommentInputStream(InputStream in, boolean map) throws IOException {
 		this.inputStream = in;
-		this.reader = new InputStreamReader(inputStream, "UTF-8");
-		this.bufferedReader = new BufferedReader(reader);
+		if (map) {
+			this.text = mapFile((FileInputStream)in);
+		}
+		if (this.text == null) {
+			this.reader = new InputStreamReader(inputStream, "UTF-8");
+			this.bufferedReader = new BufferedReader(reader);
+		}
 		readNextLine();
 	}
 
+	/**
+	 * Memory maps the remainder of the file and decodes it as UTF-8
+	 * @param in
+	 * @return the decoded characters or null if the input can not be mapped (e.g. a pipe or a file too large to map)
+	 * @throws IOException
+	 */
+	private char[] mapFile(FileInputStream in) throws IOException {
+		FileChannel channel = in.getChannel();
+		long position;
+		long size;
+		try {
+			position = channel.position();
+			size = channel.size();
+		} catch (IOException ex) {
+			return null;
+		}
+		long length = size - position;
+		if (length <= 0 || length > Integer.MAX_VALUE) {
+			return null;
+		}
+		MappedByteBuffer mapped;
+		try {
+			mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+		} catch (IOException ex) {
+			logger.warn("Unable to memory map the input - reading as a stream: "+ex.getMessage());
+			return null;
+		}
+		// The mapped bytes are copied to the decoder in chunks since decoding from a heap buffer
+		// is considerably faster than decoding directly from the mapped buffer
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		// UTF-8 never decodes to more characters than bytes
+		char[] retval = new char[(int)length];
+		CharBuffer decoded = CharBuffer.wrap(retval);
+		ByteBuffer chunk = ByteBuffer.allocate(DECODE_CHUNK_SIZE);
+		while (mapped.hasRemaining()) {
+			int numBytes = Math.min(chunk.remaining(), mapped.remaining());
+			mapped.get(chunk.array(), chunk.position(), numBytes);
+			chunk.position(chunk.position() + numBytes);
+			chunk.flip();
+			decoder.decode(chunk, decoded, !mapped.hasRemaining());
+			chunk.compact();
+		}
+		decoder.flush(decoded);
+		channel.position(size);
+		textEnd = decoded.position();
+		return retval;
+	}
+
+	/**
+	 * Reads the next line without any line terminator
+	 * @return the next line or null if the end of the input has been reached
+	 * @throws IOException
+	 */
+	private CharSequence nextRawLine() throws IOException {
+		if (text == null) {
+			// the decoded text of a mapped file is released on close
+			return bufferedReader == null ? null : bufferedReader.readLine();
+		}
+		if (textPos >= textEnd) {
+			return null;
+		}
+		// line terminators are the same as BufferedReader.readLine - \n, \r or \r\n
+		int start = textPos;
+		int end = start;
+		while (end < textEnd && text[end] != '\n' && text[end] != '\r') {
+			end++;
+		}
+		textPos = end + 1;
+		if (end < textEnd && text[end] == '\r' && textPos < textEnd && text[textPos] == '\n') {
+			textPos++;
+		}
+		return new LineSlice(text, start, end - start);
+	}
+
 	/**
 	 * Reads the next line in the input stream, skipping empty lines and comments as necessary.
 	 * @throws IOException
 	 */
 	private void readNextLine() throws IOException {
 		do {
-			currentLine = bufferedReader.readLine();
+			currentLine = nextRawLine();
 			if (currentLine == null) {
 				return;
 			}
@@ -72,17 +274,25 @@ public class NoCommentInputStream extends InputStream {
 		} while (!inText && (currentLine.length() == 0 || currentLine.charAt(0) == COMMENT_CHAR));
 
 		if (inText) {
-			if (currentLine.contains(END_TEXT_TAG)) {
+			if (indexOf(currentLine, END_TEXT_TAG, 0) >= 0) {
 				inText = false;
 			}
 		} else {
-			if (currentLine.contains(START_TEXT_TAG) && !currentLine.contains(END_TEXT_TAG)) {
+			if (indexOf(currentLine, START_TEXT_TAG, 0) >= 0 && indexOf(currentLine, END_TEXT_TAG, 0) < 0) {
 				inText = true;
 			}
 		}
 
 		bytesIndex = 0;
-		currentBytes = currentLine.getBytes("UTF-8");
+		currentBytes = null;
+		lineConsumed = false;
+	}
+
+	/**
+	 * @return true if all of the bytes or characters of the current line have been read
+	 */
+	private boolean currentLineConsumed() {
+		return lineConsumed || (currentBytes != null && bytesIndex >= currentBytes.length);
 	}
 
 	/* (non-Javadoc)
@@ -95,8 +305,11 @@ public class NoCommentInputStream extends InputStream {
 			return -1;
 		}
 
+		if (currentBytes == null && !lineConsumed) {
+			currentBytes = currentLine.toString().getBytes(StandardCharsets.UTF_8);
+		}
 		// Fill the buffer if we ran out of bytes.
-		if (bytesIndex >= currentBytes.length) {
+		if (currentLineConsumed()) {
 			readNextLine();
 			if (currentLine == null) {
 				return -1;
@@ -113,6 +326,7 @@ public class NoCommentInputStream extends InputStream {
 
 	@Override
 	public void close() {
+		this.text = null;
 		if (this.bufferedReader != null) {
 			try {
 				this.bufferedReader.close();
@@ -144,16 +358,52 @@ public class NoCommentInputStream extends InputStream {
 		return currentLineNo;
 	}
 
+	/**
+	 * Reads the remainder of the current line, or the next line if the current line has been read
+	 * @return the line without the line terminator or null if the end of the stream has been reached
+	 * @throws IOException
+	 */
 	public String readLine() throws IOException {
-		if (bytesIndex >= currentBytes.length) {
+		CharSequence retval = readLineSequence();
+		return retval == null ? null : retval.toString();
+	}
+
+	/**
+	 * Reads the remainder of the current line, or the next line if the current line has been read.
+	 * For a memory mapped file, the line is a view of the file content and no string is created.
+	 * @return the line without the line terminator or null if the end of the stream has been reached
+	 * @throws IOException
+	 */
+	public CharSequence readLineSequence() throws IOException {
+		if (currentLine != null && currentLineConsumed()) {
 			readNextLine();
 		}
 		if (currentLine == null) {
 			return null;
 		}
-		String retval = currentLine.substring(bytesIndex);
-		bytesIndex = currentBytes.length;
+		CharSequence retval;
+		if (currentBytes == null || bytesIndex == 0) {
+			retval = currentLine;
+		} else {
+			// part of the line has already been read as bytes
+			retval = new String(currentBytes, bytesIndex, currentBytes.length - bytesIndex, StandardCharsets.UTF_8);
+		}
+		lineConsumed = true;
 		return retval;
 	}
 
+	/**
+	 * Equivalent to <code>String.indexOf(String, int)</code> for any character sequence
+	 * @param line
+	 * @param target
+	 * @param fromIndex
+	 * @return index of the first occurrence of target at or after fromIndex or -1 if not found
+	 */
+	static int indexOf(CharSequence line, CharSequence target, int fromIndex) {
+		if (line instanceof LineSlice) {
+			return ((LineSlice)line).indexOf(target, fromIndex);
+		}
+		return line.toString().indexOf(target.toString(), fromIndex);
+	}
+
 }
@@ -0,0 +1,258 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ListedLicenses;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Parses SPDX tag/value files using multiple threads.
+ *
+ * The input is read in order and split into chunks at file, snippet and package boundaries.
+ * Each chunk is passed to a worker thread which parses the license expressions in the chunk -
+ * by far the most expensive part of building the files, snippets and packages.  The chunks are
+ * then applied to the document builder in document order on the calling thread.  Cross references
+ * between elements (file dependencies, snippet files, relationships and annotations) are resolved
+ * by the builder in a final single threaded link phase once all chunks have been applied.
+ *
+ * The resulting document is the same as the document produced by the <code>HandBuiltParser</code>.
+ *
+ * The workers only share the listed license and exception cache.  Licenses are cloned from the
+ * cache under its read lock and licenses not yet in the cache are loaded under its write lock, so
+ * concurrent parsing is safe without preloading the full license list.  Nothing else which is not
+ * thread safe, in particular the document container, may be used by <code>Chunk.call</code>.
+ * @author SPDX Contributors
+ *
+ */
+public class ParallelTagValueParser {
+
+	/**
+	 * Minimum number of tag/values in a chunk - chunks are only split at the start of a file, snippet or package
+	 */
+	static final int DEFAULT_CHUNK_SIZE = 2000;
+
+	/**
+	 * Tag/values for a set of consecutive files, snippets or packages
+	 */
+	static class Chunk implements Callable<Chunk> {
+		BuildDocument builder;
+		List<String> tags = Lists.newArrayList();
+		List<String> values = Lists.newArrayList();
+		List<Integer> lineNumbers = Lists.newArrayList();
+		List<Boolean> licenseExpressions = Lists.newArrayList();
+		AnyLicenseInfo[] parsedLicenses;
+
+		/**
+		 * @param builder builder the chunk will be applied to
+		 */
+		Chunk(BuildDocument builder) {
+			this.builder = builder;
+		}
+
+		void add(String tag, String value, int lineNumber, boolean licenseExpression) {
+			tags.add(tag);
+			values.add(value);
+			lineNumbers.add(lineNumber);
+			licenseExpressions.add(licenseExpression);
+		}
+
+		int size() {
+			return tags.size();
+		}
+
+		@Override
+		public Chunk call() {
+			parsedLicenses = new AnyLicenseInfo[tags.size()];
+			// each distinct expression is parsed once per chunk and not at all if already parsed by the builder
+			Map<String, AnyLicenseInfo> chunkLicenses = Maps.newHashMap();
+			for (int i = 0; i < tags.size(); i++) {
+				if (licenseExpressions.get(i)) {
+					String value = values.get(i);
+					if (chunkLicenses.containsKey(value)) {
+						parsedLicenses[i] = chunkLicenses.get(value);
+					} else if (!builder.isLicenseExpressionParsed(value)) {
+						parsedLicenses[i] = BuildDocument.parseListedLicenseExpression(value);
+						chunkLicenses.put(value, parsedLicenses[i]);
+					}
+				}
+			}
+			return this;
+		}
+	}
+
+	/**
+	 * Collects the tag/values read by the parser into chunks and applies the
+	 * completed chunks to the builder
+	 */
+	private class ChunkingBehavior implements TagValueBehavior {
+		private ExecutorService executor;
+		private Chunk currentChunk = new Chunk(builder);
+		private Deque<Future<Chunk>> pendingChunks = new ArrayDeque<Future<Chunk>>();
+		/**
+		 * True if the builder failed while applying a chunk
+		 */
+		boolean builderFailed = false;
+
+		ChunkingBehavior(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public void enter() throws Exception {
+			// nothing to do
+		}
+
+		@Override
+		public void buildDocument(String tag, String value, int lineNumber) throws Exception {
+			if (currentChunk.size() >= chunkSize && builder.isSectionStartTag(tag)) {
+				submitCurrentChunk();
+				applyCompletedChunks();
+			}
+			currentChunk.add(tag, value, lineNumber, builder.isLicenseExpressionTag(tag));
+		}
+
+		@Override
+		public void exit() throws Exception {
+			submitCurrentChunk();
+		}
+
+		private void submitCurrentChunk() throws Exception {
+			if (currentChunk.size() > 0) {
+				if (pendingChunks.size() >= maxPendingChunks) {
+					// wait for the oldest chunk so that the chunks waiting to be applied are bounded
+					apply(pendingChunks.removeFirst());
+				}
+				pendingChunks.addLast(executor.submit(currentChunk));
+				currentChunk = new Chunk(builder);
+			}
+		}
+
+		/**
+		 * Apply any chunks which have been processed by the workers in document order
+		 * @throws Exception
+		 */
+		private void applyCompletedChunks() throws Exception {
+			while (!pendingChunks.isEmpty() && pendingChunks.peekFirst().isDone()) {
+				apply(pendingChunks.removeFirst());
+			}
+		}
+
+		/**
+		 * Apply all chunks, waiting for the workers as needed
+		 * @throws Exception
+		 */
+		void applyAllChunks() throws Exception {
+			while (!pendingChunks.isEmpty()) {
+				apply(pendingChunks.removeFirst());
+			}
+		}
+
+		private void apply(Future<Chunk> future) throws Exception {
+			Chunk chunk;
+			try {
+				chunk = future.get();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Exception) {
+					throw((Exception)e.getCause());
+				}
+				throw(e);
+			}
+			try {
+				for (int i = 0; i < chunk.size(); i++) {
+					builder.buildDocument(chunk.tags.get(i), chunk.values.get(i),
+							chunk.lineNumbers.get(i), chunk.parsedLicenses[i]);
+				}
+			} catch (Exception e) {
+				builderFailed = true;
+				throw(e);
+			}
+		}
+	}
+
+	private NoCommentInputStream textInput;
+	private BuildDocument builder;
+	private int numThreads;
+	private int chunkSize;
+	private int maxPendingChunks;
+
+	/**
+	 * Creates a parser for an input stream
+	 * @param textInput input stream - the input stream must not use any comments
+	 * @param builder builder for the SPDX document
+	 * @param numThreads number of worker threads
+	 */
+	public ParallelTagValueParser(NoCommentInputStream textInput, BuildDocument builder, int numThreads) {
+		this(textInput, builder, numThreads, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param textInput input stream - the input stream must not use any comments
+	 * @param builder builder for the SPDX document
+	 * @param numThreads number of worker threads
+	 * @param chunkSize minimum number of tag/values in a chunk
+	 */
+	ParallelTagValueParser(NoCommentInputStream textInput, BuildDocument builder, int numThreads, int chunkSize) {
+		this.textInput = textInput;
+		this.builder = builder;
+		this.numThreads = Math.max(1, numThreads);
+		this.chunkSize = Math.max(1, chunkSize);
+		this.maxPendingChunks = this.numThreads * 4;
+	}
+
+	/**
+	 * parses the data
+	 * @throws Exception
+	 */
+	public void data() throws Exception {
+		// Create the listed licenses singleton before any of the workers start - the individual
+		// licenses are loaded on first use and ListedLicenses serializes those cache misses
+		ListedLicenses.getListedLicenses();
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+		try {
+			ChunkingBehavior chunker = new ChunkingBehavior(executor);
+			HandBuiltParser parser = new HandBuiltParser(textInput);
+			parser.setBehavior(chunker);
+			try {
+				parser.data();
+			} catch (Exception ex) {
+				if (!chunker.builderFailed) {
+					// apply the tag/values preceding the parse error so that any earlier errors are reported first
+					chunker.exit();
+					chunker.applyAllChunks();
+				}
+				throw(ex);
+			}
+			chunker.applyAllChunks();
+			builder.exit();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+/**
+ * Event handler which ignores all events - subclasses override the events of interest
+ * @author SPDX Contributors
+ *
+ */
+public class TagValueEventAdapter implements TagValueEventHandler {
+
+	@Override
+	public void startDocument(TagValueSection document) throws Exception {
+		// ignore
+	}
+
+	@Override
+	public void packageDefinition(TagValueSection pkg) throws Exception {
+		// ignore
+	}
+
+	@Override
+	public void fileDefinition(TagValueSection file) throws Exception {
+		// ignore
+	}
+
+	@Override
+	public void snippetDefinition(TagValueSection snippet) throws Exception {
+		// ignore
+	}
+
+	@Override
+	public void extractedLicenseDefinition(TagValueSection license) throws Exception {
+		// ignore
+	}
+
+	@Override
+	public void relationship(TagValueRelationship relationship) throws Exception {
+		// ignore
+	}
+
+	@Override
+	public void endDocument() throws Exception {
+		// ignore
+	}
+}
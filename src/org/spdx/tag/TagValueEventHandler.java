@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+/**
+ * Receives the events from a <code>TagValueStreamParser</code>.
+ *
+ * Each section is delivered once all of its tags have been read.  The section objects are not
+ * retained by the parser, so a handler may keep them as long as needed.
+ * <code>TagValueEventAdapter</code> provides empty implementations of all methods.
+ * @author SPDX Contributors
+ *
+ */
+public interface TagValueEventHandler {
+
+	/**
+	 * Called once with the document creation information preceding the first package, file, snippet or extracted license
+	 * @param document
+	 * @throws Exception
+	 */
+	public void startDocument(TagValueSection document) throws Exception;
+
+	/**
+	 * @param pkg package definition
+	 * @throws Exception
+	 */
+	public void packageDefinition(TagValueSection pkg) throws Exception;
+
+	/**
+	 * @param file file definition - <code>getPackageId()</code> returns the containing package, if any
+	 * @throws Exception
+	 */
+	public void fileDefinition(TagValueSection file) throws Exception;
+
+	/**
+	 * @param snippet snippet definition
+	 * @throws Exception
+	 */
+	public void snippetDefinition(TagValueSection snippet) throws Exception;
+
+	/**
+	 * @param license extracted license definition
+	 * @throws Exception
+	 */
+	public void extractedLicenseDefinition(TagValueSection license) throws Exception;
+
+	/**
+	 * Called for each relationship, including any relationship comment, as soon as it has been read.
+	 * Relationships in the document creation section are passed after <code>startDocument</code>.
+	 * @param relationship
+	 * @throws Exception
+	 */
+	public void relationship(TagValueRelationship relationship) throws Exception;
+
+	/**
+	 * Called once after all other events
+	 * @throws Exception
+	 */
+	public void endDocument() throws Exception;
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+/**
+ * A relationship delivered by the <code>TagValueStreamParser</code>.
+ *
+ * The IDs and relationship type are the values as they appear in the tag/value document - they
+ * are not resolved or validated against the elements in the document.
+ * @author SPDX Contributors
+ *
+ */
+public class TagValueRelationship {
+	private String elementId;
+	private String relationshipType;
+	private String relatedElementId;
+	private String comment = null;
+	private int lineNumber;
+
+	TagValueRelationship(String elementId, String relationshipType, String relatedElementId, int lineNumber) {
+		this.elementId = elementId;
+		this.relationshipType = relationshipType;
+		this.relatedElementId = relatedElementId;
+		this.lineNumber = lineNumber;
+	}
+
+	void setComment(String comment) {
+		this.comment = comment;
+	}
+
+	/**
+	 * @return the ID of the element the relationship is from
+	 */
+	public String getElementId() {
+		return elementId;
+	}
+
+	/**
+	 * @return the relationship type as it appears in the document (e.g. CONTAINS)
+	 */
+	public String getRelationshipType() {
+		return relationshipType;
+	}
+
+	/**
+	 * @return the ID of the related element
+	 */
+	public String getRelatedElementId() {
+		return relatedElementId;
+	}
+
+	/**
+	 * @return the relationship comment or null if there is no comment
+	 */
+	public String getComment() {
+		return comment;
+	}
+
+	/**
+	 * @return the line number of the relationship
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A section of a tag/value document delivered by the <code>TagValueStreamParser</code>.
+ *
+ * A section starts with the tag defining a package (PackageName), file (FileName), snippet (SnippetSPDXID)
+ * or extracted license (LicenseID) and contains all of the following tags up to the start of the next section.
+ * The document section contains the document creation tags preceding the first section.
+ * Relationships are not included in the section - they are delivered as separate events.
+ *
+ * Tag names do not include the trailing colon (e.g. <code>getValue("LicenseConcluded")</code>).
+ * @author SPDX Contributors
+ *
+ */
+public class TagValueSection {
+
+	/**
+	 * Type of section
+	 */
+	public enum SectionType {
+		DOCUMENT,
+		PACKAGE,
+		FILE,
+		SNIPPET,
+		EXTRACTED_LICENSE
+	}
+
+	/**
+	 * A single tag and value within a section
+	 */
+	public static class TagValue {
+		private String tag;
+		private String value;
+		private int lineNumber;
+
+		TagValue(String tag, String value, int lineNumber) {
+			this.tag = tag;
+			this.value = value;
+			this.lineNumber = lineNumber;
+		}
+
+		/**
+		 * @return the tag name without the trailing colon
+		 */
+		public String getTag() {
+			return tag;
+		}
+
+		/**
+		 * @return the value with any text block delimiters removed
+		 */
+		public String getValue() {
+			return value;
+		}
+
+		/**
+		 * @return the line number where the value ends
+		 */
+		public int getLineNumber() {
+			return lineNumber;
+		}
+	}
+
+	private SectionType type;
+	private int lineNumber;
+	private String id = null;
+	private String packageId;
+	private List<TagValue> tagValues = Lists.newArrayList();
+
+	/**
+	 * @param type type of section
+	 * @param lineNumber line number of the first tag in the section
+	 * @param packageId ID of the package containing the section or null if not contained in a package
+	 */
+	TagValueSection(SectionType type, int lineNumber, String packageId) {
+		this.type = type;
+		this.lineNumber = lineNumber;
+		this.packageId = packageId;
+	}
+
+	void add(String tag, String value, int lineNumber) {
+		tagValues.add(new TagValue(tag, value, lineNumber));
+	}
+
+	void setId(String id) {
+		this.id = id;
+	}
+
+	/**
+	 * @return the type of section
+	 */
+	public SectionType getType() {
+		return type;
+	}
+
+	/**
+	 * @return line number of the first tag in the section
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	/**
+	 * @return the SPDX ID for the document, package, file or snippet or the license ID for an extracted license - null if no ID was specified
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * @return the SPDX ID of the package containing a file or null if the file is not part of a package
+	 */
+	public String getPackageId() {
+		return packageId;
+	}
+
+	/**
+	 * @return all tags and values in the order they appear in the document
+	 */
+	public List<TagValue> getTagValues() {
+		return Collections.unmodifiableList(tagValues);
+	}
+
+	/**
+	 * @param tag tag name without the trailing colon
+	 * @return the first value for the tag or null if the tag is not in the section
+	 */
+	public String getValue(String tag) {
+		for (TagValue tagValue:tagValues) {
+			if (tagValue.getTag().equals(tag)) {
+				return tagValue.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @param tag tag name without the trailing colon
+	 * @return all values for the tag in document order
+	 */
+	public List<String> getValues(String tag) {
+		List<String> retval = Lists.newArrayList();
+		for (TagValue tagValue:tagValues) {
+			if (tagValue.getTag().equals(tag)) {
+				retval.add(tagValue.getValue());
+			}
+		}
+		return retval;
+	}
+}
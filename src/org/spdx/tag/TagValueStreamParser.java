@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+
+import org.spdx.tag.BuildDocument.Tag;
+import org.spdx.tag.TagValueSection.SectionType;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Streams the content of an SPDX tag/value file to a <code>TagValueEventHandler</code>
+ * without building an SPDX document model.
+ *
+ * Only the section currently being read is kept in memory, so arbitrarily large documents
+ * can be processed.  For example, to list all files concluded as Apache-2.0:
+ * <pre>
+ * new TagValueStreamParser(in).parse(new TagValueEventAdapter() {
+ *     public void fileDefinition(TagValueSection file) {
+ *         if ("Apache-2.0".equals(file.getValue("LicenseConcluded"))) {
+ *             System.out.println(file.getValue("FileName"));
+ *         }
+ *     }
+ * });
+ * </pre>
+ * The values are not validated - use <code>TagToRDF</code> to build and verify a complete document.
+ * @author SPDX Contributors
+ *
+ */
+public class TagValueStreamParser {
+
+	/**
+	 * Converts the tag/values from the hand built parser into section events
+	 */
+	private class EventBehavior implements TagValueBehavior {
+		private TagValueEventHandler handler;
+		private TagValueSection currentSection = new TagValueSection(SectionType.DOCUMENT, 1, null);
+		private TagValueRelationship lastRelationship = null;
+		/**
+		 * Relationships read in the document creation section - held until the document is started
+		 */
+		private List<TagValueRelationship> documentRelationships = Lists.newArrayList();
+		private String packageId = null;
+
+		EventBehavior(TagValueEventHandler handler) {
+			this.handler = handler;
+		}
+
+		@Override
+		public void enter() throws Exception {
+			// nothing to do
+		}
+
+		@Override
+		public void buildDocument(String tag, String value, int lineNumber) throws Exception {
+			tag = tag.trim();
+			Tag tagId = tagMap.get(tag);
+			value = BuildDocument.trim(value);
+			if (Tag.PROP_RELATIONSHIP.equals(tagId)) {
+				endRelationship();
+				Matcher matcher = BuildDocument.RELATIONSHIP_PATTERN.matcher(value);
+				if (!matcher.find()) {
+					throw(new InvalidSpdxTagFileException("Invalid relationship: "+value + " at line number "+lineNumber));
+				}
+				lastRelationship = new TagValueRelationship(matcher.group(1), matcher.group(2), matcher.group(3), lineNumber);
+				return;
+			}
+			if (Tag.PROP_RELATIONSHIP_COMMENT.equals(tagId)) {
+				if (lastRelationship == null) {
+					throw(new InvalidSpdxTagFileException("Relationship comment found outside of a relationship: "+value+" at line number "+lineNumber));
+				}
+				lastRelationship.setComment(value);
+				return;
+			}
+			endRelationship();
+			SectionType sectionType = sectionStart(tagId);
+			if (sectionType != null) {
+				endSection();
+				currentSection = new TagValueSection(sectionType, lineNumber,
+						SectionType.FILE.equals(sectionType) ? packageId : null);
+			}
+			if (isIdTag(currentSection.getType(), tagId)) {
+				currentSection.setId(value);
+				if (SectionType.PACKAGE.equals(currentSection.getType())) {
+					packageId = value;
+				}
+			}
+			currentSection.add(tag.endsWith(":") ? tag.substring(0, tag.length()-1) : tag, value, lineNumber);
+		}
+
+		@Override
+		public void exit() throws Exception {
+			endRelationship();
+			endSection();
+			handler.endDocument();
+		}
+
+		private void endRelationship() throws Exception {
+			if (lastRelationship != null) {
+				if (SectionType.DOCUMENT.equals(currentSection.getType())) {
+					documentRelationships.add(lastRelationship);
+				} else {
+					handler.relationship(lastRelationship);
+				}
+				lastRelationship = null;
+			}
+		}
+
+		private void endSection() throws Exception {
+			switch (currentSection.getType()) {
+				case DOCUMENT:
+					handler.startDocument(currentSection);
+					for (TagValueRelationship relationship:documentRelationships) {
+						handler.relationship(relationship);
+					}
+					documentRelationships.clear();
+					break;
+				case PACKAGE:
+					handler.packageDefinition(currentSection);
+					break;
+				case FILE:
+					handler.fileDefinition(currentSection);
+					break;
+				case SNIPPET:
+					handler.snippetDefinition(currentSection);
+					break;
+				case EXTRACTED_LICENSE:
+					handler.extractedLicenseDefinition(currentSection);
+					break;
+				default:
+					throw(new RuntimeException("Unknown section type "+currentSection.getType()));
+			}
+		}
+	}
+
+	/**
+	 * @param tagId
+	 * @return type of section started by the tag or null if the tag does not start a section
+	 */
+	private static SectionType sectionStart(Tag tagId) {
+		if (tagId == null) {
+			return null;
+		}
+		switch (tagId) {
+			case PROP_PACKAGE_DECLARED_NAME: return SectionType.PACKAGE;
+			case PROP_FILE_NAME: return SectionType.FILE;
+			case PROP_SNIPPET_SPDX_ID: return SectionType.SNIPPET;
+			case PROP_LICENSE_ID: return SectionType.EXTRACTED_LICENSE;
+			default: return null;
+		}
+	}
+
+	/**
+	 * @param sectionType
+	 * @param tagId
+	 * @return true if the tag contains the ID for the type of section
+	 */
+	private static boolean isIdTag(SectionType sectionType, Tag tagId) {
+		switch (sectionType) {
+			case SNIPPET: return Tag.PROP_SNIPPET_SPDX_ID.equals(tagId);
+			case EXTRACTED_LICENSE: return Tag.PROP_LICENSE_ID.equals(tagId);
+			default: return Tag.PROP_ELEMENT_ID.equals(tagId);
+		}
+	}
+
+	private NoCommentInputStream textInput;
+	private Map<String, Tag> tagMap = Maps.newHashMap();
+
+	/**
+	 * @param in tag/value input - comments are removed by the parser
+	 * @throws IOException
+	 */
+	public TagValueStreamParser(InputStream in) throws IOException {
+		this(new NoCommentInputStream(in));
+	}
+
+	/**
+	 * @param textInput tag/value input with the comments removed
+	 * @throws IOException
+	 */
+	public TagValueStreamParser(NoCommentInputStream textInput) throws IOException {
+		this.textInput = textInput;
+		Properties constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
+		for (Tag tag:Tag.values()) {
+			tagMap.put(constants.getProperty(tag.name()).trim(), tag);
+		}
+	}
+
+	/**
+	 * Parse the input delivering the events to the handler.  The input is closed when parsing completes.
+	 * @param handler
+	 * @throws Exception
+	 */
+	public void parse(TagValueEventHandler handler) throws Exception {
+		HandBuiltParser parser = new HandBuiltParser(textInput);
+		parser.setBehavior(new EventBehavior(handler));
+		parser.data();
+	}
+}
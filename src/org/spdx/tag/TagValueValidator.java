@@ -0,0 +1,383 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.LicenseSet;
+import org.spdx.rdfparser.license.OrLaterOperator;
+import org.spdx.rdfparser.license.WithExceptionOperator;
+import org.spdx.spdxspreadsheet.InvalidLicenseStringException;
+import org.spdx.tag.BuildDocument.Tag;
+import org.spdx.tag.TagValueSection.TagValue;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Structural validation of an SPDX tag/value file in a single streaming pass.
+ *
+ * The validator is driven by the events of the <code>TagValueStreamParser</code> and does not
+ * build an SPDX document model.  It checks the tag/value syntax, the presence of required tags,
+ * the uniqueness of SPDX and license IDs, the resolution of references to elements, external
+ * documents and extracted licenses and the syntax of license expressions.  Since the model is not
+ * built, a document which passes may still fail the full verification performed by <code>Verify</code>.
+ *
+ * Validation can optionally stop once a maximum number of errors has been found.
+ * @author SPDX Contributors
+ *
+ */
+public class TagValueValidator {
+
+	static final String NONE_ELEMENT = "NONE";
+	static final String NOASSERTION_ELEMENT = "NOASSERTION";
+	static final String LICENSE_REF_PREFIX = "LicenseRef-";
+	static final String DOCUMENT_REF_PREFIX = "DocumentRef-";
+	static final String DATA_LICENSE_ID = "CC0-1.0";
+
+	/**
+	 * Thrown by the event handler to stop parsing once the maximum number of errors is reached
+	 */
+	private static class ErrorLimitReachedException extends Exception {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * A reference to an ID which must be defined somewhere in the document
+	 */
+	private static class IdReference {
+		String id;
+		String description;
+		int lineNumber;
+
+		IdReference(String id, String description, int lineNumber) {
+			this.id = id;
+			this.description = description;
+			this.lineNumber = lineNumber;
+		}
+	}
+
+	/**
+	 * Collects the errors from the parser events for a single document
+	 */
+	private class ValidatingHandler implements TagValueEventHandler {
+		List<String> errors = Lists.newArrayList();
+		boolean spdx2 = true;
+		Set<String> elementIds = Sets.newHashSet();
+		Set<String> licenseIds = Sets.newHashSet();
+		Set<String> externalDocumentIds = Sets.newHashSet();
+		List<IdReference> elementReferences = Lists.newArrayList();
+		Map<String, IdReference> licenseReferences = Maps.newLinkedHashMap();
+
+		@Override
+		public void startDocument(TagValueSection document) throws Exception {
+			String version = document.getValue(tagNames.get(Tag.PROP_SPDX_VERSION));
+			spdx2 = version == null || !version.startsWith("SPDX-1.");
+			checkSection(document, spdx2 ? documentTags : documentTagsV1, "document");
+			String dataLicense = document.getValue(tagNames.get(Tag.PROP_SPDX_DATA_LICENSE));
+			if (spdx2 && dataLicense != null && !DATA_LICENSE_ID.equals(dataLicense)) {
+				error("Invalid data license "+dataLicense+" - must be "+DATA_LICENSE_ID, document.getLineNumber());
+			}
+			if (document.getId() != null) {
+				elementIds.add(document.getId());
+			}
+			for (String externalDocRef:document.getValues(tagNames.get(Tag.PROP_EXTERNAL_DOC_URI))) {
+				String[] parts = externalDocRef.split("\\s+");
+				if (parts.length != 4 || !parts[0].startsWith(DOCUMENT_REF_PREFIX) || !"SHA1:".equals(parts[2])) {
+					error("Invalid external document reference "+externalDocRef, document.getLineNumber());
+				} else if (!externalDocumentIds.add(parts[0])) {
+					error("Duplicate external document ID "+parts[0], document.getLineNumber());
+				}
+			}
+		}
+
+		@Override
+		public void packageDefinition(TagValueSection pkg) throws Exception {
+			checkSection(pkg, spdx2 ? packageTags : packageTagsV1, "package");
+			checkElementId(pkg);
+		}
+
+		@Override
+		public void fileDefinition(TagValueSection file) throws Exception {
+			checkSection(file, spdx2 ? fileTags : fileTagsV1, "file");
+			checkElementId(file);
+			boolean sha1 = false;
+			for (String checksum:file.getValues(tagNames.get(Tag.PROP_FILE_CHECKSUM))) {
+				if (!BuildDocument.CHECKSUM_PATTERN.matcher(checksum).find()) {
+					error("Invalid file checksum "+checksum, file.getLineNumber());
+				} else if (checksum.startsWith("SHA1:")) {
+					sha1 = true;
+				}
+			}
+			if (!sha1 && file.getValue(tagNames.get(Tag.PROP_FILE_CHECKSUM)) != null) {
+				error("Missing SHA1 checksum for file "+file.getValue(tagNames.get(Tag.PROP_FILE_NAME)), file.getLineNumber());
+			}
+		}
+
+		@Override
+		public void snippetDefinition(TagValueSection snippet) throws Exception {
+			checkSection(snippet, snippetTags, "snippet");
+			checkElementId(snippet);
+			String fromFile = snippet.getValue(tagNames.get(Tag.PROP_SNIPPET_FROM_FILE_ID));
+			if (fromFile != null) {
+				elementReferences.add(new IdReference(fromFile, "snippet from file", snippet.getLineNumber()));
+			}
+		}
+
+		@Override
+		public void extractedLicenseDefinition(TagValueSection license) throws Exception {
+			checkSection(license, extractedLicenseTags, "extracted license");
+			String id = license.getId();
+			if (id != null && !licenseIds.add(id)) {
+				error("Duplicate license ID "+id, license.getLineNumber());
+			}
+		}
+
+		@Override
+		public void relationship(TagValueRelationship relationship) throws Exception {
+			elementReferences.add(new IdReference(relationship.getElementId(), "relationship", relationship.getLineNumber()));
+			String related = relationship.getRelatedElementId();
+			if (!NONE_ELEMENT.equals(related) && !NOASSERTION_ELEMENT.equals(related)) {
+				elementReferences.add(new IdReference(related, "related element", relationship.getLineNumber()));
+			}
+		}
+
+		@Override
+		public void endDocument() throws Exception {
+			for (IdReference reference:elementReferences) {
+				if (!elementIdExists(reference.id)) {
+					error("Undefined SPDX ID "+reference.id+" referenced by "+reference.description, reference.lineNumber);
+				}
+			}
+			for (IdReference reference:licenseReferences.values()) {
+				int colon = reference.id.indexOf(':');
+				if (colon > 0) {
+					if (!externalDocumentIds.contains(reference.id.substring(0, colon))) {
+						error("Undefined external document reference for license "+reference.id, reference.lineNumber);
+					}
+				} else if (!reference.id.startsWith(LICENSE_REF_PREFIX)) {
+					error("Unknown license ID "+reference.id, reference.lineNumber);
+				} else if (!licenseIds.contains(reference.id)) {
+					error("Missing extracted license definition for "+reference.id, reference.lineNumber);
+				}
+			}
+		}
+
+		/**
+		 * Check the tags, required tags and license expressions of a section
+		 * @param section
+		 * @param requiredTags
+		 * @param sectionName
+		 * @throws ErrorLimitReachedException
+		 */
+		private void checkSection(TagValueSection section, Set<Tag> requiredTags, String sectionName) throws ErrorLimitReachedException {
+			Set<Tag> found = EnumSet.noneOf(Tag.class);
+			for (TagValue tagValue:section.getTagValues()) {
+				Tag tag = tagMap.get(tagValue.getTag());
+				if (tag == null) {
+					error("Unrecognized tag "+tagValue.getTag(), tagValue.getLineNumber());
+					continue;
+				}
+				found.add(tag);
+				if (BuildDocument.LICENSE_EXPRESSION_TAGS.contains(tag)) {
+					checkLicenseExpression(tagValue.getValue(), tagValue.getLineNumber());
+				} else if (Tag.PROP_ANNOTATION_ID.equals(tag)) {
+					elementReferences.add(new IdReference(tagValue.getValue(), "annotation", tagValue.getLineNumber()));
+				}
+			}
+			for (Tag required:requiredTags) {
+				if (!found.contains(required)) {
+					error("Missing required tag "+tagNames.get(required)+" for "+sectionName, section.getLineNumber());
+				}
+			}
+		}
+
+		private void checkElementId(TagValueSection section) throws ErrorLimitReachedException {
+			String id = section.getId();
+			if (id != null && !elementIds.add(id)) {
+				error("Duplicate SPDX ID "+id, section.getLineNumber());
+			}
+		}
+
+		/**
+		 * Check the syntax of a license expression and record any extracted licenses it references
+		 * @param expression
+		 * @param lineNumber
+		 * @throws ErrorLimitReachedException
+		 */
+		private void checkLicenseExpression(String expression, int lineNumber) throws ErrorLimitReachedException {
+			if (NONE_ELEMENT.equals(expression) || NOASSERTION_ELEMENT.equals(expression)) {
+				return;
+			}
+			Set<String> referencedIds = expressionLicenseIds.get(expression);
+			if (referencedIds == null) {
+				referencedIds = Sets.newHashSet();
+				try {
+					collectExtractedLicenseIds(LicenseInfoFactory.parseSPDXLicenseString(expression), referencedIds);
+				} catch (InvalidLicenseStringException e) {
+					error("Invalid license expression "+expression+": "+e.getMessage(), lineNumber);
+				}
+				expressionLicenseIds.put(expression, referencedIds);
+			}
+			for (String id:referencedIds) {
+				if (!licenseReferences.containsKey(id)) {
+					licenseReferences.put(id, new IdReference(id, "license expression", lineNumber));
+				}
+			}
+		}
+
+		/**
+		 * @param id element ID
+		 * @return true if the element ID is defined in this document or refers to a defined external document
+		 */
+		private boolean elementIdExists(String id) {
+			if (elementIds.contains(id)) {
+				return true;
+			}
+			int colon = id.indexOf(':');
+			return colon > 0 && id.startsWith(DOCUMENT_REF_PREFIX) && externalDocumentIds.contains(id.substring(0, colon));
+		}
+
+		private void error(String message, int lineNumber) throws ErrorLimitReachedException {
+			errors.add(message+" at line number "+lineNumber);
+			if (maxErrors > 0 && errors.size() >= maxErrors) {
+				throw(new ErrorLimitReachedException());
+			}
+		}
+	}
+
+	/**
+	 * Collect the IDs of all extracted licenses in a parsed license expression
+	 * @param license
+	 * @param ids
+	 */
+	private static void collectExtractedLicenseIds(AnyLicenseInfo license, Set<String> ids) {
+		if (license instanceof ExtractedLicenseInfo) {
+			ids.add(((ExtractedLicenseInfo)license).getLicenseId());
+		} else if (license instanceof LicenseSet) {
+			for (AnyLicenseInfo member:((LicenseSet)license).getMembers()) {
+				collectExtractedLicenseIds(member, ids);
+			}
+		} else if (license instanceof WithExceptionOperator) {
+			collectExtractedLicenseIds(((WithExceptionOperator)license).getLicense(), ids);
+		} else if (license instanceof OrLaterOperator) {
+			collectExtractedLicenseIds(((OrLaterOperator)license).getLicense(), ids);
+		}
+	}
+
+	private int maxErrors;
+	private Map<String, Tag> tagMap = Maps.newHashMap();
+	private Map<Tag, String> tagNames = new EnumMap<Tag, String>(Tag.class);
+	/**
+	 * IDs of the extracted licenses referenced by each distinct license expression
+	 */
+	private Map<String, Set<String>> expressionLicenseIds = Maps.newHashMap();
+	private Set<Tag> documentTags = Sets.immutableEnumSet(Tag.PROP_SPDX_VERSION, Tag.PROP_SPDX_DATA_LICENSE,
+			Tag.PROP_DOCUMENT_NAMESPACE, Tag.PROP_DOCUMENT_NAME, Tag.PROP_ELEMENT_ID,
+			Tag.PROP_CREATION_CREATOR, Tag.PROP_CREATION_CREATED);
+	private Set<Tag> documentTagsV1 = Sets.immutableEnumSet(Tag.PROP_SPDX_VERSION, Tag.PROP_SPDX_DATA_LICENSE,
+			Tag.PROP_CREATION_CREATOR, Tag.PROP_CREATION_CREATED);
+	private Set<Tag> packageTags = Sets.immutableEnumSet(Tag.PROP_PACKAGE_DECLARED_NAME, Tag.PROP_ELEMENT_ID,
+			Tag.PROP_PACKAGE_DOWNLOAD_URL, Tag.PROP_PACKAGE_CONCLUDED_LICENSE, Tag.PROP_PACKAGE_DECLARED_LICENSE,
+			Tag.PROP_PACKAGE_DECLARED_COPYRIGHT);
+	private Set<Tag> packageTagsV1 = Sets.immutableEnumSet(Tag.PROP_PACKAGE_DECLARED_NAME,
+			Tag.PROP_PACKAGE_DOWNLOAD_URL, Tag.PROP_PACKAGE_CONCLUDED_LICENSE, Tag.PROP_PACKAGE_DECLARED_LICENSE,
+			Tag.PROP_PACKAGE_DECLARED_COPYRIGHT);
+	private Set<Tag> fileTags = Sets.immutableEnumSet(Tag.PROP_FILE_NAME, Tag.PROP_ELEMENT_ID,
+			Tag.PROP_FILE_CHECKSUM, Tag.PROP_FILE_LICENSE, Tag.PROP_FILE_SEEN_LICENSE, Tag.PROP_FILE_COPYRIGHT);
+	private Set<Tag> fileTagsV1 = Sets.immutableEnumSet(Tag.PROP_FILE_NAME,
+			Tag.PROP_FILE_CHECKSUM, Tag.PROP_FILE_LICENSE, Tag.PROP_FILE_SEEN_LICENSE, Tag.PROP_FILE_COPYRIGHT);
+	private Set<Tag> snippetTags = Sets.immutableEnumSet(Tag.PROP_SNIPPET_SPDX_ID, Tag.PROP_SNIPPET_FROM_FILE_ID,
+			Tag.PROP_SNIPPET_BYTE_RANGE, Tag.PROP_SNIPPET_CONCLUDED_LICENSE, Tag.PROP_SNIPPET_COPYRIGHT);
+	private Set<Tag> extractedLicenseTags = Sets.immutableEnumSet(Tag.PROP_LICENSE_ID, Tag.PROP_EXTRACTED_TEXT);
+
+	/**
+	 * Create a validator which reports all errors
+	 * @throws IOException
+	 */
+	public TagValueValidator() throws IOException {
+		this(0);
+	}
+
+	/**
+	 * @param maxErrors Validation stops once this number of errors is found - 0 or less for no limit
+	 * @throws IOException
+	 */
+	public TagValueValidator(int maxErrors) throws IOException {
+		this.maxErrors = maxErrors;
+		Properties constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
+		for (Tag tag:Tag.values()) {
+			String name = constants.getProperty(tag.name()).trim();
+			if (name.endsWith(":")) {
+				name = name.substring(0, name.length()-1);
+			}
+			tagMap.put(name, tag);
+			tagNames.put(tag, name);
+		}
+	}
+
+	/**
+	 * Validate an SPDX tag/value file
+	 * @param file
+	 * @return list of validation errors - empty if no errors were found
+	 * @throws IOException
+	 */
+	public List<String> validate(File file) throws IOException {
+		// read line by line rather than mapping the file so that memory use does not depend on the file size
+		return validate(new FileInputStream(file));
+	}
+
+	/**
+	 * Validate SPDX tag/value input.  The input is closed when validation completes.
+	 * @param in
+	 * @return list of validation errors - empty if no errors were found
+	 * @throws IOException
+	 */
+	public List<String> validate(InputStream in) throws IOException {
+		return validate(new NoCommentInputStream(in));
+	}
+
+	private List<String> validate(NoCommentInputStream textInput) throws IOException {
+		ValidatingHandler handler = new ValidatingHandler();
+		try {
+			new TagValueStreamParser(textInput).parse(handler);
+		} catch (ErrorLimitReachedException e) {
+			// stop at the maximum number of errors
+		} catch (IOException e) {
+			throw(e);
+		} catch (Exception e) {
+			// syntax errors from the parser end the validation
+			handler.errors.add("Syntax error: "+e.getMessage());
+		} finally {
+			textInput.close();
+		}
+		return handler.errors;
+	}
+}
@@ -0,0 +1,931 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tag;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.spdx.rdfparser.DOAPProject;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.SPDXCreatorInformation;
+import org.spdx.rdfparser.SPDXReview;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.SpdxPackageVerificationCode;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.ExtractedLicenseInfo;
+import org.spdx.rdfparser.license.SimpleLicensingInfo;
+import org.spdx.rdfparser.model.Annotation;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.DoapProject;
+import org.spdx.rdfparser.model.ExternalDocumentRef;
+import org.spdx.rdfparser.model.ExternalRef;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxElement;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.rdfparser.model.SpdxItem;
+import org.spdx.rdfparser.model.SpdxPackage;
+import org.spdx.rdfparser.model.SpdxSnippet;
+import org.spdx.rdfparser.model.pointer.ByteOffsetPointer;
+import org.spdx.rdfparser.model.pointer.LineCharPointer;
+import org.spdx.rdfparser.model.pointer.StartEndPointer;
+import org.spdx.rdfparser.referencetype.ListedReferenceTypes;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Writes an SPDX document in tag/value (or viewer) format directly to a <code>Writer</code>.
+ *
+ * The tag prefixes are looked up once when the writer is created and each line is written
+ * as its parts rather than as a concatenated string.  Each property is read from the document
+ * model once per element.  The output is identical to the output of <code>CommonCode.printDoc</code>,
+ * which delegates to this class.
+ *
+ * The writer does not buffer - wrap unbuffered output in a <code>BufferedWriter</code> or
+ * use <code>createFileWriter</code> to write to a file.
+ * @author SPDX Contributors
+ *
+ */
+@SuppressWarnings("deprecation")
+public class TagValueWriter {
+
+	/**
+	 * Size of the output buffer used for files - large documents are written in few system calls
+	 */
+	public static final int FILE_BUFFER_SIZE = 256 * 1024;
+
+	private static final String UNSPECIFIED = "[UNSPECIFIED]";
+	private static final String MISSING = "[MISSING]";
+
+	private Writer out;
+	private String lineSeparator = System.lineSeparator();
+
+	// Tag prefixes and headers from the constants
+	private String beginText;
+	private String endText;
+	private String spdxVersionTag;
+	private String dataLicenseTag;
+	private String documentNamespaceTag;
+	private String documentNameTag;
+	private String documentCommentTag;
+	private String elementIdTag;
+	private String externalDocRefsHeader;
+	private String externalDocUriTag;
+	private String creationInfoHeader;
+	private String creatorTag;
+	private String createdTag;
+	private String creatorCommentTag;
+	private String licenseListVersionTag;
+	private String annotationHeader;
+	private String annotatorTag;
+	private String annotationDateTag;
+	private String annotationCommentTag;
+	private String annotationTypeTag;
+	private String annotationIdTag;
+	private String relationshipHeader;
+	private String relationshipTag;
+	private String licenseInfoHeader;
+	private String licenseIdTag;
+	private String extractedTextTag;
+	private String licenseNameTag;
+	private String sourceUrlsTag;
+	private String licenseCommentTag;
+	private String reviewInfoHeader;
+	private String reviewerTag;
+	private String reviewDateTag;
+	private String reviewCommentTag;
+	private String snippetHeader;
+	private String snippetIdTag;
+	private String snippetFromFileTag;
+	private String snippetByteRangeTag;
+	private String snippetLineRangeTag;
+	private String snippetConcludedLicenseTag;
+	private String snippetSeenLicenseTag;
+	private String snippetLicenseCommentsTag;
+	private String snippetCopyrightTag;
+	private String snippetCommentTag;
+	private String snippetNameTag;
+	private String packageInfoHeader;
+	private String packageNameTag;
+	private String packageCommentTag;
+	private String packageVersionTag;
+	private String packageFileNameTag;
+	private String packageSupplierTag;
+	private String packageOriginatorTag;
+	private String packageDownloadTag;
+	private String packageVerificationCodeTag;
+	private String packageChecksumTag;
+	private String packageHomepageTag;
+	private String packageSourceInfoTag;
+	private String packageConcludedLicenseTag;
+	private String licenseFromFilesHeader;
+	private String packageLicenseInfoFromFilesTag;
+	private String packageDeclaredLicenseTag;
+	private String packageLicenseCommentTag;
+	private String packageCopyrightTag;
+	private String packageSummaryTag;
+	private String packageDescriptionTag;
+	private String packageAttributionTextTag;
+	private String externalReferenceTag;
+	private String externalReferenceCommentTag;
+	private String packageFilesAnalyzedTag;
+	private String fileInfoHeader;
+	private String fileNameTag;
+	private String fileCommentTag;
+	private String fileTypeTag;
+	private String fileChecksumTag;
+	private String fileLicenseTag;
+	private String fileSeenLicenseTag;
+	private String fileLicenseCommentsTag;
+	private String fileCopyrightTag;
+	private String fileNoticeTag;
+	private String fileAttributionTextTag;
+	private String fileContributorTag;
+	private String fileDependencyTag;
+	private String projectNameTag;
+	private String projectHomepageTag;
+	private String projectUriTag;
+
+	/**
+	 * @param out output for the document
+	 * @param constants tag/value or viewer constants (e.g. <code>SpdxTagValueConstants.properties</code>)
+	 */
+	public TagValueWriter(Writer out, Properties constants) {
+		this.out = out;
+		beginText = constants.getProperty("PROP_BEGIN_TEXT");
+		endText = constants.getProperty("PROP_END_TEXT");
+		spdxVersionTag = constants.getProperty("PROP_SPDX_VERSION");
+		dataLicenseTag = constants.getProperty("PROP_SPDX_DATA_LICENSE");
+		documentNamespaceTag = constants.getProperty("PROP_DOCUMENT_NAMESPACE");
+		documentNameTag = constants.getProperty("PROP_DOCUMENT_NAME");
+		documentCommentTag = constants.getProperty("PROP_SPDX_COMMENT");
+		elementIdTag = constants.getProperty("PROP_ELEMENT_ID");
+		externalDocRefsHeader = constants.getProperty("EXTERNAL_DOC_REFS_HEADER");
+		externalDocUriTag = constants.getProperty("PROP_EXTERNAL_DOC_URI");
+		creationInfoHeader = constants.getProperty("CREATION_INFO_HEADER");
+		creatorTag = constants.getProperty("PROP_CREATION_CREATOR");
+		createdTag = constants.getProperty("PROP_CREATION_CREATED");
+		creatorCommentTag = constants.getProperty("PROP_CREATION_COMMENT");
+		licenseListVersionTag = constants.getProperty("PROP_LICENSE_LIST_VERSION");
+		annotationHeader = constants.getProperty("ANNOTATION_HEADER");
+		annotatorTag = constants.getProperty("PROP_ANNOTATOR");
+		annotationDateTag = constants.getProperty("PROP_ANNOTATION_DATE");
+		annotationCommentTag = constants.getProperty("PROP_ANNOTATION_COMMENT");
+		annotationTypeTag = constants.getProperty("PROP_ANNOTATION_TYPE");
+		annotationIdTag = constants.getProperty("PROP_ANNOTATION_ID");
+		relationshipHeader = constants.getProperty("RELATIONSHIP_HEADER");
+		relationshipTag = constants.getProperty("PROP_RELATIONSHIP");
+		licenseInfoHeader = constants.getProperty("LICENSE_INFO_HEADER");
+		licenseIdTag = constants.getProperty("PROP_LICENSE_ID");
+		extractedTextTag = constants.getProperty("PROP_EXTRACTED_TEXT");
+		licenseNameTag = constants.getProperty("PROP_LICENSE_NAME");
+		sourceUrlsTag = constants.getProperty("PROP_SOURCE_URLS");
+		licenseCommentTag = constants.getProperty("PROP_LICENSE_COMMENT");
+		reviewInfoHeader = constants.getProperty("REVIEW_INFO_HEADER");
+		reviewerTag = constants.getProperty("PROP_REVIEW_REVIEWER");
+		reviewDateTag = constants.getProperty("PROP_REVIEW_DATE");
+		reviewCommentTag = constants.getProperty("PROP_REVIEW_COMMENT");
+		snippetHeader = constants.getProperty("SNIPPET_HEADER");
+		snippetIdTag = constants.getProperty("PROP_SNIPPET_SPDX_ID");
+		snippetFromFileTag = constants.getProperty("PROP_SNIPPET_FROM_FILE_ID");
+		snippetByteRangeTag = constants.getProperty("PROP_SNIPPET_BYTE_RANGE");
+		snippetLineRangeTag = constants.getProperty("PROP_SNIPPET_LINE_RANGE");
+		snippetConcludedLicenseTag = constants.getProperty("PROP_SNIPPET_CONCLUDED_LICENSE");
+		snippetSeenLicenseTag = constants.getProperty("PROP_SNIPPET_SEEN_LICENSE");
+		snippetLicenseCommentsTag = constants.getProperty("PROP_SNIPPET_LIC_COMMENTS");
+		snippetCopyrightTag = constants.getProperty("PROP_SNIPPET_COPYRIGHT");
+		snippetCommentTag = constants.getProperty("PROP_SNIPPET_COMMENT");
+		snippetNameTag = constants.getProperty("PROP_SNIPPET_NAME");
+		packageInfoHeader = constants.getProperty("PACKAGE_INFO_HEADER");
+		packageNameTag = constants.getProperty("PROP_PACKAGE_DECLARED_NAME");
+		packageCommentTag = constants.getProperty("PROP_PACKAGE_COMMENT");
+		packageVersionTag = constants.getProperty("PROP_PACKAGE_VERSION_INFO");
+		packageFileNameTag = constants.getProperty("PROP_PACKAGE_FILE_NAME");
+		packageSupplierTag = constants.getProperty("PROP_PACKAGE_SUPPLIER");
+		packageOriginatorTag = constants.getProperty("PROP_PACKAGE_ORIGINATOR");
+		packageDownloadTag = constants.getProperty("PROP_PACKAGE_DOWNLOAD_URL");
+		packageVerificationCodeTag = constants.getProperty("PROP_PACKAGE_VERIFICATION_CODE");
+		packageChecksumTag = constants.getProperty("PROP_PACKAGE_CHECKSUM");
+		packageHomepageTag = constants.getProperty("PROP_PACKAGE_HOMEPAGE_URL");
+		packageSourceInfoTag = constants.getProperty("PROP_PACKAGE_SOURCE_INFO");
+		packageConcludedLicenseTag = constants.getProperty("PROP_PACKAGE_CONCLUDED_LICENSE");
+		licenseFromFilesHeader = constants.getProperty("LICENSE_FROM_FILES_INFO_HEADER");
+		packageLicenseInfoFromFilesTag = constants.getProperty("PROP_PACKAGE_LICENSE_INFO_FROM_FILES");
+		packageDeclaredLicenseTag = constants.getProperty("PROP_PACKAGE_DECLARED_LICENSE");
+		packageLicenseCommentTag = constants.getProperty("PROP_PACKAGE_LICENSE_COMMENT");
+		packageCopyrightTag = constants.getProperty("PROP_PACKAGE_DECLARED_COPYRIGHT");
+		packageSummaryTag = constants.getProperty("PROP_PACKAGE_SHORT_DESC");
+		packageDescriptionTag = constants.getProperty("PROP_PACKAGE_DESCRIPTION");
+		packageAttributionTextTag = constants.getProperty("PROP_PACKAGE_ATTRIBUTION_TEXT");
+		externalReferenceTag = constants.getProperty("PROP_EXTERNAL_REFERENCE");
+		externalReferenceCommentTag = constants.getProperty("PROP_EXTERNAL_REFERENCE_COMMENT");
+		packageFilesAnalyzedTag = constants.getProperty("PROP_PACKAGE_FILES_ANALYZED");
+		fileInfoHeader = constants.getProperty("FILE_INFO_HEADER");
+		fileNameTag = constants.getProperty("PROP_FILE_NAME");
+		fileCommentTag = constants.getProperty("PROP_FILE_COMMENT");
+		fileTypeTag = constants.getProperty("PROP_FILE_TYPE");
+		fileChecksumTag = constants.getProperty("PROP_FILE_CHECKSUM");
+		fileLicenseTag = constants.getProperty("PROP_FILE_LICENSE");
+		fileSeenLicenseTag = constants.getProperty("PROP_FILE_SEEN_LICENSE");
+		fileLicenseCommentsTag = constants.getProperty("PROP_FILE_LIC_COMMENTS");
+		fileCopyrightTag = constants.getProperty("PROP_FILE_COPYRIGHT");
+		fileNoticeTag = constants.getProperty("PROP_FILE_NOTICE_TEXT");
+		fileAttributionTextTag = constants.getProperty("PROP_FILE_ATTRIBUTION_TEXT");
+		fileContributorTag = constants.getProperty("PROP_FILE_CONTRIBUTOR");
+		fileDependencyTag = constants.getProperty("PROP_FILE_DEPENDENCY");
+		projectNameTag = constants.getProperty("PROP_PROJECT_NAME");
+		projectHomepageTag = constants.getProperty("PROP_PROJECT_HOMEPAGE");
+		projectUriTag = constants.getProperty("PROP_PROJECT_URI");
+	}
+
+	/**
+	 * @param file
+	 * @return a UTF-8 writer for the file using a large output buffer
+	 * @throws IOException
+	 */
+	public static PrintWriter createFileWriter(File file) throws IOException {
+		return new PrintWriter(new BufferedWriter(new OutputStreamWriter(
+				new FileOutputStream(file), StandardCharsets.UTF_8), FILE_BUFFER_SIZE));
+	}
+
+	/**
+	 * Write the complete document.  The output is flushed but not closed.
+	 * @param doc
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	public void writeDocument(SpdxDocument doc) throws InvalidSPDXAnalysisException, IOException {
+		if (doc == null) {
+			line("Warning: No document to print");
+			out.flush();
+			return;
+		}
+		SPDXCreatorInformation creationInfo = doc.getCreationInfo();
+		String created = creationInfo.getCreated();
+		// version
+		String spdxVersion = "";
+		String specVersion = doc.getSpecVersion();
+		if (specVersion != null && created != null) {
+			spdxVersion = specVersion;
+			line(spdxVersionTag, spdxVersion);
+		}
+		// Data license
+		if (!spdxVersion.equals(SpdxDocumentContainer.POINT_EIGHT_SPDX_VERSION)
+				&& !spdxVersion.equals(SpdxDocumentContainer.POINT_NINE_SPDX_VERSION)) {
+			AnyLicenseInfo dataLicense = doc.getDataLicense();
+			if (dataLicense != null) {
+				if (dataLicense instanceof SimpleLicensingInfo) {
+					line(dataLicenseTag, ((SimpleLicensingInfo)dataLicense).getLicenseId());
+				} else {
+					line(dataLicenseTag, dataLicense.toString());
+				}
+			}
+		}
+		// Document Uri
+		String docNamespace = doc.getDocumentNamespace();
+		if (docNamespace != null && !docNamespace.isEmpty()) {
+			line(documentNamespaceTag, docNamespace);
+		}
+		// element properties
+		String docId = writeElementProperties(doc, documentNameTag, documentCommentTag);
+		line("");
+		// External References
+		ExternalDocumentRef[] externalRefs = doc.getExternalDocumentRefs();
+		if (externalRefs != null && externalRefs.length > 0) {
+			if (externalDocRefsHeader != null && !externalDocRefsHeader.isEmpty()) {
+				line(externalDocRefsHeader);
+			}
+			for (ExternalDocumentRef externalRef:externalRefs) {
+				writeExternalDocumentRef(externalRef);
+			}
+		}
+		// Creators
+		String[] creators = creationInfo.getCreators();
+		if (creators != null && creators.length > 0) {
+			line(creationInfoHeader);
+			for (String creator:creators) {
+				line(creatorTag, creator);
+			}
+		}
+		// Creation Date
+		if (created != null && !created.isEmpty()) {
+			line(createdTag, created);
+		}
+		// Creator Comment
+		String creatorComment = creationInfo.getComment();
+		if (creatorComment != null && !creatorComment.isEmpty()) {
+			textLine(creatorCommentTag, creatorComment);
+		}
+		// License list version
+		String licenseListVersion = creationInfo.getLicenseListVersion();
+		if (licenseListVersion != null && !licenseListVersion.isEmpty()) {
+			line(licenseListVersionTag, licenseListVersion);
+		}
+		writeElementAnnotationsRelationships(doc, docId);
+		line("");
+		// Print the actual files
+		SpdxDocumentContainer container = doc.getDocumentContainer();
+		List<SpdxPackage> allPackages = container.findAllPackages();
+		List<SpdxFile> allFiles = container.findAllFiles();
+		List<SpdxSnippet> allSnippets = container.findAllSnippets();
+		// Elements are tracked in sets rather than removed from the lists to avoid a quadratic number of compares
+		Set<SpdxElement> printed = Sets.newHashSet();
+		// first print out any described files or snippets
+		SpdxItem[] items = doc.getDocumentDescribes();
+		for (SpdxItem item:items) {
+			if (item instanceof SpdxFile) {
+				writeFile((SpdxFile)item);
+				printed.add(item);
+			} else if (item instanceof SpdxSnippet) {
+				writeSnippet((SpdxSnippet)item);
+				printed.add(item);
+			}
+		}
+		// print any described packages
+		for (SpdxItem item:items) {
+			if (item instanceof SpdxPackage) {
+				writePackage((SpdxPackage)item, printed, docNamespace);
+				printed.add(item);
+			}
+		}
+		// print remaining packages
+		for (SpdxPackage pkg:allPackages) {
+			if (!printed.contains(pkg)) {
+				writePackage(pkg, printed, docNamespace);
+			}
+		}
+		// print remaining files
+		for (SpdxFile file:allFiles) {
+			if (!printed.contains(file)) {
+				writeFile(file);
+			}
+		}
+		// print remaining snippets
+		Collections.sort(allSnippets);
+		for (SpdxSnippet snippet:allSnippets) {
+			if (!printed.contains(snippet)) {
+				writeSnippet(snippet);
+			}
+		}
+		// Extracted license infos
+		line("");
+		ExtractedLicenseInfo[] extractedLicenses = doc.getExtractedLicenseInfos();
+		if (extractedLicenses != null && extractedLicenses.length > 0) {
+			line(licenseInfoHeader);
+			for (ExtractedLicenseInfo license:extractedLicenses) {
+				writeLicense(license);
+			}
+		}
+		// Reviewers
+		SPDXReview[] reviewedBy = doc.getReviewers();
+		if (reviewedBy != null && reviewedBy.length > 0) {
+			line(reviewInfoHeader);
+			for (SPDXReview review:reviewedBy) {
+				line(reviewerTag, review.getReviewer());
+				line(reviewDateTag, review.getReviewDate());
+				String reviewComment = review.getComment();
+				if (reviewComment != null && !reviewComment.isEmpty()) {
+					textLine(reviewCommentTag, reviewComment);
+				}
+				line("");
+			}
+		}
+		out.flush();
+	}
+
+	/**
+	 * @param spdxSnippet
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	private void writeSnippet(SpdxSnippet spdxSnippet) throws InvalidSPDXAnalysisException, IOException {
+		line(snippetHeader);
+		// NOTE: The element properties are not used since the order for tag/value is different for snippets
+		line(snippetIdTag, spdxSnippet.getId());
+		SpdxFile fromFile = spdxSnippet.getSnippetFromFile();
+		if (fromFile != null) {
+			line(snippetFromFileTag, fromFile.getId());
+		}
+		StartEndPointer byteRange = spdxSnippet.getByteRange();
+		if (byteRange != null) {
+			line(snippetByteRangeTag, formatPointerRange(byteRange));
+		}
+		StartEndPointer lineRange = spdxSnippet.getLineRange();
+		if (lineRange != null) {
+			line(snippetLineRangeTag, formatPointerRange(lineRange));
+		}
+		AnyLicenseInfo licenseConcluded = spdxSnippet.getLicenseConcluded();
+		if (licenseConcluded != null) {
+			line(snippetConcludedLicenseTag, licenseConcluded.toString());
+		}
+		AnyLicenseInfo[] seenLicenses = spdxSnippet.getLicenseInfoFromFiles();
+		if (seenLicenses != null) {
+			for (AnyLicenseInfo seenLicense:seenLicenses) {
+				line(snippetSeenLicenseTag, String.valueOf(seenLicense));
+			}
+		}
+		String licenseComments = spdxSnippet.getLicenseComments();
+		if (licenseComments != null && !licenseComments.trim().isEmpty()) {
+			line(snippetLicenseCommentsTag, licenseComments);
+		}
+		String copyright = spdxSnippet.getCopyrightText();
+		if (copyright != null && !copyright.trim().isEmpty()) {
+			line(snippetCopyrightTag, copyright);
+		}
+		String comment = spdxSnippet.getComment();
+		if (comment != null && !comment.trim().isEmpty()) {
+			line(snippetCommentTag, comment);
+		}
+		String name = spdxSnippet.getName();
+		if (name != null && !name.trim().isEmpty()) {
+			line(snippetNameTag, name);
+		}
+		line("");
+	}
+
+	/**
+	 * Format a start end pointer into a numeric range
+	 * @param pointer
+	 * @return
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static String formatPointerRange(StartEndPointer pointer) throws InvalidSPDXAnalysisException {
+		String start = MISSING;
+		String end = MISSING;
+		if (pointer.getStartPointer() != null) {
+			if (pointer.getStartPointer() instanceof ByteOffsetPointer) {
+				start = String.valueOf(((ByteOffsetPointer)(pointer.getStartPointer())).getOffset());
+			} else if (pointer.getStartPointer() instanceof LineCharPointer) {
+				start = String.valueOf(((LineCharPointer)(pointer.getStartPointer())).getLineNumber());
+			}
+		}
+		if (pointer.getEndPointer() != null) {
+			if (pointer.getEndPointer() instanceof ByteOffsetPointer) {
+				end = String.valueOf(((ByteOffsetPointer)(pointer.getEndPointer())).getOffset());
+			} else if (pointer.getStartPointer() instanceof LineCharPointer) {
+				end = String.valueOf(((LineCharPointer)(pointer.getEndPointer())).getLineNumber());
+			}
+		}
+		return start + ":" + end;
+	}
+
+	/**
+	 * @param externalDocumentRef
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	private void writeExternalDocumentRef(ExternalDocumentRef externalDocumentRef) throws InvalidSPDXAnalysisException, IOException {
+		String uri = externalDocumentRef.getSpdxDocumentNamespace();
+		if (uri == null || uri.isEmpty()) {
+			uri = UNSPECIFIED;
+		}
+		String sha1 = UNSPECIFIED;
+		Checksum checksum = externalDocumentRef.getChecksum();
+		if (checksum != null && checksum.getValue() != null && !checksum.getValue().isEmpty()) {
+			sha1 = checksum.getValue();
+		}
+		String id = externalDocumentRef.getExternalDocumentId();
+		if (id == null || id.isEmpty()) {
+			id = UNSPECIFIED;
+		}
+		out.append(externalDocUriTag).append(id).append(' ').append(uri).append(" SHA1: ").append(sha1);
+		out.append(lineSeparator);
+	}
+
+	/**
+	 * @param element
+	 * @param nameTag
+	 * @param commentTag
+	 * @return the ID of the element
+	 * @throws IOException
+	 */
+	private String writeElementProperties(SpdxElement element, String nameTag, String commentTag) throws IOException {
+		String name = element.getName();
+		if (name != null && !name.isEmpty()) {
+			line(nameTag, name);
+		}
+		String id = element.getId();
+		if (id != null && !id.isEmpty()) {
+			line(elementIdTag, id);
+		}
+		String comment = element.getComment();
+		if (comment != null && !comment.isEmpty()) {
+			textLine(commentTag, comment);
+		}
+		return id;
+	}
+
+	/**
+	 * @param element
+	 * @param elementId ID of the element
+	 * @throws IOException
+	 */
+	private void writeElementAnnotationsRelationships(SpdxElement element, String elementId) throws IOException {
+		Annotation[] annotations = element.getAnnotations();
+		if (annotations != null && annotations.length > 0) {
+			line(annotationHeader);
+			for (Annotation annotation:annotations) {
+				line(annotatorTag, annotation.getAnnotator());
+				line(annotationDateTag, annotation.getAnnotationDate());
+				textLine(annotationCommentTag, annotation.getComment());
+				line(annotationTypeTag, annotation.getAnnotationType().getTag());
+				line(annotationIdTag, elementId);
+			}
+		}
+		Relationship[] relationships = element.getRelationships();
+		if (relationships != null && relationships.length > 0) {
+			line(relationshipHeader);
+			for (Relationship relationship:relationships) {
+				out.append(relationshipTag).append(elementId).append(' ')
+					.append(relationship.getRelationshipType().toTag()).append(' ')
+					.append(relationship.getRelatedSpdxElement().getId());
+				out.append(lineSeparator);
+			}
+		}
+	}
+
+	/**
+	 * @param license
+	 * @throws IOException
+	 */
+	private void writeLicense(ExtractedLicenseInfo license) throws IOException {
+		String licenseId = license.getLicenseId();
+		if (licenseId != null && !licenseId.isEmpty()) {
+			line(licenseIdTag, licenseId);
+		}
+		String extractedText = license.getExtractedText();
+		if (extractedText != null && !extractedText.isEmpty()) {
+			textLine(extractedTextTag, extractedText);
+		}
+		String name = license.getName();
+		if (name != null && !name.isEmpty()) {
+			line(licenseNameTag, name);
+		}
+		String[] seeAlso = license.getSeeAlso();
+		if (seeAlso != null && seeAlso.length > 0) {
+			out.append(sourceUrlsTag).append(seeAlso[0]);
+			for (int i = 1; i < seeAlso.length; i++) {
+				out.append(", ").append(seeAlso[i]);
+			}
+			out.append(lineSeparator);
+		}
+		if (seeAlso != null) {
+			String comment = license.getComment();
+			if (comment != null && !comment.isEmpty()) {
+				textLine(licenseCommentTag, comment);
+			}
+		}
+		line("");
+	}
+
+	/**
+	 * @param pkg
+	 * @param printed elements already printed - the package files are added
+	 * @param documentNamespace
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	private void writePackage(SpdxPackage pkg, Set<SpdxElement> printed,
+			String documentNamespace) throws InvalidSPDXAnalysisException, IOException {
+		line(packageInfoHeader);
+		String pkgId = writeElementProperties(pkg, packageNameTag, packageCommentTag);
+		// Version
+		String versionInfo = pkg.getVersionInfo();
+		if (versionInfo != null && !versionInfo.isEmpty()) {
+			line(packageVersionTag, versionInfo);
+		}
+		// File name
+		String packageFileName = pkg.getPackageFileName();
+		if (packageFileName != null && !packageFileName.isEmpty()) {
+			line(packageFileNameTag, packageFileName);
+		}
+		// Supplier
+		String supplier = pkg.getSupplier();
+		if (supplier != null && !supplier.isEmpty()) {
+			line(packageSupplierTag, supplier);
+		}
+		// Originator
+		String originator = pkg.getOriginator();
+		if (originator != null && !originator.isEmpty()) {
+			line(packageOriginatorTag, originator);
+		}
+		// Download location
+		String downloadLocation = pkg.getDownloadLocation();
+		if (downloadLocation != null && !downloadLocation.isEmpty()) {
+			line(packageDownloadTag, downloadLocation);
+		}
+		// package verification code
+		SpdxPackageVerificationCode verificationCode = pkg.getPackageVerificationCode();
+		if (verificationCode != null && verificationCode.getValue() != null
+				&& !verificationCode.getValue().isEmpty()) {
+			out.append(packageVerificationCodeTag).append(verificationCode.getValue());
+			String[] excludedFiles = verificationCode.getExcludedFileNames();
+			if (excludedFiles.length != 0) {
+				// The separator also precedes the first file name for compatibility with earlier output
+				out.append('(');
+				for (String excludedFile:excludedFiles) {
+					out.append(", ").append(excludedFile);
+				}
+				out.append(')');
+			}
+			out.append(lineSeparator);
+		}
+		// Checksums
+		Checksum[] checksums = pkg.getChecksums();
+		if (checksums != null) {
+			for (Checksum checksum:checksums) {
+				writeChecksum(checksum, packageChecksumTag);
+			}
+		}
+		// Home page
+		String homepage = pkg.getHomepage();
+		if (homepage != null && !homepage.isEmpty()) {
+			line(packageHomepageTag, homepage);
+		}
+		// Source info
+		String sourceInfo = pkg.getSourceInfo();
+		if (sourceInfo != null && !sourceInfo.isEmpty()) {
+			textLine(packageSourceInfoTag, sourceInfo);
+		}
+		// concluded license
+		AnyLicenseInfo licenseConcluded = pkg.getLicenseConcluded();
+		if (licenseConcluded != null) {
+			line(packageConcludedLicenseTag, licenseConcluded.toString());
+		}
+		// License information from files
+		AnyLicenseInfo[] licenses = pkg.getLicenseInfoFromFiles();
+		if (licenses != null && licenses.length > 0) {
+			line(licenseFromFilesHeader);
+			for (AnyLicenseInfo license:licenses) {
+				line(packageLicenseInfoFromFilesTag, license.toString());
+			}
+		}
+		// Declared licenses
+		AnyLicenseInfo licenseDeclared = pkg.getLicenseDeclared();
+		if (licenseDeclared != null) {
+			line(packageDeclaredLicenseTag, licenseDeclared.toString());
+		}
+		String licenseComments = pkg.getLicenseComments();
+		if (licenseComments != null && !licenseComments.isEmpty()) {
+			textLine(packageLicenseCommentTag, licenseComments);
+		}
+		// Declared copyright
+		String copyright = pkg.getCopyrightText();
+		if (copyright != null && !copyright.isEmpty()) {
+			textLine(packageCopyrightTag, copyright);
+		}
+		// Short description
+		String summary = pkg.getSummary();
+		if (summary != null && !summary.isEmpty()) {
+			textLine(packageSummaryTag, summary);
+		}
+		// Description
+		String description = pkg.getDescription();
+		if (description != null && !description.isEmpty()) {
+			textLine(packageDescriptionTag, description);
+		}
+		// Attribution text
+		String[] attributionText = pkg.getAttributionText();
+		if (attributionText != null) {
+			for (String att:attributionText) {
+				textLine(packageAttributionTextTag, att);
+			}
+		}
+		// External Refs
+		ExternalRef[] externalRefs = pkg.getExternalRefs();
+		if (externalRefs != null) {
+			for (ExternalRef externalRef:externalRefs) {
+				writeExternalRef(externalRef, documentNamespace);
+			}
+		}
+		writeElementAnnotationsRelationships(pkg, pkgId);
+		// Files
+		if (!pkg.isFilesAnalyzed()) {
+			// Only print if not the default
+			line(packageFilesAnalyzedTag, "false");
+		}
+		SpdxFile[] files = pkg.getFiles();
+		if (files != null && files.length > 0) {
+			List<SpdxFile> sortedFileList = Arrays.asList(files.clone());
+			Collections.sort(sortedFileList);
+			line("");
+			line(fileInfoHeader);
+			for (SpdxFile file:sortedFileList) {
+				writeFile(file);
+				printed.add(file);
+				line("");
+			}
+		} else {
+			line("");
+		}
+	}
+
+	/**
+	 * Write a package ExternalRef
+	 * @param externalRef
+	 * @param docNamespace
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	private void writeExternalRef(ExternalRef externalRef, String docNamespace) throws InvalidSPDXAnalysisException, IOException {
+		String category = null;
+		if (externalRef.getReferenceCategory() == null) {
+			category = "OTHER";
+		} else {
+			category = externalRef.getReferenceCategory().getTag();
+		}
+		String referenceType = null;
+		if (externalRef.getReferenceType() == null ||
+				externalRef.getReferenceType().getReferenceTypeUri() == null) {
+			referenceType = MISSING;
+		} else {
+			try {
+				referenceType = ListedReferenceTypes.getListedReferenceTypes().getListedReferenceName(externalRef.getReferenceType().getReferenceTypeUri());
+			} catch (InvalidSPDXAnalysisException e) {
+				referenceType = null;
+			}
+			if (referenceType == null) {
+				referenceType = externalRef.getReferenceType().getReferenceTypeUri().toString();
+				if (referenceType.startsWith(docNamespace + "#")) {
+					referenceType = referenceType.substring(docNamespace.length()+1);
+				}
+			}
+		}
+		String referenceLocator = externalRef.getReferenceLocator();
+		if (referenceLocator == null) {
+			referenceLocator = MISSING;
+		}
+		out.append(externalReferenceTag).append(category).append(' ')
+			.append(referenceType).append(' ').append(referenceLocator);
+		out.append(lineSeparator);
+		String comment = externalRef.getComment();
+		if (comment != null) {
+			line(externalReferenceCommentTag, comment);
+		}
+	}
+
+	/**
+	 * @param checksum
+	 * @param checksumTag
+	 * @throws IOException
+	 */
+	private void writeChecksum(Checksum checksum, String checksumTag) throws IOException {
+		out.append(checksumTag).append(Checksum.CHECKSUM_ALGORITHM_TO_TAG.get(checksum.getAlgorithm()))
+			.append(' ').append(checksum.getValue());
+		out.append(lineSeparator);
+	}
+
+	/**
+	 * @param file
+	 * @throws IOException
+	 */
+	private void writeFile(SpdxFile file) throws IOException {
+		String fileId = writeElementProperties(file, fileNameTag, fileCommentTag);
+		// type
+		FileType[] fileTypes = file.getFileTypes();
+		if (fileTypes != null) {
+			for (FileType fileType:fileTypes) {
+				line(fileTypeTag, SpdxFile.FILE_TYPE_TO_TAG.get(fileType));
+			}
+		}
+		Checksum[] checksums = file.getChecksums();
+		if (checksums != null) {
+			for (Checksum checksum:checksums) {
+				writeChecksum(checksum, fileChecksumTag);
+			}
+		}
+		// concluded license
+		AnyLicenseInfo licenseConcluded = file.getLicenseConcluded();
+		if (licenseConcluded != null) {
+			line(fileLicenseTag, licenseConcluded.toString());
+		}
+		// License info in file
+		AnyLicenseInfo[] seenLicenses = file.getLicenseInfoFromFiles();
+		if (seenLicenses != null) {
+			for (AnyLicenseInfo seenLicense:seenLicenses) {
+				line(fileSeenLicenseTag, seenLicense.toString());
+			}
+		}
+		// license comments
+		String licenseComments = file.getLicenseComments();
+		if (licenseComments != null && !licenseComments.isEmpty()) {
+			line(fileLicenseCommentsTag, licenseComments);
+		}
+		// file copyright
+		String copyright = file.getCopyrightText();
+		if (copyright != null && !copyright.isEmpty()) {
+			textLine(fileCopyrightTag, copyright);
+		}
+		// artifact of
+		DoapProject[] artifactOf = file.getArtifactOf();
+		if (artifactOf != null) {
+			for (DoapProject project:artifactOf) {
+				writeProject(project);
+			}
+		}
+		// File notice
+		String noticeText = file.getNoticeText();
+		if (noticeText != null && !noticeText.isEmpty()) {
+			textLine(fileNoticeTag, noticeText);
+		}
+		// file attribution text
+		String[] attributionText = file.getAttributionText();
+		if (attributionText != null) {
+			for (String att:attributionText) {
+				textLine(fileAttributionTextTag, att);
+			}
+		}
+		// file contributors
+		String[] contributors = file.getFileContributors();
+		if (contributors != null) {
+			for (String contributor:contributors) {
+				line(fileContributorTag, contributor);
+			}
+		}
+		// file dependencies
+		SpdxFile[] fileDependencies = file.getFileDependencies();
+		if (fileDependencies != null) {
+			for (SpdxFile fileDependency:fileDependencies) {
+				line(fileDependencyTag, fileDependency.getName());
+			}
+		}
+		writeElementAnnotationsRelationships(file, fileId);
+	}
+
+	/**
+	 * @param doapProject
+	 * @throws IOException
+	 */
+	private void writeProject(DoapProject doapProject) throws IOException {
+		// project name
+		String name = doapProject.getName();
+		if (name != null && !name.isEmpty()) {
+			line(projectNameTag, name);
+		}
+		// project homepage
+		String homePage = doapProject.getHomePage();
+		if (homePage != null && !homePage.isEmpty()) {
+			line(projectHomepageTag, homePage);
+		}
+		// DOAP file url
+		String projectUri = doapProject.getProjectUri();
+		if (projectUri != null && !projectUri.isEmpty()
+				&& !projectUri.equals(DOAPProject.UNKNOWN_URI)) {
+			line(projectUriTag, projectUri);
+		}
+	}
+
+	/**
+	 * Write a single line - null values are written as <code>null</code> as in string concatenation
+	 * @param text
+	 * @throws IOException
+	 */
+	private void line(String text) throws IOException {
+		out.append(text).append(lineSeparator);
+	}
+
+	/**
+	 * @param tag tag prefix
+	 * @param value
+	 * @throws IOException
+	 */
+	private void line(String tag, String value) throws IOException {
+		out.append(tag).append(value).append(lineSeparator);
+	}
+
+	/**
+	 * Write a value enclosed in the begin and end text delimiters
+	 * @param tag tag prefix
+	 * @param value
+	 * @throws IOException
+	 */
+	private void textLine(String tag, String value) throws IOException {
+		out.append(tag).append(beginText).append(value).append(endText).append(lineSeparator);
+	}
+}
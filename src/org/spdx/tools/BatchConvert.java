@@ -0,0 +1,480 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.spdx.rdfparser.license.ListedLicenses;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.spdxspreadsheet.SPDXSpreadsheet;
+import org.spdx.spdxspreadsheet.StreamingSPDXSpreadsheet;
+import org.spdx.tag.CommonCode;
+import org.spdx.tag.TagValueWriter;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import au.com.bytecode.opencsv.CSVWriter;
+
+/**
+ * Converts or verifies many SPDX documents within a single JVM.
+ *
+ * The inputs are processed on a bounded worker pool and share the listed licenses, which are
+ * loaded only once.  A summary with the status, elapsed time and any errors for each input is
+ * written to the output directory.
+ *
+ * Usage: BatchConvert inputDirectoryOrManifest outputDirectory format [threads]
+ * where format is one of TAG, RDF, SPREADSHEET, HTML or VERIFY and the manifest is a text
+ * file listing one input file path per line.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class BatchConvert {
+
+	static final int MIN_ARGS = 3;
+	static final int MAX_ARGS = 4;
+	static final int ERROR_STATUS = 1;
+	public static final String SUMMARY_FILE_NAME = "batch-summary.csv";
+	static final String[] SUMMARY_HEADER = new String[] {"Input", "Output", "Status", "Milliseconds", "Verification Errors", "Message"};
+	static final String RDF_OUTPUT_FORMAT = "RDF/XML-ABBREV";
+
+	/**
+	 * Formats the inputs can be converted to
+	 */
+	public enum TargetFormat {
+		TAG(".spdx"), RDF(".rdf"), SPREADSHEET(".xls"), HTML(""), VERIFY(null);
+
+		private String extension;
+
+		TargetFormat(String extension) {
+			this.extension = extension;
+		}
+
+		/**
+		 * @return file extension of the output, empty for a directory or null if no output is written
+		 */
+		public String getExtension() {
+			return extension;
+		}
+	}
+
+	/**
+	 * Status of the conversion of a single input
+	 */
+	public enum Status {
+		OK, WARNINGS, ERROR
+	}
+
+	/**
+	 * The result of converting a single input file
+	 */
+	public static class ConversionResult {
+		private File inputFile;
+		private File outputFile;
+		private List<String> verificationErrors = Lists.newArrayList();
+		private String errorMessage = null;
+		private long millis;
+
+		ConversionResult(File inputFile, File outputFile) {
+			this.inputFile = inputFile;
+			this.outputFile = outputFile;
+		}
+
+		/**
+		 * @return the input file
+		 */
+		public File getInputFile() {
+			return inputFile;
+		}
+
+		/**
+		 * @return the output file or directory - null if no output is written
+		 */
+		public File getOutputFile() {
+			return outputFile;
+		}
+
+		/**
+		 * @return parser warnings and verification errors for the document
+		 */
+		public List<String> getVerificationErrors() {
+			return verificationErrors;
+		}
+
+		/**
+		 * @return the reason the conversion failed or null if the conversion succeeded
+		 */
+		public String getErrorMessage() {
+			return errorMessage;
+		}
+
+		/**
+		 * @return milliseconds spent reading, verifying and writing the document
+		 */
+		public long getMillis() {
+			return millis;
+		}
+
+		/**
+		 * @return the status of the conversion
+		 */
+		public Status getStatus() {
+			if (errorMessage != null) {
+				return Status.ERROR;
+			} else if (!verificationErrors.isEmpty()) {
+				return Status.WARNINGS;
+			} else {
+				return Status.OK;
+			}
+		}
+	}
+
+	private File outputDirectory;
+	private TargetFormat targetFormat;
+	private int numThreads;
+	private Properties constants;
+
+	/**
+	 * @param outputDirectory directory for the converted documents - created if it does not exist
+	 * @param targetFormat format to convert the documents to
+	 * @param numThreads maximum number of documents converted at the same time
+	 * @throws IOException
+	 */
+	public BatchConvert(File outputDirectory, TargetFormat targetFormat, int numThreads) throws IOException {
+		this.outputDirectory = outputDirectory;
+		this.targetFormat = targetFormat;
+		this.numThreads = numThreads < 1 ? 1 : numThreads;
+		this.constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
+	}
+
+	public static void main(String[] args) {
+		if (args.length < MIN_ARGS || args.length > MAX_ARGS) {
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		TargetFormat targetFormat;
+		try {
+			targetFormat = TargetFormat.valueOf(args[2].toUpperCase(Locale.ENGLISH));
+		} catch (IllegalArgumentException e) {
+			System.out.println("Invalid format "+args[2]);
+			usage();
+			System.exit(ERROR_STATUS);
+			return;
+		}
+		int numThreads = Runtime.getRuntime().availableProcessors();
+		if (args.length > 3) {
+			try {
+				numThreads = Integer.parseInt(args[3]);
+			} catch (NumberFormatException e) {
+				System.out.println("Invalid number of threads "+args[3]);
+				usage();
+				System.exit(ERROR_STATUS);
+			}
+		}
+		List<ConversionResult> results;
+		File summaryFile = new File(args[1], SUMMARY_FILE_NAME);
+		long startTime = System.currentTimeMillis();
+		try {
+			List<File> inputFiles = collectInputFiles(new File(args[0]));
+			results = new BatchConvert(new File(args[1]), targetFormat, numThreads).convert(inputFiles);
+			try (Writer writer = Files.newBufferedWriter(summaryFile.toPath(), StandardCharsets.UTF_8)) {
+				writeSummary(results, writer);
+			}
+		} catch (IOException e) {
+			System.out.println("Error processing the batch: "+e.getMessage());
+			System.exit(ERROR_STATUS);
+			return;
+		}
+		int numErrors = 0;
+		for (ConversionResult result:results) {
+			if (Status.ERROR.equals(result.getStatus())) {
+				numErrors++;
+				System.out.println(result.getInputFile().getPath()+": "+result.getErrorMessage());
+			}
+		}
+		System.out.println("Processed "+results.size()+" files with "+numErrors+" errors in "+
+				(System.currentTimeMillis() - startTime)+" milliseconds.  Summary written to "+summaryFile.getPath());
+		if (numErrors > 0) {
+			System.exit(ERROR_STATUS);
+		}
+	}
+
+	/**
+	 * @param input directory containing the input files or a manifest file listing one input file per line
+	 * @return input files - for a directory, all non-hidden files sorted by name
+	 * @throws IOException
+	 */
+	public static List<File> collectInputFiles(File input) throws IOException {
+		List<File> retval = Lists.newArrayList();
+		if (input.isDirectory()) {
+			File[] files = input.listFiles();
+			if (files == null) {
+				throw(new IOException("Unable to list the files in directory "+input.getPath()));
+			}
+			Arrays.sort(files);
+			for (File file:files) {
+				if (file.isFile() && !file.isHidden()) {
+					retval.add(file);
+				}
+			}
+		} else if (input.isFile()) {
+			for (String line:Files.readAllLines(input.toPath(), StandardCharsets.UTF_8)) {
+				line = line.trim();
+				if (!line.isEmpty() && !line.startsWith("#")) {
+					retval.add(new File(line));
+				}
+			}
+		} else {
+			throw(new IOException("Input directory or manifest "+input.getPath()+" does not exist."));
+		}
+		return retval;
+	}
+
+	/**
+	 * Convert the input files on the worker pool.  Failures are recorded in the results rather than thrown.
+	 * @param inputFiles
+	 * @return results in the same order as the input files
+	 * @throws IOException if the output directory can not be created
+	 */
+	public List<ConversionResult> convert(List<File> inputFiles) throws IOException {
+		if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+			throw(new IOException("Unable to create output directory "+outputDirectory.getPath()));
+		}
+		List<ConversionResult> retval = Lists.newArrayList();
+		if (inputFiles.isEmpty()) {
+			return retval;
+		}
+		// Create the listed licenses singleton before any of the workers start - the individual
+		// licenses are loaded on first use and ListedLicenses serializes those cache misses
+		ListedLicenses.getListedLicenses();
+		Set<String> outputNames = Sets.newHashSet();
+		for (File inputFile:inputFiles) {
+			retval.add(new ConversionResult(inputFile, outputFile(inputFile, outputNames)));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(numThreads, inputFiles.size()));
+		try {
+			List<Future<?>> futures = Lists.newArrayList();
+			for (final ConversionResult result:retval) {
+				futures.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() {
+						convert(result);
+						return null;
+					}
+				}));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					futures.get(i).get();
+				} catch (ExecutionException e) {
+					retval.get(i).errorMessage = "Unexpected error: "+e.getCause();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw(new IOException("Interrupted converting "+retval.get(i).getInputFile().getPath(), e));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return retval;
+	}
+
+	/**
+	 * @param inputFile
+	 * @param outputNames output names already used
+	 * @return a unique output file in the output directory for the input file
+	 */
+	private File outputFile(File inputFile, Set<String> outputNames) {
+		if (targetFormat.getExtension() == null) {
+			return null;
+		}
+		String baseName = inputFile.getName();
+		int dot = baseName.lastIndexOf('.');
+		if (dot > 0) {
+			baseName = baseName.substring(0, dot);
+		}
+		String name = baseName + targetFormat.getExtension();
+		for (int i = 2; !outputNames.add(name); i++) {
+			name = baseName + "-" + i + targetFormat.getExtension();
+		}
+		return new File(outputDirectory, name);
+	}
+
+	/**
+	 * Convert a single input file, recording the outcome in the result
+	 * @param result
+	 */
+	private void convert(ConversionResult result) {
+		long startTime = System.currentTimeMillis();
+		try {
+			File outputFile = result.getOutputFile();
+			if (outputFile != null && outputFile.exists()) {
+				throw(new OnlineToolException("Output file "+outputFile.getPath()+" already exists."));
+			}
+			List<String> warnings = Lists.newArrayList();
+			SpdxDocument doc = readDocument(result.getInputFile(), warnings);
+			result.verificationErrors.addAll(verify(doc, warnings));
+			writeDocument(doc, targetFormat, outputFile, constants);
+		} catch (Exception e) {
+			result.errorMessage = e.getMessage() == null ? e.toString() : e.getMessage();
+		}
+		result.millis = System.currentTimeMillis() - startTime;
+	}
+
+	/**
+	 * @param inputFile SPDX spreadsheet, tag/value or RDF file
+	 * @param warnings parser warnings
+	 * @return the SPDX document
+	 * @throws Exception
+	 */
+	static SpdxDocument readDocument(File inputFile, List<String> warnings) throws Exception {
+		String name = inputFile.getName().toLowerCase(Locale.ENGLISH);
+		if (name.endsWith(".xls") || name.endsWith(".xlsx")) {
+			StreamingSPDXSpreadsheet ss = new StreamingSPDXSpreadsheet(inputFile);
+			try {
+				return SpreadsheetToRDF.copySpreadsheetToSPDXAnalysis(ss);
+			} finally {
+				ss.close();
+			}
+		} else {
+			return CompareSpdxDocs.openRdfOrTagDoc(inputFile.getPath(), warnings);
+		}
+	}
+
+	/**
+	 * @param doc
+	 * @param warnings parser warnings for the document
+	 * @return empty if the document is valid, otherwise the parser warnings followed by any
+	 * verification errors not already included in a warning - the same as <code>Verify.verify</code>
+	 */
+	static List<String> verify(SpdxDocument doc, List<String> warnings) {
+		List<String> retval = Lists.newArrayList();
+		List<String> verify = doc.verify();
+		if (verify == null || verify.isEmpty()) {
+			return retval;
+		}
+		retval.addAll(warnings);
+		for (String verifyMsg:verify) {
+			boolean found = false;
+			for (String warning:warnings) {
+				if (warning.contains(verifyMsg)) {
+					found = true;
+					break;
+				}
+			}
+			if (!found) {
+				retval.add(verifyMsg);
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Write the document in the target format
+	 * @param doc
+	 * @param targetFormat
+	 * @param outputFile output file or directory for HTML
+	 * @param constants tag/value constants
+	 * @throws Exception
+	 */
+	static void writeDocument(SpdxDocument doc, TargetFormat targetFormat, File outputFile, Properties constants) throws Exception {
+		switch (targetFormat) {
+			case TAG:
+				try (PrintWriter out = TagValueWriter.createFileWriter(outputFile)) {
+					new TagValueWriter(out, constants).writeDocument(doc);
+				}
+				break;
+			case RDF:
+				try (OutputStream out = new FileOutputStream(outputFile)) {
+					doc.getDocumentContainer().getModel().write(out, RDF_OUTPUT_FORMAT);
+				}
+				break;
+			case SPREADSHEET:
+				SPDXSpreadsheet ss = SPDXSpreadsheet.createOutputSpreadsheet(outputFile);
+				try {
+					RdfToSpreadsheet.copyRdfXmlToSpreadsheet(doc, ss);
+				} finally {
+					ss.close();
+				}
+				break;
+			case HTML:
+				if (!outputFile.mkdirs()) {
+					throw(new IOException("Unable to create output directory "+outputFile.getPath()));
+				}
+				String documentName = doc.getName();
+				RdfToHtml.rdfToHtml(doc,
+						new File(outputFile, documentName + RdfToHtml.DOC_HTML_FILE_POSTFIX),
+						new File(outputFile, documentName + RdfToHtml.LICENSE_HTML_FILE_POSTFIX),
+						new File(outputFile, RdfToHtml.SNIPPET_FILE_NAME),
+						new File(outputFile, documentName + RdfToHtml.DOCUMENT_FILE_HTML_FILE_POSTFIX));
+				break;
+			case VERIFY:
+				break;
+			default:
+				throw(new RuntimeException("Unsupported target format "+targetFormat));
+		}
+	}
+
+	/**
+	 * Write a CSV summary of the results
+	 * @param results
+	 * @param writer
+	 * @throws IOException
+	 */
+	public static void writeSummary(List<ConversionResult> results, Writer writer) throws IOException {
+		CSVWriter csvWriter = new CSVWriter(writer);
+		csvWriter.writeNext(SUMMARY_HEADER);
+		for (ConversionResult result:results) {
+			String message = result.getErrorMessage();
+			if (message == null) {
+				message = Joiner.on("; ").join(result.getVerificationErrors());
+			}
+			csvWriter.writeNext(new String[] {result.getInputFile().getPath(),
+					result.getOutputFile() == null ? "" : result.getOutputFile().getPath(),
+					result.getStatus().toString(), String.valueOf(result.getMillis()),
+					String.valueOf(result.getVerificationErrors().size()), message});
+		}
+		csvWriter.flush();
+	}
+
+	private static void usage() {
+		System.out.println("Usage: BatchConvert inputDirectoryOrManifest outputDirectory format [threads]\n"
+				+ "where inputDirectoryOrManifest is a directory of SPDX files or a file listing one SPDX file path per line,\n"
+				+ "outputDirectory is the directory for the converted files and the summary "+SUMMARY_FILE_NAME+",\n"
+				+ "format is one of TAG, RDF, SPREADSHEET, HTML or VERIFY\n"
+				+ "and threads is the number of files converted at the same time (default is the number of processors)");
+	}
+}
@@ -18,7 +18,7 @@
 package org.spdx.tools;
 
 import java.io.File;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.spdx.compare.MultiDocumentSpreadsheet;
@@ -27,6 +27,7 @@ import org.spdx.compare.SpdxComparer;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.model.SpdxDocument;
 import org.spdx.spdxspreadsheet.SpreadsheetException;
+import org.spdx.tools.SpdxDocumentLoader.LoadedDocument;
 
 /**
  * Compares multiple SPDX documents and stores the results in a spreadsheet
@@ -34,6 +35,11 @@ import org.spdx.spdxspreadsheet.SpreadsheetException;
  * where output.xls is a file name for the output spreadsheet file
  * and docX are SPDX document files to compare.  Document files can be either in RDF/XML  or tag/value format
  *
+ * Input documents are opened and verified concurrently.
+ *
+ * If the output file name ends with .xlsx, a streaming Excel 2007 workbook is written
+ * and there is no practical limit on the number of documents compared.
+ *
  * @author Gary O'Neall
  *
  */
@@ -41,6 +47,7 @@ public class CompareMultpleSpdxDocs {
 	static final int MIN_ARGS = 3;
 	static final int MAX_ARGS = 14;
 	static final int ERROR_STATUS = 1;
+	static final String STREAMING_SPREADSHEET_EXTENSION = ".xlsx";
 
 
 	/**
@@ -52,8 +59,9 @@ public class CompareMultpleSpdxDocs {
 			usage();
 			System.exit(ERROR_STATUS);
 		}
-		if (args.length > MAX_ARGS) {
-			System.out.println("Too many SPDX documents specified.  Must be less than "+String.valueOf(MAX_ARGS-1)+" document filenames");
+		if (args.length > MAX_ARGS && !isStreamingOutput(args[0])) {
+			System.out.println("Too many SPDX documents specified.  Must be less than "+String.valueOf(MAX_ARGS-1)+" document filenames or use an "+
+					STREAMING_SPREADSHEET_EXTENSION+" output file");
 			usage();
 			System.exit(ERROR_STATUS);
 		}
@@ -79,27 +87,59 @@ public class CompareMultpleSpdxDocs {
 		}
 		SpdxDocument[] compareDocs = new SpdxDocument[args.length-1];
 		String[] docNames = new String[args.length-1];
-		@SuppressWarnings("unchecked")
-		List<String>[] verificationErrors = new List[args.length-1];
-		for (int i = 1; i < args.length; i++) {
-			try {
-				List<String> warnings = new ArrayList<String>();
-				compareDocs[i-1] = CompareSpdxDocs.openRdfOrTagDoc(args[i], warnings);
-				if (!warnings.isEmpty()) {
-					System.out.println("Verification errors were found in "+args[i].trim()+".  See verification errors sheet for details.");
-				}
-				docNames[i-1]  = CompareSpdxDocs.convertDocName(args[i]);
-				verificationErrors[i-1] = compareDocs[i-1].verify();
-				if (verificationErrors[i-1] != null && verificationErrors[i-1].size() > 0) {
-					System.out.println("Warning: "+docNames[i-1]+" contains verification errors.");
-				}
-			} catch (SpdxCompareException e) {
-				throw new OnlineToolException("Error opening SPDX document "+args[i]+": "+e.getMessage());
+		String[] docFileNames = Arrays.copyOfRange(args, 1, args.length);
+		LoadedDocument[] loadedDocs;
+		try {
+			loadedDocs = new SpdxDocumentLoader().load(docFileNames);
+		} catch (SpdxCompareException e) {
+			throw new OnlineToolException(e.getMessage());
+		}
+		List<String>[] verificationErrors = getVerificationErrors(loadedDocs);
+		for (int i = 0; i < loadedDocs.length; i++) {
+			compareDocs[i] = loadedDocs[i].getDocument();
+			docNames[i] = CompareSpdxDocs.convertDocName(docFileNames[i]);
+			System.out.println("Loaded "+docNames[i]+" in "+String.valueOf(loadedDocs[i].getLoadMillis())+
+					"ms, verified in "+String.valueOf(loadedDocs[i].getVerifyMillis())+"ms");
+			if (!loadedDocs[i].getWarnings().isEmpty()) {
+				System.out.println("Verification errors were found in "+docFileNames[i].trim()+".  See verification errors sheet for details.");
+			}
+			if (verificationErrors[i].size() > 0) {
+				System.out.println("Warning: "+docNames[i]+" contains verification errors.");
 			}
 		}
+		writeComparison(outputFile, compareDocs, docNames, verificationErrors);
+	}
+
+	/**
+	 * @param loadedDocs
+	 * @return the verification errors of each loaded document in the same order
+	 */
+	static List<String>[] getVerificationErrors(LoadedDocument[] loadedDocs) {
+		@SuppressWarnings("unchecked")
+		List<String>[] retval = (List<String>[])new List<?>[loadedDocs.length];
+		for (int i = 0; i < loadedDocs.length; i++) {
+			retval[i] = loadedDocs[i].getVerificationErrors();
+		}
+		return retval;
+	}
+
+	/**
+	 * Compare SPDX documents writing the results to a spreadsheet
+	 * @param outputFile spreadsheet file - written as a streaming workbook if the name ends with <code>.xlsx</code>
+	 * @param compareDocs documents to compare
+	 * @param docNames names of the documents used in the spreadsheet
+	 * @param verificationErrors verification errors for each document
+	 * @throws OnlineToolException
+	 */
+	static void writeComparison(File outputFile, SpdxDocument[] compareDocs, String[] docNames,
+			List<String>[] verificationErrors) throws OnlineToolException {
 		MultiDocumentSpreadsheet outSheet = null;
 		try {
-			outSheet = new MultiDocumentSpreadsheet(outputFile, true, false);
+			if (isStreamingOutput(outputFile.getName())) {
+				outSheet = new MultiDocumentSpreadsheet(outputFile, compareDocs.length);
+			} else {
+				outSheet = new MultiDocumentSpreadsheet(outputFile, true, false);
+			}
 			outSheet.importVerificationErrors(verificationErrors, docNames);
 			SpdxComparer comparer = new SpdxComparer();
 			comparer.compare(compareDocs);
@@ -121,6 +161,14 @@ public class CompareMultpleSpdxDocs {
 		}
 	}
 
+	/**
+	 * @param outputFileName
+	 * @return true if the output should be written as a streaming .xlsx workbook
+	 */
+	private static boolean isStreamingOutput(String outputFileName) {
+		return outputFileName.trim().toLowerCase().endsWith(STREAMING_SPREADSHEET_EXTENSION);
+	}
+
 	/**
 	 *
 	 */
@@ -128,7 +176,9 @@ public class CompareMultpleSpdxDocs {
 		System.out.println("Usage: CompareMultipleSpdxDoc output.xls doc1 doc2 ... docN");
 		System.out.println("where output.xls is a file name for the output spreadsheet file");
 		System.out.println("and doc1 through docN are file names of valid SPDX documents ");
-		System.out.println("in either tag/value or RDF/XML format");
+		System.out.println("in either tag/value or RDF/XML format.");
+		System.out.println("If output ends with "+STREAMING_SPREADSHEET_EXTENSION+", a streaming Excel 2007 workbook");
+		System.out.println("is created which supports comparing any number of documents");
 	}
 
 }
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.spdx.compare.SpdxCompareException;
+import org.spdx.compare.SpdxComparisonBaseline;
+import org.spdx.compare.SpdxComparisonBaseline.BaselineDifference;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.model.SpdxDocument;
+
+/**
+ * Compares an SPDX document against a stored comparison baseline and optionally adds
+ * the document to the baseline.
+ * Usage: CompareSpdxBaseline baseline.json doc [add]
+ * where baseline.json is the baseline file, doc is an SPDX document in either RDF/XML or tag/value format
+ * and add is an optional flag to add the document to the baseline.  If the baseline file does
+ * not exist, a new baseline is created containing the document.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class CompareSpdxBaseline {
+	static final int MIN_ARGS = 2;
+	static final int MAX_ARGS = 3;
+	static final int ERROR_STATUS = 1;
+	static final String ADD_ARG = "add";
+
+	/**
+	 * @param args args[0] is the baseline file, args[1] is the SPDX document, optional args[2] is "add"
+	 */
+	public static void main(String[] args) {
+		if (args.length < MIN_ARGS) {
+			System.out.println("Insufficient arguments");
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		if (args.length > MAX_ARGS) {
+			System.out.println("Too many arguments");
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		if (args.length == MAX_ARGS && !ADD_ARG.equalsIgnoreCase(args[2].trim())) {
+			System.out.println("Unrecognized option "+args[2]);
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		try {
+			onlineFunction(args);
+		} catch (OnlineToolException e){
+			System.out.println(e.getMessage());
+			System.exit(ERROR_STATUS);
+		}
+	}
+
+	/**
+	 *
+	 * @param args args[0] is the baseline file, args[1] is the SPDX document, optional args[2] is "add"
+	 * @return differences between the document and each of the baseline documents
+	 * @throws OnlineToolException Exception caught by JPype and displayed to the user
+	 */
+	public static BaselineDifference[] onlineFunction(String[] args) throws OnlineToolException {
+		File baselineFile = new File(args[0].trim());
+		boolean add = args.length > 2 && ADD_ARG.equalsIgnoreCase(args[2].trim());
+		SpdxComparisonBaseline baseline;
+		if (baselineFile.exists()) {
+			try {
+				baseline = SpdxComparisonBaseline.load(baselineFile);
+			} catch (IOException e) {
+				throw new OnlineToolException("I/O error reading baseline "+args[0]+": "+e.getMessage());
+			} catch (SpdxCompareException e) {
+				throw new OnlineToolException(e.getMessage());
+			}
+		} else {
+			baseline = new SpdxComparisonBaseline();
+			add = true;
+		}
+		SpdxDocument doc;
+		List<String> warnings = new ArrayList<String>();
+		try {
+			doc = CompareSpdxDocs.openRdfOrTagDoc(args[1].trim(), warnings);
+		} catch (SpdxCompareException e) {
+			throw new OnlineToolException("Error opening SPDX document "+args[1]+": "+e.getMessage());
+		}
+		if (!warnings.isEmpty()) {
+			System.out.println("Verification errors were found in "+args[1].trim()+".");
+		}
+		String docName = CompareSpdxDocs.convertDocName(args[1].trim());
+		BaselineDifference[] retval;
+		try {
+			retval = baseline.compare(doc);
+			for (BaselineDifference difference:retval) {
+				printDifference(docName, difference);
+			}
+			if (add) {
+				baseline.addDocument(docName, doc);
+				baseline.save(baselineFile);
+				System.out.println("Added "+docName+" to baseline "+baselineFile.getName()+
+						" ("+String.valueOf(baseline.getNumDocuments())+" documents)");
+			}
+		} catch (InvalidSPDXAnalysisException e) {
+			throw new OnlineToolException("Invalid SPDX analysis: "+e.getMessage());
+		} catch (SpdxCompareException e) {
+			throw new OnlineToolException("Error comparing SPDX document: "+e.getMessage());
+		} catch (IOException e) {
+			throw new OnlineToolException("I/O error saving baseline "+args[0]+": "+e.getMessage());
+		}
+		return retval;
+	}
+
+	/**
+	 * Print the differences between a document and a baseline document
+	 * @param docName
+	 * @param difference
+	 */
+	private static void printDifference(String docName, BaselineDifference difference) {
+		if (!difference.isDifferenceFound()) {
+			System.out.println(docName+" is equivalent to "+difference.getBaselineDocumentName());
+			return;
+		}
+		System.out.println(docName+" differs from "+difference.getBaselineDocumentName()+":");
+		printList("Files only in "+docName, difference.getUniqueFiles());
+		printList("Files only in "+difference.getBaselineDocumentName(), difference.getMissingFiles());
+		printList("Files with differences", difference.getDifferentFiles());
+		printList("Packages only in "+docName, difference.getUniquePackages());
+		printList("Packages only in "+difference.getBaselineDocumentName(), difference.getMissingPackages());
+		printList("Packages with differences", difference.getDifferentPackages());
+		printList("Extracted licenses only in "+docName, difference.getUniqueExtractedLicenseIds());
+	}
+
+	private static void printList(String title, String[] values) {
+		if (values.length == 0) {
+			return;
+		}
+		System.out.println("\t"+title+":");
+		for (String value:values) {
+			System.out.println("\t\t"+value);
+		}
+	}
+
+	private static void usage() {
+		System.out.println("Usage: CompareSpdxBaseline baseline.json doc [add]");
+		System.out.println("where baseline.json is a comparison baseline file,");
+		System.out.println("doc is the file name of a valid SPDX document in either tag/value or RDF/XML format");
+		System.out.println("and add is an optional flag to add the document to the baseline.");
+		System.out.println("If baseline.json does not exist, it is created containing the document.");
+	}
+}
@@ -18,7 +18,6 @@
 package org.spdx.tools;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -54,6 +53,8 @@ import org.spdx.rdfparser.model.SpdxFile.FileType;
 import org.spdx.rdfparser.model.SpdxPackage;
 import org.spdx.tag.InvalidFileFormatException;
 import org.spdx.tag.InvalidSpdxTagFileException;
+import org.spdx.tools.SpdxDocumentLoader.LoadedDocument;
+import org.spdx.tools.SpdxFormatDetector.SpdxFormat;
 
 import com.google.common.base.Joiner;
 
@@ -91,42 +92,27 @@ public class CompareSpdxDocs {
 			usage();
 			System.exit(ERROR_STATUS);
 		}
-		SpdxDocument spdxDoc1 = null;
+		LoadedDocument[] loadedDocs = null;
 		try {
-			List<String> warnings = new ArrayList<String>();
-			spdxDoc1 = openRdfOrTagDoc(args[0].trim(), warnings);
-			if (!warnings.isEmpty()) {
-				System.out.println("Verification errors were found in "+args[0].trim()+":");
-				if (!warnings.isEmpty()) {
-					System.out.println("The following warnings and or verification errors were found:");
-					for (String warning:warnings) {
-						System.out.println("\t"+warning);
-					}
-				}
-			}
+			loadedDocs = new SpdxDocumentLoader().load(new String[] {args[0].trim(), args[1].trim()});
 		} catch (SpdxCompareException e) {
-			System.out.println("Error opening "+args[0].trim()+":"+e.getMessage());
+			System.out.println(e.getMessage());
 			usage();
 			System.exit(ERROR_STATUS);
 		}
-		SpdxDocument spdxDoc2 = null;
-		try {
-			List<String> warnings = new ArrayList<String>();
-			spdxDoc2 = openRdfOrTagDoc(args[1].trim(), warnings);
-			if (!warnings.isEmpty()) {
-				System.out.println("Verification errors were found in "+args[0].trim()+":");
-				if (!warnings.isEmpty()) {
-					System.out.println("The following warnings and or verification errors were found:");
-					for (String warning:warnings) {
-						System.out.println("\t"+warning);
-					}
+		for (LoadedDocument loadedDoc:loadedDocs) {
+			logger.info("Loaded "+loadedDoc.getFileName()+" in "+String.valueOf(loadedDoc.getLoadMillis())+
+					"ms, verified in "+String.valueOf(loadedDoc.getVerifyMillis())+"ms");
+			if (!loadedDoc.getWarnings().isEmpty()) {
+				System.out.println("Verification errors were found in "+loadedDoc.getFileName()+":");
+				System.out.println("The following warnings and or verification errors were found:");
+				for (String warning:loadedDoc.getWarnings()) {
+					System.out.println("\t"+warning);
 				}
 			}
-		} catch (SpdxCompareException e) {
-			System.out.println("Error opening "+args[1].trim()+":"+e.getMessage());
-			usage();
-			System.exit(ERROR_STATUS);
 		}
+		SpdxDocument spdxDoc1 = loadedDocs[0].getDocument();
+		SpdxDocument spdxDoc2 = loadedDocs[1].getDocument();
 
 		PrintStream output = null;
 		if (args.length > 2) {
@@ -154,12 +140,12 @@ public class CompareSpdxDocs {
 			output = System.out;
 		}
 		try {
-			List<String> doc1VerificationErrors = spdxDoc1.verify();
+			List<String> doc1VerificationErrors = loadedDocs[0].getVerificationErrors();
 			if (doc1VerificationErrors.size() > 0) {
 				output.println("Warning - The SPDX document "+args[0].trim()+" contains the following verification errors:");
 				printList(doc1VerificationErrors, output);
 			}
-			List<String> doc2VerificationErrors = spdxDoc2.verify();
+			List<String> doc2VerificationErrors = loadedDocs[1].getVerificationErrors();
 			if (doc2VerificationErrors.size() > 0) {
 				output.println("Warning - The SPDX document "+args[1].trim()+" contains the following verification errors:");
 				printList(doc2VerificationErrors, output);
@@ -1130,10 +1116,12 @@ public class CompareSpdxDocs {
 	}
 
 	/**
+	 * Open an SPDX document, using the content of the file to select the tag/value or RDF parser
 	 * @param spdxDocFileName File name of either an RDF or Tag formated SPDX file
+	 * @param warnings List of warnings generated while parsing the file
 	 * @return
 	 */
-	protected static SpdxDocument openRdfOrTagDoc(String spdxDocFileName, List<String> warnings) throws SpdxCompareException  {
+	public static SpdxDocument openRdfOrTagDoc(String spdxDocFileName, List<String> warnings) throws SpdxCompareException  {
 		File spdxDocFile = new File(spdxDocFileName);
 		if (!spdxDocFile.exists()) {
 			throw(new SpdxCompareException("SPDX File "+spdxDocFileName+" does not exist."));
@@ -1142,6 +1130,32 @@ public class CompareSpdxDocs {
 			throw(new SpdxCompareException("SPDX File "+spdxDocFileName+" can not be read."));
 		}
 
+		SpdxFormat format;
+		try {
+			format = SpdxFormatDetector.detect(spdxDocFile);
+		} catch (IOException e) {
+			throw(new SpdxCompareException("I/O error reading SPDX File "+spdxDocFileName+": "+e.getMessage(), e));
+		}
+		if (SpdxFormat.TAG_VALUE.equals(format)) {
+			try {
+				SpdxDocument retval = convertTagValueToRdf(spdxDocFile, warnings);
+				logger.info("Document identified as SPDX tag/value.");
+				return retval;
+			} catch (SpdxCompareException e) {
+				throw(new SpdxCompareException("File "+spdxDocFileName+" is not a valid SPDX tag/value file: " + e.getMessage(), e));
+			} catch (Exception e) {
+				throw(new SpdxCompareException("Error parsing SPDX tag/value file "+spdxDocFileName+": " + e.getMessage(), e));
+			}
+		} else if (format.getRdfLanguage() != null) {
+			try {
+				SpdxDocument retval = SPDXDocumentFactory.createSpdxDocument(spdxDocFileName, format.getRdfLanguage());
+				logger.info("Document identified as SPDX "+format.getRdfLanguage()+".");
+				return retval;
+			} catch (Exception e) {
+				throw(new SpdxCompareException("Error parsing SPDX "+format.getRdfLanguage()+" file "+spdxDocFileName+": " + e.getMessage(), e));
+			}
+		}
+		// Format could not be determined from the content - try each of the parsers
 		SpdxDocument retval = null;
 		String errorDetails1 = "(no error details available)";
 		String errorDetails2 = "(no error details available)";
@@ -1185,11 +1199,8 @@ public class CompareSpdxDocs {
 	 * @param tempRdfFile File to output the generated RDF file (must already exist - file is overwritten)
 	 */
 	protected static SpdxDocument convertTagValueToRdf(File tagValueFile, List<String> warnings) throws SpdxCompareException,Exception {
-		FileInputStream in = null;
 		try {
-			in = new FileInputStream(tagValueFile);
-			SpdxDocument result = TagToRDF.convertTagFileToRdf(in, TagToRDF.DEFAULT_OUTPUT_FORMAT, warnings).getSpdxDocument();
-			return result;
+			return TagToRDF.convertTagFileToRdf(tagValueFile, TagToRDF.DEFAULT_OUTPUT_FORMAT, warnings).getSpdxDocument();
 		}
 		catch (InvalidSpdxTagFileException e){
 			// error in tag value file
@@ -1202,14 +1213,6 @@ public class CompareSpdxDocs {
 		catch (Exception e) {
 			// Ignore - assume this is an RDF/XML file.
 			throw(new Exception("Error converting tag/value to RDF/XML format: "+e.getMessage(),e));
-		} finally {
-			if (in != null) {
-				try {
-					in.close();
-				} catch (IOException e) {
-					System.out.println("Error closing Tag/Value file: " + e.getMessage());
-				}
-			}
 		}
 	}
 
@@ -18,9 +18,13 @@ package org.spdx.tools;
 
 import java.io.File;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
-import org.spdx.rdfparser.JavaSha1ChecksumGenerator;
+import org.spdx.rdfparser.ArchiveVerificationCodeGenerator;
+import org.spdx.rdfparser.CachingChecksumGenerator;
+import org.spdx.rdfparser.MultiChecksumGenerator;
+import org.spdx.rdfparser.ParallelVerificationCodeGenerator;
+import org.spdx.rdfparser.SkipRules;
 import org.spdx.rdfparser.SpdxPackageVerificationCode;
 import org.spdx.rdfparser.VerificationCodeGenerator;
 
@@ -33,35 +37,74 @@ import com.google.common.collect.Lists;
  */
 public class GenerateVerificationCode {
 
+	static final String CACHE_OPTION = "-cache";
+	static final String SKIP_OPTION = "-skip";
+	static final String PRUNE_OPTION = "-prune";
+
 	/**
 	 * Print an SPDX Verification code for a directory of files
-	 * args[0] is the source directory containing the files
+	 * args[0] is the source directory containing the files or a tar, compressed tar, zip or jar archive
 	 * args[1] is an optional regular expression of skipped files.  The expression is applied against a file path relative the the source directory supplied
+	 * The optional arguments -cache cacheFile keep the file checksums in cacheFile so that unchanged files are not hashed on later runs
+	 * The optional arguments -skip glob skip the files matching the glob and may be repeated
+	 * The optional arguments -prune glob do not descend directories matching the glob and may be repeated
 	 * @param args
 	 */
 	public static void main(String[] args) {
-		if (args.length < 1 || args.length > 2) {
+		File cacheFile = null;
+		SkipRules skipRules = new SkipRules();
+		List<String> positionalArgs = Lists.newArrayList();
+		try {
+			for (int i = 0; i < args.length; i++) {
+				if (CACHE_OPTION.equals(args[i]) && i + 1 < args.length) {
+					cacheFile = new File(args[++i]);
+				} else if (SKIP_OPTION.equals(args[i]) && i + 1 < args.length) {
+					skipRules.addSkippedFileGlob(args[++i]);
+				} else if (PRUNE_OPTION.equals(args[i]) && i + 1 < args.length) {
+					skipRules.addPrunedDirectoryGlob(args[++i]);
+				} else {
+					positionalArgs.add(args[i]);
+				}
+			}
+			if (positionalArgs.size() > 1) {
+				skipRules.addSkippedFileRegex(positionalArgs.get(1));
+			}
+		} catch (PatternSyntaxException ex) {
+			error("Invalid skipped file expression: "+ex.getMessage());
+			System.exit(1);
+		}
+		if (positionalArgs.size() < 1 || positionalArgs.size() > 2) {
 			error("Incorrect number of arguments.");
 			System.exit(1);
 		}
-		File sourceDirectory = new File(args[0]);
+		File sourceDirectory = new File(positionalArgs.get(0));
 		if (!sourceDirectory.exists()) {
-			error("Source directory "+args[0]+" does not exist.");
+			error("Source directory "+positionalArgs.get(0)+" does not exist.");
 			System.exit(1);
 		}
 		if (!sourceDirectory.isDirectory()) {
-			error("File "+args[0]+" is not a directory.");
-			System.exit(1);
-		}
-		String skippedRegex = null;
-		File[] skippedFiles = new File[0];
-		if (args.length > 1) {
-			skippedRegex = args[1];
-			skippedFiles = collectSkippedFiles(skippedRegex, sourceDirectory);
+			try {
+				printVerificationCode(new ArchiveVerificationCodeGenerator()
+						.generatePackageVerificationCode(sourceDirectory, skipRules, null));
+				System.exit(0);
+			} catch (Exception ex) {
+				error("Error creating verification code for archive "+positionalArgs.get(0)+": "+ex.getMessage());
+				System.exit(1);
+			}
 		}
 		try {
-			VerificationCodeGenerator vcg = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator());
-			SpdxPackageVerificationCode verificationCode = vcg.generatePackageVerificationCode(sourceDirectory, skippedFiles);
+			VerificationCodeGenerator vcg;
+			CachingChecksumGenerator cache = null;
+			if (cacheFile != null) {
+				cache = new CachingChecksumGenerator(new MultiChecksumGenerator(false), cacheFile);
+				vcg = new ParallelVerificationCodeGenerator(cache, Runtime.getRuntime().availableProcessors());
+			} else {
+				vcg = new ParallelVerificationCodeGenerator();
+			}
+			SpdxPackageVerificationCode verificationCode = vcg.generatePackageVerificationCode(sourceDirectory, skipRules);
+			if (cache != null) {
+				cache.save();
+			}
 			printVerificationCode(verificationCode);
 			System.exit(0);
 		} catch (Exception ex) {
@@ -69,53 +112,6 @@ public class GenerateVerificationCode {
 		}
 	}
 
-	/**
-	 * Collect files to be skipped
-	 * @param skippedRegex Regular Expression for file paths to be skipped
-	 * @param dir Directory to scan for collecting skipped files
-	 * @return
-	 */
-	private static File[] collectSkippedFiles(String skippedRegex, File dir) {
-		Pattern skippedPattern = Pattern.compile(skippedRegex);
-		List<File> skippedFiles = Lists.newArrayList();
-		collectSkippedFiles(skippedPattern, skippedFiles, dir.getPath(), dir);
-		File[] retval = new File[skippedFiles.size()];
-		retval = skippedFiles.toArray(retval);
-		return retval;
-	}
-
-	/**
-	 * Internal method to recurse through the source directory collecting files to skip
-	 * @param skippedPattern
-	 * @param skippedFiles
-	 * @param rootPath
-	 * @param dir
-	 * @return
-	 */
-	private static void collectSkippedFiles(Pattern skippedPattern,
-			List<File> skippedFiles, String rootPath, File dir) {
-		if (dir.isFile()) {
-			String relativePath = dir.getPath().substring(rootPath.length()+1);
-			if (skippedPattern.matcher(relativePath).matches()) {
-				skippedFiles.add(dir);
-			}
-		} else if (dir.isDirectory()) {
-			File[] children = dir.listFiles();
-			if (children != null) {
-				for (int i = 0; i < children.length; i++) {
-					if (children[i].isFile()) {
-						String relativePath = children[i].getPath().substring(rootPath.length()+1);
-						if (skippedPattern.matcher(relativePath).matches()) {
-							skippedFiles.add(children[i]);
-						}
-					} else if (children[i].isDirectory()) {
-						collectSkippedFiles(skippedPattern, skippedFiles, rootPath, children[i]);
-					}
-				}
-			}
-		}
-	}
-
 	/**
 	 * @param verificationCode
 	 */
@@ -145,8 +141,12 @@ public class GenerateVerificationCode {
 	 *
 	 */
 	private static void usage() {
-		System.out.println("Usage: GenerateVerificationCode sourceDirectory");
+		System.out.println("Usage: GenerateVerificationCode sourceDirectory [skippedFilesRegex] [-skip glob]... [-prune glob]... [-cache cacheFile]");
 		System.out.println("where sourceDirectory is the root of the archive file for which the verification code is generated");
+		System.out.println("or a tar, compressed tar, zip or jar archive file");
+		System.out.println("-skip excludes the files matching the glob, for example -skip \"*.spdx\"");
+		System.out.println("-prune does not descend the directories matching the glob, for example -prune .git -prune node_modules");
+		System.out.println("and cacheFile is an optional file used to keep the checksums of unchanged files between runs");
 	}
 
 }
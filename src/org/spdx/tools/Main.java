@@ -43,12 +43,20 @@ public class Main {
 			SpreadsheetToTag.main(args);
 		} else if (spdxTool.equalsIgnoreCase("CompareMultipleSpdxDocs")) {
 			CompareMultpleSpdxDocs.main(args);
+		} else if (spdxTool.equalsIgnoreCase("CompareSpdxBaseline")) {
+			CompareSpdxBaseline.main(args);
 		} else if (spdxTool.equalsIgnoreCase("CompareSpdxDocs")) {
 			System.out.println("This tool has not been updated to the 2.1 spec.  Please use the CompareMultipleSpdxDocs command.");
 		} else if (spdxTool.equalsIgnoreCase("Verify")) {
 			Verify.main(args);
+		} else if (spdxTool.equalsIgnoreCase("BatchConvert")) {
+			BatchConvert.main(args);
+		} else if (spdxTool.equalsIgnoreCase("SpdxService")) {
+			SpdxService.main(args);
 		} else if (spdxTool.equalsIgnoreCase("GenerateVerificationCode")) {
 			GenerateVerificationCode.main(args);
+		} else if (spdxTool.equalsIgnoreCase("SourceToSpdx")) {
+			SourceToSpdx.main(args);
 		} else if (spdxTool.equalsIgnoreCase("MergeSpdxDocs")) {
 			System.out.println("The merge tools are currently being upgraded to SPDX 2.0");
 		//	MergeSpdxDocs.main(args);
@@ -78,10 +86,14 @@ public class Main {
 						+ "SpreadsheetToRDF         inputFile outputFile              Examples/SPDXSpreadsheetExample.xls SpreadsheetToRDF.rdf \n"
 						+ "SpreadsheetToTag         inputFile outputFile              Examples/SPDXSpreadsheetExample.xls SpreadsheetToTag.tag \n"
 						+ "SPDXViewer               inputFile                         TestFiles/SPDXRdfExample.rdf \n"
-						+ "Verify                   inputFile                         TestFiles/SPDXRdfExample.rdf \n"
+						+ "Verify                   inputFile [-structural [maxErrors]] TestFiles/SPDXRdfExample.rdf \n"
+						+ "BatchConvert             inputDir outputDir format [threads] TestFiles BatchOutput TAG \n"
 						+ "CompareMultipleSpdxDocs  output.xls doc1 doc2 ... docN \n"
 						+ "CompareSpdxDocs          doc1 doc2 [output] \n"
-						+ "GenerateVerificationCode sourceDirectory\n"
+						+ "CompareSpdxBaseline      baseline.json doc [add] \n"
+						+ "GenerateVerificationCode sourceDirectory [skippedFilesRegex] [-skip glob] [-prune glob] [-cache cacheFile]\n"
+						+ "SourceToSpdx             sourceDirectory outputFile [-name packageName] [-threads n] [-prune glob] src out.tag\n"
+						+ "SpdxService              [port] [maxConcurrentRequests]    8080 4\n"
 						+ "Version\n"
 						+ "MatchingStandardLicenses licenseTextFile");
 	}
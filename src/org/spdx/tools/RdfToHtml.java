@@ -101,7 +101,7 @@ public class RdfToHtml {
 	static final int MAX_ARGS = 2;
 	static final int ERROR = 1;
 
-	private synchronized static void initialize() {
+	synchronized static void initialize() {
 		//Double-check
 		if (templateRootPath != null)
 			return;
@@ -111,22 +111,34 @@ public class RdfToHtml {
 			templateRootPath = Paths.get("resources", "htmlTemplate");
 		} else {
 			try {
-				templateRootPath = Files.createTempDirectory("spdx-tools-html-template");
-				templateRootPath.toFile().deleteOnExit();
-				for (String file : new String[] { SPDX_DOCUMENT_HTML_TEMPLATE, SPDX_PACKAGE_HTML_TEMPLATE,
-						SPDX_FILE_HTML_TEMPLATE, SPDX_SNIPPET_HTML_TEMPLATE, SPDX_LICENSE_HTML_TEMPLATE }) {
-					Path outputPath = templateRootPath.resolve(file);
-					try (InputStream is = RdfToHtml.class.getClassLoader()
-							.getResourceAsStream(TEMPLATE_CLASS_PATH + "/" + file);
-							OutputStream os = Files.newOutputStream(outputPath, StandardOpenOption.CREATE_NEW)) {
-						IOUtils.copy(is, os);
-					}
-				}
+				// templateRootPath is read without the lock, so it is only set once all of the templates are extracted
+				templateRootPath = extractTemplates();
 			} catch (IOException e) {
 				throw new IllegalStateException("Unable to extract HTML template files", e);
 			}
+		}
+	}
 
+	/**
+	 * Extract the HTML template files from the class path to a new temporary directory
+	 * @return the directory containing all of the templates
+	 * @throws IOException
+	 */
+	static Path extractTemplates() throws IOException {
+		Path rootPath = Files.createTempDirectory("spdx-tools-html-template");
+		rootPath.toFile().deleteOnExit();
+		for (String file : new String[] { SPDX_DOCUMENT_HTML_TEMPLATE, SPDX_PACKAGE_HTML_TEMPLATE,
+				SPDX_FILE_HTML_TEMPLATE, SPDX_SNIPPET_HTML_TEMPLATE, SPDX_LICENSE_HTML_TEMPLATE }) {
+			Path outputPath = rootPath.resolve(file);
+			try (InputStream is = RdfToHtml.class.getClassLoader()
+					.getResourceAsStream(TEMPLATE_CLASS_PATH + "/" + file);
+					OutputStream os = Files.newOutputStream(outputPath, StandardOpenOption.CREATE_NEW)) {
+				IOUtils.copy(is, os);
+			}
+			// files are deleted in the reverse order of registration - before the directory
+			outputPath.toFile().deleteOnExit();
 		}
+		return rootPath;
 	}
 
 	/**
@@ -457,6 +469,9 @@ public class RdfToHtml {
 
 	public static void rdfToHtml(SpdxDocument doc, File docHtmlFile, File licenseHtmlFile, File snippetHtmlFile,
 			File docFilesHtmlFile) throws MustacheException, IOException, InvalidSPDXAnalysisException {
+		if (templateRootPath == null) {
+			initialize();
+		}
 		rdfToHtml(doc, templateRootPath.toFile(), docHtmlFile, licenseHtmlFile, snippetHtmlFile, docFilesHtmlFile);
 	}
 
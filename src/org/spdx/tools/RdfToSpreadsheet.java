@@ -64,7 +64,8 @@ import com.google.common.collect.Maps;
  * Translates an RDF XML file to a SPDX Spreadsheet format
  * Usage: RdfToSpreadsheet rdfxmlfile.rdf spreadsheetfile.xls
  * where rdfxmlfile.rdf is a valid SPDX RDF XML file and spreadsheetfile.xls is
- * the output SPDX spreadsheeet file.
+ * the output SPDX spreadsheeet file.  If the output file name ends with .xlsx, a streaming
+ * Excel 2007 workbook is written which is not limited to 65,536 files.
  * @author Gary O'Neall
  *
  */
@@ -126,7 +127,7 @@ public class RdfToSpreadsheet {
         if (doc != null) {
             SPDXSpreadsheet ss = null;
             try {
-                ss = new SPDXSpreadsheet(spdxSpreadsheetFile, true, false);
+                ss = SPDXSpreadsheet.createOutputSpreadsheet(spdxSpreadsheetFile);
                 copyRdfXmlToSpreadsheet(doc, ss);
                 verify = doc.verify();
                 if (verify != null && verify.size() > 0) {
@@ -341,6 +342,7 @@ public class RdfToSpreadsheet {
 	private static void usage() {
 		System.out.println("Usage: RdfToSpreadsheet rdfxmlfile.rdf spreadsheetfile.xls\n"+
 				"where rdfxmlfile.rdf is a valid SPDX RDF XML file and spreadsheetfile.xls is\n"+
-				"the output SPDX spreadsheeet file.");
+				"the output SPDX spreadsheeet file.  Use a .xlsx file name for documents\n"+
+				"with more than 65,535 files.");
 	}
 }
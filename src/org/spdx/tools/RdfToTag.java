@@ -44,6 +44,7 @@ import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.SPDXDocumentFactory;
 import org.spdx.rdfparser.model.SpdxDocument;
 import org.spdx.tag.CommonCode;
+import org.spdx.tag.TagValueWriter;
 
 /**
  * Translates an RDF XML file to a tag-value format Usage: RdfToTag
@@ -108,7 +109,7 @@ public class RdfToTag {
 		List<String> verify = new LinkedList<String>();
 		try {
 			try {
-				out = new PrintWriter(spdxTagFile, "UTF-8");
+				out = TagValueWriter.createFileWriter(spdxTagFile);
 			} catch (IOException e1) {
 				throw new OnlineToolException("Could not write to the new SPDX Tag file "
 						+ args[1] +  "due to error " + e1.getMessage());
@@ -0,0 +1,732 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.lang3.time.DateFormatUtils;
+import org.spdx.compare.LicenseCompareHelper;
+import org.spdx.compare.SpdxCompareException;
+import org.spdx.rdfparser.InvalidSPDXAnalysisException;
+import org.spdx.rdfparser.MultiChecksumGenerator;
+import org.spdx.rdfparser.SPDXCreatorInformation;
+import org.spdx.rdfparser.SkipRules;
+import org.spdx.rdfparser.SpdxDocumentContainer;
+import org.spdx.rdfparser.SpdxPackageVerificationCode;
+import org.spdx.rdfparser.SpdxRdfConstants;
+import org.spdx.rdfparser.VerificationCodeGenerator;
+import org.spdx.rdfparser.license.AnyLicenseInfo;
+import org.spdx.rdfparser.license.LicenseInfoFactory;
+import org.spdx.rdfparser.license.LicenseSet;
+import org.spdx.rdfparser.license.ListedLicenses;
+import org.spdx.rdfparser.license.SpdxNoAssertionLicense;
+import org.spdx.rdfparser.model.Annotation;
+import org.spdx.rdfparser.model.Checksum;
+import org.spdx.rdfparser.model.Checksum.ChecksumAlgorithm;
+import org.spdx.rdfparser.model.DoapProject;
+import org.spdx.rdfparser.model.Relationship;
+import org.spdx.rdfparser.model.Relationship.RelationshipType;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.rdfparser.model.SpdxFile;
+import org.spdx.rdfparser.model.SpdxFile.FileType;
+import org.spdx.rdfparser.model.SpdxPackage;
+import org.spdx.spdxspreadsheet.InvalidLicenseStringException;
+import org.spdx.tag.CommonCode;
+import org.spdx.tools.BatchConvert.TargetFormat;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Creates an SPDX document describing a source directory.
+ *
+ * The files are analyzed by a pipeline of stages connected by bounded queues:
+ * the directory is walked, each file is hashed keeping the start of the file as text from the same
+ * read, license information is detected from <code>SPDX-License-Identifier</code> tags and by comparing license files to the SPDX listed
+ * licenses using <code>LicenseCompareHelper</code>, copyright lines are extracted and finally the
+ * <code>SpdxFile</code>s and the <code>SpdxPackage</code> with its verification code are built.
+ * The number of threads for the hash, license and copyright stages can be configured.  When more
+ * than one license thread is used, the listed licenses are loaded before the stages start so the
+ * license threads only read the listed license cache.
+ *
+ * The resulting document can be written in tag/value or RDF format.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class SourceToSpdx {
+
+	static final int MIN_ARGS = 2;
+	static final int ERROR_STATUS = 1;
+	static final int DEFAULT_QUEUE_SIZE = 256;
+	static final int MAX_TEXT_BYTES = 1024 * 1024;
+	static final int BINARY_CHECK_BYTES = 8000;
+	static final int MAX_COPYRIGHT_LINE_LENGTH = 200;
+	static final String NAMESPACE_OPTION = "-namespace";
+	static final String NAME_OPTION = "-name";
+	static final String THREADS_OPTION = "-threads";
+	static final String SKIP_OPTION = "-skip";
+	static final String PRUNE_OPTION = "-prune";
+	static final String CREATOR_TOOL = "Tool: SPDX Tools-" + SpdxDocumentContainer.CURRENT_IMPLEMENTATION_VERSION;
+
+	static final Pattern LICENSE_IDENTIFIER_PATTERN = Pattern.compile("SPDX-License-Identifier:\\s*([^\\r\\n]*)");
+	static final Pattern LICENSE_EXPRESSION_END_PATTERN = Pattern.compile("[^A-Za-z0-9.+\\-:() ]");
+	static final Pattern LICENSE_FILE_NAME_PATTERN = Pattern.compile("(?i)(LICEN[CS]E|COPYING)(\\..*)?|.*\\.LICEN[CS]E");
+	static final Pattern COPYRIGHT_PATTERN = Pattern.compile("(?i)^[\\s/*#;!%\\-\"'<>{}=]*((?:copyright\\b|\\(c\\)|©).*?)[\\s*/\\-<>]*$");
+	static final Pattern COPYRIGHT_YEAR_PATTERN = Pattern.compile("\\b(19|20)\\d\\d\\b");
+
+	static final ImmutableMap<String, FileType> EXTENSION_TO_FILE_TYPE;
+	static {
+		Map<String, FileType> extensionToFileType = Maps.newHashMap();
+		for (String ext:new String[] {"java", "c", "h", "cc", "cpp", "cxx", "hpp", "cs", "go", "rs", "py", "rb",
+				"js", "jsx", "ts", "tsx", "php", "pl", "pm", "sh", "bash", "kt", "kts", "scala", "swift", "m", "mm",
+				"groovy", "lua", "r", "sql", "css", "scss", "less", "html", "htm", "xml", "xsl", "g", "jj"}) {
+			extensionToFileType.put(ext, FileType.fileType_source);
+		}
+		for (String ext:new String[] {"md", "rst", "adoc", "pdf", "doc", "docx", "odt"}) {
+			extensionToFileType.put(ext, FileType.fileType_documentation);
+		}
+		for (String ext:new String[] {"zip", "jar", "war", "ear", "tar", "gz", "tgz", "bz2", "xz", "7z", "rar"}) {
+			extensionToFileType.put(ext, FileType.fileType_archive);
+		}
+		for (String ext:new String[] {"png", "jpg", "jpeg", "gif", "bmp", "ico", "svg", "tif", "tiff", "webp"}) {
+			extensionToFileType.put(ext, FileType.fileType_image);
+		}
+		for (String ext:new String[] {"mp3", "wav", "ogg", "flac"}) {
+			extensionToFileType.put(ext, FileType.fileType_audio);
+		}
+		for (String ext:new String[] {"mp4", "avi", "mov", "mkv", "webm"}) {
+			extensionToFileType.put(ext, FileType.fileType_video);
+		}
+		for (String ext:new String[] {"class", "o", "so", "dll", "exe", "a", "lib", "dylib", "pyc"}) {
+			extensionToFileType.put(ext, FileType.fileType_binary);
+		}
+		extensionToFileType.put("spdx", FileType.fileType_spdx);
+		extensionToFileType.put("txt", FileType.fileType_text);
+		EXTENSION_TO_FILE_TYPE = ImmutableMap.copyOf(extensionToFileType);
+	}
+
+	/**
+	 * Information collected about a file as it moves through the pipeline
+	 */
+	static class FileAnalysis {
+		File file;
+		String path;
+		Checksum[] checksums;
+		boolean binary = false;
+		String text = null;
+		Set<String> licenseExpressions = Sets.newLinkedHashSet();
+		Set<String> copyrights = Sets.newLinkedHashSet();
+
+		FileAnalysis(File file, String path) {
+			this.file = file;
+			this.path = path;
+		}
+	}
+
+	/**
+	 * Marks the end of the files in a queue
+	 */
+	private static final FileAnalysis END_OF_FILES = new FileAnalysis(null, null);
+
+	/**
+	 * A pipeline stage run by one or more threads taking files from an input queue
+	 * and putting them on an output queue
+	 */
+	private abstract class Stage {
+		private String name;
+		private int numThreads;
+		private BlockingQueue<FileAnalysis> input;
+		private BlockingQueue<FileAnalysis> output;
+		private AtomicInteger runningThreads;
+
+		Stage(String name, int numThreads, BlockingQueue<FileAnalysis> input, BlockingQueue<FileAnalysis> output) {
+			this.name = name;
+			this.numThreads = numThreads < 1 ? 1 : numThreads;
+			this.input = input;
+			this.output = output;
+			this.runningThreads = new AtomicInteger(this.numThreads);
+		}
+
+		abstract void process(FileAnalysis fileAnalysis) throws Exception;
+
+		void start(List<Thread> threads) {
+			for (int i = 0; i < numThreads; i++) {
+				Thread thread = new Thread(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							FileAnalysis fileAnalysis = input.take();
+							while (fileAnalysis != END_OF_FILES) {
+								if (error.get() == null) {
+									try {
+										process(fileAnalysis);
+									} catch (Exception e) {
+										error.compareAndSet(null, new IOException("Error analyzing "+fileAnalysis.path+": "+e.getMessage(), e));
+									}
+								}
+								output.put(fileAnalysis);
+								fileAnalysis = input.take();
+							}
+							// let the other threads of this stage see the end
+							input.put(END_OF_FILES);
+							if (runningThreads.decrementAndGet() == 0) {
+								output.put(END_OF_FILES);
+							}
+						} catch (InterruptedException e) {
+							error.compareAndSet(null, new IOException("Analysis interrupted", e));
+							Thread.currentThread().interrupt();
+						}
+					}
+				}, "SourceToSpdx-"+name+"-"+i);
+				thread.setDaemon(true);
+				threads.add(thread);
+				thread.start();
+			}
+		}
+	}
+
+	private int hashThreads;
+	private int licenseThreads;
+	private int copyrightThreads;
+	private int queueSize = DEFAULT_QUEUE_SIZE;
+	private MultiChecksumGenerator checksumGenerator;
+	private AtomicReference<IOException> error = new AtomicReference<IOException>();
+
+	/**
+	 * @param hashThreads number of threads hashing files
+	 * @param licenseThreads number of threads detecting license information
+	 * @param copyrightThreads number of threads extracting copyrights
+	 * @throws NoSuchAlgorithmException
+	 */
+	public SourceToSpdx(int hashThreads, int licenseThreads, int copyrightThreads) throws NoSuchAlgorithmException {
+		this.hashThreads = hashThreads;
+		this.licenseThreads = licenseThreads;
+		this.copyrightThreads = copyrightThreads;
+		this.checksumGenerator = new MultiChecksumGenerator(false, ChecksumAlgorithm.checksumAlgorithm_sha1,
+				ChecksumAlgorithm.checksumAlgorithm_sha256);
+	}
+
+	/**
+	 * Use the same number of threads for every stage
+	 * @param numThreads
+	 * @throws NoSuchAlgorithmException
+	 */
+	public SourceToSpdx(int numThreads) throws NoSuchAlgorithmException {
+		this(numThreads, numThreads, numThreads);
+	}
+
+	public static void main(String[] args) {
+		String namespace = null;
+		String packageName = null;
+		int numThreads = Runtime.getRuntime().availableProcessors();
+		SkipRules skipRules = new SkipRules();
+		List<String> positionalArgs = Lists.newArrayList();
+		try {
+			for (int i = 0; i < args.length; i++) {
+				if (i + 1 < args.length && NAMESPACE_OPTION.equals(args[i])) {
+					namespace = args[++i];
+				} else if (i + 1 < args.length && NAME_OPTION.equals(args[i])) {
+					packageName = args[++i];
+				} else if (i + 1 < args.length && THREADS_OPTION.equals(args[i])) {
+					numThreads = Integer.parseInt(args[++i]);
+				} else if (i + 1 < args.length && SKIP_OPTION.equals(args[i])) {
+					skipRules.addSkippedFileGlob(args[++i]);
+				} else if (i + 1 < args.length && PRUNE_OPTION.equals(args[i])) {
+					skipRules.addPrunedDirectoryGlob(args[++i]);
+				} else {
+					positionalArgs.add(args[i]);
+				}
+			}
+		} catch (NumberFormatException e) {
+			System.out.println("Invalid number of threads: "+e.getMessage());
+			usage();
+			System.exit(ERROR_STATUS);
+		} catch (PatternSyntaxException e) {
+			System.out.println("Invalid skip or prune expression: "+e.getMessage());
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		if (positionalArgs.size() != MIN_ARGS) {
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		File sourceDirectory = new File(positionalArgs.get(0));
+		if (!sourceDirectory.isDirectory()) {
+			System.out.println("Source directory "+sourceDirectory.getPath()+" does not exist or is not a directory.");
+			System.exit(ERROR_STATUS);
+		}
+		File outputFile = new File(positionalArgs.get(1));
+		if (outputFile.exists()) {
+			System.out.println("Output file "+outputFile.getPath()+" already exists.");
+			System.exit(ERROR_STATUS);
+		}
+		if (packageName == null) {
+			packageName = sourceDirectory.getAbsoluteFile().getName();
+		}
+		if (namespace == null) {
+			namespace = "http://spdx.org/spdxdocs/" + packageName.replaceAll("[^A-Za-z0-9.\\-_]", "-") + "-" + UUID.randomUUID().toString();
+		}
+		String lowerName = outputFile.getName().toLowerCase(Locale.ENGLISH);
+		TargetFormat format = lowerName.endsWith(".rdf") || lowerName.endsWith(".xml") ? TargetFormat.RDF : TargetFormat.TAG;
+		try {
+			long startTime = System.currentTimeMillis();
+			SpdxDocument doc = new SourceToSpdx(numThreads).createDocument(sourceDirectory, skipRules, namespace, packageName);
+			BatchConvert.writeDocument(doc, format, outputFile,
+					CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties"));
+			List<String> verify = doc.verify();
+			if (!verify.isEmpty()) {
+				System.out.println("The generated document has the following verification errors:");
+				for (String message:verify) {
+					System.out.println("\t"+message);
+				}
+			}
+			System.out.println("Created "+outputFile.getPath()+" describing "+doc.getDocumentContainer().findAllFiles().size()+
+					" files in "+(System.currentTimeMillis() - startTime)+" milliseconds.");
+		} catch (Exception e) {
+			System.out.println("Error creating the SPDX document: "+e.getMessage());
+			System.exit(ERROR_STATUS);
+		}
+	}
+
+	/**
+	 * Create an SPDX document with a single package containing the files in the source directory
+	 * @param sourceDirectory directory to analyze
+	 * @param skipRules files to skip and directories to prune - skipped files are listed as excluded from the verification code
+	 * @param documentNamespace namespace for the SPDX document
+	 * @param packageName name of the package and document
+	 * @return the SPDX document
+	 * @throws IOException if a file can not be read
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public SpdxDocument createDocument(File sourceDirectory, SkipRules skipRules, String documentNamespace,
+			String packageName) throws IOException, InvalidSPDXAnalysisException {
+		Set<String> skippedFiles = Collections.synchronizedSet(Sets.<String>newTreeSet());
+		List<FileAnalysis> analyzedFiles = analyzeFiles(sourceDirectory, skipRules, skippedFiles);
+		return buildDocument(analyzedFiles, skippedFiles, documentNamespace, packageName);
+	}
+
+	/**
+	 * Load all of the listed licenses on the calling thread so that the license stage
+	 * threads compare against the license cache rather than loading the licenses themselves
+	 * @throws IOException if the listed licenses can not be loaded
+	 */
+	static void preloadListedLicenses() throws IOException {
+		try {
+			LicenseCompareHelper.matchingStandardLicenseIds("");
+		} catch (InvalidSPDXAnalysisException e) {
+			throw(new IOException("Unable to load the listed licenses: "+e.getMessage(), e));
+		} catch (SpdxCompareException e) {
+			throw(new IOException("Unable to load the listed licenses: "+e.getMessage(), e));
+		}
+	}
+
+	/**
+	 * Run the analysis pipeline
+	 * @param sourceDirectory
+	 * @param skipRules
+	 * @param skippedFiles normalized paths of the skipped files are added
+	 * @return analysis for every file which is not skipped
+	 * @throws IOException
+	 */
+	List<FileAnalysis> analyzeFiles(File sourceDirectory, final SkipRules skipRules, final Set<String> skippedFiles) throws IOException {
+		error.set(null);
+		final BlockingQueue<FileAnalysis> walked = new ArrayBlockingQueue<FileAnalysis>(queueSize);
+		BlockingQueue<FileAnalysis> hashed = new ArrayBlockingQueue<FileAnalysis>(queueSize);
+		BlockingQueue<FileAnalysis> licensed = new ArrayBlockingQueue<FileAnalysis>(queueSize);
+		BlockingQueue<FileAnalysis> analyzed = new ArrayBlockingQueue<FileAnalysis>(queueSize);
+		List<Thread> threads = Lists.newArrayList();
+		if (licenseThreads > 1) {
+			preloadListedLicenses();
+		}
+		new Stage("hash", hashThreads, walked, hashed) {
+			@Override
+			void process(FileAnalysis fileAnalysis) throws Exception {
+				hashFile(fileAnalysis);
+			}
+		}.start(threads);
+		new Stage("license", licenseThreads, hashed, licensed) {
+			@Override
+			void process(FileAnalysis fileAnalysis) throws Exception {
+				detectLicenses(fileAnalysis);
+			}
+		}.start(threads);
+		new Stage("copyright", copyrightThreads, licensed, analyzed) {
+			@Override
+			void process(FileAnalysis fileAnalysis) throws Exception {
+				extractCopyrights(fileAnalysis);
+			}
+		}.start(threads);
+		final Path root = sourceDirectory.toPath();
+		final int rootLen = sourceDirectory.getAbsolutePath().length() + 1;
+		Thread walker = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+							new SimpleFileVisitor<Path>() {
+						@Override
+						public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+							if (error.get() != null) {
+								return FileVisitResult.TERMINATE;
+							}
+							if (!dir.equals(root) && skipRules.isPrunedDirectory(
+									VerificationCodeGenerator.normalizeFilePath(dir.toFile().getAbsolutePath().substring(rootLen)))) {
+								return FileVisitResult.SKIP_SUBTREE;
+							}
+							return FileVisitResult.CONTINUE;
+						}
+
+						@Override
+						public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+							File f = file.toFile();
+							String path = VerificationCodeGenerator.normalizeFilePath(f.getAbsolutePath().substring(rootLen));
+							if (skipRules.isSkippedFile(path)) {
+								skippedFiles.add(path);
+							} else {
+								try {
+									walked.put(new FileAnalysis(f, path));
+								} catch (InterruptedException e) {
+									Thread.currentThread().interrupt();
+									throw(new IOException("Analysis interrupted", e));
+								}
+							}
+							return FileVisitResult.CONTINUE;
+						}
+
+						@Override
+						public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+							if (exc instanceof FileSystemLoopException || Files.isDirectory(file)) {
+								return FileVisitResult.CONTINUE;
+							}
+							throw(exc);
+						}
+					});
+				} catch (IOException e) {
+					error.compareAndSet(null, e);
+				} finally {
+					try {
+						walked.put(END_OF_FILES);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+		}, "SourceToSpdx-walk");
+		walker.setDaemon(true);
+		walker.start();
+		List<FileAnalysis> retval = Lists.newArrayList();
+		try {
+			FileAnalysis fileAnalysis = analyzed.take();
+			while (fileAnalysis != END_OF_FILES) {
+				retval.add(fileAnalysis);
+				fileAnalysis = analyzed.take();
+			}
+			walker.join();
+			for (Thread thread:threads) {
+				thread.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw(new IOException("Analysis interrupted", e));
+		}
+		if (error.get() != null) {
+			throw(error.get());
+		}
+		Collections.sort(retval, new Comparator<FileAnalysis>() {
+			@Override
+			public int compare(FileAnalysis o1, FileAnalysis o2) {
+				return o1.path.compareTo(o2.path);
+			}
+		});
+		return retval;
+	}
+
+	/**
+	 * Input stream which keeps a copy of the first bytes read through it
+	 */
+	static class PrefixCapturingInputStream extends FilterInputStream {
+		byte[] prefix;
+		int prefixLen = 0;
+
+		/**
+		 * @param in
+		 * @param prefixSize maximum number of bytes kept
+		 */
+		PrefixCapturingInputStream(InputStream in, int prefixSize) {
+			super(in);
+			this.prefix = new byte[prefixSize];
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0 && prefixLen < prefix.length) {
+				prefix[prefixLen++] = (byte)b;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int numRead = super.read(b, off, len);
+			if (numRead > 0 && prefixLen < prefix.length) {
+				int numCopied = Math.min(numRead, prefix.length - prefixLen);
+				System.arraycopy(b, off, prefix, prefixLen, numCopied);
+				prefixLen += numCopied;
+			}
+			return numRead;
+		}
+	}
+
+	/**
+	 * Calculate the checksums and keep the text of the file from the same read
+	 * @param fileAnalysis
+	 * @throws IOException
+	 */
+	void hashFile(FileAnalysis fileAnalysis) throws IOException {
+		PrefixCapturingInputStream in = new PrefixCapturingInputStream(
+				Files.newInputStream(fileAnalysis.file.toPath()),
+				(int)Math.min(fileAnalysis.file.length(), MAX_TEXT_BYTES));
+		try {
+			fileAnalysis.checksums = checksumGenerator.getChecksums(in);
+		} finally {
+			in.close();
+		}
+		byte[] bytes = in.prefix;
+		int len = in.prefixLen;
+		int checkLen = Math.min(len, BINARY_CHECK_BYTES);
+		for (int i = 0; i < checkLen; i++) {
+			if (bytes[i] == 0) {
+				fileAnalysis.binary = true;
+				return;
+			}
+		}
+		fileAnalysis.text = new String(bytes, 0, len, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Collect the license expressions from SPDX-License-Identifier tags and, for license files,
+	 * the SPDX listed licenses matching the text
+	 * @param fileAnalysis
+	 * @throws Exception
+	 */
+	void detectLicenses(FileAnalysis fileAnalysis) throws Exception {
+		if (fileAnalysis.text == null) {
+			return;
+		}
+		Matcher matcher = LICENSE_IDENTIFIER_PATTERN.matcher(fileAnalysis.text);
+		while (matcher.find()) {
+			String expression = matcher.group(1);
+			Matcher endMatcher = LICENSE_EXPRESSION_END_PATTERN.matcher(expression);
+			if (endMatcher.find()) {
+				expression = expression.substring(0, endMatcher.start());
+			}
+			expression = expression.trim();
+			while (expression.endsWith("-")) {
+				expression = expression.substring(0, expression.length() - 1).trim();
+			}
+			if (!expression.isEmpty()) {
+				fileAnalysis.licenseExpressions.add(expression);
+			}
+		}
+		if (LICENSE_FILE_NAME_PATTERN.matcher(fileAnalysis.file.getName()).matches()) {
+			for (String licenseId:LicenseCompareHelper.matchingStandardLicenseIds(fileAnalysis.text)) {
+				fileAnalysis.licenseExpressions.add(licenseId);
+			}
+		}
+	}
+
+	/**
+	 * Collect the lines which look like copyright statements
+	 * @param fileAnalysis
+	 */
+	void extractCopyrights(FileAnalysis fileAnalysis) {
+		String text = fileAnalysis.text;
+		fileAnalysis.text = null;	// no longer needed
+		if (text == null) {
+			return;
+		}
+		int start = 0;
+		while (start < text.length()) {
+			int end = text.indexOf('\n', start);
+			if (end < 0) {
+				end = text.length();
+			}
+			if (end - start <= MAX_COPYRIGHT_LINE_LENGTH) {
+				String line = text.substring(start, end);
+				Matcher matcher = COPYRIGHT_PATTERN.matcher(line);
+				if (matcher.matches() && COPYRIGHT_YEAR_PATTERN.matcher(line).find()) {
+					fileAnalysis.copyrights.add(matcher.group(1).trim());
+				}
+			}
+			start = end + 1;
+		}
+	}
+
+	/**
+	 * @param fileAnalysis
+	 * @return the file type based on the file extension or content
+	 */
+	static FileType getFileType(FileAnalysis fileAnalysis) {
+		String name = fileAnalysis.file.getName();
+		int dot = name.lastIndexOf('.');
+		if (dot >= 0) {
+			FileType fileType = EXTENSION_TO_FILE_TYPE.get(name.substring(dot + 1).toLowerCase(Locale.ENGLISH));
+			if (fileType != null) {
+				return fileType;
+			}
+		}
+		return fileAnalysis.binary ? FileType.fileType_binary : FileType.fileType_other;
+	}
+
+	/**
+	 * Build the SPDX document from the analyzed files
+	 * @param analyzedFiles
+	 * @param skippedFiles
+	 * @param documentNamespace
+	 * @param packageName
+	 * @return
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	SpdxDocument buildDocument(List<FileAnalysis> analyzedFiles, Set<String> skippedFiles,
+			String documentNamespace, String packageName) throws InvalidSPDXAnalysisException {
+		SpdxDocumentContainer container = new SpdxDocumentContainer(documentNamespace);
+		SpdxDocument doc = container.getSpdxDocument();
+		doc.setName(packageName);
+		try {
+			doc.setDataLicense(LicenseInfoFactory.parseSPDXLicenseString(SpdxRdfConstants.SPDX_DATA_LICENSE_ID, container));
+		} catch (InvalidLicenseStringException e) {
+			throw(new InvalidSPDXAnalysisException("Unable to get document license"));
+		}
+		doc.setCreationInfo(new SPDXCreatorInformation(new String[] {CREATOR_TOOL},
+				DateFormatUtils.format(System.currentTimeMillis(), SpdxRdfConstants.SPDX_DATE_FORMAT), null,
+				ListedLicenses.getListedLicenses().getLicenseListVersion()));
+		// each distinct expression is parsed once
+		Map<String, AnyLicenseInfo> expressionToLicense = Maps.newHashMap();
+		Map<String, AnyLicenseInfo> packageLicenses = Maps.newTreeMap();
+		SpdxFile[] files = new SpdxFile[analyzedFiles.size()];
+		for (int i = 0; i < files.length; i++) {
+			FileAnalysis fileAnalysis = analyzedFiles.get(i);
+			Set<AnyLicenseInfo> licenseInfoInFile = Sets.newLinkedHashSet();
+			List<String> invalidExpressions = Lists.newArrayList();
+			for (String expression:fileAnalysis.licenseExpressions) {
+				AnyLicenseInfo license = expressionToLicense.get(expression);
+				if (license == null && !expressionToLicense.containsKey(expression)) {
+					try {
+						license = LicenseInfoFactory.parseSPDXLicenseString(expression, container);
+					} catch (InvalidLicenseStringException e) {
+						license = null;
+					}
+					expressionToLicense.put(expression, license);
+				}
+				if (license == null) {
+					invalidExpressions.add(expression);
+				} else {
+					addSimpleLicenses(license, licenseInfoInFile);
+				}
+			}
+			for (AnyLicenseInfo license:licenseInfoInFile) {
+				packageLicenses.put(license.toString(), license);
+			}
+			if (licenseInfoInFile.isEmpty()) {
+				licenseInfoInFile.add(new SpdxNoAssertionLicense());
+			}
+			String licenseComment = null;
+			if (!invalidExpressions.isEmpty()) {
+				licenseComment = "Invalid SPDX-License-Identifier expressions found: " + String.join(", ", invalidExpressions);
+			}
+			String copyrightText = fileAnalysis.copyrights.isEmpty() ? SpdxRdfConstants.NOASSERTION_VALUE :
+				String.join("\n", fileAnalysis.copyrights);
+			files[i] = new SpdxFile(fileAnalysis.path, null, new Annotation[0], new Relationship[0],
+					new SpdxNoAssertionLicense(), licenseInfoInFile.toArray(new AnyLicenseInfo[licenseInfoInFile.size()]),
+					copyrightText, licenseComment, new FileType[] {getFileType(fileAnalysis)}, fileAnalysis.checksums,
+					new String[0], null, new DoapProject[0]);
+		}
+		SpdxPackageVerificationCode verificationCode;
+		try {
+			verificationCode = new VerificationCodeGenerator(checksumGenerator).generatePackageVerificationCode(files,
+					skippedFiles.toArray(new String[skippedFiles.size()]));
+		} catch (NoSuchAlgorithmException e) {
+			throw(new InvalidSPDXAnalysisException("Unable to generate the verification code: "+e.getMessage(), e));
+		}
+		AnyLicenseInfo[] licenseInfosFromFiles = packageLicenses.isEmpty() ? new AnyLicenseInfo[] {new SpdxNoAssertionLicense()} :
+			packageLicenses.values().toArray(new AnyLicenseInfo[packageLicenses.size()]);
+		SpdxPackage pkg = new SpdxPackage(packageName, new SpdxNoAssertionLicense(), licenseInfosFromFiles,
+				SpdxRdfConstants.NOASSERTION_VALUE, new SpdxNoAssertionLicense(), SpdxRdfConstants.NOASSERTION_VALUE,
+				files, verificationCode);
+		container.addElement(pkg);
+		doc.addRelationship(new Relationship(pkg, RelationshipType.DESCRIBES, null));
+		return doc;
+	}
+
+	/**
+	 * Add the licenses in a license expression which are not license sets - the license information
+	 * from files is limited to simple licenses
+	 * @param license
+	 * @param simpleLicenses
+	 */
+	static void addSimpleLicenses(AnyLicenseInfo license, Set<AnyLicenseInfo> simpleLicenses) {
+		if (license instanceof LicenseSet) {
+			for (AnyLicenseInfo member:((LicenseSet)license).getMembers()) {
+				addSimpleLicenses(member, simpleLicenses);
+			}
+		} else {
+			simpleLicenses.add(license);
+		}
+	}
+
+	private static void usage() {
+		System.out.println("Usage: SourceToSpdx sourceDirectory outputFile [-name packageName] [-namespace documentNamespace]\n"
+				+ "                    [-threads numThreads] [-skip glob]... [-prune glob]...\n"
+				+ "where sourceDirectory is the directory to describe,\n"
+				+ "outputFile is the SPDX document to create - RDF/XML if the name ends with .rdf or .xml otherwise tag/value,\n"
+				+ "packageName is the package name (default is the directory name),\n"
+				+ "numThreads is the number of threads for each analysis stage (default is the number of processors),\n"
+				+ "-skip excludes files matching the glob from the package verification code\n"
+				+ "and -prune does not descend directories matching the glob, for example -prune .git");
+	}
+}
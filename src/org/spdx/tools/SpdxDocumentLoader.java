@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.spdx.compare.SpdxCompareException;
+import org.spdx.rdfparser.license.ListedLicenses;
+import org.spdx.rdfparser.model.SpdxDocument;
+
+/**
+ * Opens and verifies a set of SPDX documents concurrently using a bounded thread pool.
+ * Each document is parsed and verified independently, so the elapsed time is dominated
+ * by the largest document rather than the sum of all documents.
+ * <p>
+ * Documents are parsed into separate models.  The only state shared between the
+ * workers is the listed license and exception cache which serializes loading of
+ * licenses not yet in the cache.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class SpdxDocumentLoader {
+
+	/**
+	 * An SPDX document opened and verified by the loader along with the time spent
+	 *
+	 */
+	public static class LoadedDocument {
+		private String fileName;
+		private SpdxDocument document;
+		private List<String> warnings;
+		private List<String> verificationErrors;
+		private long loadMillis;
+		private long verifyMillis;
+
+		LoadedDocument(String fileName, SpdxDocument document, List<String> warnings,
+				List<String> verificationErrors, long loadMillis, long verifyMillis) {
+			this.fileName = fileName;
+			this.document = document;
+			this.warnings = warnings;
+			this.verificationErrors = verificationErrors;
+			this.loadMillis = loadMillis;
+			this.verifyMillis = verifyMillis;
+		}
+
+		/**
+		 * @return the file name the document was loaded from
+		 */
+		public String getFileName() {
+			return fileName;
+		}
+
+		/**
+		 * @return the SPDX document
+		 */
+		public SpdxDocument getDocument() {
+			return document;
+		}
+
+		/**
+		 * @return warnings produced while parsing the document
+		 */
+		public List<String> getWarnings() {
+			return warnings;
+		}
+
+		/**
+		 * @return verification errors for the document
+		 */
+		public List<String> getVerificationErrors() {
+			return verificationErrors;
+		}
+
+		/**
+		 * @return milliseconds spent opening and parsing the document
+		 */
+		public long getLoadMillis() {
+			return loadMillis;
+		}
+
+		/**
+		 * @return milliseconds spent verifying the document
+		 */
+		public long getVerifyMillis() {
+			return verifyMillis;
+		}
+	}
+
+	private int maxThreads;
+
+	/**
+	 * Create a loader using up to one thread per available processor
+	 */
+	public SpdxDocumentLoader() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param maxThreads maximum number of documents loaded at the same time
+	 */
+	public SpdxDocumentLoader(int maxThreads) {
+		if (maxThreads < 1) {
+			maxThreads = 1;
+		}
+		this.maxThreads = maxThreads;
+	}
+
+	/**
+	 * Open and verify SPDX documents in either RDF/XML or tag/value format
+	 * @param fileNames file names of the SPDX documents
+	 * @return loaded documents in the same order as <code>fileNames</code>
+	 * @throws SpdxCompareException if any of the documents can not be opened
+	 */
+	public LoadedDocument[] load(String[] fileNames) throws SpdxCompareException {
+		LoadedDocument[] retval = new LoadedDocument[fileNames.length];
+		if (fileNames.length == 0) {
+			return retval;
+		}
+		// Create the listed licenses singleton before any of the workers start - the individual
+		// licenses are loaded on first use and ListedLicenses serializes those cache misses
+		ListedLicenses.getListedLicenses();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxThreads, fileNames.length));
+		try {
+			List<Future<LoadedDocument>> futures = new ArrayList<Future<LoadedDocument>>();
+			for (final String fileName:fileNames) {
+				futures.add(executor.submit(new Callable<LoadedDocument>() {
+					@Override
+					public LoadedDocument call() throws SpdxCompareException {
+						return loadDocument(fileName);
+					}
+				}));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					retval[i] = futures.get(i).get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof SpdxCompareException) {
+						throw((SpdxCompareException)e.getCause());
+					}
+					throw(new SpdxCompareException("Error opening SPDX document "+fileNames[i]+": "+e.getCause().getMessage(), e.getCause()));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw(new SpdxCompareException("Interrupted opening SPDX document "+fileNames[i], e));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return retval;
+	}
+
+	/**
+	 * Open and verify a single SPDX document
+	 * @param fileName
+	 * @return
+	 * @throws SpdxCompareException
+	 */
+	private static LoadedDocument loadDocument(String fileName) throws SpdxCompareException {
+		List<String> warnings = new ArrayList<String>();
+		long startTime = System.currentTimeMillis();
+		SpdxDocument doc = CompareSpdxDocs.openRdfOrTagDoc(fileName, warnings);
+		long loadedTime = System.currentTimeMillis();
+		List<String> verificationErrors = doc.verify();
+		if (verificationErrors == null) {
+			verificationErrors = new ArrayList<String>();
+		}
+		long verifiedTime = System.currentTimeMillis();
+		return new LoadedDocument(fileName, doc, warnings, verificationErrors,
+				loadedTime - startTime, verifiedTime - loadedTime);
+	}
+}
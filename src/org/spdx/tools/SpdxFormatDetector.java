@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * Determines the format of an SPDX document by inspecting the first few KB of its content
+ * rather than attempting a full parse with each of the supported parsers.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class SpdxFormatDetector {
+
+	/**
+	 * Formats recognized by the detector
+	 *
+	 */
+	public enum SpdxFormat {
+		TAG_VALUE(null),
+		RDF_XML("RDF/XML"),
+		RDFA("HTML"),
+		JSON_LD("JSON-LD"),
+		UNKNOWN(null);
+
+		private String rdfLanguage;
+
+		SpdxFormat(String rdfLanguage) {
+			this.rdfLanguage = rdfLanguage;
+		}
+
+		/**
+		 * @return the Jena language name used to read this format, or null if it is not an RDF format
+		 */
+		public String getRdfLanguage() {
+			return rdfLanguage;
+		}
+	}
+
+	/**
+	 * Number of bytes inspected at the start of the document
+	 */
+	public static final int SNIFF_LENGTH = 8192;
+
+	static final String SPDX_VERSION_TAG = "SPDXVersion:";
+	static final Pattern TAG_PATTERN = Pattern.compile("^[A-Za-z][A-Za-z0-9_\\-]*:(\\s.*)?$");
+	static final Pattern HTML_PATTERN = Pattern.compile("^(<\\?xml[^>]*>\\s*)?(<!--.*?-->\\s*)*<(!doctype\\s+)?html",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	private SpdxFormatDetector() {
+		// static methods only
+	}
+
+	/**
+	 * Detect the format of an SPDX document file
+	 * @param file
+	 * @return the detected format, UNKNOWN if the format can not be determined
+	 * @throws IOException
+	 */
+	public static SpdxFormat detect(File file) throws IOException {
+		InputStream in = new FileInputStream(file);
+		try {
+			return detect(in);
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Detect the format of an SPDX document by reading up to <code>SNIFF_LENGTH</code> bytes from the stream.
+	 * The stream is not reset - callers which need to re-read the content should use a stream supporting mark/reset
+	 * @param in
+	 * @return the detected format, UNKNOWN if the format can not be determined
+	 * @throws IOException
+	 */
+	public static SpdxFormat detect(InputStream in) throws IOException {
+		byte[] buf = new byte[SNIFF_LENGTH];
+		int len = 0;
+		int numRead = in.read(buf, 0, buf.length);
+		while (numRead >= 0 && len < buf.length) {
+			len += numRead;
+			numRead = in.read(buf, len, buf.length - len);
+		}
+		return detect(buf, len);
+	}
+
+	/**
+	 * Detect the format of an SPDX document from the start of its content
+	 * @param buf buffer containing the start of the document
+	 * @param len number of valid bytes in the buffer
+	 * @return the detected format, UNKNOWN if the format can not be determined
+	 */
+	public static SpdxFormat detect(byte[] buf, int len) {
+		String text = new String(buf, 0, len, StandardCharsets.UTF_8);
+		int pos = 0;
+		if (text.length() > 0 && text.charAt(0) == '\uFEFF') {
+			pos++;	// byte order mark
+		}
+		while (pos < text.length()) {
+			char ch = text.charAt(pos);
+			if (Character.isWhitespace(ch)) {
+				pos++;
+			} else if (ch == '#') {
+				// tag/value comment line
+				int eol = text.indexOf('\n', pos);
+				if (eol < 0) {
+					return SpdxFormat.UNKNOWN;
+				}
+				pos = eol + 1;
+			} else {
+				break;
+			}
+		}
+		if (pos >= text.length()) {
+			return SpdxFormat.UNKNOWN;
+		}
+		char first = text.charAt(pos);
+		if (first == '<') {
+			if (HTML_PATTERN.matcher(text.substring(pos)).find()) {
+				return SpdxFormat.RDFA;
+			}
+			return SpdxFormat.RDF_XML;
+		}
+		if (first == '{' || first == '[') {
+			return SpdxFormat.JSON_LD;
+		}
+		int eol = text.indexOf('\n', pos);
+		String firstLine = (eol < 0 ? text.substring(pos) : text.substring(pos, eol)).trim();
+		if (firstLine.startsWith(SPDX_VERSION_TAG) || TAG_PATTERN.matcher(firstLine).matches()) {
+			return SpdxFormat.TAG_VALUE;
+		}
+		return SpdxFormat.UNKNOWN;
+	}
+}
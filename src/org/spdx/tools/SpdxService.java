@@ -0,0 +1,507 @@
+/**
+ * Copyright (c) 2026 SPDX Contributors
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+*/
+package org.spdx.tools;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.compare.LicenseCompareHelper;
+import org.spdx.compare.SpdxCompareException;
+import org.spdx.rdfparser.license.ListedLicenses;
+import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.tag.CommonCode;
+import org.spdx.tools.BatchConvert.TargetFormat;
+import org.spdx.tools.SpdxDocumentLoader.LoadedDocument;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Long running local HTTP service for verifying, converting and comparing SPDX documents and
+ * matching license text.
+ *
+ * The listed licenses, the license text used for matching and the HTML templates are loaded once
+ * when the service starts so requests do not pay the start up cost of the command line tools.
+ * The number of requests processed at the same time is limited by the size of the request thread
+ * pool - additional requests wait for a free thread.
+ *
+ * Endpoints - all requests are POST with the input in the request body:
+ * <ul>
+ * <li><code>/verify</code> - SPDX document, returns a JSON object with the verification errors</li>
+ * <li><code>/convert?format=TAG|RDF|SPREADSHEET|HTML</code> - SPDX document, returns the converted
+ * document or, for HTML, a zip of the HTML files</li>
+ * <li><code>/compare</code> - zip of two or more SPDX documents, returns the comparison spreadsheet</li>
+ * <li><code>/match-license</code> - license text, returns a JSON object with the matching listed license IDs</li>
+ * </ul>
+ * SPDX documents may be tag/value or any RDF format.  A spreadsheet may be used for <code>/verify</code>
+ * and <code>/convert</code> by setting the content type to <code>application/vnd.ms-excel</code> or
+ * <code>application/vnd.openxmlformats-officedocument.spreadsheetml.sheet</code>.
+ *
+ * @author SPDX Contributors
+ *
+ */
+public class SpdxService {
+
+	static final Logger logger = LoggerFactory.getLogger(SpdxService.class.getName());
+
+	static final int MAX_ARGS = 2;
+	static final int ERROR_STATUS = 1;
+	public static final int DEFAULT_PORT = 8080;
+	/**
+	 * Largest request body accepted
+	 */
+	public static final long MAX_REQUEST_BYTES = 256L * 1024 * 1024;
+	static final String XLS_CONTENT_TYPE = "application/vnd.ms-excel";
+	static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+	static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+	static final String ZIP_CONTENT_TYPE = "application/zip";
+	static final String TAG_CONTENT_TYPE = "text/plain; charset=utf-8";
+	static final String RDF_CONTENT_TYPE = "application/rdf+xml";
+	static final String VERIFICATION_ERRORS_HEADER = "X-SPDX-Verification-Errors";
+
+	/**
+	 * Request which can not be processed - reported to the client with the status code
+	 */
+	private static class RequestException extends Exception {
+		private static final long serialVersionUID = 1L;
+		private int status;
+
+		RequestException(int status, String message) {
+			super(message);
+			this.status = status;
+		}
+
+		RequestException(int status, String message, Throwable cause) {
+			super(message, cause);
+			this.status = status;
+		}
+	}
+
+	/**
+	 * Handles a POST request using a temporary directory which is removed after the response is sent
+	 */
+	private abstract class PostHandler implements HttpHandler {
+
+		@Override
+		public void handle(HttpExchange exchange) throws IOException {
+			File workDir = null;
+			try {
+				if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+					exchange.getResponseHeaders().set("Allow", "POST");
+					throw(new RequestException(405, "Only POST is supported"));
+				}
+				workDir = Files.createTempDirectory("spdx-service").toFile();
+				handlePost(exchange, workDir);
+			} catch (RequestException e) {
+				discardRequestBody(exchange);
+				sendError(exchange, e.status, e.getMessage());
+			} catch (Exception e) {
+				logger.error("Unexpected error processing "+exchange.getRequestURI(), e);
+				discardRequestBody(exchange);
+				sendError(exchange, 500, "Unexpected error: "+e.getMessage());
+			} finally {
+				exchange.close();
+				if (workDir != null) {
+					FileUtils.deleteQuietly(workDir);
+				}
+			}
+		}
+
+		/**
+		 * Process the request and send the response
+		 * @param exchange
+		 * @param workDir temporary directory for the request
+		 * @throws Exception
+		 */
+		abstract void handlePost(HttpExchange exchange, File workDir) throws Exception;
+	}
+
+	private class VerifyHandler extends PostHandler {
+		@SuppressWarnings({"unchecked", "deprecation"})
+		@Override
+		void handlePost(HttpExchange exchange, File workDir) throws Exception {
+			List<String> warnings = Lists.newArrayList();
+			SpdxDocument doc = readDocument(exchange, workDir, warnings);
+			JSONArray errors = new JSONArray();
+			errors.addAll(BatchConvert.verify(doc, warnings));
+			JSONObject result = new JSONObject();
+			result.put("valid", errors.isEmpty());
+			result.put("errors", errors);
+			sendJson(exchange, result);
+		}
+	}
+
+	private class ConvertHandler extends PostHandler {
+		@Override
+		void handlePost(HttpExchange exchange, File workDir) throws Exception {
+			String formatName = queryParameters(exchange).get("format");
+			if (formatName == null) {
+				throw(new RequestException(400, "Missing format parameter"));
+			}
+			TargetFormat format;
+			try {
+				format = TargetFormat.valueOf(formatName.toUpperCase(Locale.ENGLISH));
+			} catch (IllegalArgumentException e) {
+				throw(new RequestException(400, "Invalid format "+formatName));
+			}
+			if (TargetFormat.VERIFY.equals(format)) {
+				throw(new RequestException(400, "Use the /verify endpoint to verify documents"));
+			}
+			List<String> warnings = Lists.newArrayList();
+			SpdxDocument doc = readDocument(exchange, workDir, warnings);
+			File output = new File(workDir, "output" + format.getExtension());
+			BatchConvert.writeDocument(doc, format, output, constants);
+			exchange.getResponseHeaders().set(VERIFICATION_ERRORS_HEADER,
+					String.valueOf(BatchConvert.verify(doc, warnings).size()));
+			switch (format) {
+				case TAG: sendFile(exchange, TAG_CONTENT_TYPE, output); break;
+				case RDF: sendFile(exchange, RDF_CONTENT_TYPE, output); break;
+				case SPREADSHEET: sendFile(exchange, XLS_CONTENT_TYPE, output); break;
+				case HTML:
+					File zipFile = new File(workDir, "output.zip");
+					zipDirectory(output, zipFile);
+					sendFile(exchange, ZIP_CONTENT_TYPE, zipFile);
+					break;
+				default: throw(new RequestException(400, "Unsupported format "+format));
+			}
+		}
+	}
+
+	private class CompareHandler extends PostHandler {
+		@Override
+		void handlePost(HttpExchange exchange, File workDir) throws Exception {
+			List<String> docFileNames = Lists.newArrayList();
+			List<String> docNames = Lists.newArrayList();
+			File zipFile = saveRequestBody(exchange, new File(workDir, "input.zip"));
+			try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(zipFile.toPath()))) {
+				ZipEntry entry;
+				while ((entry = zip.getNextEntry()) != null) {
+					if (entry.isDirectory()) {
+						continue;
+					}
+					// the entry name is only used for display so entries can not be written outside the work directory
+					File docFile = new File(workDir, "doc" + docFileNames.size());
+					Files.copy(zip, docFile.toPath());
+					docFileNames.add(docFile.getPath());
+					docNames.add(CompareSpdxDocs.convertDocName(new File(entry.getName()).getName()));
+				}
+			} catch (IOException e) {
+				throw(new RequestException(400, "Invalid zip file: "+e.getMessage(), e));
+			}
+			if (docFileNames.size() < 2) {
+				throw(new RequestException(400, "At least 2 SPDX documents are required for a comparison"));
+			}
+			LoadedDocument[] loadedDocs;
+			try {
+				loadedDocs = new SpdxDocumentLoader(1).load(docFileNames.toArray(new String[docFileNames.size()]));
+			} catch (SpdxCompareException e) {
+				throw(new RequestException(400, e.getMessage(), e));
+			}
+			SpdxDocument[] compareDocs = new SpdxDocument[loadedDocs.length];
+			for (int i = 0; i < loadedDocs.length; i++) {
+				compareDocs[i] = loadedDocs[i].getDocument();
+			}
+			File output = new File(workDir, "compare" + CompareMultpleSpdxDocs.STREAMING_SPREADSHEET_EXTENSION);
+			CompareMultpleSpdxDocs.writeComparison(output, compareDocs,
+					docNames.toArray(new String[docNames.size()]), CompareMultpleSpdxDocs.getVerificationErrors(loadedDocs));
+			sendFile(exchange, XLSX_CONTENT_TYPE, output);
+		}
+	}
+
+	private class MatchLicenseHandler extends PostHandler {
+		@SuppressWarnings({"unchecked", "deprecation"})
+		@Override
+		void handlePost(HttpExchange exchange, File workDir) throws Exception {
+			File textFile = saveRequestBody(exchange, new File(workDir, "license.txt"));
+			String licenseText = new String(Files.readAllBytes(textFile.toPath()), StandardCharsets.UTF_8);
+			JSONArray licenseIds = new JSONArray();
+			for (String id:LicenseCompareHelper.matchingStandardLicenseIds(licenseText)) {
+				licenseIds.add(id);
+			}
+			JSONObject result = new JSONObject();
+			result.put("licenseIds", licenseIds);
+			sendJson(exchange, result);
+		}
+	}
+
+	private HttpServer server;
+	private ExecutorService executor;
+	private Properties constants;
+
+	/**
+	 * @param address address the service listens on - port 0 selects a free port
+	 * @param maxConcurrentRequests maximum number of requests processed at the same time
+	 * @throws IOException
+	 */
+	public SpdxService(InetSocketAddress address, int maxConcurrentRequests) throws IOException {
+		this.constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
+		this.server = HttpServer.create(address, 0);
+		this.executor = Executors.newFixedThreadPool(maxConcurrentRequests < 1 ? 1 : maxConcurrentRequests);
+		server.setExecutor(executor);
+		server.createContext("/verify", new VerifyHandler());
+		server.createContext("/convert", new ConvertHandler());
+		server.createContext("/compare", new CompareHandler());
+		server.createContext("/match-license", new MatchLicenseHandler());
+	}
+
+	/**
+	 * Load the listed licenses, license text and HTML templates so the first requests are not delayed
+	 * @throws Exception
+	 */
+	public static void warmUp() throws Exception {
+		ListedLicenses.getListedLicenses();
+		LicenseCompareHelper.matchingStandardLicenseIds("");
+		RdfToHtml.initialize();
+	}
+
+	/**
+	 * Start accepting requests
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stop accepting requests, waiting up to <code>delaySeconds</code> for requests in progress to complete
+	 * @param delaySeconds
+	 */
+	public void stop(int delaySeconds) {
+		server.stop(delaySeconds);
+		executor.shutdown();
+		try {
+			executor.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * @return the port the service is listening on
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * @param args optional port followed by the optional maximum number of concurrent requests
+	 */
+	public static void main(String[] args) {
+		if (args.length > MAX_ARGS) {
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		int port = DEFAULT_PORT;
+		int maxConcurrentRequests = Runtime.getRuntime().availableProcessors();
+		try {
+			if (args.length > 0) {
+				port = Integer.parseInt(args[0]);
+			}
+			if (args.length > 1) {
+				maxConcurrentRequests = Integer.parseInt(args[1]);
+			}
+		} catch (NumberFormatException e) {
+			System.out.println("Invalid number: "+e.getMessage());
+			usage();
+			System.exit(ERROR_STATUS);
+		}
+		final SpdxService service;
+		try {
+			long startTime = System.currentTimeMillis();
+			warmUp();
+			service = new SpdxService(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), maxConcurrentRequests);
+			service.start();
+			System.out.println("SPDX service started in "+(System.currentTimeMillis() - startTime)+
+					" milliseconds listening on http://localhost:"+service.getPort()+"/");
+		} catch (Exception e) {
+			System.out.println("Unable to start the SPDX service: "+e.getMessage());
+			System.exit(ERROR_STATUS);
+			return;
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread() {
+			@Override
+			public void run() {
+				service.stop(1);
+			}
+		});
+	}
+
+	/**
+	 * Save the request body to a file in the work directory
+	 * @param exchange
+	 * @param file
+	 * @return the file
+	 * @throws IOException
+	 * @throws RequestException if the request body is too large
+	 */
+	private static File saveRequestBody(HttpExchange exchange, File file) throws IOException, RequestException {
+		try (InputStream in = exchange.getRequestBody();
+				OutputStream out = new FileOutputStream(file)) {
+			long size = ByteStreams.copy(ByteStreams.limit(in, MAX_REQUEST_BYTES + 1), out);
+			if (size > MAX_REQUEST_BYTES) {
+				throw(new RequestException(413, "Request is larger than "+MAX_REQUEST_BYTES+" bytes"));
+			}
+		}
+		return file;
+	}
+
+	/**
+	 * Read any unread part of the request body so the client receives the error response rather than a connection reset
+	 * @param exchange
+	 */
+	private static void discardRequestBody(HttpExchange exchange) {
+		try {
+			ByteStreams.copy(ByteStreams.limit(exchange.getRequestBody(), MAX_REQUEST_BYTES), ByteStreams.nullOutputStream());
+		} catch (IOException e) {
+			// ignore - the error response is still sent
+		}
+	}
+
+	/**
+	 * Read the SPDX document in the request body
+	 * @param exchange
+	 * @param workDir
+	 * @param warnings parser warnings
+	 * @return
+	 * @throws Exception
+	 */
+	private static SpdxDocument readDocument(HttpExchange exchange, File workDir, List<String> warnings) throws Exception {
+		String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+		String fileName = "input.spdx";
+		if (contentType != null && contentType.startsWith(XLS_CONTENT_TYPE)) {
+			fileName = "input.xls";
+		} else if (contentType != null && contentType.startsWith(XLSX_CONTENT_TYPE)) {
+			fileName = "input.xlsx";
+		}
+		File inputFile = saveRequestBody(exchange, new File(workDir, fileName));
+		try {
+			return BatchConvert.readDocument(inputFile, warnings);
+		} catch (Exception e) {
+			throw(new RequestException(400, "Unable to read the SPDX document: "+e.getMessage(), e));
+		}
+	}
+
+	/**
+	 * @param exchange
+	 * @return the decoded query parameters of the request
+	 * @throws UnsupportedEncodingException
+	 */
+	private static Map<String, String> queryParameters(HttpExchange exchange) throws UnsupportedEncodingException {
+		Map<String, String> retval = Maps.newHashMap();
+		String query = exchange.getRequestURI().getRawQuery();
+		if (query != null) {
+			for (String parameter:query.split("&")) {
+				int equals = parameter.indexOf('=');
+				if (equals > 0) {
+					retval.put(URLDecoder.decode(parameter.substring(0, equals), "UTF-8"),
+							URLDecoder.decode(parameter.substring(equals + 1), "UTF-8"));
+				}
+			}
+		}
+		return retval;
+	}
+
+	/**
+	 * Zip the files in a directory
+	 * @param dir
+	 * @param zipFile
+	 * @throws IOException
+	 */
+	private static void zipDirectory(File dir, File zipFile) throws IOException {
+		File[] files = dir.listFiles();
+		if (files == null) {
+			throw(new IOException("Unable to list the files in "+dir.getPath()));
+		}
+		try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(zipFile))) {
+			for (File file:files) {
+				zip.putNextEntry(new ZipEntry(file.getName()));
+				Files.copy(file.toPath(), zip);
+				zip.closeEntry();
+			}
+		}
+	}
+
+	private static void sendFile(HttpExchange exchange, String contentType, File file) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(200, file.length());
+		try (OutputStream out = exchange.getResponseBody()) {
+			Files.copy(file.toPath(), out);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	private static void sendJson(HttpExchange exchange, JSONObject json) throws IOException {
+		sendBytes(exchange, 200, JSON_CONTENT_TYPE, json.toJSONString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	@SuppressWarnings({"unchecked", "deprecation"})
+	private static void sendError(HttpExchange exchange, int status, String message) {
+		JSONObject json = new JSONObject();
+		json.put("error", message);
+		try {
+			sendBytes(exchange, status, JSON_CONTENT_TYPE, json.toJSONString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			// the response may already have been started
+			logger.warn("Unable to send error response: "+e.getMessage());
+		}
+	}
+
+	private static void sendBytes(HttpExchange exchange, int status, String contentType, byte[] bytes) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static void usage() {
+		System.out.println("Usage: SpdxService [port] [maxConcurrentRequests]\n"
+				+ "Starts a local HTTP service on port (default "+DEFAULT_PORT+") with the endpoints:\n"
+				+ "  POST /verify                  SPDX document - returns the verification errors as JSON\n"
+				+ "  POST /convert?format=FORMAT   SPDX document - returns the document converted to TAG, RDF, SPREADSHEET or HTML (zip)\n"
+				+ "  POST /compare                 zip of SPDX documents - returns the comparison spreadsheet\n"
+				+ "  POST /match-license           license text - returns the matching listed license IDs as JSON\n"
+				+ "maxConcurrentRequests defaults to the number of processors");
+	}
+}
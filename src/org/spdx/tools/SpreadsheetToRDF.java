@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,7 +43,6 @@ import org.spdx.rdfparser.model.Annotation;
 import org.spdx.rdfparser.model.ExternalDocumentRef;
 import org.spdx.rdfparser.model.Relationship;
 import org.spdx.rdfparser.model.SpdxDocument;
-import org.spdx.rdfparser.model.SpdxElement;
 import org.spdx.rdfparser.model.SpdxFile;
 import org.spdx.rdfparser.model.SpdxPackage;
 import org.spdx.rdfparser.model.SpdxSnippet;
@@ -58,6 +58,8 @@ import org.spdx.spdxspreadsheet.ReviewersSheet;
 import org.spdx.spdxspreadsheet.SPDXSpreadsheet;
 import org.spdx.spdxspreadsheet.SnippetSheet;
 import org.spdx.spdxspreadsheet.SpreadsheetException;
+import org.spdx.spdxspreadsheet.StreamingSPDXSpreadsheet;
+import org.spdx.spdxspreadsheet.StreamingSPDXSpreadsheet.SheetRowHandler;
 
 import com.google.common.collect.Maps;
 
@@ -66,6 +68,9 @@ import com.google.common.collect.Maps;
  * Usage: SpreadsheetToRDF spreadsheetfile.xls rdfxmlfile.rdf
  * where spreadsheetfile.xls is a valid SPDX Spreadsheet and
  * rdfxmlfile.rdf is the output SPDX RDF Analysis file.
+ *
+ * The spreadsheet is read with the POI event APIs through <code>StreamingSPDXSpreadsheet</code>
+ * so the rows of the large sheets are added to the document without loading the workbook.
  * @author Gary O'Neall
  *
  */
@@ -135,10 +140,10 @@ public class SpreadsheetToRDF {
 			throw new OnlineToolException("Could not write to the new SPDX RDF file "+args[1] +"due to error "+e1.getMessage() );
 		}
 
-		SPDXSpreadsheet ss = null;
+		StreamingSPDXSpreadsheet ss = null;
 		List<String> verify = new ArrayList<String>();
 		try {
-			ss = new SPDXSpreadsheet(spdxSpreadsheetFile, false, true);
+			ss = new StreamingSPDXSpreadsheet(spdxSpreadsheetFile);
 			SpdxDocument analysis = copySpreadsheetToSPDXAnalysis(ss);
 			verify = analysis.verify();
 			if (verify.size() > 0) {
@@ -170,11 +175,122 @@ public class SpreadsheetToRDF {
 		}
 		return verify;
 	}
+	/**
+	 * Create an SPDX document from a spreadsheet read as events.  The rows of the Package Info,
+	 * Per File Info, Snippets, Annotations and Relationships sheets are added to the document
+	 * as they are read.  File dependencies are linked once the Per File Info sheet has been read.
+	 * @param ss
+	 * @return
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static SpdxDocument copySpreadsheetToSPDXAnalysis(StreamingSPDXSpreadsheet ss) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		String pkgUrl = ss.getOriginsSheet().getNamespace() + "#" + SpdxRdfConstants.SPDX_DOCUMENT_ID;
+		if (!SpdxVerificationHelper.isValidUri(pkgUrl)) {
+			logger.warn("Missing or invalid document namespace.  Using download location URL for the document namespace");
+			final List<SpdxPackage> firstPackage = new ArrayList<SpdxPackage>();
+			ss.readPackageInfo(new SheetRowHandler<PackageInfoSheet>() {
+				@Override
+				public boolean handleRow(PackageInfoSheet sheet, int rowNum) throws SpreadsheetException {
+					SpdxPackage pkg = sheet.getPackage(rowNum, null);
+					if (pkg != null) {
+						firstPackage.add(pkg);
+					}
+					return false;
+				}
+			});
+			if (firstPackage.size() > 0) {
+				pkgUrl = firstPackage.get(0).getDownloadLocation();
+			}
+		}
+		if (!SpdxVerificationHelper.isValidUri(pkgUrl)) {
+			logger.warn("Missing or invalid download location.  Using temporary namespace http://spdx.org/tempspdxuri");
+			pkgUrl = "http://spdx.org/tempspdxuri";
+		}
+		SpdxDocumentContainer container = new SpdxDocumentContainer(pkgUrl);
+		final SpdxDocument analysis = container.getSpdxDocument();
+		copyOrigins(ss.getOriginsSheet(), analysis);
+		copyNonStdLicenses(ss.getNonStandardLicensesSheet(), analysis);
+		final ExternalRefsSheet externalRefsSheet = ss.getExternalRefsSheet();
+		final Map<String, SpdxPackage> pkgIdToPackage = Maps.newHashMap();
+		ss.readPackageInfo(new SheetRowHandler<PackageInfoSheet>() {
+			@Override
+			public boolean handleRow(PackageInfoSheet sheet, int rowNum) throws SpreadsheetException, InvalidSPDXAnalysisException {
+				SpdxPackage pkg = sheet.getPackage(rowNum, analysis.getDocumentContainer());
+				if (pkg != null) {
+					addPackage(pkg, externalRefsSheet, analysis, pkgIdToPackage);
+				}
+				return true;
+			}
+		});
+		// file dependencies may refer to later rows so they are linked after all of the files are read
+		final Map<String, SpdxFile> fileNameToFile = Maps.newHashMap();
+		final Map<SpdxFile, String[]> fileDependencyNames = Maps.newHashMap();
+		ss.readPerFileInfo(new SheetRowHandler<PerFileSheet>() {
+			@Override
+			public boolean handleRow(PerFileSheet sheet, int rowNum) throws SpreadsheetException, InvalidSPDXAnalysisException {
+				SpdxFile file = sheet.getFileInfo(rowNum, analysis.getDocumentContainer());
+				addFile(file, sheet.getPackageIds(rowNum), analysis, pkgIdToPackage);
+				fileNameToFile.put(file.getName().trim(), file);
+				String[] dependencyNames = sheet.getFileDependencyNames(rowNum);
+				if (dependencyNames.length > 0) {
+					fileDependencyNames.put(file, dependencyNames);
+				}
+				return true;
+			}
+		});
+		addFileDependencies(fileDependencyNames, fileNameToFile);
+		ss.readSnippets(new SheetRowHandler<SnippetSheet>() {
+			@Override
+			public boolean handleRow(SnippetSheet sheet, int rowNum) throws SpreadsheetException, InvalidSPDXAnalysisException {
+				SpdxSnippet snippet = sheet.getSnippet(rowNum, analysis.getDocumentContainer());
+				if (snippet == null) {
+					return false;
+				}
+				analysis.getDocumentContainer().addElement(snippet);
+				return true;
+			}
+		});
+		ss.readAnnotations(new SheetRowHandler<AnnotationsSheet>() {
+			@Override
+			public boolean handleRow(AnnotationsSheet sheet, int rowNum) throws SpreadsheetException, InvalidSPDXAnalysisException {
+				Annotation annotation = sheet.getAnnotation(rowNum);
+				String id = sheet.getElmementId(rowNum);
+				if (annotation == null || id == null) {
+					return false;
+				}
+				analysis.getDocumentContainer().findElementById(id).addAnnotation(annotation);
+				return true;
+			}
+		});
+		ss.readRelationships(new SheetRowHandler<RelationshipsSheet>() {
+			@Override
+			public boolean handleRow(RelationshipsSheet sheet, int rowNum) throws SpreadsheetException, InvalidSPDXAnalysisException {
+				Relationship relationship = sheet.getRelationship(rowNum, analysis.getDocumentContainer());
+				String id = sheet.getElmementId(rowNum);
+				if (relationship == null || id == null) {
+					return false;
+				}
+				analysis.getDocumentContainer().findElementById(id).addRelationship(relationship);
+				return true;
+			}
+		});
+		copyReviewerInfo(ss.getReviewersSheet(), analysis);
+		return analysis;
+	}
+
+	/**
+	 * Create an SPDX document from a spreadsheet held in memory
+	 * @param ss
+	 * @return
+	 * @throws SpreadsheetException
+	 * @throws InvalidSPDXAnalysisException
+	 * @deprecated the whole workbook is held in memory - use {@link #copySpreadsheetToSPDXAnalysis(StreamingSPDXSpreadsheet)}
+	 */
+	@Deprecated
 	public static SpdxDocument copySpreadsheetToSPDXAnalysis(SPDXSpreadsheet ss) throws SpreadsheetException, InvalidSPDXAnalysisException {
 		String pkgUrl = ss.getOriginsSheet().getNamespace() + "#" + SpdxRdfConstants.SPDX_DOCUMENT_ID;
 		if (!SpdxVerificationHelper.isValidUri(pkgUrl)) {
-			// need to create a unique URL
-			// Use the download URL + "#SPDXANALYSIS"
 			logger.warn("Missing or invalid document namespace.  Using download location URL for the document namespace");
 			SpdxPackage[] pkgs = ss.getPackageInfoSheet().getPackages(null);
 			if (pkgs.length > 0) {
@@ -182,7 +298,6 @@ public class SpreadsheetToRDF {
 			}
 		}
 		if (!SpdxVerificationHelper.isValidUri(pkgUrl)) {
-			// Since the download location is not valid, replace it with a spdx.org/tempspdxuri
 			logger.warn("Missing or invalid download location.  Using temporary namespace http://spdx.org/tempspdxuri");
 			pkgUrl = "http://spdx.org/tempspdxuri";
 		}
@@ -191,75 +306,50 @@ public class SpreadsheetToRDF {
 		copyOrigins(ss.getOriginsSheet(), analysis);
 		copyNonStdLicenses(ss.getNonStandardLicensesSheet(), analysis);
 		// note - non std licenses must be added first so that the text is available
-		Map<String, SpdxPackage> pkgIdToPackage = copyPackageInfo(ss.getPackageInfoSheet(), ss.getExternalRefsSheet(), analysis);
+		ExternalRefsSheet externalRefsSheet = ss.getExternalRefsSheet();
+		Map<String, SpdxPackage> pkgIdToPackage = Maps.newHashMap();
+		for (SpdxPackage pkg:ss.getPackageInfoSheet().getPackages(container)) {
+			addPackage(pkg, externalRefsSheet, analysis, pkgIdToPackage);
+		}
 		// note - packages need to be added before the files so that the files can be added to the packages
-		Map<String, SpdxFile> fileIdToFile = copyPerFileInfo(ss.getPerFileSheet(), analysis, pkgIdToPackage);
+		PerFileSheet perFileSheet = ss.getPerFileSheet();
+		int firstRow = perFileSheet.getFirstDataRow();
+		int numFiles = perFileSheet.getNumDataRows();
+		for (int i = 0; i < numFiles; i++) {
+			SpdxFile file = perFileSheet.getFileInfo(firstRow+i, container);
+			addFile(file, perFileSheet.getPackageIds(firstRow+i), analysis, pkgIdToPackage);
+		}
 		// note - files need to be added before snippets
-		copyPerSnippetInfo(ss.getSnippetSheet(), analysis, fileIdToFile);
-		copyAnnotationInfo(ss.getAnnotationsSheet(), analysis);
-		copyRelationshipInfo(ss.getRelationshipsSheet(), analysis);
-		copyReviewerInfo(ss.getReviewersSheet(), analysis);
-		return analysis;
-	}
-
-	/**
-	 * Copy snippet information from the spreadsheet to the analysis document
-	 * @param snippetSheet
-	 * @param analysis
-	 * @param fileIdToFile
-	 * @throws InvalidSPDXAnalysisException
-	 * @throws SpreadsheetException
-	 */
-	private static void copyPerSnippetInfo(SnippetSheet snippetSheet,
-			SpdxDocument analysis, Map<String, SpdxFile> fileIdToFile) throws InvalidSPDXAnalysisException, SpreadsheetException {
+		SnippetSheet snippetSheet = ss.getSnippetSheet();
 		int i = snippetSheet.getFirstDataRow();
-		SpdxSnippet snippet = snippetSheet.getSnippet(i, analysis.getDocumentContainer());
+		SpdxSnippet snippet = snippetSheet.getSnippet(i, container);
 		while (snippet != null) {
-			analysis.getDocumentContainer().addElement(snippet);
-			i = i + 1;
-			snippet = snippetSheet.getSnippet(i, analysis.getDocumentContainer());
-		}
-	}
-
-	/**
-	 * @param relationshipsSheet
-	 * @param analysis
-	 * @throws SpreadsheetException
-	 * @throws InvalidSPDXAnalysisException
-	 */
-	private static void copyRelationshipInfo(
-			RelationshipsSheet relationshipsSheet, SpdxDocument analysis) throws SpreadsheetException, InvalidSPDXAnalysisException {
-		int i = relationshipsSheet.getFirstDataRow();
-		Relationship relationship = relationshipsSheet.getRelationship(i, analysis.getDocumentContainer());
-		String id = relationshipsSheet.getElmementId(i);
-		while (relationship != null && id != null) {
-			SpdxElement element = analysis.getDocumentContainer().findElementById(id);
-			element.addRelationship(relationship);
+			container.addElement(snippet);
 			i = i + 1;
-			relationship = relationshipsSheet.getRelationship(i, analysis.getDocumentContainer());
-			id = relationshipsSheet.getElmementId(i);
+			snippet = snippetSheet.getSnippet(i, container);
 		}
-	}
-
-	/**
-	 * @param annotationsSheet
-	 * @param analysis
-	 * @throws InvalidSPDXAnalysisException
-	 * @throws SpreadsheetException
-	 */
-	private static void copyAnnotationInfo(AnnotationsSheet annotationsSheet,
-			SpdxDocument analysis) throws InvalidSPDXAnalysisException, SpreadsheetException {
-		int i = annotationsSheet.getFirstDataRow();
+		AnnotationsSheet annotationsSheet = ss.getAnnotationsSheet();
+		i = annotationsSheet.getFirstDataRow();
 		Annotation annotation = annotationsSheet.getAnnotation(i);
 		String id = annotationsSheet.getElmementId(i);
 		while (annotation != null && id != null) {
-			SpdxElement element = analysis.getDocumentContainer().findElementById(id);
-			element.addAnnotation(annotation);
+			container.findElementById(id).addAnnotation(annotation);
 			i = i + 1;
 			annotation = annotationsSheet.getAnnotation(i);
 			id = annotationsSheet.getElmementId(i);
 		}
-
+		RelationshipsSheet relationshipsSheet = ss.getRelationshipsSheet();
+		i = relationshipsSheet.getFirstDataRow();
+		Relationship relationship = relationshipsSheet.getRelationship(i, container);
+		id = relationshipsSheet.getElmementId(i);
+		while (relationship != null && id != null) {
+			container.findElementById(id).addRelationship(relationship);
+			i = i + 1;
+			relationship = relationshipsSheet.getRelationship(i, container);
+			id = relationshipsSheet.getElmementId(i);
+		}
+		copyReviewerInfo(ss.getReviewersSheet(), analysis);
+		return analysis;
 	}
 
 	@SuppressWarnings("deprecation")
@@ -275,30 +365,51 @@ public class SpreadsheetToRDF {
 		analysis.setReviewers(reviewers);
 	}
 
-	private static Map<String, SpdxFile> copyPerFileInfo(PerFileSheet perFileSheet,
-			SpdxDocument analysis, Map<String, SpdxPackage> pkgIdToPackage) throws SpreadsheetException, InvalidSPDXAnalysisException {
-		int firstRow = perFileSheet.getFirstDataRow();
-		int numFiles = perFileSheet.getNumDataRows();
-		Map<String, SpdxFile> retval = Maps.newHashMap();
-		for (int i = 0; i < numFiles; i++) {
-			SpdxFile file = perFileSheet.getFileInfo(firstRow+i, analysis.getDocumentContainer());
-			retval.put(file.getId(), file);
-			String[] pkgIds = perFileSheet.getPackageIds(firstRow+i);
-			boolean fileAdded = false;
-			for (int j = 0;j < pkgIds.length; j++) {
-				SpdxPackage pkg = pkgIdToPackage.get(pkgIds[j]);
-				if (pkg != null) {
-					pkg.addFile(file);
-					fileAdded = true;
-				} else {
-					logger.warn("Can not add file "+file.getName()+" to package "+pkgIds[j]);
+	/**
+	 * Set the file dependencies of the files read from the Per File Info sheet
+	 * @param fileDependencyNames map of each file with dependencies to the names of the files it depends on
+	 * @param fileNameToFile map of file names to all files in the sheet
+	 * @throws SpreadsheetException if a dependency is not in the sheet
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static void addFileDependencies(Map<SpdxFile, String[]> fileDependencyNames,
+			Map<String, SpdxFile> fileNameToFile) throws SpreadsheetException, InvalidSPDXAnalysisException {
+		for (Entry<SpdxFile, String[]> entry:fileDependencyNames.entrySet()) {
+			String[] names = entry.getValue();
+			SpdxFile[] fileDependencies = new SpdxFile[names.length];
+			for (int i = 0; i < names.length; i++) {
+				fileDependencies[i] = fileNameToFile.get(names[i]);
+				if (fileDependencies[i] == null) {
+					throw(new SpreadsheetException("Could not find dependant file in the spreadsheet: "+names[i]));
 				}
 			}
-			if (!fileAdded) {
-				analysis.getDocumentContainer().addElement(file);
+			entry.getKey().setFileDependencies(fileDependencies);
+		}
+	}
+
+	/**
+	 * Add a file to its packages or to the document if it is not in any of the packages
+	 * @param file
+	 * @param pkgIds IDs of the packages containing the file
+	 * @param analysis
+	 * @param pkgIdToPackage
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static void addFile(SpdxFile file, String[] pkgIds, SpdxDocument analysis,
+			Map<String, SpdxPackage> pkgIdToPackage) throws InvalidSPDXAnalysisException {
+		boolean fileAdded = false;
+		for (int j = 0;j < pkgIds.length; j++) {
+			SpdxPackage pkg = pkgIdToPackage.get(pkgIds[j]);
+			if (pkg != null) {
+				pkg.addFile(file);
+				fileAdded = true;
+			} else {
+				logger.warn("Can not add file "+file.getName()+" to package "+pkgIds[j]);
 			}
 		}
-		return retval;
+		if (!fileAdded) {
+			analysis.getDocumentContainer().addElement(file);
+		}
 	}
 
 	private static void copyNonStdLicenses(
@@ -316,17 +427,12 @@ public class SpreadsheetToRDF {
 		analysis.setExtractedLicenseInfos(nonStdLicenses);
 	}
 
-	private static Map<String, SpdxPackage> copyPackageInfo(PackageInfoSheet packageInfoSheet,
-			ExternalRefsSheet externalRefsSheet, SpdxDocument analysis) throws SpreadsheetException, InvalidSPDXAnalysisException {
-		SpdxPackage[] packages = packageInfoSheet.getPackages(analysis.getDocumentContainer());
-		Map<String, SpdxPackage> pkgIdToPackage = Maps.newHashMap();
-		for (int i = 0; i < packages.length; i++) {
-			packages[i].setExternalRefs(externalRefsSheet.getExternalRefsForPkgid(
-					packages[i].getId(), analysis.getDocumentContainer()));
-			pkgIdToPackage.put(packages[i].getId(), packages[i]);
-			analysis.getDocumentContainer().addElement(packages[i]);
-		}
-		return pkgIdToPackage;
+	private static void addPackage(SpdxPackage pkg, ExternalRefsSheet externalRefsSheet,
+			SpdxDocument analysis, Map<String, SpdxPackage> pkgIdToPackage) throws InvalidSPDXAnalysisException {
+		pkg.setExternalRefs(externalRefsSheet.getExternalRefsForPkgid(
+				pkg.getId(), analysis.getDocumentContainer()));
+		pkgIdToPackage.put(pkg.getId(), pkg);
+		analysis.getDocumentContainer().addElement(pkg);
 	}
 
 	private static void copyOrigins(DocumentInfoSheet originsSheet, SpdxDocument analysis) throws InvalidSPDXAnalysisException, SpreadsheetException {
@@ -378,7 +484,7 @@ public class SpreadsheetToRDF {
 
 	private static void usage() {
 		System.out.println("Usage: SpreadsheetToRDF spreadsheetfile.xls rdfxmlfile.rdf \n"+
-				"where spreadsheetfile.xls is a valid SPDX Spreadsheet and\n"+
+				"where spreadsheetfile.xls is a valid SPDX Spreadsheet (.xls or .xlsx) and\n"+
 				"rdfxmlfile.rdf is the output SPDX RDF analysis file.");
 	}
 
@@ -28,9 +28,10 @@ import java.util.Properties;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.SpdxRdfConstants;
 import org.spdx.rdfparser.model.SpdxDocument;
-import org.spdx.spdxspreadsheet.SPDXSpreadsheet;
 import org.spdx.spdxspreadsheet.SpreadsheetException;
+import org.spdx.spdxspreadsheet.StreamingSPDXSpreadsheet;
 import org.spdx.tag.CommonCode;
+import org.spdx.tag.TagValueWriter;
 
 
 /**
@@ -100,15 +101,15 @@ public class SpreadsheetToTag {
 		List<String> verify = new ArrayList<String>();
 		try {
 			try {
-				out = new PrintWriter(spdxTagFile, "UTF-8");
+				out = TagValueWriter.createFileWriter(spdxTagFile);
 			} catch (IOException e1) {
 				throw new OnlineToolException("Could not write to the new SPDX Tag file "
 						+ args[1] + "due to error " + e1.getMessage());
 			}
 
-			SPDXSpreadsheet ss = null;
+			StreamingSPDXSpreadsheet ss = null;
 			try {
-				ss = new SPDXSpreadsheet(spdxSpreadsheetFile, false, true);
+				ss = new StreamingSPDXSpreadsheet(spdxSpreadsheetFile);
 				SpdxDocument analysis = SpreadsheetToRDF.copySpreadsheetToSPDXAnalysis(ss);
 				verify = analysis.verify();
 				if (verify.size() > 0) {
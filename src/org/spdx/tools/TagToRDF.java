@@ -18,7 +18,6 @@
 package org.spdx.tools;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
@@ -36,6 +35,8 @@ import org.spdx.tag.HandBuiltParser;
 import org.spdx.tag.InvalidFileFormatException;
 import org.spdx.tag.InvalidSpdxTagFileException;
 import org.spdx.tag.NoCommentInputStream;
+import org.spdx.tag.ParallelTagValueParser;
+import org.spdx.tools.SpdxFormatDetector.SpdxFormat;
 
 import antlr.RecognitionException;
 import antlr.TokenStreamException;
@@ -106,38 +107,29 @@ public class TagToRDF {
 		if (args.length > 2) {
 			outputFormat = args[2];
 		}
-		FileInputStream spdxTagStream;
+		File spdxTagFile = new File(args[0]);
+		SpdxFormat format;
 		try {
-			spdxTagStream = new FileInputStream(args[0]);
+			format = SpdxFormatDetector.detect(spdxTagFile);
 		} catch (FileNotFoundException ex) {
 			throw new OnlineToolException("Tag-Value file "+ args[0] + " does not exists.");
+		} catch (IOException ex) {
+			throw new OnlineToolException("Unable to read Tag-Value file "+ args[0]+": "+ex.getMessage());
+		}
+		if (!SpdxFormat.TAG_VALUE.equals(format) && !SpdxFormat.UNKNOWN.equals(format)) {
+			throw new OnlineToolException("File "+ args[0]+" is not in SPDX Tag-Value format - the file appears to be "+format.getRdfLanguage());
 		}
 		File spdxRDFFile = new File(args[1]);
 		// Output File name will be checked in the Python code for no clash, but if still found
 		if (spdxRDFFile.exists()) {
-			try {
-				spdxTagStream.close();
-			} catch (IOException e) {
-				throw new OnlineToolException("Warning: Unable to close input file on error.");
-			}
 			throw new OnlineToolException("Error: File " + args[1] +" already exists - please specify a new file.");
 		}
 
 		try {
 			if (!spdxRDFFile.createNewFile()) {
-				try {
-					spdxTagStream.close();
-				} catch (IOException e) {
-					throw new OnlineToolException("Warning: Unable to close input file on error.");
-				}
 				throw new OnlineToolException("Could not create the new SPDX RDF file "+ args[1]);
 			}
 		} catch (IOException e1) {
-			try {
-				spdxTagStream.close();
-			} catch (IOException e) {
-				throw new OnlineToolException("Warning: Unable to close input file on error.");
-			}
 			throw new OnlineToolException("Could not create the new SPDX Tag-Value file "+ args[1] + "due to error " + e1.getMessage());
 		}
 
@@ -145,16 +137,11 @@ public class TagToRDF {
 		try {
 			out = new FileOutputStream(spdxRDFFile);
 		} catch (FileNotFoundException e1) {
-			try {
-				spdxTagStream.close();
-			} catch (IOException e) {
-				throw new OnlineToolException("Warning: Unable to close input file on error.");
-			}
 			throw new OnlineToolException("Could not write to the new SPDX RDF file "+ args[1]+ "due to error " + e1.getMessage());
 		}
 		List<String> warnings = new ArrayList<String>();
 		try {
-			convertTagFileToRdf(spdxTagStream, out, outputFormat, warnings);
+			convertTagFileToRdf(spdxTagFile, out, outputFormat, warnings, Runtime.getRuntime().availableProcessors());
 			if (!warnings.isEmpty()) {
 				System.out.println("The following warnings and or verification errors were found:");
 				for (String warning:warnings) {
@@ -171,13 +158,6 @@ public class TagToRDF {
 					throw new OnlineToolException("Error closing RDF file: " + e.getMessage());
 				}
 			}
-			if (spdxTagStream != null) {
-				try {
-					spdxTagStream.close();
-				} catch (IOException e) {
-					throw new OnlineToolException("Error closing Tag/Value file: " + e.getMessage());
-				}
-			}
 		}
 		return warnings;
 	}
@@ -196,6 +176,34 @@ public class TagToRDF {
 			convertTagFileToRdf(spdxTagFile, outputFormat, warnings).getModel().write(out, outputFormat);
 	}
 
+	/**
+	 * Convert a Tag File to an RDF output stream using multiple threads
+	 * @param spdxTagFile File containing a tag/value formatted SPDX file
+	 * @param out Stream where the RDF/XML data is written
+	 * @param outputFormat must be one of RDF/XML-ABBREV (default), RDF/XML, N-TRIPLET, or TURTLE
+	 * @param numThreads Number of threads used to parse the files, snippets and packages
+	 * @throws Exception
+	 */
+	public static void convertTagFileToRdf(InputStream spdxTagFile,
+			OutputStream out, String outputFormat, List<String> warnings, int numThreads) throws RecognitionException, TokenStreamException, Exception {
+
+			convertTagFileToRdf(spdxTagFile, outputFormat, warnings, numThreads).getModel().write(out, outputFormat);
+	}
+
+	/**
+	 * Convert a Tag File to an RDF output stream using multiple threads - the file is memory mapped where possible
+	 * @param spdxTagFile File containing a tag/value formatted SPDX file
+	 * @param out Stream where the RDF/XML data is written
+	 * @param outputFormat must be one of RDF/XML-ABBREV (default), RDF/XML, N-TRIPLET, or TURTLE
+	 * @param numThreads Number of threads used to parse the files, snippets and packages
+	 * @throws Exception
+	 */
+	public static void convertTagFileToRdf(File spdxTagFile,
+			OutputStream out, String outputFormat, List<String> warnings, int numThreads) throws RecognitionException, TokenStreamException, Exception {
+
+			convertTagFileToRdf(spdxTagFile, outputFormat, warnings, numThreads).getModel().write(out, outputFormat);
+	}
+
 	/**
 	 * Convert an tag/value format input stream into an SPDX Document
 	 * @param spdxTagFile Input stream containing a SPDX tag/value format text
@@ -206,16 +214,72 @@ public class TagToRDF {
 	 */
 	public static SpdxDocumentContainer convertTagFileToRdf(
 			InputStream spdxTagFile, String outputFormat, List<String> warnings) throws RecognitionException, TokenStreamException,InvalidSpdxTagFileException,InvalidFileFormatException, Exception  {
+		return convertTagFileToRdf(spdxTagFile, outputFormat, warnings, 1);
+	}
+
+	/**
+	 * Convert an tag/value format input stream into an SPDX Document using multiple threads
+	 * @param spdxTagFile Input stream containing a SPDX tag/value format text
+	 * @param outputFormat must be one of RDF/XML-ABBREV (default), RDF/XML, N-TRIPLET, or TURTLE
+	 * @param warnings List of any warnings generated during the tag/value parsing
+	 * @param numThreads Number of threads used to parse the files, snippets and packages - if 1, the file is parsed on the calling thread only
+	 * @return SpdxDocumentContainer containing the SPDX document represented by the spdxTagVile
+	 * @throws Exception
+	 */
+	public static SpdxDocumentContainer convertTagFileToRdf(
+			InputStream spdxTagFile, String outputFormat, List<String> warnings, int numThreads) throws RecognitionException, TokenStreamException,InvalidSpdxTagFileException,InvalidFileFormatException, Exception  {
+		return convertTagFileToRdf(new NoCommentInputStream(spdxTagFile), outputFormat, warnings, numThreads);
+	}
+
+	/**
+	 * Convert a tag/value format file into an SPDX Document
+	 * @param spdxTagFile File containing a SPDX tag/value format text
+	 * @param outputFormat must be one of RDF/XML-ABBREV (default), RDF/XML, N-TRIPLET, or TURTLE
+	 * @param warnings List of any warnings generated during the tag/value parsing
+	 * @return SpdxDocumentContainer containing the SPDX document represented by the spdxTagFile
+	 * @throws Exception
+	 */
+	public static SpdxDocumentContainer convertTagFileToRdf(
+			File spdxTagFile, String outputFormat, List<String> warnings) throws RecognitionException, TokenStreamException,InvalidSpdxTagFileException,InvalidFileFormatException, Exception  {
+		return convertTagFileToRdf(spdxTagFile, outputFormat, warnings, 1);
+	}
+
+	/**
+	 * Convert a tag/value format file into an SPDX Document using multiple threads.  The file
+	 * is memory mapped where possible rather than read line by line.
+	 * @param spdxTagFile File containing a SPDX tag/value format text
+	 * @param outputFormat must be one of RDF/XML-ABBREV (default), RDF/XML, N-TRIPLET, or TURTLE
+	 * @param warnings List of any warnings generated during the tag/value parsing
+	 * @param numThreads Number of threads used to parse the files, snippets and packages - if 1, the file is parsed on the calling thread only
+	 * @return SpdxDocumentContainer containing the SPDX document represented by the spdxTagFile
+	 * @throws Exception
+	 */
+	public static SpdxDocumentContainer convertTagFileToRdf(
+			File spdxTagFile, String outputFormat, List<String> warnings, int numThreads) throws RecognitionException, TokenStreamException,InvalidSpdxTagFileException,InvalidFileFormatException, Exception  {
+		NoCommentInputStream nci = new NoCommentInputStream(spdxTagFile);
+		try {
+			return convertTagFileToRdf(nci, outputFormat, warnings, numThreads);
+		} finally {
+			nci.close();
+		}
+	}
+
+	private static SpdxDocumentContainer convertTagFileToRdf(
+			NoCommentInputStream nci, String outputFormat, List<String> warnings, int numThreads) throws RecognitionException, TokenStreamException,InvalidSpdxTagFileException,InvalidFileFormatException, Exception  {
 		// read the tag-value constants from a file
 		Properties constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
-		NoCommentInputStream nci = new NoCommentInputStream(spdxTagFile);
 //		TagValueLexer lexer = new TagValueLexer(new DataInputStream(nci));
 //		TagValueParser parser = new TagValueParser(lexer);
 		try{
-			HandBuiltParser parser = new HandBuiltParser(nci);
 			SpdxDocumentContainer[] result = new SpdxDocumentContainer[1];
-			parser.setBehavior(new BuildDocument(result, constants, warnings));
-			parser.data();
+			BuildDocument builder = new BuildDocument(result, constants, warnings);
+			if (numThreads > 1) {
+				new ParallelTagValueParser(nci, builder, numThreads).data();
+			} else {
+				HandBuiltParser parser = new HandBuiltParser(nci);
+				parser.setBehavior(builder);
+				parser.data();
+			}
 			if (result[0] == null) {
 				throw(new RuntimeException("Unexpected error parsing SPDX tag document - the result is null."));
 			}
@@ -18,7 +18,6 @@ package org.spdx.tools;
 
 import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -35,13 +34,15 @@ import org.spdx.tag.HandBuiltParser;
 import org.spdx.tag.InvalidFileFormatException;
 import org.spdx.tag.InvalidSpdxTagFileException;
 import org.spdx.tag.NoCommentInputStream;
+import org.spdx.tools.SpdxFormatDetector.SpdxFormat;
 
 import antlr.RecognitionException;
 /**
  * Translates an tag-value file to a SPDX Spreadsheet format Usage:
  * TagToSpreadsheet spdxfile.spdx spreadsheetfile.xls where spdxfile.spdx is a
  * valid SPDX tag-value file and spreadsheetfile.xls is the output SPDX
- * spreadsheeet file.
+ * spreadsheeet file.  If the output file name ends with .xlsx, a streaming
+ * Excel 2007 workbook is written which is not limited to 65,536 files.
  *
  * @author Rana Rahal, Protecode Inc.
  */
@@ -79,20 +80,21 @@ public class TagToSpreadsheet {
 	 */
 	public static List<String> onlineFunction(String[] args) throws OnlineToolException{
 		// Arguments length(args length== 2 ) will checked in the Python Code
-		FileInputStream spdxTagFile;
+		File spdxTagFile = new File(args[0]);
+		SpdxFormat format;
 		try {
-			spdxTagFile = new FileInputStream(args[0]);
+			format = SpdxFormatDetector.detect(spdxTagFile);
 		} catch (FileNotFoundException ex) {
 			throw new OnlineToolException("Tag-Value file "+ args[0]+" does not exists.");
+		} catch (IOException ex) {
+			throw new OnlineToolException("Unable to read Tag-Value file "+ args[0]+": "+ex.getMessage());
+		}
+		if (!SpdxFormat.TAG_VALUE.equals(format) && !SpdxFormat.UNKNOWN.equals(format)) {
+			throw new OnlineToolException("File "+ args[0]+" is not in SPDX Tag-Value format - the file appears to be "+format.getRdfLanguage());
 		}
 		File spdxSpreadsheetFile = new File(args[1]);
 		// Output File name will be checked in the Python code for no clash, but if still found
 		if (spdxSpreadsheetFile.exists()) {
-			try {
-				spdxTagFile.close();
-			} catch (IOException e) {
-				throw new OnlineToolException("Warning: Unable to close output SPDX tag file on error: "+e.getMessage());
-			}
 			throw new OnlineToolException("Spreadsheet file already exists - please specify a new file name.");
 		}
 		SpdxDocumentContainer[] result = new SpdxDocumentContainer[1];
@@ -101,9 +103,13 @@ public class TagToSpreadsheet {
 			// read the tag-value constants from a file
 			Properties constants = CommonCode.getTextFromProperties("org/spdx/tag/SpdxTagValueConstants.properties");
 			NoCommentInputStream nci = new NoCommentInputStream(spdxTagFile);
-			HandBuiltParser parser = new HandBuiltParser(nci);
-			parser.setBehavior(new BuildDocument(result, constants, warnings));
-			parser.data();
+			try {
+				HandBuiltParser parser = new HandBuiltParser(nci);
+				parser.setBehavior(new BuildDocument(result, constants, warnings));
+				parser.data();
+			} finally {
+				nci.close();
+			}
 			if (result[0] == null) {
 				throw(new OnlineToolException("Unexpected error parsing SPDX tag document - the result is null."));
 			}
@@ -125,7 +131,7 @@ public class TagToSpreadsheet {
 		}
 		SPDXSpreadsheet ss = null;
 		try {
-			ss = new SPDXSpreadsheet(spdxSpreadsheetFile, true, false);
+			ss = SPDXSpreadsheet.createOutputSpreadsheet(spdxSpreadsheetFile);
 			RdfToSpreadsheet.copyRdfXmlToSpreadsheet(result[0].getSpdxDocument(), ss);
 		} catch (SpreadsheetException e) {
 			throw new OnlineToolException("Error opening or writing to spreadsheet: "+ e.getMessage());
@@ -150,6 +156,7 @@ public class TagToSpreadsheet {
 		System.out
 				.println("Usage: TagToSpreadsheet spdxfile.spdx spreadsheetfile.xls \n"
 						+ "where spdxfile.spdx is a valid SPDX tag-value file and spreadsheetfile.xls is \n"
-						+ "the output SPDX spreadsheeet file.");
+						+ "the output SPDX spreadsheeet file.  Use a .xlsx file name for documents \n"
+						+ "with more than 65,535 files.");
 	}
 }
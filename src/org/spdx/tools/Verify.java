@@ -25,6 +25,8 @@ import org.spdx.compare.SpdxCompareException;
 import org.spdx.rdfparser.InvalidSPDXAnalysisException;
 import org.spdx.rdfparser.SPDXDocumentFactory;
 import org.spdx.rdfparser.model.SpdxDocument;
+import org.spdx.tag.TagValueValidator;
+import org.spdx.tools.SpdxFormatDetector.SpdxFormat;
 
 /**
  * Verifies an SPDX document and lists any verification errors
@@ -34,16 +36,17 @@ import org.spdx.rdfparser.model.SpdxDocument;
 public class Verify {
 
 	static final int MIN_ARGS = 1;
-	static final int MAX_ARGS = 1;
+	static final int MAX_ARGS = 3;
 	static final int ERROR_STATUS = 1;
+	static final String STRUCTURAL_OPTION = "-structural";
 
 	/**
-	 * @param args Single argument SPDX file - can be tag/value or RDF
+	 * @param args SPDX file - can be tag/value or RDF - optionally followed by -structural and
+	 * the maximum number of errors to only validate the structure of a tag/value file
 	 */
 	public static void main(String[] args) {
 		if (args.length < MIN_ARGS) {
-			System.err
-					.println("Usage:\n Verify file\nwhere file is the file path to an SPDX RDF XML or an SPDX Tag/Value file");
+			usage();
 			System.exit(ERROR_STATUS);
 		}
 		if (args.length > MAX_ARGS) {
@@ -51,7 +54,24 @@ public class Verify {
 		}
 		List<String> verify = null;
 		try {
-			verify = verify(args[0]);
+			if (args.length > 1 && STRUCTURAL_OPTION.equals(args[1])) {
+				int maxErrors = 0;
+				if (args.length > 2) {
+					try {
+						maxErrors = Integer.parseInt(args[2]);
+					} catch (NumberFormatException e) {
+						System.out.println("Invalid maximum number of errors: "+args[2]);
+						usage();
+						System.exit(ERROR_STATUS);
+					}
+				}
+				verify = validateTagFileStructure(args[0], maxErrors);
+			} else {
+				if (args.length > 1) {
+					System.out.println("Warning: Unrecognized option "+args[1]+" will be ignored");
+				}
+				verify = verify(args[0]);
+			}
 		} catch (SpdxVerificationException e) {
 			System.out.println(e.getMessage());
 			System.exit(ERROR_STATUS);
@@ -102,6 +122,40 @@ public class Verify {
 		return retval;
 	}
 
+	private static void usage() {
+		System.err.println("Usage:\n Verify file ["+STRUCTURAL_OPTION+" [maxErrors]]\n"
+				+ "where file is the file path to an SPDX RDF XML or an SPDX Tag/Value file\n"
+				+ STRUCTURAL_OPTION+" only validates the syntax, required tags, IDs, references and license expressions of a Tag/Value file in a single pass\n"
+				+ "maxErrors optionally stops the structural validation after the number of errors");
+	}
+
+	/**
+	 * Validate the structure of a tag/value file in a single streaming pass without building the SPDX document.
+	 * This is much faster than <code>verifyTagFile</code> for large files but does not perform the full verification.
+	 * @param filePath File path to the SPDX Tag Value file to be validated
+	 * @param maxErrors Validation stops once this number of errors is found - 0 or less for no limit
+	 * @return A list of validation errors - if empty, no structural errors were found
+	 * @throws SpdxVerificationException Errors where the SPDX Tag Value file can not be read or the filename is invalid
+	 */
+	public static List<String> validateTagFileStructure(String filePath, int maxErrors) throws SpdxVerificationException {
+		File spdxDocFile = new File(filePath);
+		if (!spdxDocFile.exists()) {
+			throw(new SpdxVerificationException("SPDX File "+filePath+" does not exist."));
+		}
+		if (!spdxDocFile.canRead()) {
+			throw(new SpdxVerificationException("SPDX File "+filePath+" can not be read."));
+		}
+		SpdxFormat format = detectFormat(spdxDocFile);
+		if (!SpdxFormat.TAG_VALUE.equals(format) && !SpdxFormat.UNKNOWN.equals(format)) {
+			throw new SpdxVerificationException("Not a valid SPDX Tag Value File Format - the file appears to be "+format.getRdfLanguage());
+		}
+		try {
+			return new TagValueValidator(maxErrors).validate(spdxDocFile);
+		} catch (IOException e) {
+			throw new SpdxVerificationException("Unable to read the file: "+e.getMessage(),e);
+		}
+	}
+
 	/**
 	 * Verify a tag/value file
 	 * @param filePath File path to the SPDX Tag Value file to be verified
@@ -118,6 +172,10 @@ public class Verify {
 		if (!spdxDocFile.canRead()) {
 			throw(new SpdxVerificationException("SPDX File "+filePath+" can not be read."));
 		}
+		SpdxFormat format = detectFormat(spdxDocFile);
+		if (!SpdxFormat.TAG_VALUE.equals(format) && !SpdxFormat.UNKNOWN.equals(format)) {
+			throw new SpdxVerificationException("Not a valid SPDX Tag Value File Format - the file appears to be "+format.getRdfLanguage());
+		}
 		try {
 			// Try to open the tag value file
 			doc = CompareSpdxDocs.convertTagValueToRdf(spdxDocFile, parserWarnings);
@@ -163,9 +221,17 @@ public class Verify {
 		if (!spdxDocFile.canRead()) {
 			throw(new SpdxVerificationException("SPDX File "+filePath+" can not be read."));
 		}
+		SpdxFormat format = detectFormat(spdxDocFile);
+		if (SpdxFormat.TAG_VALUE.equals(format)) {
+			throw new SpdxVerificationException("Not a valid SPDX RDF File Format - the file appears to be tag/value");
+		}
 		try {
-			// Try to open the file as an RDF/XML file.
-			doc = SPDXDocumentFactory.createSpdxDocument(filePath);
+			// Open the file using the detected RDF format, defaulting to RDF/XML
+			if (format.getRdfLanguage() != null) {
+				doc = SPDXDocumentFactory.createSpdxDocument(filePath, format.getRdfLanguage());
+			} else {
+				doc = SPDXDocumentFactory.createSpdxDocument(filePath);
+			}
 		} catch (IOException e) {
 			throw new SpdxVerificationException("Unable to parse the file: "+e.getMessage(),e);
 		} catch (InvalidSPDXAnalysisException e) {
@@ -176,4 +242,17 @@ public class Verify {
 		List<String> retval = doc.verify();
 		return retval;
 	}
+
+	/**
+	 * @param spdxDocFile
+	 * @return the format of the SPDX file based on its content
+	 * @throws SpdxVerificationException
+	 */
+	private static SpdxFormat detectFormat(File spdxDocFile) throws SpdxVerificationException {
+		try {
+			return SpdxFormatDetector.detect(spdxDocFile);
+		} catch (IOException e) {
+			throw new SpdxVerificationException("Unable to read the file: "+e.getMessage(),e);
+		}
+	}
 }